@@ -26,6 +26,8 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.MimeType;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
@@ -97,6 +99,13 @@ public class SecureContainerHandler implements ZipContainerHandler {
 	 */
 	private boolean extractComments = false;
 
+	/**
+	 * Used to store a container, provided not as a {@code FileDocument}, before its extraction.
+	 *
+	 * Default : null (the entries of the container are extracted in memory)
+	 */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder;
+
 	/**
 	 * Default constructor instantiating handler with default configuration
 	 */
@@ -170,17 +179,45 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		this.extractComments = extractComments;
 	}
 
+	/**
+	 * Sets the builder used to store a container provided not as a {@code FileDocument}
+	 * (e.g. an {@code InMemoryDocument} or a stream-based document) before its extraction.
+	 *
+	 * When a {@code eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder} is used,
+	 * the container is copied into a temporary file and the entries are returned as documents reading
+	 * the file on demand. Only the "mimetype" and META-INF entries (manifests, signatures, timestamps)
+	 * are extracted in memory, while the signed data files are never fully loaded into the memory.
+	 * The created temporary files shall be removed by the caller (see {@code TempFileResourcesHandlerBuilder.clear()}).
+	 *
+	 * Default : null (the entries of the container are extracted in memory)
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
 	@Override
 	public List<DSSDocument> extractContainerContent(DSSDocument zipArchive) {
 		resetCounters();
 
+		final boolean storedArchive = !(zipArchive instanceof FileDocument) && resourcesHandlerBuilder != null;
+		if (storedArchive) {
+			zipArchive = storeArchive(zipArchive);
+		}
+
 		List<DSSDocument> result = new ArrayList<>();
 		if (isInFileProcessingSupported(zipArchive)) {
 			FileDocument zipFileDocument = (FileDocument) zipArchive;
 			List<ZipEntry> zipEntries = extractZipEntries(zipFileDocument);
 			if (!malformedEntriesDetected()) {
 				for (ZipEntry zipEntry : zipEntries) {
-					result.add(new FileArchiveEntry(zipFileDocument, zipEntry));
+					FileArchiveEntry fileArchiveEntry = new FileArchiveEntry(zipFileDocument, zipEntry);
+					if (storedArchive && isExtractedInMemory(zipEntry)) {
+						result.add(toInMemoryEntry(fileArchiveEntry, zipEntry));
+					} else {
+						result.add(fileArchiveEntry);
+					}
 				}
 				return result;
 
@@ -203,6 +240,38 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		return result;
 	}
 
+	/**
+	 * Stores the archive using the defined {@code resourcesHandlerBuilder}
+	 *
+	 * @param zipArchive {@link DSSDocument} to be stored
+	 * @return {@link DSSDocument} the stored archive
+	 */
+	private DSSDocument storeArchive(DSSDocument zipArchive) {
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			try (InputStream is = zipArchive.openStream(); OutputStream os = resourcesHandler.createOutputStream()) {
+				Utils.copy(is, os);
+			}
+			DSSDocument storedDocument = resourcesHandler.writeToDSSDocument();
+			storedDocument.setName(zipArchive.getName());
+			storedDocument.setMimeType(zipArchive.getMimeType());
+			return storedDocument;
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to store the zip archive. Reason : %s", e.getMessage()), e);
+		}
+	}
+
+	private boolean isExtractedInMemory(ZipEntry zipEntry) {
+		String entryName = zipEntry.getName();
+		return ASiCUtils.isMimetype(entryName) || entryName.startsWith(ASiCUtils.META_INF_FOLDER);
+	}
+
+	private DSSDocument toInMemoryEntry(FileArchiveEntry fileArchiveEntry, ZipEntry zipEntry) {
+		DSSDocument currentDocument = new InMemoryDocument(DSSUtils.toByteArray(fileArchiveEntry));
+		currentDocument.setName(zipEntry.getName());
+		currentDocument.setMimeType(MimeType.fromFileName(zipEntry.getName()));
+		return new ContainerEntryDocument(currentDocument, fileArchiveEntry.getZipEntry());
+	}
+
 	/**
 	 * This method used to verify whether the provided archive container is supported by
 	 * java.util.zip.ZipFile implementation
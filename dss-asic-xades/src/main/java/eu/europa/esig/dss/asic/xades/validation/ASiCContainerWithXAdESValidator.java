@@ -144,6 +144,12 @@ public class ASiCContainerWithXAdESValidator extends AbstractASiCContainerValida
 		return Collections.emptyList();
 	}
 	
+	@Override
+	protected Object getConcurrentProcessingGroup(AdvancedSignature signature) {
+		// the DOM is not thread-safe, the signatures of the same signature document are processed sequentially
+		return ((XAdESSignature) signature).getSignatureElement().getOwnerDocument();
+	}
+
 	private List<DSSDocument> extractArchiveDocuments(List<DSSDocument> retrievedDocs) {
 		if (ASiCContainerType.ASiC_S.equals(getContainerType())) {
 			return getSignedDocumentsASiCS(retrievedDocs);
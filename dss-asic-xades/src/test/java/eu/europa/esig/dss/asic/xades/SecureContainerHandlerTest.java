@@ -23,6 +23,7 @@ package eu.europa.esig.dss.asic.xades;
 import eu.europa.esig.dss.asic.common.ASiCUtils;
 import eu.europa.esig.dss.asic.common.DSSZipEntry;
 import eu.europa.esig.dss.asic.common.DSSZipEntryDocument;
+import eu.europa.esig.dss.asic.common.FileArchiveEntry;
 import eu.europa.esig.dss.asic.common.SecureContainerHandler;
 import eu.europa.esig.dss.asic.common.ContainerEntryDocument;
 import eu.europa.esig.dss.asic.common.ZipUtils;
@@ -32,6 +33,7 @@ import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.MimeType;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.CommonCertificateVerifier;
@@ -51,6 +53,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.zip.ZipEntry;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -180,6 +183,49 @@ public class SecureContainerHandlerTest {
 		}
 	}
 
+	@Test
+	public void extractContainerContentWithTempFileTest() {
+		DSSDocument document = new InMemoryDocument(
+				DSSUtils.toByteArray(new File("src/test/resources/validation/multifiles-ok.asice")));
+
+		List<DSSDocument> inMemoryEntries = new SecureContainerHandler().extractContainerContent(document);
+
+		TempFileResourcesHandlerBuilder tempFileResourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+		secureContainerHandler.setResourcesHandlerBuilder(tempFileResourcesHandlerBuilder);
+		List<DSSDocument> entries = secureContainerHandler.extractContainerContent(document);
+		assertEquals(6, Utils.collectionSize(entries));
+		for (int i = 0; i < entries.size(); i++) {
+			DSSDocument entry = entries.get(i);
+			assertTrue(entry instanceof DSSZipEntryDocument);
+			String name = entry.getName();
+			if (ASiCUtils.isMimetype(name) || name.startsWith(ASiCUtils.META_INF_FOLDER)) {
+				assertTrue(entry instanceof ContainerEntryDocument);
+			} else {
+				// signed data is read from the temporary file on demand
+				assertTrue(entry instanceof FileArchiveEntry);
+			}
+			assertEquals(inMemoryEntries.get(i).getName(), name);
+			assertEquals(inMemoryEntries.get(i).getMimeType(), entry.getMimeType());
+			assertArrayEquals(DSSUtils.toByteArray(inMemoryEntries.get(i)), DSSUtils.toByteArray(entry));
+			assertEquals(((DSSZipEntryDocument) inMemoryEntries.get(i)).getZipEntry().getCompressionMethod(),
+					((DSSZipEntryDocument) entry).getZipEntry().getCompressionMethod());
+		}
+
+		Reports inMemoryReports = getValidator(document).validateDocument();
+
+		ZipUtils.getInstance().setZipContainerHandler(secureContainerHandler);
+		Reports reports = getValidator(document).validateDocument();
+		assertEquals(inMemoryReports.getSimpleReport().getSignaturesCount(), reports.getSimpleReport().getSignaturesCount());
+		assertEquals(inMemoryReports.getSimpleReport().getValidSignaturesCount(), reports.getSimpleReport().getValidSignaturesCount());
+		for (int i = 0; i < reports.getDiagnosticData().getSignatures().size(); i++) {
+			assertEquals(inMemoryReports.getDiagnosticData().getSignatures().get(i).getSignatureScopes().size(),
+					reports.getDiagnosticData().getSignatures().get(i).getSignatureScopes().size());
+		}
+
+		tempFileResourcesHandlerBuilder.clear();
+	}
+
 	@Test
 	public void createZipArchiveTest() throws IOException {
 		Date creationTime = new Date();
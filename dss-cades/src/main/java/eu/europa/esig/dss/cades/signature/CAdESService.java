@@ -55,8 +55,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -89,6 +91,13 @@ public class CAdESService extends
 		Objects.requireNonNull(tspSource, "A TSPSource is required !");
 
 		DigestAlgorithm digestAlgorithm = parameters.getContentTimestampParameters().getDigestAlgorithm();
+		List<DigestAlgorithm> digestAlgorithms = new ArrayList<>(Collections.singletonList(digestAlgorithm));
+		if (parameters.getReferenceDigestAlgorithm() != null) {
+			// the message-digest of the signature will be computed on the same document
+			digestAlgorithms.add(parameters.getReferenceDigestAlgorithm());
+		}
+		// computes (and caches) all the digests by reading the document once
+		toSignDocument.getDigests(digestAlgorithms);
 		TimestampBinary timeStampResponse = tspSource.getTimeStampResponse(digestAlgorithm, Utils.fromBase64(toSignDocument.getDigest(digestAlgorithm)));
 		try {
 			return new TimestampToken(timeStampResponse.getBytes(), TimestampType.CONTENT_TIMESTAMP);
@@ -113,6 +113,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -791,10 +792,11 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 	private boolean verifyDigestAlgorithm(DSSDocument originalDocument, Set<DigestAlgorithm> messageDigestAlgorithms,
 			Digest messageDigest) {
 		if (Utils.isCollectionNotEmpty(messageDigestAlgorithms)) {
-			// try to match with found digest algorithm(s)
+			// try to match with found digest algorithm(s), the document is read only once
+			Map<DigestAlgorithm, String> digests = originalDocument.getDigests(messageDigestAlgorithms);
 			for (DigestAlgorithm digestAlgorithm : messageDigestAlgorithms) {
-				String base64Digest = originalDocument.getDigest(digestAlgorithm);
-				if (Arrays.equals(messageDigest.getValue(), Utils.fromBase64(base64Digest))) {
+				String base64Digest = digests.get(digestAlgorithm);
+				if (base64Digest != null && Arrays.equals(messageDigest.getValue(), Utils.fromBase64(base64Digest))) {
 					messageDigest.setAlgorithm(digestAlgorithm);
 					return true;
 				}
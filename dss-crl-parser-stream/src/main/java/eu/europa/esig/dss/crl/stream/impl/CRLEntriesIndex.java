@@ -0,0 +1,144 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl.stream.impl;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.security.cert.X509CRLEntry;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+
+/**
+ * This class contains a sorted index of the revokedCertificates entries of a CRL.
+ *
+ * The index only stores the positions of the entries within the CRL binaries (4 bytes per entry),
+ * sorted by serial number. The CRL binaries are not retained and must be provided on lookup.
+ */
+final class CRLEntriesIndex {
+
+	/** The positions of the CRL entries, sorted by serial number */
+	private final IntBuffer offsets;
+
+	/** The nextUpdate of the indexed CRL (null if not defined) */
+	private final Date nextUpdate;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param offsets {@link IntBuffer} positions of the entries sorted by serial number
+	 * @param nextUpdate {@link Date} the nextUpdate of the CRL
+	 */
+	private CRLEntriesIndex(IntBuffer offsets, Date nextUpdate) {
+		this.offsets = offsets;
+		this.nextUpdate = nextUpdate;
+	}
+
+	/**
+	 * Builds the index for the given CRL binaries
+	 *
+	 * @param parser {@link CRLParser} to use
+	 * @param crl DER encoded CRL binaries
+	 * @param nextUpdate {@link Date} the nextUpdate of the CRL
+	 * @param offHeap true if the index has to be stored outside the Java heap
+	 * @return {@link CRLEntriesIndex}
+	 * @throws IOException if an error occurs on the CRL parsing
+	 */
+	static CRLEntriesIndex build(CRLParser parser, byte[] crl, Date nextUpdate, boolean offHeap) throws IOException {
+		final int[] entryOffsets = parser.retrieveRevocationEntryOffsets(crl);
+		final BigInteger[] serialNumbers = new BigInteger[entryOffsets.length];
+		final Integer[] order = new Integer[entryOffsets.length];
+		for (int i = 0; i < entryOffsets.length; i++) {
+			serialNumbers[i] = parser.retrieveSerialNumber(crl, entryOffsets[i]);
+			order[i] = i;
+		}
+
+		// stable sort : the first occurrence of a serial number is kept, as in a sequential reading
+		Arrays.sort(order, Comparator.comparing(i -> serialNumbers[i]));
+
+		final int[] sortedOffsets = new int[order.length];
+		int count = 0;
+		for (int i = 0; i < order.length; i++) {
+			if (count == 0 || !serialNumbers[order[i]].equals(serialNumbers[order[i - 1]])) {
+				sortedOffsets[count++] = entryOffsets[order[i]];
+			}
+		}
+
+		final IntBuffer buffer;
+		if (offHeap) {
+			buffer = ByteBuffer.allocateDirect(count * Integer.BYTES).asIntBuffer();
+		} else {
+			buffer = IntBuffer.allocate(count);
+		}
+		buffer.put(sortedOffsets, 0, count);
+		buffer.flip();
+		return new CRLEntriesIndex(buffer.asReadOnlyBuffer(), nextUpdate);
+	}
+
+	/**
+	 * Returns the revocation data for the given serial number
+	 *
+	 * @param parser {@link CRLParser} to use
+	 * @param crl DER encoded CRL binaries, the same as used to build the index
+	 * @param serialNumber {@link BigInteger} the certificate's serial number
+	 * @return {@link X509CRLEntry} or null if the serial number is not present in the CRL
+	 * @throws IOException if an error occurs on the CRL parsing
+	 */
+	X509CRLEntry getRevocationInfo(CRLParser parser, byte[] crl, BigInteger serialNumber) throws IOException {
+		int low = 0;
+		int high = offsets.limit() - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int offset = offsets.get(middle);
+			int comparison = parser.retrieveSerialNumber(crl, offset).compareTo(serialNumber);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return parser.retrieveRevocationInfo(crl, offset);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the number of indexed entries
+	 *
+	 * @return number of entries
+	 */
+	int size() {
+		return offsets.limit();
+	}
+
+	/**
+	 * Checks if the indexed CRL is expired at the given time (its nextUpdate is before {@code date})
+	 *
+	 * @param date {@link Date} to check
+	 * @return TRUE if the index can be discarded
+	 */
+	boolean isExpired(Date date) {
+		return nextUpdate != null && nextUpdate.before(date);
+	}
+
+}
@@ -46,6 +46,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
 import java.security.cert.X509CRLEntry;
+import java.util.Arrays;
 import java.util.Enumeration;
 
 /**
@@ -196,6 +197,147 @@ class CRLParser {
 		return null;
 	}
 
+	/**
+	 * This method parses the revokedCertificates sequence of the CRL and returns the positions
+	 * of all entries starting with a serial number, in their order of appearance
+	 *
+	 * @param crl
+	 *            DER encoded CRL binaries
+	 * @return an array of offsets (position of the entry's tag within {@code crl})
+	 * @throws IOException if an exception occurs
+	 */
+	public int[] retrieveRevocationEntryOffsets(byte[] crl) throws IOException {
+		try (ByteArrayInputStream is = new ByteArrayInputStream(crl)) {
+			// Skip CertificateList Sequence info
+			consumeTagIntro(is);
+
+			// Read TBSCertList Sequence
+			consumeTagIntro(is);
+
+			// Skip all before mandatory thisUpdate
+			int tag = -1;
+			int tagNo = BERTags.NULL;
+			int length = -1;
+			do {
+				tag = DERUtil.readTag(is);
+				if (tag < 0) {
+					return new int[0];
+				}
+				tagNo = DERUtil.readTagNumber(is, tag);
+				length = DERUtil.readLength(is);
+				skip(is, length);
+			} while (!isDate(tagNo));
+
+			tag = DERUtil.readTag(is);
+			tagNo = DERUtil.readTagNumber(is, tag);
+			length = DERUtil.readLength(is);
+
+			// TBSCertList -> nextUpdate (optional)
+			if (isDate(tagNo)) {
+				skip(is, length);
+
+				tag = DERUtil.readTag(is);
+				tagNo = DERUtil.readTagNumber(is, tag);
+				length = DERUtil.readLength(is);
+			}
+
+			// TBSCertList -> revokedCertificates (optional)
+			if (tagNo != BERTags.SEQUENCE) {
+				return new int[0];
+			}
+
+			int[] offsets = new int[16];
+			int count = 0;
+			final int end = getPosition(crl, is) + length;
+			while (getPosition(crl, is) < end) {
+				final int offset = getPosition(crl, is);
+				tag = DERUtil.readTag(is);
+				if (tag < 0) {
+					break;
+				}
+				tagNo = DERUtil.readTagNumber(is, tag);
+				length = DERUtil.readLength(is);
+
+				if (tagNo != BERTags.SEQUENCE) {
+					// CertificateList -> signatureAlgorithm or a not supported content
+					LOG.debug("Should only contain SEQUENCEs : tagNo = {} (ignored)", tagNo);
+					break;
+				}
+
+				final int entryEnd = getPosition(crl, is) + length;
+				int entryTag = DERUtil.readTag(is);
+				int entryTagNo = DERUtil.readTagNumber(is, entryTag);
+				if (BERTags.INTEGER == entryTagNo) {
+					if (count == offsets.length) {
+						offsets = Arrays.copyOf(offsets, count * 2);
+					}
+					offsets[count++] = offset;
+				}
+
+				// skip the remaining part of the entry
+				skip(is, entryEnd - getPosition(crl, is));
+			}
+			return Arrays.copyOf(offsets, count);
+		}
+	}
+
+	/**
+	 * Reads the serial number of the CRL entry starting at the given {@code offset}
+	 *
+	 * @param crl
+	 *            DER encoded CRL binaries
+	 * @param offset
+	 *            position of the entry, as returned by {@link #retrieveRevocationEntryOffsets(byte[])}
+	 * @return {@link BigInteger} serial number
+	 * @throws IOException if an exception occurs
+	 */
+	public BigInteger retrieveSerialNumber(byte[] crl, int offset) throws IOException {
+		try (InputStream is = new ByteArrayInputStream(crl, offset, crl.length - offset)) {
+			// Skip the CRLEntry Sequence info
+			consumeTagIntro(is);
+
+			int tag = DERUtil.readTag(is);
+			DERUtil.readTagNumber(is, tag);
+			int length = DERUtil.readLength(is);
+			return rebuildASN1Integer(readNbBytes(is, length)).getValue();
+		}
+	}
+
+	/**
+	 * Builds the revocation data for the CRL entry starting at the given {@code offset}
+	 *
+	 * @param crl
+	 *            DER encoded CRL binaries
+	 * @param offset
+	 *            position of the entry, as returned by {@link #retrieveRevocationEntryOffsets(byte[])}
+	 * @return {@link X509CRLEntry} with the revocation date, the reason,...
+	 * @throws IOException if an exception occurs
+	 */
+	public X509CRLEntry retrieveRevocationInfo(byte[] crl, int offset) throws IOException {
+		byte[] entryArray = Arrays.copyOfRange(crl, offset, offset + getEncodedLength(crl, offset));
+		CRLEntry crlEntry = CRLEntry.getInstance(ASN1Primitive.fromByteArray(entryArray));
+		return new X509CRLEntryObject(crlEntry);
+	}
+
+	/**
+	 * Returns the length of the complete TLV structure starting at the given {@code offset}
+	 */
+	private int getEncodedLength(byte[] crl, int offset) throws IOException {
+		try (ByteArrayInputStream is = new ByteArrayInputStream(crl, offset, crl.length - offset)) {
+			int tag = DERUtil.readTag(is);
+			DERUtil.readTagNumber(is, tag);
+			int length = DERUtil.readLength(is);
+			return getPosition(crl, is) - offset + length;
+		}
+	}
+
+	/**
+	 * Returns the current position of the {@code is} within the {@code crl} binaries
+	 */
+	private int getPosition(byte[] crl, ByteArrayInputStream is) {
+		return crl.length - is.available();
+	}
+
 	/**
 	 * This method allows to retrieve common CRL information (thisUpdate, nextUpdate, signatureAlgorithm,
 	 * signatureValue, extensions,...). It voluntary doesn't parse the revokedCertificates sequence.
@@ -40,6 +40,10 @@ import java.math.BigInteger;
 import java.security.GeneralSecurityException;
 import java.security.Signature;
 import java.security.cert.X509CRLEntry;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * The DSS implementation of {@code ICRLUtils}
@@ -48,6 +52,18 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 
 	private static final Logger LOG = LoggerFactory.getLogger(CRLUtilsStreamImpl.class);
 
+	/** The default maximum number of CRL indexes kept in memory */
+	private static final int DEFAULT_MAX_INDEXED_CRLS = 16;
+
+	/** The cached indexes of the revoked entries, by CRL (LRU) */
+	private final Map<CRLBinary, CRLEntriesIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** The maximum number of CRL indexes kept in memory (0 disables the indexing) */
+	private int maxIndexedCRLs = DEFAULT_MAX_INDEXED_CRLS;
+
+	/** Defines whether the CRL indexes are stored outside the Java heap */
+	private boolean offHeapIndex = false;
+
 	/**
 	 * Default constructor
 	 */
@@ -55,6 +71,39 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 		// empty
 	}
 
+	/**
+	 * Sets the maximum number of CRLs for which an index of the revoked serial numbers is kept in memory.
+	 * The index is built on the first revocation lookup within a CRL and allows the next lookups
+	 * to be performed with a binary search instead of a complete reading of the CRL.
+	 * The index of a CRL is discarded once its nextUpdate is reached.
+	 *
+	 * Value 0 disables the indexing (each lookup reads the CRL sequentially).
+	 *
+	 * Default : 16
+	 *
+	 * @param maxIndexedCRLs the maximum number of indexed CRLs
+	 */
+	public void setMaxIndexedCRLs(int maxIndexedCRLs) {
+		if (maxIndexedCRLs < 0) {
+			throw new IllegalArgumentException("The maximum number of indexed CRLs cannot be negative!");
+		}
+		synchronized (indexes) {
+			this.maxIndexedCRLs = maxIndexedCRLs;
+			evictIndexes();
+		}
+	}
+
+	/**
+	 * Sets whether the CRL indexes have to be stored outside the Java heap (direct buffers)
+	 *
+	 * Default : false
+	 *
+	 * @param offHeapIndex true if the indexes have to be stored off-heap
+	 */
+	public void setOffHeapIndex(boolean offHeapIndex) {
+		this.offHeapIndex = offHeapIndex;
+	}
+
 	@Override
 	public CRLValidity buildCRLValidity(CRLBinary crlBinary, CertificateToken issuerToken) throws IOException {
 		
@@ -78,7 +127,14 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 			crlValidity.setIssuerX509PrincipalMatches(true);
 		}
 
-		checkSignatureValue(crlValidity, crlInfos.getSignatureValue(), signatureAlgorithm, getSignedData(crlValidity), issuerToken);
+		if (fillCachedSignatureValidity(crlValidity, issuerToken)) {
+			if (crlValidity.isSignatureIntact()) {
+				crlValidity.setCrlSignKeyUsage(issuerToken.checkKeyUsage(KeyUsageBit.CRL_SIGN));
+			}
+		} else {
+			checkSignatureValue(crlValidity, crlInfos.getSignatureValue(), signatureAlgorithm, getSignedData(crlValidity), issuerToken);
+			cacheSignatureValidity(crlValidity, issuerToken);
+		}
 		
 		return crlValidity;
 	}
@@ -96,6 +152,18 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 	@Override
 	public X509CRLEntry getRevocationInfo(CRLValidity crlValidity, BigInteger serialNumber) {
 		CRLParser parser = new CRLParser();
+		if (maxIndexedCRLs > 0) {
+			try {
+				byte[] crl = crlValidity.getDerEncoded();
+				CRLEntriesIndex index = getIndex(parser, crlValidity, crl);
+				if (index != null) {
+					return index.getRevocationInfo(parser, crl, serialNumber);
+				}
+			} catch (Exception e) {
+				LOG.warn("Unable to use the CRL index ({}). The CRL is read sequentially.", e.getMessage());
+			}
+		}
+
 		X509CRLEntry crlEntry = null;
 		try (InputStream is = crlValidity.toCRLInputStream()) {
 			crlEntry = parser.retrieveRevocationInfo(is, serialNumber);
@@ -105,6 +173,45 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 		return crlEntry;
 	}
 
+	/**
+	 * Returns the index of the given CRL, builds it if required. Returns null if the CRL is expired
+	 * (the index would not be reusable).
+	 */
+	private CRLEntriesIndex getIndex(CRLParser parser, CRLValidity crlValidity, byte[] crl) throws IOException {
+		final CRLBinary crlBinary = crlValidity.getCrlBinary();
+		final Date currentTime = new Date();
+		synchronized (indexes) {
+			CRLEntriesIndex index = indexes.get(crlBinary);
+			if (index != null && !index.isExpired(currentTime)) {
+				return index;
+			}
+		}
+
+		final Date nextUpdate = crlValidity.getNextUpdate();
+		if (nextUpdate != null && nextUpdate.before(currentTime)) {
+			return null;
+		}
+
+		// built outside the lock, a concurrent build of the same index is harmless
+		CRLEntriesIndex index = CRLEntriesIndex.build(parser, crl, nextUpdate, offHeapIndex);
+		LOG.debug("Index with {} entries built for the CRL '{}'", index.size(), crlBinary.asXmlId());
+		synchronized (indexes) {
+			indexes.put(crlBinary, index);
+			evictIndexes();
+		}
+		return index;
+	}
+
+	private void evictIndexes() {
+		final Date currentTime = new Date();
+		indexes.values().removeIf(index -> index.isExpired(currentTime));
+		Iterator<CRLBinary> it = indexes.keySet().iterator();
+		while (indexes.size() > maxIndexedCRLs && it.hasNext()) {
+			it.next();
+			it.remove();
+		}
+	}
+
 	private void checkSignatureValue(CRLValidity crlValidity, byte[] signatureValue, SignatureAlgorithm signatureAlgorithm, ByteArrayOutputStream baos,
 			CertificateToken signer) {
 		try {
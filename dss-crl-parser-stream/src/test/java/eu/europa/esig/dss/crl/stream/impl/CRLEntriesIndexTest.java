@@ -0,0 +1,118 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl.stream.impl;
+
+import eu.europa.esig.dss.utils.Utils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class CRLEntriesIndexTest {
+
+	private final CRLParser parser = new CRLParser();
+
+	@Test
+	public void testLTGRCA() throws Exception {
+		checkSameResultsAsFullParsing("/LTGRCA.crl");
+	}
+
+	@Test
+	public void testBelgium() throws Exception {
+		checkSameResultsAsFullParsing("/belgium2.crl");
+		checkSameResultsAsFullParsing("/belgium4.crl");
+	}
+
+	@Test
+	public void testEidc201631() throws Exception {
+		checkSameResultsAsFullParsing("/eidc201631.crl");
+	}
+
+	@Test
+	public void testPtCRL() throws Exception {
+		checkSameResultsAsFullParsing("/pt_crl_with_critical_extension.crl");
+	}
+
+	@Test
+	public void testHugeCRLs() throws Exception {
+		checkSameResultsAsFullParsing("/hgcaclass2.crl");
+		checkSameResultsAsFullParsing("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl");
+	}
+
+	private void checkSameResultsAsFullParsing(String crlFile) throws Exception {
+		byte[] crl = getBinaries(crlFile);
+		X509CRL x509CRL = (X509CRL) CertificateFactory.getInstance("X.509").generateCRL(new ByteArrayInputStream(crl));
+		Set<? extends X509CRLEntry> revokedCertificates = x509CRL.getRevokedCertificates();
+		Map<BigInteger, List<X509CRLEntry>> entriesBySerialNumber = new HashMap<>();
+		if (revokedCertificates != null) {
+			for (X509CRLEntry entry : revokedCertificates) {
+				entriesBySerialNumber.computeIfAbsent(entry.getSerialNumber(), k -> new ArrayList<>()).add(entry);
+			}
+		}
+
+		CRLEntriesIndex index = CRLEntriesIndex.build(parser, crl, x509CRL.getNextUpdate(), false);
+		CRLEntriesIndex offHeapIndex = CRLEntriesIndex.build(parser, crl, x509CRL.getNextUpdate(), true);
+		assertEquals(entriesBySerialNumber.size(), index.size());
+		assertEquals(entriesBySerialNumber.size(), offHeapIndex.size());
+
+		for (Map.Entry<BigInteger, List<X509CRLEntry>> mapEntry : entriesBySerialNumber.entrySet()) {
+			X509CRLEntry expected = mapEntry.getValue().get(0);
+			if (mapEntry.getValue().size() > 1) {
+				// duplicate serial number : the first occurrence is returned, as with the sequential reading
+				expected = parser.retrieveRevocationInfo(new ByteArrayInputStream(crl), mapEntry.getKey());
+			}
+
+			X509CRLEntry entry = index.getRevocationInfo(parser, crl, mapEntry.getKey());
+			assertNotNull(entry);
+			assertArrayEquals(expected.getEncoded(), entry.getEncoded());
+
+			entry = offHeapIndex.getRevocationInfo(parser, crl, mapEntry.getKey());
+			assertNotNull(entry);
+			assertArrayEquals(expected.getEncoded(), entry.getEncoded());
+		}
+
+		assertNull(index.getRevocationInfo(parser, crl, BigInteger.ZERO));
+		assertNull(index.getRevocationInfo(parser, crl, BigInteger.valueOf(-1)));
+		assertNull(index.getRevocationInfo(parser, crl, new BigInteger("123456789123456789123456789123456789123456789")));
+	}
+
+	private byte[] getBinaries(String crlFile) throws IOException {
+		try (InputStream is = CRLEntriesIndexTest.class.getResourceAsStream(crlFile)) {
+			return Utils.toByteArray(is);
+		}
+	}
+
+}
@@ -21,7 +21,75 @@
 package eu.europa.esig.dss.crl.stream.impl;
 
 import eu.europa.esig.dss.crl.AbstractTestCRLUtils;
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.cert.X509CRLEntry;
+import java.util.Calendar;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CRLUtilsStreamImplTest extends AbstractTestCRLUtils {
 
+	@Test
+	public void indexedRevocationInfo() throws Exception {
+		try (InputStream is = CRLUtilsStreamImplTest.class.getResourceAsStream("/LTGRCA.crl");
+				InputStream isCer = CRLUtilsStreamImplTest.class.getResourceAsStream("/ESTEID-SK_2011.der.crt")) {
+
+			CertificateToken certificateToken = loadCert(isCer);
+			CRLBinary crlBinary = CRLUtils.buildCRLBinary(toByteArray(is));
+
+			CRLUtilsStreamImpl sequentialImpl = new CRLUtilsStreamImpl();
+			sequentialImpl.setMaxIndexedCRLs(0);
+			CRLValidity validity = sequentialImpl.buildCRLValidity(crlBinary, certificateToken);
+
+			// the index is only used for a CRL which is not expired
+			Calendar calendar = Calendar.getInstance();
+			calendar.add(Calendar.DATE, 1);
+			validity.setNextUpdate(calendar.getTime());
+
+			CRLUtilsStreamImpl indexedImpl = new CRLUtilsStreamImpl();
+			CRLUtilsStreamImpl offHeapImpl = new CRLUtilsStreamImpl();
+			offHeapImpl.setOffHeapIndex(true);
+
+			for (String serial : new String[] { "5203", "5204", "0", "1" }) {
+				BigInteger serialNumber = new BigInteger(serial);
+				X509CRLEntry expected = sequentialImpl.getRevocationInfo(validity, serialNumber);
+				X509CRLEntry indexed = indexedImpl.getRevocationInfo(validity, serialNumber);
+				X509CRLEntry offHeap = offHeapImpl.getRevocationInfo(validity, serialNumber);
+				if (expected == null) {
+					assertNull(indexed);
+					assertNull(offHeap);
+				} else {
+					assertNotNull(indexed);
+					assertArrayEquals(expected.getEncoded(), indexed.getEncoded());
+					assertEquals(expected.getRevocationDate(), indexed.getRevocationDate());
+					assertArrayEquals(expected.getEncoded(), offHeap.getEncoded());
+				}
+			}
+			assertNotNull(indexedImpl.getRevocationInfo(validity, new BigInteger("5203")));
+
+			// expired CRL : sequential reading
+			validity.setNextUpdate(new Date(0));
+			assertNotNull(indexedImpl.getRevocationInfo(validity, new BigInteger("5203")));
+			assertNull(indexedImpl.getRevocationInfo(validity, BigInteger.ZERO));
+		}
+	}
+
+	@Test
+	public void negativeMaxIndexedCRLs() {
+		CRLUtilsStreamImpl impl = new CRLUtilsStreamImpl();
+		assertThrows(IllegalArgumentException.class, () -> impl.setMaxIndexedCRLs(-1));
+	}
+
 }
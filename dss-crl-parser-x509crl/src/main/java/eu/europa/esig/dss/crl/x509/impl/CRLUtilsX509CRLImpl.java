@@ -98,7 +98,10 @@ public class CRLUtilsX509CRLImpl extends AbstractCRLUtils implements ICRLUtils {
 			extractIssuingDistributionPointBinary(crlValidity, x509CRL.getExtensionValue(Extension.issuingDistributionPoint.getId()));
 			extractExpiredCertsOnCRL(crlValidity, x509CRL.getExtensionValue(Extension.expiredCertsOnCRL.getId()));
 
-			checkSignatureValue(x509CRL, issuerToken, crlValidity);
+			if (!fillCachedSignatureValidity(crlValidity, issuerToken)) {
+				checkSignatureValue(x509CRL, issuerToken, crlValidity);
+				cacheSignatureValidity(crlValidity, issuerToken);
+			}
 			if (crlValidity.isSignatureIntact()) {
 				crlValidity.setCrlSignKeyUsage(issuerToken.checkKeyUsage(KeyUsageBit.CRL_SIGN));
 			}
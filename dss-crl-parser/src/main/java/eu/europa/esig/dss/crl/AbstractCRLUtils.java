@@ -20,7 +20,10 @@
  */
 package eu.europa.esig.dss.crl;
 
+import eu.europa.esig.dss.enumerations.SignatureValidity;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.SignatureValidityCache;
 import org.bouncycastle.asn1.ASN1GeneralizedTime;
 import org.bouncycastle.asn1.ASN1OctetString;
 import org.bouncycastle.asn1.ASN1Primitive;
@@ -139,4 +142,38 @@ public abstract class AbstractCRLUtils {
 		return null;
 	}
 
+	/**
+	 * Fills the signature related fields of the {@code crlValidity} from the process-wide
+	 * {@code SignatureValidityCache}, if the CRL signature has already been verified with the issuer's public key
+	 *
+	 * @param crlValidity {@link CRLValidity} to fill
+	 * @param issuerToken {@link CertificateToken} the CRL issuer candidate
+	 * @return TRUE if a cached result has been found, FALSE otherwise
+	 */
+	protected boolean fillCachedSignatureValidity(CRLValidity crlValidity, CertificateToken issuerToken) {
+		SignatureValidityCache.CachedSignatureValidity cachedResult =
+				SignatureValidityCache.get(crlValidity.getCrlBinary(), issuerToken.getPublicKey());
+		if (cachedResult == null) {
+			return false;
+		}
+		if (SignatureValidity.VALID == cachedResult.getSignatureValidity()) {
+			crlValidity.setSignatureIntact(true);
+			crlValidity.setIssuerToken(issuerToken);
+		} else {
+			crlValidity.setSignatureInvalidityReason(cachedResult.getSignatureInvalidityReason());
+		}
+		return true;
+	}
+
+	/**
+	 * Stores the CRL signature verification result within the process-wide {@code SignatureValidityCache}
+	 *
+	 * @param crlValidity {@link CRLValidity} containing the verification result
+	 * @param issuerToken {@link CertificateToken} the CRL issuer candidate
+	 */
+	protected void cacheSignatureValidity(CRLValidity crlValidity, CertificateToken issuerToken) {
+		SignatureValidityCache.put(crlValidity.getCrlBinary(), issuerToken.getPublicKey(),
+				SignatureValidity.get(crlValidity.isSignatureIntact()), crlValidity.getSignatureInvalidityReason());
+	}
+
 }
@@ -0,0 +1,250 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of the elements of a DOM by their identifier attribute value, built in a single pass.
+ *
+ * The following attributes are considered as identifiers : "Id", "ID" and "id" without a namespace,
+ * as well as "wsu:Id" (OASIS Web Services Security Utility).
+ */
+public final class DomIdIndex {
+
+	/** The OASIS Web Services Security Utility namespace URI, defining the wsu:Id attribute */
+	public static final String WSU_NAMESPACE_URI =
+			"http://docs.oasis-open.org/wss/2004/01/oasis-200401-wss-wssecurity-utility-1.0.xsd";
+
+	/** The key used to keep the index as a user data of the indexed {@code Document} */
+	private static final String USER_DATA_KEY = DomIdIndex.class.getName();
+
+	/** The indexed elements, by their identifier value (in document order) */
+	private final Map<String, List<Element>> elementsById = new HashMap<>();
+
+	/**
+	 * Builds the index of the given {@code node} and its descendants
+	 *
+	 * @param node {@link Node} to be indexed
+	 */
+	private DomIdIndex(final Node node) {
+		Node current = node;
+		while (current != null) {
+			if (Node.ELEMENT_NODE == current.getNodeType()) {
+				indexElement((Element) current);
+			}
+			Node next = current.getFirstChild();
+			while (next == null && current != node) {
+				next = current.getNextSibling();
+				current = current.getParentNode();
+			}
+			current = next;
+		}
+	}
+
+	private void indexElement(final Element element) {
+		final NamedNodeMap attributes = element.getAttributes();
+		for (int i = 0; i < attributes.getLength(); i++) {
+			final Attr attr = (Attr) attributes.item(i);
+			if (isIdAttribute(attr)) {
+				List<Element> elements = elementsById.computeIfAbsent(attr.getValue(), k -> new ArrayList<>(1));
+				if (elements.isEmpty() || elements.get(elements.size() - 1) != element) {
+					elements.add(element);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Builds a new index for the given {@code node} and its descendants
+	 *
+	 * @param node {@link Node} to be indexed
+	 * @return {@link DomIdIndex}
+	 */
+	public static DomIdIndex build(final Node node) {
+		return new DomIdIndex(node);
+	}
+
+	/**
+	 * Returns the index of the given {@code document}. The index is built on the first call and kept
+	 * with the document for the next calls.
+	 *
+	 * NOTE: the kept index is not updated on modifications of the document.
+	 * Use {@code getElementsById(node, id)} to get the elements checked against the current state of the document.
+	 *
+	 * @param document {@link Document} to get the index for
+	 * @return {@link DomIdIndex}
+	 */
+	public static DomIdIndex getIndex(final Document document) {
+		Object index = document.getUserData(USER_DATA_KEY);
+		if (index instanceof DomIdIndex) {
+			return (DomIdIndex) index;
+		}
+		return rebuildIndex(document);
+	}
+
+	private static DomIdIndex rebuildIndex(final Document document) {
+		final DomIdIndex newIndex = new DomIdIndex(document);
+		document.setUserData(USER_DATA_KEY, newIndex, null);
+		return newIndex;
+	}
+
+	/**
+	 * Returns the elements of the {@code document} with the given identifier, using the index kept with the document.
+	 * The found elements are checked to be still attached to the document and to have the same identifier.
+	 * When the check fails or no element is found, the index is rebuilt from the current state of the document.
+	 *
+	 * @param document {@link Document} to search in
+	 * @param id {@link String} the identifier value
+	 * @return a list of {@link Element}s, empty if none is found
+	 */
+	private static List<Element> getCheckedElements(final Document document, final String id) {
+		final List<Element> elements = getIndex(document).getElements(id);
+		if (!elements.isEmpty() && isUpToDate(document, elements, id)) {
+			return elements;
+		}
+		return rebuildIndex(document).getElements(id);
+	}
+
+	private static boolean isUpToDate(final Document document, final List<Element> elements, final String id) {
+		for (Element element : elements) {
+			if (!hasId(element, id) || getRoot(element) != document) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasId(final Element element, final String id) {
+		final NamedNodeMap attributes = element.getAttributes();
+		for (int i = 0; i < attributes.getLength(); i++) {
+			final Attr attr = (Attr) attributes.item(i);
+			if (isIdAttribute(attr) && id.equals(attr.getValue())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the elements with the given identifier, which are descendants of the given {@code node}
+	 * (the node itself is excluded).
+	 *
+	 * When the node belongs to a document, the index kept with the document is used : the found elements are
+	 * checked against the current state of the document, and the index is rebuilt when the check fails or when
+	 * no element is found. Thus, an element inserted or an identifier modified after the index creation is found.
+	 * NOTE: a duplicate of an identifier already found by a previous lookup, inserted after the index creation,
+	 * is not detected until the index is rebuilt.
+	 *
+	 * @param node {@link Node} to search in
+	 * @param id {@link String} the identifier value
+	 * @return a list of {@link Element}s, empty if none is found
+	 */
+	public static List<Element> getElementsById(final Node node, final String id) {
+		if (node == null || id == null) {
+			return Collections.emptyList();
+		}
+		final Node root = getRoot(node);
+		List<Element> elements;
+		if (Node.DOCUMENT_NODE == root.getNodeType()) {
+			elements = getCheckedElements((Document) root, id);
+		} else {
+			// detached node
+			elements = new DomIdIndex(root).getElements(id);
+		}
+		if (Node.DOCUMENT_NODE == node.getNodeType()) {
+			return elements;
+		}
+		final List<Element> result = new ArrayList<>(elements.size());
+		for (Element element : elements) {
+			if (isDescendant(element, node)) {
+				result.add(element);
+			}
+		}
+		return result;
+	}
+
+	private static Node getRoot(Node node) {
+		Node root = node;
+		while (root.getParentNode() != null) {
+			root = root.getParentNode();
+		}
+		return root;
+	}
+
+	private static boolean isDescendant(final Node element, final Node node) {
+		Node parent = element.getParentNode();
+		while (parent != null) {
+			if (parent == node) {
+				return true;
+			}
+			parent = parent.getParentNode();
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether the given attribute is an identifier attribute (Id, ID, id or wsu:Id)
+	 *
+	 * @param attr {@link Attr} to check
+	 * @return TRUE if the attribute is an identifier, FALSE otherwise
+	 */
+	public static boolean isIdAttribute(final Attr attr) {
+		final String namespaceURI = attr.getNamespaceURI();
+		final String localName = attr.getLocalName() != null ? attr.getLocalName() : attr.getName();
+		if (namespaceURI == null) {
+			return "Id".equals(localName) || "ID".equals(localName) || "id".equals(localName);
+		}
+		return WSU_NAMESPACE_URI.equals(namespaceURI) && "Id".equals(localName);
+	}
+
+	/**
+	 * Returns the indexed elements with the given identifier
+	 *
+	 * @param id {@link String} the identifier value
+	 * @return an unmodifiable list of {@link Element}s, empty if none is found
+	 */
+	public List<Element> getElements(final String id) {
+		final List<Element> elements = elementsById.get(id);
+		return elements != null ? Collections.unmodifiableList(elements) : Collections.<Element>emptyList();
+	}
+
+	/**
+	 * Returns all the indexed identifier values
+	 *
+	 * @return a set of {@link String}s
+	 */
+	public Set<String> getIds() {
+		return Collections.unmodifiableSet(elementsById.keySet());
+	}
+
+}
@@ -23,6 +23,8 @@ package eu.europa.esig.dss;
 import eu.europa.esig.dss.definition.DSSAttribute;
 import eu.europa.esig.dss.definition.DSSElement;
 import eu.europa.esig.dss.definition.DSSNamespace;
+import eu.europa.esig.dss.jaxb.common.DocumentBuilderFactoryBuilder;
+import eu.europa.esig.dss.jaxb.common.TransformerFactoryBuilder;
 import eu.europa.esig.dss.jaxb.common.XmlDefinerUtils;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
@@ -42,6 +44,7 @@ import org.xml.sax.SAXException;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.OutputKeys;
@@ -49,6 +52,7 @@ import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
@@ -67,9 +71,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The utils for dealing with {@code org.w3c.dom} objects
@@ -119,6 +125,30 @@ public final class DomUtils {
 		namespacePrefixMapper = new NamespaceContextMap();
 	}
 
+	/** The maximum number of compiled XPath expressions kept by a thread */
+	private static final int XPATH_EXPRESSION_CACHE_SIZE = 256;
+
+	/** Incremented on a namespace registration, in order to invalidate the compiled XPath expressions */
+	private static final AtomicInteger namespaceContextVersion = new AtomicInteger();
+
+	/**
+	 * The compiled XPath expressions, per thread (an {@code XPathExpression} is not thread-safe)
+	 */
+	private static final ThreadLocal<XPathExpressionCache> xPathExpressionCache =
+			ThreadLocal.withInitial(XPathExpressionCache::new);
+
+	/** Defines whether the compiled XPath expressions are cached (true by default) */
+	private static volatile boolean xPathExpressionCacheEnabled = true;
+
+	/**
+	 * The secure DocumentBuilder and Transformer instances, per thread (the objects are not thread-safe)
+	 */
+	private static final ThreadLocal<XmlProcessorsCache> xmlProcessorsCache =
+			ThreadLocal.withInitial(XmlProcessorsCache::new);
+
+	/** Defines whether the secure DocumentBuilder and Transformer instances are reused (true by default) */
+	private static volatile boolean xmlProcessorsCacheEnabled = true;
+
 	/**
 	 * This method allows to register a namespace and associated prefix. If the prefix exists already it is replaced.
 	 *
@@ -127,7 +157,54 @@ public final class DomUtils {
 	 * @return true if this map did not already contain the specified element
 	 */
 	public static boolean registerNamespace(final DSSNamespace namespace) {
-		return namespacePrefixMapper.registerNamespace(namespace.getPrefix(), namespace.getUri());
+		final String previousUri = namespacePrefixMapper.getNamespaceURI(namespace.getPrefix());
+		final boolean added = namespacePrefixMapper.registerNamespace(namespace.getPrefix(), namespace.getUri());
+		if (!Objects.equals(previousUri, namespace.getUri())) {
+			namespaceContextVersion.incrementAndGet();
+		}
+		return added;
+	}
+
+	/**
+	 * Enables or disables the cache of compiled XPath expressions used by the XPath query methods
+	 * of this class (e.g. {@code getValue}, {@code getNodeList}).
+	 * The cache is kept per thread and keyed by the XPath query string.
+	 *
+	 * Default : true (the XPath expressions are compiled once per thread)
+	 *
+	 * @param enabled
+	 *            true if the compiled XPath expressions shall be cached, false otherwise
+	 */
+	public static void setXPathExpressionCacheEnabled(final boolean enabled) {
+		xPathExpressionCacheEnabled = enabled;
+	}
+
+	/**
+	 * Enables or disables the reuse of the secure {@code DocumentBuilder} and {@code Transformer} instances
+	 * by the parsing and serialization methods of this class (e.g. {@code buildDOM}, {@code writeDocumentTo}).
+	 * The instances are kept per thread, reset between uses and re-created when the configuration
+	 * of {@code XmlDefinerUtils} changes.
+	 *
+	 * Default : true (the DocumentBuilder and Transformer are created once per thread)
+	 *
+	 * @param enabled
+	 *            true if the DocumentBuilder and Transformer instances shall be reused, false otherwise
+	 */
+	public static void setXmlProcessorsCacheEnabled(final boolean enabled) {
+		xmlProcessorsCacheEnabled = enabled;
+	}
+
+	/**
+	 * Removes the cached objects of this class (the compiled XPath expressions, the secure DocumentBuilder
+	 * and Transformer instances) kept by the current thread.
+	 * The method should be called at the end of a task executed within a pooled thread
+	 * (e.g. a thread of a web container), in order to not retain the cached objects
+	 * (and the classes of the application) after the end of its use.
+	 * The caches of other threads are not affected.
+	 */
+	public static void clearThreadCaches() {
+		xPathExpressionCache.remove();
+		xmlProcessorsCache.remove();
 	}
 
 	/**
@@ -160,14 +237,104 @@ public final class DomUtils {
 		Transformer transformer;
 		try {
 			transformer = transformerFactory.newTransformer();
-			transformer.setOutputProperty(OutputKeys.METHOD, TRANSFORMER_METHOD_VALUE);
 		} catch (TransformerConfigurationException e) {
 			throw new DSSException(String.format("Unable to instantiate a new secure Transformer. Reason : %s", e.getMessage()), e);
 		}
-		transformer.setErrorListener(new DSSXmlErrorListener());
+		configureTransformer(transformer);
 		return transformer;
 	}
 
+	private static void configureTransformer(Transformer transformer) {
+		transformer.setOutputProperty(OutputKeys.METHOD, TRANSFORMER_METHOD_VALUE);
+		transformer.setErrorListener(new DSSXmlErrorListener());
+	}
+
+	/**
+	 * Returns a secure DocumentBuilder, reused by the current thread when the cache is enabled
+	 *
+	 * @return {@link DocumentBuilder}
+	 * @throws ParserConfigurationException if the DocumentBuilder cannot be created
+	 */
+	private static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+		if (!xmlProcessorsCacheEnabled) {
+			return getSecureDocumentBuilderFactory().newDocumentBuilder();
+		}
+		final XmlProcessorsCache cache = xmlProcessorsCache.get();
+		final DocumentBuilderFactoryBuilder builder = XmlDefinerUtils.getInstance().getDocumentBuilderFactoryBuilder();
+		final int modificationCount = builder.getModificationCount();
+		if (cache.documentBuilder != null && cache.documentBuilderFactoryBuilder == builder
+				&& cache.documentBuilderModificationCount == modificationCount) {
+			try {
+				cache.documentBuilder.reset();
+				return cache.documentBuilder;
+			} catch (UnsupportedOperationException e) {
+				LOG.debug("The DocumentBuilder does not support reset, a new instance will be created.");
+			}
+		}
+		cache.documentBuilder = builder.build().newDocumentBuilder();
+		cache.documentBuilderFactoryBuilder = builder;
+		cache.documentBuilderModificationCount = modificationCount;
+		return cache.documentBuilder;
+	}
+
+	/**
+	 * Returns a secure Transformer, reused by the current thread when the cache is enabled.
+	 * NOTE : the Transformer shall be released with {@code releaseTransformer(transformer)} after the use
+	 *
+	 * @return {@link Transformer}
+	 */
+	private static Transformer getTransformer() {
+		if (!xmlProcessorsCacheEnabled) {
+			return getSecureTransformer();
+		}
+		final XmlProcessorsCache cache = xmlProcessorsCache.get();
+		final TransformerFactoryBuilder builder = XmlDefinerUtils.getInstance().getTransformerFactoryBuilder();
+		final int modificationCount = builder.getModificationCount();
+		if (cache.transformer == null || cache.transformerFactoryBuilder != builder
+				|| cache.transformerModificationCount != modificationCount) {
+			cache.transformer = getSecureTransformer();
+			cache.transformerFactoryBuilder = builder;
+			cache.transformerModificationCount = modificationCount;
+		}
+		return cache.transformer;
+	}
+
+	/**
+	 * Resets the Transformer obtained with {@code getTransformer()}, in order to release the processed content
+	 *
+	 * @param transformer {@link Transformer} to release
+	 */
+	private static void releaseTransformer(Transformer transformer) {
+		if (xmlProcessorsCacheEnabled && transformer == xmlProcessorsCache.get().transformer) {
+			transformer.reset();
+			configureTransformer(transformer);
+		}
+	}
+
+	/**
+	 * Transforms the {@code source} to the {@code result} with a secure Transformer
+	 * (reused by the current thread when the cache is enabled, see {@code setXmlProcessorsCacheEnabled})
+	 *
+	 * @param source
+	 *            {@link Source} to be transformed
+	 * @param result
+	 *            {@link Result} to write the output to
+	 * @param encoding
+	 *            {@link String} the output encoding, the default encoding is used when null
+	 * @throws TransformerException if an error occurs during the transformation
+	 */
+	public static void transform(final Source source, final Result result, final String encoding) throws TransformerException {
+		final Transformer transformer = getTransformer();
+		try {
+			if (encoding != null) {
+				transformer.setOutputProperty(OutputKeys.ENCODING, encoding);
+			}
+			transformer.transform(source, result);
+		} finally {
+			releaseTransformer(transformer);
+		}
+	}
+
 	/**
 	 * Checks if the given {@code byteArray} content starts with an XML Preamble {@code '<'}
 	 * Processes values with or without BOM-encoding
@@ -201,7 +368,7 @@ public final class DomUtils {
 	 */
 	public static Document buildDOM() {
 		try {
-			return getSecureDocumentBuilderFactory().newDocumentBuilder().newDocument();
+			return getDocumentBuilder().newDocument();
 		} catch (ParserConfigurationException e) {
 			throw new DSSException(String.format("Unable to build an empty DOM : %s", e.getMessage()), e);
 		}
@@ -239,7 +406,7 @@ public final class DomUtils {
 	 */
 	public static Document buildDOM(final InputStream inputStream) {
 		try (InputStream is = inputStream) {
-			return getSecureDocumentBuilderFactory().newDocumentBuilder().parse(is);
+			return getDocumentBuilder().parse(is);
 		} catch (ParserConfigurationException | SAXException e) {
 			throw new DSSException(String.format("Unable to parse content (XML expected) : %s", e.getMessage()), e);
 		} catch (IOException e) {
@@ -349,6 +516,31 @@ public final class DomUtils {
 		}
 	}
 
+	/**
+	 * Returns a compiled XPath expression for the given xpath, from the cache of the current thread when enabled
+	 *
+	 * @param xpathString
+	 *                    XPath query string
+	 * @return an instance of {@code XPathExpression} for the given xpathString
+	 */
+	private static XPathExpression getXPathExpression(final String xpathString) {
+		if (!xPathExpressionCacheEnabled) {
+			return createXPathExpression(xpathString);
+		}
+		final XPathExpressionCache cache = xPathExpressionCache.get();
+		final int version = namespaceContextVersion.get();
+		if (cache.version != version) {
+			cache.clear();
+			cache.version = version;
+		}
+		XPathExpression xPathExpression = cache.get(xpathString);
+		if (xPathExpression == null) {
+			xPathExpression = createXPathExpression(xpathString);
+			cache.put(xpathString, xPathExpression);
+		}
+		return xPathExpression;
+	}
+
 	/**
 	 * Returns the String value of the corresponding to the XPath query.
 	 *
@@ -360,7 +552,7 @@ public final class DomUtils {
 	 */
 	public static String getValue(final Node xmlNode, final String xPathString) {
 		try {
-			final XPathExpression xPathExpression = createXPathExpression(xPathString);
+			final XPathExpression xPathExpression = getXPathExpression(xPathString);
 			final String string = (String) xPathExpression.evaluate(xmlNode, XPathConstants.STRING);
 			return Utils.trim(string);
 		} catch (XPathExpressionException e) {
@@ -379,7 +571,7 @@ public final class DomUtils {
 	 */
 	public static NodeList getNodeList(final Node xmlNode, final String xPathString) {
 		try {
-			final XPathExpression expr = createXPathExpression(xPathString);
+			final XPathExpression expr = getXPathExpression(xPathString);
 			return (NodeList) expr.evaluate(xmlNode, XPathConstants.NODESET);
 		} catch (XPathExpressionException e) {
 			throw new DSSException(String.format("Unable to find a NodeList by the given xPathString '%s'. Reason : %s",
@@ -560,8 +752,7 @@ public final class DomUtils {
 		try {
 			final DOMSource xmlSource = new DOMSource(dom);
 			final StreamResult outputTarget = new StreamResult(os);
-			Transformer transformer = getSecureTransformer();
-			transformer.transform(xmlSource, outputTarget);
+			transform(xmlSource, outputTarget, null);
 		} catch (Exception e) {
 			throw new DSSException(String.format("Unable to store a DOM document to OutputStream : %s", e.getMessage()), e);
 		}
@@ -597,8 +788,7 @@ public final class DomUtils {
 			final Source source = new DOMSource(node);
 			final StringWriter stringWriter = new StringWriter();
 			final Result result = new StreamResult(stringWriter);
-			final Transformer transformer = getSecureTransformer();
-			transformer.transform(source, result);
+			transform(source, result, null);
 			return stringWriter.getBuffer().toString();
 		} catch (Exception e) {
 			throw new DSSException(String.format("Unable to transform XML Node to string. Reason : %s", e.getMessage()), e);
@@ -650,17 +840,13 @@ public final class DomUtils {
 	 * @return {@link Element} with the given Id, NULL if unique result is not found
 	 */
 	public static Element getElementById(Node node, String id) {
-		try {
-			return DomUtils.getElement(node, ".//*" + DomUtils.getXPathByIdAttribute(id));
-		} catch (Exception e) {
-			String errorMessage = "An exception occurred during an attempt to extract an element by its Id '{}' : {}";
-			if (LOG.isDebugEnabled()) {
-				LOG.warn(errorMessage, id, e.getMessage(), e);
-			} else {
-				LOG.warn(errorMessage, id, e.getMessage());
-			}
+		final List<Element> elements = DomIdIndex.getElementsById(node, getId(id));
+		if (elements.size() > 1) {
+			LOG.warn("An exception occurred during an attempt to extract an element by its Id '{}' : " +
+					"More than one element found ({})", id, elements.size());
 			return null;
 		}
+		return elements.isEmpty() ? null : elements.get(0);
 	}
 
 	/**
@@ -850,4 +1036,54 @@ public final class DomUtils {
 		return null;
 	}
 
+	/**
+	 * Keeps the secure DocumentBuilder and Transformer of a thread,
+	 * together with the configuration state they have been created with
+	 */
+	private static final class XmlProcessorsCache {
+
+		/** The cached DocumentBuilder */
+		private DocumentBuilder documentBuilder;
+
+		/** The builder of the DocumentBuilderFactory used to create the {@code documentBuilder} */
+		private DocumentBuilderFactoryBuilder documentBuilderFactoryBuilder;
+
+		/** The modification count of the {@code documentBuilderFactoryBuilder} at the creation time */
+		private int documentBuilderModificationCount;
+
+		/** The cached Transformer */
+		private Transformer transformer;
+
+		/** The builder of the TransformerFactory used to create the {@code transformer} */
+		private TransformerFactoryBuilder transformerFactoryBuilder;
+
+		/** The modification count of the {@code transformerFactoryBuilder} at the creation time */
+		private int transformerModificationCount;
+
+	}
+
+	/**
+	 * Bounded LRU map of compiled XPath expressions, tied to a version of the registered namespaces
+	 */
+	private static final class XPathExpressionCache extends LinkedHashMap<String, XPathExpression> {
+
+		private static final long serialVersionUID = -3498721432187426785L;
+
+		/** The namespace context version the cached expressions were compiled with */
+		private int version = namespaceContextVersion.get();
+
+		/**
+		 * Default constructor
+		 */
+		private XPathExpressionCache() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+			return size() > XPATH_EXPRESSION_CACHE_SIZE;
+		}
+
+	}
+
 }
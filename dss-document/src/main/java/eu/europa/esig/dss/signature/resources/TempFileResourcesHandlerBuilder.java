@@ -111,6 +111,15 @@ public class TempFileResourcesHandlerBuilder implements DSSResourcesHandlerBuild
         return this;
     }
 
+    /**
+     * Gets a file directory used for storing created documents
+     *
+     * @return {@link File} representing a directory for storing the temporary files
+     */
+    public File getTempFileDirectory() {
+        return tempFileDirectory;
+    }
+
     @Override
     public TempFileResourcesHandler createResourcesHandler() {
         if (!tempFileDirectory.exists()) {
@@ -31,6 +31,8 @@ import eu.europa.esig.dss.spi.x509.ListCertificateSource;
 import eu.europa.esig.dss.spi.x509.aia.AIASource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Provides information on the sources to be used in the validation process in
  * the context of a signature.
@@ -376,4 +378,31 @@ public interface CertificateVerifier {
 	 */
 	boolean isExtractPOEFromUntrustedChains();
 
+	/**
+	 * This method returns the {@code ExecutorService} used to retrieve issuer certificates (AIA)
+	 * and revocation data (OCSP/CRL) from online sources concurrently during the validation.
+	 *
+	 * @return {@link ExecutorService} if the concurrent validation is enabled, NULL otherwise
+	 *         (the default implementation)
+	 */
+	default ExecutorService getExecutorService() {
+		return null;
+	}
+
+	/**
+	 * Sets the {@code ExecutorService} to be used to retrieve issuer certificates (AIA) and
+	 * revocation data (OCSP/CRL) for independent certificate chains concurrently.
+	 * The data is requested in advance and consumed by the sequential validation,
+	 * therefore the produced validation data stays the same. The requests for certificates with the same issuer
+	 * and the same revocation access URLs are executed one after another.
+	 *
+	 * NOTE: the AIA, OCSP and CRL sources are called from the executor threads and shall be thread-safe.
+	 * The executor is not shut down by DSS. The lifecycle of the executor shall be managed by the caller.
+	 *
+	 * Default : null (the validation data is retrieved sequentially)
+	 *
+	 * @param executorService {@link ExecutorService} to be used (e.g. a virtual threads executor)
+	 */
+	void setExecutorService(ExecutorService executorService);
+
 }
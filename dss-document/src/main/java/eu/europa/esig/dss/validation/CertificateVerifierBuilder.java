@@ -63,6 +63,7 @@ public class CertificateVerifierBuilder {
 			copy.setAlertOnRevokedCertificate(certificateVerifier.getAlertOnRevokedCertificate());
 			copy.setAlertOnUncoveredPOE(certificateVerifier.getAlertOnUncoveredPOE());
 			copy.setAlertOnExpiredSignature(certificateVerifier.getAlertOnExpiredSignature());
+			copy.setExecutorService(certificateVerifier.getExecutorService());
 		}
 		return copy;
 	}
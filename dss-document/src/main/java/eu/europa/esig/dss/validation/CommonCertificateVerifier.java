@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * This class provides the different sources used to verify the status of a certificate using the trust model. There are
@@ -168,6 +169,13 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 	 */
 	private boolean extractPOEFromUntrustedChains = false;
 
+	/**
+	 * The executor used to retrieve the validation data (AIA, OCSP, CRL) concurrently.
+	 *
+	 * Default : null (validation data is retrieved sequentially)
+	 */
+	private ExecutorService executorService;
+
 	/**
 	 * The default constructor. The {@code DataLoader} is created to allow the
 	 * retrieval of certificates through AIA.
@@ -420,4 +428,14 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 		return defaultDigestAlgorithm;
 	}
 
+	@Override
+	public ExecutorService getExecutorService() {
+		return executorService;
+	}
+
+	@Override
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
 }
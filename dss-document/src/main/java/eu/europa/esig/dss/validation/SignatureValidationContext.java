@@ -22,6 +22,7 @@ package eu.europa.esig.dss.validation;
 
 import eu.europa.esig.dss.CertificateReorderer;
 import eu.europa.esig.dss.enumerations.RevocationReason;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.Token;
 import eu.europa.esig.dss.model.x509.X500PrincipalHelper;
@@ -55,17 +56,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * During the validation of a signature, the software retrieves different X509 artifacts like Certificate, CRL and OCSP
@@ -147,6 +154,27 @@ public class SignatureValidationContext implements ValidationContext {
 	/** Defines whether a revocation data still shall be returned, when validation of obtained revocation tokens failed */
 	private boolean revocationFallback;
 
+	/** Used to retrieve the validation data concurrently (null if the sequential processing is used) */
+	private ExecutorService executorService;
+
+	/**
+	 * The issuers found within the known certificate sources on the AIA preloading, to be reused
+	 * on the issuer retrieval (concurrent processing only)
+	 */
+	private final Map<Token, KnownSourcesIssuer> knownSourcesIssuers = new HashMap<>();
+
+	/** The tokens for which the validation data has been preloaded (concurrent processing only) */
+	private final Set<Token> preloadedTokens = new HashSet<>();
+
+	/** The revocation data preloaded from the online sources, by request (concurrent processing only) */
+	private final Map<RevocationRequest, RevocationToken<?>> preloadedRevocations = new HashMap<>();
+
+	/**
+	 * Incremented on each addition of a certificate source or of a processed certificate,
+	 * in order to reuse a {@code KnownSourcesIssuer} only when it is still up to date
+	 */
+	private int certificatesVersion;
+
 	/** External trusted certificate sources */
 	private ListCertificateSource trustedCertSources;
 
@@ -197,6 +225,10 @@ public class SignatureValidationContext implements ValidationContext {
 		this.revocationDataVerifier = certificateVerifier.getRevocationDataVerifier();
 		this.revocationDataVerifier.setTrustedCertificateSource(trustedCertSources);
 		this.revocationFallback = certificateVerifier.isRevocationFallback();
+		this.executorService = certificateVerifier.getExecutorService();
+		if (executorService != null && aiaSource != null) {
+			this.aiaSource = new PreloadedAIASource(aiaSource);
+		}
 	}
 
 	@Override
@@ -250,6 +282,7 @@ public class SignatureValidationContext implements ValidationContext {
 	 */
 	private void addCertificateSource(ListCertificateSource listCertificateSource, CertificateSource certificateSourceToAdd) {
 		listCertificateSource.add(certificateSourceToAdd);
+		++certificatesVersion;
 
 		// add all existing equivalent certificates for the validation
 		ListCertificateSource allCertificateSources = getAllCertificateSources();
@@ -352,6 +385,24 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 	}
 
+	/**
+	 * This method returns all tokens to verify, without marking them as verified.
+	 * If there is no more tokens to verify an empty list is returned.
+	 *
+	 * @return a list of tokens to verify
+	 */
+	private List<Token> getNotYetVerifiedTokens() {
+		synchronized (tokensToProcess) {
+			final List<Token> tokens = new ArrayList<>();
+			for (final Entry<Token, Boolean> entry : tokensToProcess.entrySet()) {
+				if (entry.getValue() == null) {
+					tokens.add(entry.getKey());
+				}
+			}
+			return tokens;
+		}
+	}
+
 	/**
 	 * This method returns a timestamp token to verify. If there is no more tokens to verify null is returned.
 	 *
@@ -398,6 +449,53 @@ public class SignatureValidationContext implements ValidationContext {
 			return issuerCertificateToken;
 		}
 
+		ListCertificateSource allCertificateSources = getAllCertificateSources();
+		issuerCertificateToken = getPreloadedOrKnownSourcesIssuer(token, allCertificateSources);
+
+		// Request AIA only when no issuer has been found yet
+		if (issuerCertificateToken == null && token instanceof CertificateToken && aiaSource != null &&
+				!tokenIssuerMap.containsKey(token)) {
+			final AIACertificateSource aiaCertificateSource = new AIACertificateSource((CertificateToken) token, aiaSource);
+			issuerCertificateToken = aiaCertificateSource.getIssuerFromAIA();
+			addCertificateSource(aiaCertificateSources, aiaCertificateSource);
+		}
+		
+		if (issuerCertificateToken == null && token instanceof OCSPToken) {
+			issuerCertificateToken = getOCSPIssuer((OCSPToken) token, allCertificateSources);
+		}
+
+		if (issuerCertificateToken == null && token instanceof TimestampToken) {
+			issuerCertificateToken = getTSACertificate((TimestampToken) token, allCertificateSources);
+		}
+
+		if (issuerCertificateToken != null) {
+			addCertificateTokenForVerification(issuerCertificateToken);
+		}
+
+		// Cache the result (successful or unsuccessful)
+		tokenIssuerMap.put(token, issuerCertificateToken);
+
+		return issuerCertificateToken;
+	}
+
+	/**
+	 * Returns the issuer found within the known certificate sources on the AIA preloading, when the sources
+	 * have not changed since, or looks for the issuer within the known certificate sources otherwise
+	 *
+	 * @param token {@link Token} to get the issuer for
+	 * @param allCertificateSources {@link ListCertificateSource}
+	 * @return {@link CertificateToken} issuer if found, NULL otherwise
+	 */
+	private CertificateToken getPreloadedOrKnownSourcesIssuer(final Token token, ListCertificateSource allCertificateSources) {
+		final KnownSourcesIssuer knownSourcesIssuer = knownSourcesIssuers.remove(token);
+		if (knownSourcesIssuer != null && knownSourcesIssuer.certificatesVersion == certificatesVersion &&
+				!tokenIssuerMap.containsKey(token)) {
+			return knownSourcesIssuer.issuer;
+		}
+		return getIssuerFromKnownSources(token, allCertificateSources);
+	}
+
+	private CertificateToken getIssuerFromKnownSources(final Token token, ListCertificateSource allCertificateSources) {
 		// Find issuer candidates from a particular certificate source
 		Set<CertificateToken> candidates = Collections.emptySet();
 
@@ -420,7 +518,6 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 
 		// Find issuer candidates from all sources
-		ListCertificateSource allCertificateSources = getAllCertificateSources();
 		if (Utils.isCollectionEmpty(candidates)) {
 			candidates = getIssuersFromSources(token, allCertificateSources);
 		}
@@ -430,32 +527,7 @@ public class SignatureValidationContext implements ValidationContext {
 			candidates = processedCertificates;
 		}
 
-		issuerCertificateToken = new TokenIssuerSelector(token, candidates).getIssuer();
-
-		// Request AIA only when no issuer has been found yet
-		if (issuerCertificateToken == null && token instanceof CertificateToken && aiaSource != null &&
-				!tokenIssuerMap.containsKey(token)) {
-			final AIACertificateSource aiaCertificateSource = new AIACertificateSource((CertificateToken) token, aiaSource);
-			issuerCertificateToken = aiaCertificateSource.getIssuerFromAIA();
-			addCertificateSource(aiaCertificateSources, aiaCertificateSource);
-		}
-		
-		if (issuerCertificateToken == null && token instanceof OCSPToken) {
-			issuerCertificateToken = getOCSPIssuer((OCSPToken) token, allCertificateSources);
-		}
-
-		if (issuerCertificateToken == null && token instanceof TimestampToken) {
-			issuerCertificateToken = getTSACertificate((TimestampToken) token, allCertificateSources);
-		}
-
-		if (issuerCertificateToken != null) {
-			addCertificateTokenForVerification(issuerCertificateToken);
-		}
-
-		// Cache the result (successful or unsuccessful)
-		tokenIssuerMap.put(token, issuerCertificateToken);
-
-		return issuerCertificateToken;
+		return new TokenIssuerSelector(token, candidates).getIssuer();
 	}
 
 	private CertificateToken getIssuerFromProcessedCertificates(Token token) {
@@ -621,6 +693,9 @@ public class SignatureValidationContext implements ValidationContext {
 	public void addCertificateTokenForVerification(final CertificateToken certificateToken) {
 		if (addTokenForVerification(certificateToken)) {
 			final boolean added = processedCertificates.add(certificateToken);
+			if (added) {
+				++certificatesVersion;
+			}
 			if (LOG.isTraceEnabled()) {
 				if (added) {
 					LOG.trace("CertificateToken added to processedCertificates: {} ", certificateToken);
@@ -743,15 +818,263 @@ public class SignatureValidationContext implements ValidationContext {
 			getCertChain(timestampToken);
 			timestampToken = getNotYetVerifiedTimestamp();
 		}
-		
-		Token token = getNotYetVerifiedToken();
-		while (token != null) {
-			// extract the certificate chain and add missing tokens for verification
-			List<Token> certChain = getCertChain(token);
+
+		try {
+			Token token = getNotYetVerifiedToken();
+			while (token != null) {
+				if (executorService != null) {
+					preloadValidationData(token);
+				}
+				// extract the certificate chain and add missing tokens for verification
+				List<Token> certChain = getCertChain(token);
+				if (token instanceof CertificateToken) {
+					getRevocationData((CertificateToken) token, certChain);
+				}
+				token = getNotYetVerifiedToken();
+			}
+
+		} finally {
+			clearPreloadedValidationData();
+		}
+	}
+
+	/**
+	 * Requests concurrently, using the defined {@code executorService}, the validation data from the external sources
+	 * (AIA, OCSP, CRL) for the given {@code token} and all the tokens not yet verified, when not yet done.
+	 * The obtained data is only consumed when the sequential validation requests the same data,
+	 * so the validation result is the same as without the preloading.
+	 *
+	 * @param token {@link Token} to be verified
+	 */
+	private void preloadValidationData(Token token) {
+		if (preloadedTokens.contains(token)) {
+			return;
+		}
+		final List<Token> tokens = new ArrayList<>();
+		tokens.add(token);
+		for (Token notYetVerifiedToken : getNotYetVerifiedTokens()) {
+			if (!preloadedTokens.contains(notYetVerifiedToken)) {
+				tokens.add(notYetVerifiedToken);
+			}
+		}
+		preloadedTokens.addAll(tokens);
+
+		preloadIssuersByAIA(tokens);
+		preloadRevocationData(tokens);
+	}
+
+	private void clearPreloadedValidationData() {
+		preloadedTokens.clear();
+		preloadedRevocations.clear();
+		knownSourcesIssuers.clear();
+		if (aiaSource instanceof PreloadedAIASource) {
+			((PreloadedAIASource) aiaSource).preloaded.clear();
+		}
+	}
+
+	/**
+	 * Requests concurrently the issuer certificates by AIA for the certificate tokens,
+	 * which issuers cannot be found within the known certificate sources.
+	 * The obtained certificates and the issuers found within the known certificate sources
+	 * are consumed on the issuer retrieval.
+	 *
+	 * @param tokens a list of {@link Token}s to be verified
+	 */
+	private void preloadIssuersByAIA(List<Token> tokens) {
+		if (!(aiaSource instanceof PreloadedAIASource)) {
+			return;
+		}
+		final PreloadedAIASource preloadedAIASource = (PreloadedAIASource) aiaSource;
+
+		final ListCertificateSource allCertificateSources = getAllCertificateSources();
+		final List<CertificateToken> certificatesToLoad = new ArrayList<>();
+		for (Token token : tokens) {
+			if (token instanceof CertificateToken && !tokenIssuerMap.containsKey(token)) {
+				final CertificateToken issuer = getIssuerFromKnownSources(token, allCertificateSources);
+				knownSourcesIssuers.put(token, new KnownSourcesIssuer(issuer, certificatesVersion));
+				if (issuer == null && !preloadedAIASource.preloaded.containsKey(token)) {
+					certificatesToLoad.add((CertificateToken) token);
+				}
+			}
+		}
+		if (certificatesToLoad.size() < 2) {
+			// nothing to parallelize
+			return;
+		}
+
+		final List<Future<Set<CertificateToken>>> futures = new ArrayList<>();
+		for (CertificateToken certificateToken : certificatesToLoad) {
+			futures.add(executorService.submit(() -> preloadedAIASource.aiaSource.getCertificatesByAIA(certificateToken)));
+		}
+		for (int i = 0; i < certificatesToLoad.size(); i++) {
+			try {
+				preloadedAIASource.preloaded.put(certificatesToLoad.get(i), futures.get(i).get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DSSException("The validation data retrieval has been interrupted!", e);
+			} catch (ExecutionException e) {
+				// the request will be repeated on the issuer retrieval
+				LOG.debug("Unable to preload the issuer by AIA for certificate '{}' : {}",
+						certificatesToLoad.get(i).getDSSIdAsString(), e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Requests concurrently the revocation data from the online sources for the certificate tokens
+	 * without revocation data within the document, which issuer can be determined.
+	 * The requests for certificates with the same issuer and the same revocation access URLs
+	 * (e.g. sibling certificates sharing a CRL) are grouped and executed one after another within a single task,
+	 * in order to not request the same data concurrently (thus, a caching revocation source is requested only once).
+	 * The obtained revocation data is consumed when the validation requests the revocation data
+	 * for the same certificate, issuer and trust anchor.
+	 *
+	 * @param tokens a list of {@link Token}s to be verified
+	 */
+	private void preloadRevocationData(List<Token> tokens) {
+		if (remoteOCSPSource == null && remoteCRLSource == null) {
+			return;
+		}
+
+		final Map<List<Object>, List<RevocationRequest>> requestGroups = new LinkedHashMap<>();
+		for (Token token : tokens) {
 			if (token instanceof CertificateToken) {
-				getRevocationData((CertificateToken) token, certChain);
+				final RevocationRequest revocationRequest = getRevocationRequestToPreload((CertificateToken) token);
+				if (revocationRequest != null) {
+					final List<Object> groupKey = Arrays.asList(revocationRequest.issuerToken, revocationRequest.trustAnchor,
+							DSSASN1Utils.getCrlUrls(revocationRequest.certToken),
+							DSSASN1Utils.getOCSPAccessLocations(revocationRequest.certToken));
+					requestGroups.computeIfAbsent(groupKey, k -> new ArrayList<>()).add(revocationRequest);
+				}
+			}
+		}
+		if (requestGroups.isEmpty()) {
+			return;
+		}
+
+		final List<Future<Map<RevocationRequest, RevocationToken<?>>>> futures = new ArrayList<>();
+		for (List<RevocationRequest> requestGroup : requestGroups.values()) {
+			futures.add(executorService.submit(() -> getRevocationTokens(requestGroup)));
+		}
+		for (Future<Map<RevocationRequest, RevocationToken<?>>> future : futures) {
+			preloadedRevocations.putAll(getResult(future));
+		}
+	}
+
+	/**
+	 * Returns the revocation request to be preloaded for the given certificate token, when the revocation data
+	 * is expected to be requested from the online sources
+	 *
+	 * @param certToken {@link CertificateToken} to get revocation data for
+	 * @return {@link RevocationRequest} if applicable, NULL otherwise
+	 */
+	private RevocationRequest getRevocationRequestToPreload(CertificateToken certToken) {
+		if (isRevocationDataNotRequired(certToken)) {
+			return null;
+		}
+		final CertificateToken issuerToken = getPreloadedIssuer(certToken);
+		if (issuerToken == null) {
+			return null;
+		}
+		if (Utils.isCollectionNotEmpty(documentCRLSource.getRevocationTokens(certToken, issuerToken)) ||
+				Utils.isCollectionNotEmpty(documentOCSPSource.getRevocationTokens(certToken, issuerToken)) ||
+				Utils.isCollectionNotEmpty(getRelatedRevocationTokens(certToken))) {
+			// the need of a revocation data refresh is determined by the validation
+			return null;
+		}
+		final CertificateToken trustAnchor = getPreloadedTrustAnchor(certToken, issuerToken);
+		if (!checkRevocationForUntrustedChains && trustAnchor == null) {
+			return null;
+		}
+		return new RevocationRequest(certToken, issuerToken, trustAnchor);
+	}
+
+	/**
+	 * Returns the issuer of the certificate token, when already known or preloaded, without any modification
+	 * of the validation context
+	 *
+	 * @param certToken {@link CertificateToken} to get the issuer for
+	 * @return {@link CertificateToken} issuer if found, NULL otherwise
+	 */
+	private CertificateToken getPreloadedIssuer(CertificateToken certToken) {
+		CertificateToken issuerToken = getIssuerFromProcessedCertificates(certToken);
+		if (issuerToken == null) {
+			final KnownSourcesIssuer knownSourcesIssuer = knownSourcesIssuers.get(certToken);
+			if (knownSourcesIssuer != null) {
+				issuerToken = knownSourcesIssuer.issuer;
+			}
+		}
+		if (issuerToken == null && aiaSource instanceof PreloadedAIASource) {
+			final Set<CertificateToken> candidates = ((PreloadedAIASource) aiaSource).preloaded.get(certToken);
+			if (Utils.isCollectionNotEmpty(candidates)) {
+				issuerToken = new TokenIssuerSelector(certToken, candidates).getIssuer();
+			}
+		}
+		return issuerToken;
+	}
+
+	/**
+	 * Returns the first trust anchor of the certificate chain built from the known certificate sources,
+	 * without any modification of the validation context
+	 *
+	 * @param certToken {@link CertificateToken} to get the trust anchor for
+	 * @param issuerToken {@link CertificateToken} the issuer of the certificate token
+	 * @return {@link CertificateToken} trust anchor if found, NULL otherwise
+	 */
+	private CertificateToken getPreloadedTrustAnchor(CertificateToken certToken, CertificateToken issuerToken) {
+		if (isTrusted(certToken)) {
+			return certToken;
+		}
+		final ListCertificateSource allCertificateSources = getAllCertificateSources();
+		final List<CertificateToken> chain = new ArrayList<>();
+		chain.add(certToken);
+		CertificateToken current = issuerToken;
+		while (current != null && !chain.contains(current)) {
+			if (isTrusted(current)) {
+				return current;
+			}
+			chain.add(current);
+			CertificateToken issuer = getIssuerFromProcessedCertificates(current);
+			if (issuer == null) {
+				issuer = getIssuerFromKnownSources(current, allCertificateSources);
+			}
+			current = issuer;
+		}
+		return null;
+	}
+
+	/**
+	 * Requests the revocation data for the given requests one after another
+	 *
+	 * @param revocationRequests a list of {@link RevocationRequest}s
+	 * @return a map between the requests and the obtained revocation data
+	 */
+	private Map<RevocationRequest, RevocationToken<?>> getRevocationTokens(List<RevocationRequest> revocationRequests) {
+		final Map<RevocationRequest, RevocationToken<?>> revocationTokens = new HashMap<>();
+		for (RevocationRequest revocationRequest : revocationRequests) {
+			try {
+				revocationTokens.put(revocationRequest, getRevocationToken(revocationRequest.certToken,
+						revocationRequest.issuerToken, revocationRequest.trustAnchor));
+			} catch (RuntimeException e) {
+				// the request will be repeated by the validation
+				LOG.debug("Unable to preload the revocation data for certificate '{}' : {}",
+						revocationRequest.certToken.getDSSIdAsString(), e.getMessage());
+			}
+		}
+		return revocationTokens;
+	}
+
+	private <T> T getResult(Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("The validation data retrieval has been interrupted!", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
 			}
-			token = getNotYetVerifiedToken();
+			throw new DSSException(String.format("Unable to retrieve the validation data : %s", e.getMessage()), e);
 		}
 	}
 
@@ -807,8 +1130,9 @@ public class SignatureValidationContext implements ValidationContext {
 				LOG.trace("Revocation update is in progress for certificate : {}", certToken.getDSSIdAsString());
 				CertificateToken trustAnchor = (CertificateToken) getFirstTrustAnchor(certChain);
 
-				// Fetch OCSP or CRL from online sources
-				final RevocationToken<?> onlineRevocationToken = getRevocationToken(certToken, issuerToken, trustAnchor);
+				// Fetch OCSP or CRL from online sources (or get the preloaded data)
+				final RevocationToken<?> onlineRevocationToken = getPreloadedOrOnlineRevocationToken(
+						certToken, issuerToken, trustAnchor);
 
 				// Check if the obtained revocation is not yet present
 				if (onlineRevocationToken != null && !revocations.contains(onlineRevocationToken)) {
@@ -830,6 +1154,23 @@ public class SignatureValidationContext implements ValidationContext {
 		return revocations;
 	}
 
+	/**
+	 * Returns the revocation data preloaded for the same request, or requests it from the online sources otherwise
+	 *
+	 * @param certificateToken {@link CertificateToken} to get revocation data for
+	 * @param issuerCertificate {@link CertificateToken} issuer of the certificate token
+	 * @param trustAnchor {@link CertificateToken} the first trust anchor of the chain, when applicable
+	 * @return {@link RevocationToken} if found, NULL otherwise
+	 */
+	private RevocationToken<?> getPreloadedOrOnlineRevocationToken(CertificateToken certificateToken,
+			CertificateToken issuerCertificate, CertificateToken trustAnchor) {
+		final RevocationRequest revocationRequest = new RevocationRequest(certificateToken, issuerCertificate, trustAnchor);
+		if (preloadedRevocations.containsKey(revocationRequest)) {
+			return preloadedRevocations.remove(revocationRequest);
+		}
+		return getRevocationToken(certificateToken, issuerCertificate, trustAnchor);
+	}
+
 	private <T extends Token> boolean containsTrustAnchor(List<T> certChain) {
 		return getFirstTrustAnchor(certChain) != null;
 	}
@@ -1356,4 +1697,109 @@ public class SignatureValidationContext implements ValidationContext {
 
 	}
 
+	/**
+	 * Defines a request of revocation data from the online sources
+	 */
+	private static class RevocationRequest {
+
+		/** The certificate token to get revocation data for */
+		private final CertificateToken certToken;
+
+		/** The issuer of the certificate token */
+		private final CertificateToken issuerToken;
+
+		/** The first trust anchor of the certificate chain, when applicable */
+		private final CertificateToken trustAnchor;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param certToken {@link CertificateToken} to get revocation data for
+		 * @param issuerToken {@link CertificateToken} issuer of the certificate token
+		 * @param trustAnchor {@link CertificateToken} the first trust anchor of the chain, can be null
+		 */
+		private RevocationRequest(final CertificateToken certToken, final CertificateToken issuerToken,
+								  final CertificateToken trustAnchor) {
+			this.certToken = certToken;
+			this.issuerToken = issuerToken;
+			this.trustAnchor = trustAnchor;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof RevocationRequest)) {
+				return false;
+			}
+			RevocationRequest that = (RevocationRequest) o;
+			return certToken.equals(that.certToken) && issuerToken.equals(that.issuerToken)
+					&& Objects.equals(trustAnchor, that.trustAnchor);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(certToken, issuerToken, trustAnchor);
+		}
+
+	}
+
+	/**
+	 * An issuer found within the known certificate sources, with the state of the sources it has been found from
+	 */
+	private static class KnownSourcesIssuer {
+
+		/** The issuer, NULL if not found */
+		private final CertificateToken issuer;
+
+		/** The value of the {@code certificatesVersion} when the issuer has been looked for */
+		private final int certificatesVersion;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param issuer {@link CertificateToken}, can be null
+		 * @param certificatesVersion the current version of the certificate sources
+		 */
+		private KnownSourcesIssuer(final CertificateToken issuer, final int certificatesVersion) {
+			this.issuer = issuer;
+			this.certificatesVersion = certificatesVersion;
+		}
+
+	}
+
+	/**
+	 * The AIA source returning the issuer certificates preloaded concurrently, when available
+	 */
+	private static class PreloadedAIASource implements AIASource {
+
+		private static final long serialVersionUID = 4917208410393316297L;
+
+		/** The original AIA source */
+		private final AIASource aiaSource;
+
+		/** The map between certificate tokens and their issuer candidates retrieved by AIA */
+		private final Map<CertificateToken, Set<CertificateToken>> preloaded = new ConcurrentHashMap<>();
+
+		/**
+		 * Default constructor
+		 *
+		 * @param aiaSource {@link AIASource} to be used to retrieve the issuer certificates
+		 */
+		private PreloadedAIASource(final AIASource aiaSource) {
+			this.aiaSource = aiaSource;
+		}
+
+		@Override
+		public Set<CertificateToken> getCertificatesByAIA(CertificateToken certificateToken) {
+			Set<CertificateToken> certificateTokens = preloaded.remove(certificateToken);
+			if (certificateTokens != null) {
+				return certificateTokens;
+			}
+			return aiaSource.getCertificatesByAIA(certificateToken);
+		}
+
+	}
+
 }
@@ -62,10 +62,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * Validates a signed document. The content of the document is determined
@@ -180,6 +186,13 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 	 */
 	protected boolean skipValidationContextExecution = false;
 
+	/**
+	 * Executes the independent processing of signatures (integrity check, signature scope computation) concurrently
+	 *
+	 * Default: null (the signatures are processed sequentially)
+	 */
+	private ExecutorService executorService;
+
 	/**
 	 * Cached list of signatures extracted from the document
 	 */
@@ -796,9 +809,79 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 
 	@Override
 	public <T extends AdvancedSignature> void processSignaturesValidation(Collection<T> allSignatureList) {
-		for (final AdvancedSignature signature : allSignatureList) {
-			signature.checkSignatureIntegrity();
+		processSignatures(allSignatureList, AdvancedSignature::checkSignatureIntegrity);
+	}
+
+	/**
+	 * Executes the {@code task} for each of the given signatures. When an {@code executorService} is defined,
+	 * the groups of signatures returned by {@code getConcurrentProcessingGroup} are processed concurrently,
+	 * while the signatures within a group are processed sequentially in the order of the collection.
+	 * The method returns when all the signatures are processed.
+	 *
+	 * @param <T> {@link AdvancedSignature} implementation
+	 * @param signatures a collection of {@link AdvancedSignature}s to be processed
+	 * @param task {@link Consumer} to be executed for each signature
+	 */
+	protected <T extends AdvancedSignature> void processSignatures(Collection<T> signatures, Consumer<AdvancedSignature> task) {
+		if (executorService == null || signatures.size() < 2) {
+			signatures.forEach(task);
+			return;
+		}
+
+		final Map<Object, List<AdvancedSignature>> signatureGroups = new LinkedHashMap<>();
+		for (AdvancedSignature signature : signatures) {
+			signatureGroups.computeIfAbsent(getConcurrentProcessingGroup(signature), k -> new ArrayList<>()).add(signature);
+		}
+		if (signatureGroups.size() < 2) {
+			signatures.forEach(task);
+			return;
+		}
+
+		final List<Future<?>> futures = new ArrayList<>();
+		for (List<AdvancedSignature> signatureGroup : signatureGroups.values()) {
+			futures.add(executorService.submit(() -> signatureGroup.forEach(task)));
+		}
+		// waits for all the tasks and reports the failure of the first group in the order of the collection
+		RuntimeException exception = null;
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DSSException(String.format("Interrupted signature processing : %s", e.getMessage()), e);
+			} catch (ExecutionException e) {
+				if (exception == null) {
+					exception = toRuntimeException(e.getCause());
+				}
+			}
 		}
+		if (exception != null) {
+			throw exception;
+		}
+	}
+
+	private RuntimeException toRuntimeException(Throwable cause) {
+		if (cause instanceof RuntimeException) {
+			return (RuntimeException) cause;
+		} else if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+		return new DSSException(String.format("Unable to process the signature : %s", cause.getMessage()), cause);
+	}
+
+	/**
+	 * Returns a key grouping the signatures which cannot be processed concurrently (e.g. sharing a non thread-safe object).
+	 * By default, a signature is grouped with its master signature, when it is a counter signature.
+	 *
+	 * @param signature {@link AdvancedSignature}
+	 * @return {@link Object} the group key
+	 */
+	protected Object getConcurrentProcessingGroup(AdvancedSignature signature) {
+		AdvancedSignature masterSignature = signature;
+		while (masterSignature.isCounterSignature() && masterSignature.getMasterSignature() != null) {
+			masterSignature = masterSignature.getMasterSignature();
+		}
+		return masterSignature;
 	}
 
 	/**
@@ -811,9 +894,10 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 	@Override
 	public <T extends AdvancedSignature> void findSignatureScopes(Collection<T> allSignatures) {
 		prepareSignatureScopeFinder(signatureScopeFinder);
-		for (final AdvancedSignature signature : allSignatures) {
-			signature.findSignatureScope(signatureScopeFinder);
+		processSignatures(allSignatures, signature -> signature.findSignatureScope(signatureScopeFinder));
 
+		// timestamps may be shared between signatures, therefore processed sequentially
+		for (final AdvancedSignature signature : allSignatures) {
 			TimestampScopeFinder timestampScopeFinder = getTimestampScopeFinder();
 			prepareTimestampScopeFinder(timestampScopeFinder, signature);
 			for (TimestampToken timestampToken : signature.getContentTimestamps()) {
@@ -905,6 +989,22 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 		}
 	}
 
+	/**
+	 * Sets the {@code ExecutorService} to be used to process the signatures of the document concurrently
+	 * (signature integrity and signature scope computation). Signatures sharing a state which cannot be accessed
+	 * concurrently (e.g. a counter signature with its master signature) are processed sequentially within one task.
+	 * The results are stored within the signatures, therefore the produced reports stay the same.
+	 *
+	 * NOTE: the executor is not shut down by DSS. The lifecycle of the executor shall be managed by the caller.
+	 *
+	 * Default : null (the signatures are processed sequentially)
+	 *
+	 * @param executorService {@link ExecutorService} to be used
+	 */
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
 	/**
 	 * Sets if the validation context execution shall be skipped
 	 * (skips certificate chain building, revocation requests, ...)
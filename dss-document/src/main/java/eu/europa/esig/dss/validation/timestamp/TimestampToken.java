@@ -31,6 +31,7 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.identifier.TokenIdentifier;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.SignatureValidityCache;
 import eu.europa.esig.dss.model.x509.Token;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSSecurityProvider;
@@ -340,12 +341,26 @@ public class TimestampToken extends Token {
 
 		final X509CertificateHolder x509CertificateHolder = DSSASN1Utils.getX509CertificateHolder(candidate);
 		if (timeStamp.getSID().match(x509CertificateHolder)) {
-			SignerInformationVerifier signerInformationVerifier = getSignerInformationVerifier(candidate);
+			// The validation depends on the signing-certificate attribute, therefore the whole certificate is used as a key
+			final SignatureValidityCache.CachedSignatureValidity cachedResult = SignatureValidityCache.get(getDSSId(), candidate);
+			if (cachedResult != null) {
+				signatureValidity = cachedResult.getSignatureValidity();
+				signatureInvalidityReason = cachedResult.getSignatureInvalidityReason();
 
-			// Try firstly to validate as a Timestamp and if that fails try to validate the
-			// timestamp as a CMSSignedData
-			if (isValidTimestamp(signerInformationVerifier) || isValidCMSSignedData(signerInformationVerifier)) {
-				signatureValidity = SignatureValidity.VALID;
+			} else {
+				SignerInformationVerifier signerInformationVerifier = getSignerInformationVerifier(candidate);
+
+				// Try firstly to validate as a Timestamp and if that fails try to validate the
+				// timestamp as a CMSSignedData
+				if (isValidTimestamp(signerInformationVerifier) || isValidCMSSignedData(signerInformationVerifier)) {
+					signatureValidity = SignatureValidity.VALID;
+				} else {
+					signatureValidity = SignatureValidity.INVALID;
+				}
+				SignatureValidityCache.put(getDSSId(), candidate, signatureValidity, signatureInvalidityReason);
+			}
+
+			if (SignatureValidity.VALID == signatureValidity) {
 				this.tsaX500Principal = candidate.getSubject().getPrincipal();
 				SignerInformation signerInformation = timeStamp.toCMSSignedData().getSignerInfos().get(timeStamp.getSID());
 
@@ -358,8 +373,6 @@ public class TimestampToken extends Token {
 					final DigestAlgorithm digestAlgorithm = DigestAlgorithm.forOID(hashAlgorithm.getAlgorithm().getId());
 					signatureAlgorithm = SignatureAlgorithm.getAlgorithm(encryptionAlgorithm, digestAlgorithm);
 				}
-			} else {
-				signatureValidity = SignatureValidity.INVALID;
 			}
 
 			return signatureValidity;
@@ -0,0 +1,139 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DomIdIndexTest {
+
+	private static final String XML = "<root Id=\"root\" xmlns:wsu=\"" + DomIdIndex.WSU_NAMESPACE_URI + "\">" +
+			"<a Id=\"a\"><b ID=\"b\"/><c id=\"c\"/></a>" +
+			"<d wsu:Id=\"d\"/>" +
+			"<e other=\"a\" iD=\"e\"/>" +
+			"<f Id=\"dup\"/><g id=\"dup\"/>" +
+			"</root>";
+
+	@Test
+	public void buildTest() {
+		Document document = DomUtils.buildDOM(XML);
+		DomIdIndex index = DomIdIndex.build(document);
+		assertEquals(6, index.getIds().size());
+		assertEquals("root", index.getElements("root").get(0).getLocalName());
+		assertEquals("a", index.getElements("a").get(0).getLocalName());
+		assertEquals("b", index.getElements("b").get(0).getLocalName());
+		assertEquals("c", index.getElements("c").get(0).getLocalName());
+		assertEquals("d", index.getElements("d").get(0).getLocalName());
+		assertTrue(index.getElements("e").isEmpty());
+		assertEquals(2, index.getElements("dup").size());
+		assertTrue(index.getElements("unknown").isEmpty());
+	}
+
+	@Test
+	public void getElementByIdTest() {
+		Document document = DomUtils.buildDOM(XML);
+		assertEquals("root", DomUtils.getElementById(document, "root").getLocalName());
+		assertEquals("b", DomUtils.getElementById(document, "#b").getLocalName());
+		assertEquals("d", DomUtils.getElementById(document, "d").getLocalName());
+		assertNull(DomUtils.getElementById(document, "dup"));
+		assertNull(DomUtils.getElementById(document, "unknown"));
+		assertNull(DomUtils.getElementById(document, null));
+
+		Element a = DomUtils.getElementById(document, "a");
+		assertNotNull(DomUtils.getElementById(a, "c"));
+		assertNull(DomUtils.getElementById(a, "a"));
+		assertNull(DomUtils.getElementById(a, "d"));
+	}
+
+	@Test
+	public void documentModificationTest() {
+		Document document = DomUtils.buildDOM(XML);
+		DomIdIndex index = DomIdIndex.getIndex(document);
+		assertSame(index, DomIdIndex.getIndex(document));
+
+		Element a = DomUtils.getElementById(document, "a");
+		Element c = DomUtils.getElementById(document, "c");
+		a.removeChild(c);
+		assertNull(DomUtils.getElementById(document, "c"));
+		// detached element
+		assertNotNull(DomUtils.getElementById(c.getOwnerDocument().importNode(a, true), "b"));
+
+		Element h = document.createElement("h");
+		h.setAttribute("Id", "h");
+		document.getDocumentElement().appendChild(h);
+		assertSame(h, DomUtils.getElementById(document, "h"));
+
+		h.setAttribute("Id", "i");
+		assertNull(DomUtils.getElementById(document, "h"));
+		assertSame(h, DomUtils.getElementById(document, "i"));
+
+		assertFalse(DomIdIndex.getElementsById(document, "i").isEmpty());
+	}
+
+	@Test
+	public void indexReuseTest() {
+		Document document = DomUtils.buildDOM(XML);
+		DomIdIndex index = DomIdIndex.getIndex(document);
+		for (int i = 0; i < 10; i++) {
+			assertNotNull(DomUtils.getElementById(document, "a"));
+		}
+		// found elements do not rebuild the index of an unmodified document
+		assertSame(index, DomIdIndex.getIndex(document));
+
+		// absent identifiers are looked up in a rebuilt index
+		assertTrue(DomIdIndex.getElementsById(document, "unknown").isEmpty());
+		assertNotSame(index, DomIdIndex.getIndex(document));
+
+		Element unknown = document.createElement("unknown");
+		unknown.setAttribute("Id", "unknown");
+		document.getDocumentElement().appendChild(unknown);
+		assertSame(unknown, DomUtils.getElementById(document, "unknown"));
+	}
+
+	@Test
+	public void duplicateModificationTest() {
+		Document document = DomUtils.buildDOM(XML);
+		assertEquals(2, DomIdIndex.getElementsById(document, "dup").size());
+		assertNull(DomUtils.getElementById(document, "dup"));
+
+		// one of the duplicates is removed
+		Element f = DomIdIndex.getElementsById(document, "dup").get(0);
+		document.getDocumentElement().removeChild(f);
+		assertEquals("g", DomUtils.getElementById(document, "dup").getLocalName());
+
+		// the Id attribute of a found element is modified
+		Element b = DomUtils.getElementById(document, "b");
+		assertNotNull(b);
+		b.setAttribute("ID", "dup");
+		assertNull(DomUtils.getElementById(document, "b"));
+		assertEquals(2, DomIdIndex.getElementsById(document, "dup").size());
+	}
+
+}
@@ -20,16 +20,32 @@
  */
 package eu.europa.esig.dss;
 
+import eu.europa.esig.dss.definition.DSSNamespace;
+import eu.europa.esig.dss.jaxb.common.DocumentBuilderFactoryBuilder;
+import eu.europa.esig.dss.jaxb.common.XmlDefinerUtils;
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
 
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -86,6 +102,103 @@ public class DomUtilsTest {
 		}
 	}
 
+	@Test
+	public void xPathExpressionCacheTest() throws Exception {
+		Document document = DomUtils.buildDOM("<root xmlns:a=\"urn:dss:test:a\" xmlns:b=\"urn:dss:test:b\">" +
+				"<a:value>A</a:value><b:value>B</b:value></root>");
+		// a registered namespace cannot be removed, the prefix is unique in order to not be resolved by another test
+		final String prefix = "dsscachetest" + UUID.randomUUID().toString().replace("-", "");
+
+		DomUtils.registerNamespace(new DSSNamespace("urn:dss:test:a", prefix));
+		assertEquals("A", DomUtils.getValue(document, "/root/" + prefix + ":value"));
+		assertEquals("A", DomUtils.getValue(document, "/root/" + prefix + ":value"));
+		assertEquals(1, DomUtils.getNodesAmount(document, "/root/" + prefix + ":value"));
+
+		// cached expressions are recompiled against the new namespace definition
+		DomUtils.registerNamespace(new DSSNamespace("urn:dss:test:b", prefix));
+		assertEquals("B", DomUtils.getValue(document, "/root/" + prefix + ":value"));
+
+		// the cache of the current thread is re-created after its removal
+		DomUtils.clearThreadCaches();
+		assertEquals("B", DomUtils.getValue(document, "/root/" + prefix + ":value"));
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> futures = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				final String value = String.valueOf(i);
+				futures.add(executorService.submit(() -> DomUtils.getValue(
+						DomUtils.buildDOM("<root><value>" + value + "</value></root>"), "/root/value")));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				assertEquals(String.valueOf(i), futures.get(i).get());
+			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		DomUtils.setXPathExpressionCacheEnabled(false);
+		try {
+			assertEquals("B", DomUtils.getValue(document, "/root/" + prefix + ":value"));
+		} finally {
+			DomUtils.setXPathExpressionCacheEnabled(true);
+		}
+	}
+
+	@Test
+	public void xmlProcessorsCacheTest() throws Exception {
+		String xmlWithDoctype = "<?xml version=\"1.0\"?><!DOCTYPE root [<!ELEMENT root ANY>]><root>value</root>";
+
+		Document first = DomUtils.buildDOM("<root>first</root>");
+		Document second = DomUtils.buildDOM("<root>second</root>");
+		assertNotSame(first, second);
+		assertEquals("first", first.getDocumentElement().getTextContent());
+		assertEquals("second", second.getDocumentElement().getTextContent());
+
+		// a reused DocumentBuilder stays usable after a parsing failure
+		assertThrows(DSSException.class, () -> DomUtils.buildDOM("<root>"));
+		assertThrows(DSSException.class, () -> DomUtils.buildDOM(xmlWithDoctype));
+		assertEquals("third", DomUtils.buildDOM("<root>third</root>").getDocumentElement().getTextContent());
+
+		// the reused Transformer does not keep the output properties of a previous use
+		DSSDocument document = new InMemoryDocument("<root>value</root>".getBytes());
+		String xml = DomUtils.xmlToString(DomUtils.buildDOM(document));
+		assertTrue(xml.contains("UTF-8"), xml);
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+			DomUtils.transform(new DOMSource(DomUtils.buildDOM(document)), new StreamResult(baos), "ISO-8859-1");
+			assertTrue(new String(baos.toByteArray()).contains("ISO-8859-1"));
+		}
+		assertEquals(xml, DomUtils.xmlToString(DomUtils.buildDOM(document)));
+
+		// the instances of the current thread are re-created after their removal
+		DomUtils.clearThreadCaches();
+		assertEquals(xml, DomUtils.xmlToString(DomUtils.buildDOM(document)));
+
+		DocumentBuilderFactoryBuilder documentBuilderFactoryBuilder = DocumentBuilderFactoryBuilder.getSecureDocumentBuilderFactoryBuilder();
+		try {
+			// a new configuration is taken into account
+			XmlDefinerUtils.getInstance().setDocumentBuilderFactoryBuilder(documentBuilderFactoryBuilder
+					.disableFeature("http://apache.org/xml/features/disallow-doctype-decl"));
+			assertEquals("value", DomUtils.buildDOM(xmlWithDoctype).getDocumentElement().getTextContent());
+
+			// as well as a modification of the current configuration
+			documentBuilderFactoryBuilder.enableFeature("http://apache.org/xml/features/disallow-doctype-decl");
+			assertThrows(DSSException.class, () -> DomUtils.buildDOM(xmlWithDoctype));
+
+		} finally {
+			XmlDefinerUtils.getInstance().setDocumentBuilderFactoryBuilder(
+					DocumentBuilderFactoryBuilder.getSecureDocumentBuilderFactoryBuilder());
+		}
+
+		DomUtils.setXmlProcessorsCacheEnabled(false);
+		try {
+			assertEquals(xml, DomUtils.xmlToString(DomUtils.buildDOM(document)));
+			assertThrows(DSSException.class, () -> DomUtils.buildDOM(xmlWithDoctype));
+		} finally {
+			DomUtils.setXmlProcessorsCacheEnabled(true);
+		}
+	}
+
 	@Test
 	public void getSecureTransformer() {
 		assertNotNull(DomUtils.getSecureTransformer());
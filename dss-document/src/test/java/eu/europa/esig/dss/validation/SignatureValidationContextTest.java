@@ -20,8 +20,14 @@
  */
 package eu.europa.esig.dss.validation;
 
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
 import eu.europa.esig.dss.enumerations.TimestampType;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.IgnoreDataLoader;
@@ -29,20 +35,49 @@ import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
 import eu.europa.esig.dss.spi.x509.aia.DefaultAIASource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.ExternalResourcesCRLSource;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.timestamp.TimestampToken;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SignatureValidationContextTest {
 
@@ -249,6 +284,209 @@ public class SignatureValidationContextTest {
 		assertNull(certToken.getPublicKeyOfTheSigner());
 	}
 
+	@Test
+	public void concurrentValidationTest() {
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			CertificateToken czCertToken = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ.cer"));
+			CertificateToken goodUserCertToken = DSSUtils.loadCertificate(new File("src/test/resources/certificates/good-user.cer"));
+
+			Map<String, byte[]> dataMap = new HashMap<>();
+			dataMap.put("http://q.ica.cz/ca_nbusr09.p7c", DSSUtils.toByteArray(new File("src/test/resources/certificates/CZ_CA.cer")));
+			dataMap.put("http://dss.nowina.lu/pki-factory/crt/good-ca.crt", DSSUtils.toByteArray(new File("src/test/resources/certificates/good-ca.cer")));
+
+			MockAIASource sequentialAIASource = new MockAIASource(new MemoryDataLoader(dataMap));
+			MockOCSPSource sequentialOCSPSource = new MockOCSPSource();
+			CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+			certificateVerifier.setAIASource(sequentialAIASource);
+			certificateVerifier.setOcspSource(sequentialOCSPSource);
+			certificateVerifier.setCheckRevocationForUntrustedChains(true);
+
+			SignatureValidationContext sequentialContext = new SignatureValidationContext();
+			sequentialContext.initialize(certificateVerifier);
+			sequentialContext.addCertificateTokenForVerification(czCertToken);
+			sequentialContext.addCertificateTokenForVerification(goodUserCertToken);
+			sequentialContext.validate();
+
+			MockAIASource concurrentAIASource = new MockAIASource(new MemoryDataLoader(dataMap));
+			MockOCSPSource concurrentOCSPSource = new MockOCSPSource();
+			certificateVerifier = new CommonCertificateVerifier();
+			certificateVerifier.setAIASource(concurrentAIASource);
+			certificateVerifier.setOcspSource(concurrentOCSPSource);
+			certificateVerifier.setCheckRevocationForUntrustedChains(true);
+			certificateVerifier.setExecutorService(executorService);
+
+			SignatureValidationContext concurrentContext = new SignatureValidationContext();
+			concurrentContext.initialize(certificateVerifier);
+			concurrentContext.addCertificateTokenForVerification(czCertToken);
+			concurrentContext.addCertificateTokenForVerification(goodUserCertToken);
+			concurrentContext.validate();
+
+			assertEquals(4, concurrentContext.getProcessedCertificates().size());
+			assertEquals(sequentialContext.getProcessedCertificates(), concurrentContext.getProcessedCertificates());
+			assertEquals(sequentialContext.getProcessedRevocations(), concurrentContext.getProcessedRevocations());
+
+			assertEquals(sequentialAIASource.requestCounter, concurrentAIASource.requestCounter);
+			assertTrue(concurrentOCSPSource.requestCounter.get() > 0);
+			assertEquals(sequentialOCSPSource.requestCounter.get(), concurrentOCSPSource.requestCounter.get());
+
+			concurrentContext.validate();
+			assertEquals(sequentialAIASource.requestCounter, concurrentAIASource.requestCounter);
+			assertEquals(sequentialOCSPSource.requestCounter.get(), concurrentOCSPSource.requestCounter.get());
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void concurrentValidationWithSharedCRLTest() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		// the revocation data signed with a key smaller than 3000 bits is not acceptable
+		keyPairGenerator.initialize(3072);
+		KeyPair caKeyPair = keyPairGenerator.generateKeyPair();
+		ContentSigner caSigner = new JcaContentSignerBuilder("SHA256withRSA").build(caKeyPair.getPrivate());
+
+		X500Name caName = new X500Name("CN=Test CA");
+		Date now = new Date();
+		Date notBefore = new Date(now.getTime() - 3600000L);
+		Date notAfter = new Date(now.getTime() + 24 * 3600000L);
+
+		JcaX509v3CertificateBuilder caBuilder = new JcaX509v3CertificateBuilder(caName, BigInteger.ONE, notBefore, notAfter,
+				caName, caKeyPair.getPublic());
+		caBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+		caBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+		CertificateToken caToken = new CertificateToken(new JcaX509CertificateConverter().getCertificate(caBuilder.build(caSigner)));
+
+		// several chains sharing the same CRL
+		KeyPair userKeyPair = keyPairGenerator.generateKeyPair();
+		DistributionPointName distributionPointName = new DistributionPointName(
+				new GeneralNames(new GeneralName(GeneralName.uniformResourceIdentifier, "http://localhost/test-ca.crl")));
+		List<CertificateToken> userTokens = new ArrayList<>();
+		for (int i = 2; i < 6; i++) {
+			JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(caName, BigInteger.valueOf(i), notBefore,
+					notAfter, new X500Name("CN=User " + i), userKeyPair.getPublic());
+			builder.addExtension(Extension.cRLDistributionPoints, false,
+					new CRLDistPoint(new DistributionPoint[] { new DistributionPoint(distributionPointName, null, null) }));
+			userTokens.add(new CertificateToken(new JcaX509CertificateConverter().getCertificate(builder.build(caSigner))));
+		}
+
+		X509v2CRLBuilder crlBuilder = new X509v2CRLBuilder(caName, new Date(now.getTime() - 60000L));
+		crlBuilder.setNextUpdate(new Date(now.getTime() + 3600000L));
+		crlBuilder.addCRLEntry(userTokens.get(0).getSerialNumber(), new Date(now.getTime() - 60000L), CRLReason.keyCompromise);
+		byte[] crlBinary = crlBuilder.build(caSigner).getEncoded();
+
+		CommonTrustedCertificateSource trustedCertificateSource = new CommonTrustedCertificateSource();
+		trustedCertificateSource.addCertificate(caToken);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			MockCachingCRLSource sequentialCRLSource = new MockCachingCRLSource(crlBinary);
+			CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+			certificateVerifier.setTrustedCertSources(trustedCertificateSource);
+			certificateVerifier.setCrlSource(sequentialCRLSource);
+
+			SignatureValidationContext sequentialContext = new SignatureValidationContext();
+			sequentialContext.initialize(certificateVerifier);
+			sequentialContext.setCurrentTime(now);
+			for (CertificateToken userToken : userTokens) {
+				sequentialContext.addCertificateTokenForVerification(userToken);
+			}
+			sequentialContext.validate();
+
+			MockCachingCRLSource concurrentCRLSource = new MockCachingCRLSource(crlBinary);
+			certificateVerifier = new CommonCertificateVerifier();
+			certificateVerifier.setTrustedCertSources(trustedCertificateSource);
+			certificateVerifier.setCrlSource(concurrentCRLSource);
+			certificateVerifier.setExecutorService(executorService);
+
+			SignatureValidationContext concurrentContext = new SignatureValidationContext();
+			concurrentContext.initialize(certificateVerifier);
+			concurrentContext.setCurrentTime(now);
+			for (CertificateToken userToken : userTokens) {
+				concurrentContext.addCertificateTokenForVerification(userToken);
+			}
+			concurrentContext.validate();
+
+			assertEquals(4, concurrentContext.getProcessedRevocations().size());
+			assertEquals(sequentialContext.getProcessedRevocations(), concurrentContext.getProcessedRevocations());
+
+			// the CRL shared by the chains is requested by a single task, thus downloaded once
+			assertEquals(4, concurrentCRLSource.requestCounter.get());
+			assertEquals(1, concurrentCRLSource.downloadCounter.get());
+			assertEquals(sequentialCRLSource.requestCounter.get(), concurrentCRLSource.requestCounter.get());
+			assertEquals(sequentialCRLSource.downloadCounter.get(), concurrentCRLSource.downloadCounter.get());
+
+			DiagnosticDataFacade facade = DiagnosticDataFacade.newFacade();
+			String sequentialDiagnosticData = facade.marshall(buildDiagnosticData(sequentialContext, now));
+			String concurrentDiagnosticData = facade.marshall(buildDiagnosticData(concurrentContext, now));
+			assertEquals(sequentialDiagnosticData, concurrentDiagnosticData);
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	private XmlDiagnosticData buildDiagnosticData(ValidationContext validationContext, Date validationDate) {
+		return new CertificateDiagnosticDataBuilder()
+				.usedCertificates(validationContext.getProcessedCertificates())
+				.usedRevocations(validationContext.getProcessedRevocations())
+				.allCertificateSources(validationContext.getAllCertificateSources())
+				.validationDate(validationDate)
+				.build();
+	}
+
+	private static class MockCachingCRLSource implements RevocationSource<CRL> {
+
+		private static final long serialVersionUID = -3046512846578253016L;
+
+		private final byte[] crlBinary;
+
+		private final Map<String, ExternalResourcesCRLSource> cache = new ConcurrentHashMap<>();
+
+		private final AtomicInteger requestCounter = new AtomicInteger();
+
+		private final AtomicInteger downloadCounter = new AtomicInteger();
+
+		public MockCachingCRLSource(byte[] crlBinary) {
+			this.crlBinary = crlBinary;
+		}
+
+		@Override
+		public RevocationToken<CRL> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			requestCounter.incrementAndGet();
+			String crlUrl = DSSASN1Utils.getCrlUrls(certificateToken).get(0);
+			ExternalResourcesCRLSource crlSource = cache.get(crlUrl);
+			if (crlSource == null) {
+				downloadCounter.incrementAndGet();
+				try {
+					// simulates the download time
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				crlSource = new ExternalResourcesCRLSource(new InMemoryDocument(crlBinary));
+				cache.put(crlUrl, crlSource);
+			}
+			return crlSource.getRevocationToken(certificateToken, issuerCertificateToken);
+		}
+
+	}
+
+	private static class MockOCSPSource implements RevocationSource<OCSP> {
+
+		private static final long serialVersionUID = 2345289071938447384L;
+
+		private final AtomicInteger requestCounter = new AtomicInteger();
+
+		@Override
+		public RevocationToken<OCSP> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			requestCounter.incrementAndGet();
+			return null;
+		}
+
+	}
+
 	private static class MockAIASource extends DefaultAIASource {
 
 		private static final long serialVersionUID = -5890796098843749473L;
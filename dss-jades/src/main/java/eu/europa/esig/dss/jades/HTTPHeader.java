@@ -27,6 +27,8 @@ import eu.europa.esig.dss.model.MimeType;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * The class represents an HTTP Header to be signed
@@ -117,4 +119,9 @@ public class HTTPHeader implements DSSDocument {
 		throw new UnsupportedOperationException("The getDigest(digestAlgorithm) method is not supported for HTTPHeaderDocument.");
 	}
 
+	@Override
+	public Map<DigestAlgorithm, String> getDigests(Collection<DigestAlgorithm> digestAlgorithms) {
+		throw new UnsupportedOperationException("The getDigests(digestAlgorithms) method is not supported for HTTPHeaderDocument.");
+	}
+
 }
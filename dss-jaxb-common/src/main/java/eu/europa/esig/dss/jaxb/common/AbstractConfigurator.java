@@ -49,6 +49,9 @@ public abstract class AbstractConfigurator<F> {
     /** Defines the behaviour for processing a security exception */
     private StatusAlert securityExceptionAlert = new ExceptionOnStatusAlert();
 
+    /** Incremented on each change of the configuration (allows invalidation of objects built with a previous state) */
+    private volatile int modificationCount;
+
     /**
      * Default constructor initializing empty maps of security features and attributes
      */
@@ -65,6 +68,17 @@ public abstract class AbstractConfigurator<F> {
     public void setSecurityExceptionAlert(StatusAlert securityExceptionAlert) {
         Objects.requireNonNull(securityExceptionAlert);
         this.securityExceptionAlert = securityExceptionAlert;
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of changes applied to the configuration since the creation of the object.
+     * Allows to detect whether an object built from the configurator (e.g. a cached factory) is outdated.
+     *
+     * @return modification count
+     */
+    public int getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -96,6 +110,7 @@ public abstract class AbstractConfigurator<F> {
             LOG.debug("The feature {} = {} has been added to the configuration", feature, value);
         }
         features.put(feature, value);
+        modificationCount++;
         return this;
     }
 
@@ -115,6 +130,7 @@ public abstract class AbstractConfigurator<F> {
             LOG.debug("The attribute {} = {} has been added to the configuration", attribute, value);
         }
         attributes.put(attribute, value);
+        modificationCount++;
         return this;
     }
 
@@ -128,6 +144,7 @@ public abstract class AbstractConfigurator<F> {
         Objects.requireNonNull(attribute, "The attribute constraint cannot be null!");
         if (attributes.containsKey(attribute)) {
             attributes.remove(attribute);
+            modificationCount++;
             LOG.warn("SECURITY : the attribute with name [{}] has been disabled", attribute);
         }
         return this;
@@ -78,6 +78,15 @@ public final class XmlDefinerUtils {
 		this.secureDocumentBuilderFactoryBuilder = documentBuilderFactoryBuilder;
 	}
 
+	/**
+	 * Gets the builder used to instantiate a {@code DocumentBuilderFactory}
+	 *
+	 * @return {@link DocumentBuilderFactoryBuilder}
+	 */
+	public DocumentBuilderFactoryBuilder getDocumentBuilderFactoryBuilder() {
+		return secureDocumentBuilderFactoryBuilder;
+	}
+
 	/**
 	 * Returns a DocumentBuilderFactory with enabled security features
 	 *
@@ -130,6 +139,15 @@ public final class XmlDefinerUtils {
 		this.secureTransformerFactoryBuilder = transformerFactoryBuilder;
 	}
 
+	/**
+	 * Gets the builder used to instantiate a {@code TransformerFactory}
+	 *
+	 * @return {@link TransformerFactoryBuilder}
+	 */
+	public TransformerFactoryBuilder getTransformerFactoryBuilder() {
+		return secureTransformerFactoryBuilder;
+	}
+
 	/**
 	 * Returns a TransformerFactory with enabled security features (disabled
 	 * external DTD/XSD + secure processing
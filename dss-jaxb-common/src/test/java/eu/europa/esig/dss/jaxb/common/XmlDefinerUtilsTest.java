@@ -32,6 +32,7 @@ import javax.xml.validation.SchemaFactory;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class XmlDefinerUtilsTest {
 
@@ -50,6 +51,33 @@ public class XmlDefinerUtilsTest {
 		assertNotNull(XmlDefinerUtils.getInstance().getSecureDocumentBuilderFactory());
 	}
 
+	@Test
+	public void modificationCountTest() {
+		DocumentBuilderFactoryBuilder documentBuilderFactoryBuilder = DocumentBuilderFactoryBuilder.getSecureDocumentBuilderFactoryBuilder();
+		int modificationCount = documentBuilderFactoryBuilder.getModificationCount();
+		documentBuilderFactoryBuilder.disableFeature("http://apache.org/xml/features/disallow-doctype-decl");
+		assertNotEquals(modificationCount, documentBuilderFactoryBuilder.getModificationCount());
+
+		modificationCount = documentBuilderFactoryBuilder.getModificationCount();
+		documentBuilderFactoryBuilder.removeAttribute(XMLConstants.ACCESS_EXTERNAL_DTD);
+		assertNotEquals(modificationCount, documentBuilderFactoryBuilder.getModificationCount());
+
+		modificationCount = documentBuilderFactoryBuilder.getModificationCount();
+		documentBuilderFactoryBuilder.removeAttribute(XMLConstants.ACCESS_EXTERNAL_DTD);
+		assertEquals(modificationCount, documentBuilderFactoryBuilder.getModificationCount());
+
+		XmlDefinerUtils xmlDefinerUtils = XmlDefinerUtils.getInstance();
+		DocumentBuilderFactoryBuilder defaultBuilder = xmlDefinerUtils.getDocumentBuilderFactoryBuilder();
+		assertNotNull(defaultBuilder);
+		assertNotNull(xmlDefinerUtils.getTransformerFactoryBuilder());
+		try {
+			xmlDefinerUtils.setDocumentBuilderFactoryBuilder(documentBuilderFactoryBuilder);
+			assertSame(documentBuilderFactoryBuilder, xmlDefinerUtils.getDocumentBuilderFactoryBuilder());
+		} finally {
+			xmlDefinerUtils.setDocumentBuilderFactoryBuilder(defaultBuilder);
+		}
+	}
+
 	@Test
 	public void mockSecureSchemaFactoryBuilderTest() throws SAXException {
 		MockSchemaFactoryBuilder schemaFactoryBuilder = new MockSchemaFactoryBuilder();
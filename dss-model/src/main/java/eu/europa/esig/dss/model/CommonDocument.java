@@ -29,8 +29,13 @@ import java.io.OutputStream;
 import java.io.StringWriter;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * This class implements the default methods.
@@ -39,6 +44,11 @@ import java.util.EnumMap;
 @SuppressWarnings("serial")
 public abstract class CommonDocument implements DSSDocument {
 
+	/**
+	 * The size of the buffer used to read the document content on digest computation
+	 */
+	private static final int DIGEST_BUFFER_SIZE = 65536;
+
 	/**
 	 * Cached map of DigestAlgorithms and the corresponding digests for the document
 	 */
@@ -101,24 +111,60 @@ public abstract class CommonDocument implements DSSDocument {
 	}
 
 	@Override
-	public String getDigest(final DigestAlgorithm digestAlgorithm) {
+	public synchronized String getDigest(final DigestAlgorithm digestAlgorithm) {
 		String base64EncodeDigest = base64EncodeDigestMap.get(digestAlgorithm);
 		if (base64EncodeDigest == null) {
-			try (InputStream is = openStream()) {
-				MessageDigest messageDigest = digestAlgorithm.getMessageDigest();
-				final byte[] buffer = new byte[4096];
-				int count = 0;
-				while ((count = is.read(buffer)) > 0) {
+			computeDigests(Collections.singletonList(digestAlgorithm));
+			base64EncodeDigest = base64EncodeDigestMap.get(digestAlgorithm);
+		}
+		return base64EncodeDigest;
+	}
+
+	@Override
+	public synchronized Map<DigestAlgorithm, String> getDigests(final Collection<DigestAlgorithm> digestAlgorithms) {
+		final List<DigestAlgorithm> missingDigestAlgorithms = new ArrayList<>();
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			if (!base64EncodeDigestMap.containsKey(digestAlgorithm) && !missingDigestAlgorithms.contains(digestAlgorithm)) {
+				missingDigestAlgorithms.add(digestAlgorithm);
+			}
+		}
+		if (!missingDigestAlgorithms.isEmpty()) {
+			computeDigests(missingDigestAlgorithms);
+		}
+
+		final Map<DigestAlgorithm, String> digests = new EnumMap<>(DigestAlgorithm.class);
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			digests.put(digestAlgorithm, base64EncodeDigestMap.get(digestAlgorithm));
+		}
+		return digests;
+	}
+
+	/**
+	 * Computes the digests for all the given algorithms by reading the document content once
+	 * and caches the results
+	 *
+	 * @param digestAlgorithms a list of {@link DigestAlgorithm}s to compute digests for
+	 */
+	private void computeDigests(final List<DigestAlgorithm> digestAlgorithms) {
+		try (InputStream is = openStream()) {
+			final MessageDigest[] messageDigests = new MessageDigest[digestAlgorithms.size()];
+			for (int i = 0; i < messageDigests.length; i++) {
+				messageDigests[i] = digestAlgorithms.get(i).getMessageDigest();
+			}
+			final byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+			int count = 0;
+			while ((count = is.read(buffer)) > 0) {
+				for (MessageDigest messageDigest : messageDigests) {
 					messageDigest.update(buffer, 0, count);
 				}
-				final byte[] digestBytes = messageDigest.digest();
-				base64EncodeDigest = Base64.getEncoder().encodeToString(digestBytes);
-				base64EncodeDigestMap.put(digestAlgorithm, base64EncodeDigest);
-			} catch (IOException | NoSuchAlgorithmException e) {
-				throw new DSSException("Unable to compute the digest", e);
 			}
+			for (int i = 0; i < messageDigests.length; i++) {
+				final byte[] digestBytes = messageDigests[i].digest();
+				base64EncodeDigestMap.put(digestAlgorithms.get(i), Base64.getEncoder().encodeToString(digestBytes));
+			}
+		} catch (IOException | NoSuchAlgorithmException e) {
+			throw new DSSException("Unable to compute the digest", e);
 		}
-		return base64EncodeDigest;
 	}
 
 	@Override
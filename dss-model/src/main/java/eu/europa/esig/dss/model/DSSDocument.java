@@ -24,6 +24,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 
@@ -101,4 +104,21 @@ public interface DSSDocument extends Serializable {
 	 */
 	String getDigest(final DigestAlgorithm digestAlgorithm);
 
+	/**
+	 * This method returns the encoded digest values of the current {@code DSSDocument} for all the given algorithms.
+	 * The default implementation calls {@code getDigest(digestAlgorithm)} for each algorithm, while
+	 * {@code CommonDocument} reads the document content only once for all the digests which are not computed yet.
+	 *
+	 * @param digestAlgorithms
+	 *            a collection of {@code DigestAlgorithm}s
+	 * @return a map between the {@code DigestAlgorithm}s and the base64 encoded digest values
+	 */
+	default Map<DigestAlgorithm, String> getDigests(final Collection<DigestAlgorithm> digestAlgorithms) {
+		final Map<DigestAlgorithm, String> digests = new EnumMap<>(DigestAlgorithm.class);
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			digests.put(digestAlgorithm, getDigest(digestAlgorithm));
+		}
+		return digests;
+	}
+
 }
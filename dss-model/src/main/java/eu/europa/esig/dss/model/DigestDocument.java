@@ -25,6 +25,9 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 
@@ -94,6 +97,27 @@ public class DigestDocument extends CommonDocument {
 		return base64EncodeDigest;
 	}
 
+	/**
+	 * Returns the digest values defined for the given algorithms.
+	 * NOTE: the digests cannot be computed on a DigestDocument, therefore the algorithms without a defined
+	 * digest value are not present in the returned map
+	 *
+	 * @param digestAlgorithms
+	 *            a collection of {@code DigestAlgorithm}s
+	 * @return a map between the {@code DigestAlgorithm}s and the defined base64 encoded digest values
+	 */
+	@Override
+	public Map<DigestAlgorithm, String> getDigests(final Collection<DigestAlgorithm> digestAlgorithms) {
+		final Map<DigestAlgorithm, String> digests = new EnumMap<>(DigestAlgorithm.class);
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			String base64EncodeDigest = base64EncodeDigestMap.get(digestAlgorithm);
+			if (base64EncodeDigest != null) {
+				digests.put(digestAlgorithm, base64EncodeDigest);
+			}
+		}
+		return digests;
+	}
+
 	/**
 	 * Gets the defined digest value for the DigestDocument
 	 *
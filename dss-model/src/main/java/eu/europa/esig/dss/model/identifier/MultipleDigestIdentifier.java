@@ -24,7 +24,7 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.Digest;
 
 import java.util.Arrays;
-import java.util.EnumMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class is used to obtain a requested digest from a stored binary array
@@ -37,8 +37,8 @@ public abstract class MultipleDigestIdentifier extends Identifier {
 	/** Binary to compute the identifier for */
 	private final byte[] binaries;
 
-	/** Digest map */
-	private final EnumMap<DigestAlgorithm, byte[]> digestMap = new EnumMap<>(DigestAlgorithm.class);
+	/** Digest map (concurrent, as the token can be shared between threads) */
+	private final ConcurrentHashMap<DigestAlgorithm, byte[]> digestMap = new ConcurrentHashMap<>();
 
 	/**
 	 * Default constructor
@@ -64,13 +64,14 @@ public class CertificateToken extends Token {
 	/**
 	 * Indicates if the certificate is self-signed. This attribute stays null till the first call to
 	 * {@link #isSelfSigned()} function.
+	 * NOTE: the value is published only once computed, as the token can be shared between threads
 	 */
-	private Boolean selfSigned;
+	private volatile Boolean selfSigned;
 	
 	/**
-	 * Cached list of KeyUsageBit
+	 * Cached list of KeyUsageBit (published only once fully built)
 	 */
-	private List<KeyUsageBit> keyUsageBits;
+	private volatile List<KeyUsageBit> keyUsageBits;
 
 	/**
 	 * Creates a CertificateToken wrapping the provided X509Certificate.
@@ -173,21 +174,29 @@ public class CertificateToken extends Token {
 	 */
 	@Override
 	public boolean isSelfSigned() {
-		if (selfSigned == null) {
-			selfSigned = isSelfIssued();
-			if (selfSigned) {
-				try {
-					x509Certificate.verify(x509Certificate.getPublicKey());
-					selfSigned = true;
-					signatureValidity = SignatureValidity.VALID;
-				} catch (Exception e) {
-					selfSigned = false;
-				}
-			}
-		} else if (selfSigned) {
+		Boolean result = selfSigned;
+		if (result == null) {
+			result = isSelfIssued() && isSignedByOwnKey();
+			selfSigned = result;
+		}
+		if (result) {
 			signatureValidity = SignatureValidity.VALID;
 		}
-		return selfSigned;
+		return result;
+	}
+
+	private boolean isSignedByOwnKey() {
+		final SignatureValidityCache.CachedSignatureValidity cachedResult = SignatureValidityCache.get(getDSSId(), getPublicKey());
+		if (cachedResult != null && SignatureValidity.VALID == cachedResult.getSignatureValidity()) {
+			return true;
+		}
+		try {
+			x509Certificate.verify(x509Certificate.getPublicKey());
+			SignatureValidityCache.put(getDSSId(), getPublicKey(), SignatureValidity.VALID, "");
+			return true;
+		} catch (Exception e) {
+			return false;
+		}
 	}
 
 	/**
@@ -309,18 +318,20 @@ public class CertificateToken extends Token {
 	 * @return {@code List} of {@code KeyUsageBit}s of different certificate's key usages
 	 */
 	public List<KeyUsageBit> getKeyUsageBits() {
-		if (keyUsageBits == null) {
-			keyUsageBits = new ArrayList<>();
+		List<KeyUsageBit> result = keyUsageBits;
+		if (result == null) {
+			result = new ArrayList<>();
 			final boolean[] keyUsageArray = x509Certificate.getKeyUsage();
 			if (keyUsageArray != null) {
 				for (KeyUsageBit keyUsageBit : KeyUsageBit.values()) {
 					if (keyUsageArray[keyUsageBit.getIndex()]) {
-						keyUsageBits.add(keyUsageBit);
+						result.add(keyUsageBit);
 					}
 				}
 			}
+			keyUsageBits = result;
 		}
-		return keyUsageBits;
+		return result;
 	}
 
 	/**
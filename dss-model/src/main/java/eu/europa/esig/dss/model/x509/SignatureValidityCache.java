@@ -0,0 +1,372 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.model.x509;
+
+import eu.europa.esig.dss.enumerations.SignatureValidity;
+import eu.europa.esig.dss.model.identifier.Identifier;
+
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class contains a bounded process-wide cache of the signature verification results.
+ *
+ * The result of a cryptographic signature verification only depends on the signed binaries and on the public key
+ * (or the certificate) of the signer. The cache is keyed by the identifier of the signed token (digest of its
+ * binaries) and by the encoded signer key, thus different instances of the same token (e.g. the same certificate
+ * loaded from several documents) share the verification result.
+ *
+ * Only evaluated results (VALID or INVALID) are stored.
+ *
+ * The lookups do not lock. When the maximum size is exceeded, the least recently used results are evicted
+ * by a single thread at a time, while the other threads continue to read and store results.
+ */
+public final class SignatureValidityCache {
+
+	/** The default maximum number of cached verification results */
+	public static final int DEFAULT_MAX_SIZE = 10000;
+
+	/** The maximum number of cached verification results (0 disables the cache) */
+	private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+	/** The cached results */
+	private static final Map<CacheKey, CacheEntry> CACHE = new ConcurrentHashMap<>();
+
+	/** The access counter, defining the access order of the entries */
+	private static final AtomicLong ACCESS_COUNTER = new AtomicLong();
+
+	/** The lock of the eviction of the least recently used entries */
+	private static final ReentrantLock EVICTION_LOCK = new ReentrantLock();
+
+	/**
+	 * Utils class
+	 */
+	private SignatureValidityCache() {
+		// empty
+	}
+
+	/**
+	 * Sets the maximum number of verification results to be kept in the cache.
+	 * The value 0 disables the cache.
+	 *
+	 * Default : 10000
+	 *
+	 * @param size the maximum number of cached results
+	 */
+	public static void setMaxSize(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("The maximum size of the cache cannot be negative!");
+		}
+		EVICTION_LOCK.lock();
+		try {
+			maxSize = size;
+			if (size == 0) {
+				CACHE.clear();
+			} else {
+				evictLeastRecentlyUsed(size);
+			}
+		} finally {
+			EVICTION_LOCK.unlock();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of cached verification results
+	 *
+	 * @return the maximum size of the cache
+	 */
+	public static int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the number of cached verification results
+	 *
+	 * @return the number of entries
+	 */
+	public static int size() {
+		return CACHE.size();
+	}
+
+	/**
+	 * Removes all cached verification results
+	 */
+	public static void clear() {
+		CACHE.clear();
+	}
+
+	/**
+	 * Returns the cached verification result of the signed object with the given public key
+	 *
+	 * @param signedObjectId {@link Identifier} of the signed token or binaries
+	 * @param publicKey {@link PublicKey} of the signer candidate
+	 * @return {@link CachedSignatureValidity} if the result is known, null otherwise
+	 */
+	public static CachedSignatureValidity get(Identifier signedObjectId, PublicKey publicKey) {
+		return get(signedObjectId, publicKey.getEncoded());
+	}
+
+	/**
+	 * Returns the cached verification result of the signed object with the given signer certificate.
+	 * To be used when the verification depends on the certificate and not only on its public key
+	 * (e.g. a timestamp with a signing-certificate attribute).
+	 *
+	 * @param signedObjectId {@link Identifier} of the signed token or binaries
+	 * @param certificateToken {@link CertificateToken} the signer candidate
+	 * @return {@link CachedSignatureValidity} if the result is known, null otherwise
+	 */
+	public static CachedSignatureValidity get(Identifier signedObjectId, CertificateToken certificateToken) {
+		return get(signedObjectId, certificateToken.getEncoded());
+	}
+
+	private static CachedSignatureValidity get(Identifier signedObjectId, byte[] signerKey) {
+		if (signedObjectId == null || signerKey == null) {
+			return null;
+		}
+		if (maxSize == 0) {
+			return null;
+		}
+		final CacheEntry entry = CACHE.get(new CacheKey(signedObjectId, signerKey));
+		if (entry == null) {
+			return null;
+		}
+		entry.lastAccess = ACCESS_COUNTER.incrementAndGet();
+		return entry.value;
+	}
+
+	/**
+	 * Stores the verification result of the signed object with the given public key
+	 *
+	 * @param signedObjectId {@link Identifier} of the signed token or binaries
+	 * @param publicKey {@link PublicKey} of the signer candidate
+	 * @param signatureValidity {@link SignatureValidity} the verification result
+	 * @param signatureInvalidityReason {@link String} the invalidity reason, if any
+	 */
+	public static void put(Identifier signedObjectId, PublicKey publicKey, SignatureValidity signatureValidity,
+						   String signatureInvalidityReason) {
+		put(signedObjectId, publicKey.getEncoded(), signatureValidity, signatureInvalidityReason);
+	}
+
+	/**
+	 * Stores the verification result of the signed object with the given signer certificate
+	 *
+	 * @param signedObjectId {@link Identifier} of the signed token or binaries
+	 * @param certificateToken {@link CertificateToken} the signer candidate
+	 * @param signatureValidity {@link SignatureValidity} the verification result
+	 * @param signatureInvalidityReason {@link String} the invalidity reason, if any
+	 */
+	public static void put(Identifier signedObjectId, CertificateToken certificateToken, SignatureValidity signatureValidity,
+						   String signatureInvalidityReason) {
+		put(signedObjectId, certificateToken.getEncoded(), signatureValidity, signatureInvalidityReason);
+	}
+
+	private static void put(Identifier signedObjectId, byte[] signerKey, SignatureValidity signatureValidity,
+							String signatureInvalidityReason) {
+		if (signedObjectId == null || signerKey == null
+				|| signatureValidity == null || SignatureValidity.NOT_EVALUATED == signatureValidity) {
+			return;
+		}
+		final int currentMaxSize = maxSize;
+		if (currentMaxSize == 0) {
+			return;
+		}
+		CACHE.put(new CacheKey(signedObjectId, signerKey),
+				new CacheEntry(new CachedSignatureValidity(signatureValidity, signatureInvalidityReason)));
+		if (CACHE.size() > currentMaxSize && EVICTION_LOCK.tryLock()) {
+			// another thread already evicting the entries is not waited for
+			try {
+				evictLeastRecentlyUsed(maxSize);
+			} finally {
+				EVICTION_LOCK.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Removes the least recently used entries when the cache exceeds the given size. The cache is reduced
+	 * to 90% of its maximum size, in order to not repeat the eviction on each following insertion.
+	 * NOTE: to be called while holding the eviction lock
+	 *
+	 * @param size the maximum number of cached results
+	 */
+	private static void evictLeastRecentlyUsed(int size) {
+		final int count = CACHE.size() - (size - size / 10);
+		if (CACHE.size() <= size || count <= 0) {
+			return;
+		}
+		final List<EvictionCandidate> candidates = new ArrayList<>(CACHE.size());
+		for (Map.Entry<CacheKey, CacheEntry> entry : CACHE.entrySet()) {
+			candidates.add(new EvictionCandidate(entry.getKey(), entry.getValue()));
+		}
+		candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+		for (int i = 0; i < count && i < candidates.size(); i++) {
+			final EvictionCandidate candidate = candidates.get(i);
+			CACHE.remove(candidate.key, candidate.entry);
+		}
+	}
+
+	/**
+	 * A cached verification result with its last access
+	 */
+	private static final class CacheEntry {
+
+		/** The cached verification result */
+		private final CachedSignatureValidity value;
+
+		/** The value of the access counter on the last access of the entry */
+		private volatile long lastAccess;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param value {@link CachedSignatureValidity}
+		 */
+		private CacheEntry(CachedSignatureValidity value) {
+			this.value = value;
+			this.lastAccess = ACCESS_COUNTER.incrementAndGet();
+		}
+
+	}
+
+	/**
+	 * An entry considered for the eviction, with its last access at the time of the eviction
+	 */
+	private static final class EvictionCandidate {
+
+		/** The key of the entry */
+		private final CacheKey key;
+
+		/** The entry */
+		private final CacheEntry entry;
+
+		/** The last access of the entry, fixed for the sort */
+		private final long lastAccess;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param key {@link CacheKey}
+		 * @param entry {@link CacheEntry}
+		 */
+		private EvictionCandidate(CacheKey key, CacheEntry entry) {
+			this.key = key;
+			this.entry = entry;
+			this.lastAccess = entry.lastAccess;
+		}
+
+	}
+
+	/**
+	 * A cached signature verification result
+	 */
+	public static final class CachedSignatureValidity {
+
+		/** The verification result */
+		private final SignatureValidity signatureValidity;
+
+		/** The invalidity reason */
+		private final String signatureInvalidityReason;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param signatureValidity {@link SignatureValidity}
+		 * @param signatureInvalidityReason {@link String}
+		 */
+		private CachedSignatureValidity(SignatureValidity signatureValidity, String signatureInvalidityReason) {
+			this.signatureValidity = signatureValidity;
+			this.signatureInvalidityReason = signatureInvalidityReason;
+		}
+
+		/**
+		 * Returns the verification result
+		 *
+		 * @return {@link SignatureValidity}
+		 */
+		public SignatureValidity getSignatureValidity() {
+			return signatureValidity;
+		}
+
+		/**
+		 * Returns the invalidity reason of the signature, if any
+		 *
+		 * @return {@link String}
+		 */
+		public String getSignatureInvalidityReason() {
+			return signatureInvalidityReason;
+		}
+
+	}
+
+	/**
+	 * The key of the cache : the signed object identifier and the encoded signer key
+	 */
+	private static final class CacheKey {
+
+		/** The signed object identifier */
+		private final Identifier signedObjectId;
+
+		/** The encoded signer public key or certificate */
+		private final byte[] signerKey;
+
+		/** The cached hash code */
+		private final int hashCode;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param signedObjectId {@link Identifier}
+		 * @param signerKey byte array
+		 */
+		private CacheKey(Identifier signedObjectId, byte[] signerKey) {
+			this.signedObjectId = Objects.requireNonNull(signedObjectId, "The signed object identifier cannot be null!");
+			this.signerKey = Objects.requireNonNull(signerKey, "The signer key cannot be null!");
+			this.hashCode = 31 * signedObjectId.hashCode() + Arrays.hashCode(signerKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return signedObjectId.equals(other.signedObjectId) && Arrays.equals(signerKey, other.signerKey);
+		}
+
+	}
+
+}
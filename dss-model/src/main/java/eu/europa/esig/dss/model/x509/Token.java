@@ -162,7 +162,7 @@ public abstract class Token implements IdentifierBasedObject, Serializable {
 	public synchronized boolean isSignedBy(final PublicKey publicKey) {
 		if (publicKeyOfTheSigner != null) {
 			return publicKeyOfTheSigner.equals(publicKey);
-		} else if (SignatureValidity.VALID == checkIsSignedBy(publicKey)) {
+		} else if (SignatureValidity.VALID == checkIsSignedByWithCache(publicKey)) {
 			if (!isSelfSigned()) {
 				this.publicKeyOfTheSigner = publicKey;
 			}
@@ -171,6 +171,25 @@ public abstract class Token implements IdentifierBasedObject, Serializable {
 		return false;
 	}
 
+	/**
+	 * Verifies if the current token has been signed by the specified publicKey, using the process-wide
+	 * {@code SignatureValidityCache} in order to skip the cryptographic verification of an already verified token
+	 *
+	 * @param publicKey {@link PublicKey} of a signing candidate
+	 * @return {@link SignatureValidity}
+	 */
+	private SignatureValidity checkIsSignedByWithCache(final PublicKey publicKey) {
+		final SignatureValidityCache.CachedSignatureValidity cachedResult = SignatureValidityCache.get(getDSSId(), publicKey);
+		if (cachedResult != null) {
+			signatureValidity = cachedResult.getSignatureValidity();
+			signatureInvalidityReason = cachedResult.getSignatureInvalidityReason();
+			return signatureValidity;
+		}
+		final SignatureValidity result = checkIsSignedBy(publicKey);
+		SignatureValidityCache.put(getDSSId(), publicKey, result, signatureInvalidityReason);
+		return result;
+	}
+
 	/**
 	 * Verifies if the current token has been signed by the specified publicKey
 	 * @param publicKey {@link PublicKey} of a signing candidate
@@ -27,9 +27,12 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
 import java.security.Security;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -60,6 +63,21 @@ public class DigestDocumentTest {
 		assertEquals("The digest document does not contain a digest value for the algorithm : SHA256", exception.getMessage());
 	}
 
+	@Test
+	public void testDigests() {
+		DigestDocument doc = new DigestDocument(DigestAlgorithm.SHA1, "aaa");
+		doc.addDigest(DigestAlgorithm.SHA256, "bbb");
+		Map<DigestAlgorithm, String> digests = doc.getDigests(Arrays.asList(DigestAlgorithm.SHA1, DigestAlgorithm.SHA256));
+		assertEquals(2, digests.size());
+		assertEquals("aaa", digests.get(DigestAlgorithm.SHA1));
+		assertEquals("bbb", digests.get(DigestAlgorithm.SHA256));
+
+		digests = doc.getDigests(Arrays.asList(DigestAlgorithm.SHA1, DigestAlgorithm.SHA512));
+		assertEquals(1, digests.size());
+		assertEquals("aaa", digests.get(DigestAlgorithm.SHA1));
+		assertFalse(digests.containsKey(DigestAlgorithm.SHA512));
+	}
+
 	@Test
 	public void testOpenStream() {
 		String base64EncodeDigest = "aaa";
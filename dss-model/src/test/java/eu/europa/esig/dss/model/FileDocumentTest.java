@@ -26,7 +26,16 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -69,4 +78,98 @@ public class FileDocumentTest {
 		assertFalse(file.exists());
 	}
 
+	@Test
+	public void testDigests() throws Exception {
+		final AtomicInteger openedStreams = new AtomicInteger();
+		FileDocument doc = new FileDocument("src/test/resources/AdobeCA.p7c") {
+
+			private static final long serialVersionUID = 2263924537216386417L;
+
+			@Override
+			public InputStream openStream() {
+				openedStreams.incrementAndGet();
+				return super.openStream();
+			}
+
+		};
+
+		Map<DigestAlgorithm, String> digests = doc.getDigests(Arrays.asList(DigestAlgorithm.SHA1, DigestAlgorithm.SHA256, DigestAlgorithm.SHA512));
+		assertEquals(1, openedStreams.get());
+		assertEquals(3, digests.size());
+
+		byte[] binaries = Files.readAllBytes(new File("src/test/resources/AdobeCA.p7c").toPath());
+		for (DigestAlgorithm digestAlgorithm : digests.keySet()) {
+			MessageDigest messageDigest = digestAlgorithm.getMessageDigest();
+			assertEquals(Base64.getEncoder().encodeToString(messageDigest.digest(binaries)), digests.get(digestAlgorithm));
+			assertEquals(digests.get(digestAlgorithm), doc.getDigest(digestAlgorithm));
+		}
+		assertEquals("xF8SpcLlrd4Bhl1moh4Ciz+Rq/PImaChEl/tyGTZyPM=", digests.get(DigestAlgorithm.SHA256));
+		assertEquals(1, openedStreams.get());
+
+		digests = doc.getDigests(Arrays.asList(DigestAlgorithm.SHA256, DigestAlgorithm.SHA384, DigestAlgorithm.SHA384));
+		assertEquals(2, digests.size());
+		assertEquals(2, openedStreams.get());
+
+		assertTrue(doc.getDigests(Collections.emptyList()).isEmpty());
+		assertEquals(2, openedStreams.get());
+	}
+
+	@Test
+	public void testDefaultDigests() {
+		final FileDocument fileDocument = new FileDocument("src/test/resources/AdobeCA.p7c");
+		final AtomicInteger computedDigests = new AtomicInteger();
+		DSSDocument doc = new DSSDocument() {
+
+			private static final long serialVersionUID = -4052461785464829658L;
+
+			@Override
+			public InputStream openStream() {
+				return fileDocument.openStream();
+			}
+
+			@Override
+			public void writeTo(OutputStream stream) throws IOException {
+				fileDocument.writeTo(stream);
+			}
+
+			@Override
+			public String getName() {
+				return fileDocument.getName();
+			}
+
+			@Override
+			public void setName(String name) {
+				fileDocument.setName(name);
+			}
+
+			@Override
+			public MimeType getMimeType() {
+				return fileDocument.getMimeType();
+			}
+
+			@Override
+			public void setMimeType(MimeType mimeType) {
+				fileDocument.setMimeType(mimeType);
+			}
+
+			@Override
+			public void save(String filePath) throws IOException {
+				fileDocument.save(filePath);
+			}
+
+			@Override
+			public String getDigest(DigestAlgorithm digestAlgorithm) {
+				computedDigests.incrementAndGet();
+				return fileDocument.getDigest(digestAlgorithm);
+			}
+
+		};
+
+		Map<DigestAlgorithm, String> digests = doc.getDigests(Arrays.asList(DigestAlgorithm.SHA1, DigestAlgorithm.SHA256));
+		assertEquals(2, digests.size());
+		assertEquals(2, computedDigests.get());
+		assertEquals("xF8SpcLlrd4Bhl1moh4Ciz+Rq/PImaChEl/tyGTZyPM=", digests.get(DigestAlgorithm.SHA256));
+		assertEquals(fileDocument.getDigest(DigestAlgorithm.SHA1), digests.get(DigestAlgorithm.SHA1));
+	}
+
 }
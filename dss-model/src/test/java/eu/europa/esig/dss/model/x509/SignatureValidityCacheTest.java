@@ -0,0 +1,240 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.model.x509;
+
+import eu.europa.esig.dss.enumerations.SignatureValidity;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.identifier.Identifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SignatureValidityCacheTest {
+
+	private static final String goodUserB64 = "MIID1DCCArygAwIBAgIBCjANBgkqhkiG9w0BAQsFADBNMRAwDgYDVQQDDAdnb29kLWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMTkwMzE4MDkzMTU3WhcNMjEwMTE4MDkzMTU3WjBPMRIwEAYDVQQDDAlnb29kLXVzZXIxGTAXBgNVBAoMEE5vd2luYSBTb2x1dGlvbnMxETAPBgNVBAsMCFBLSS1URVNUMQswCQYDVQQGEwJMVTCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAMtKFy1gwi9R5Ai79lTIVm6Fzjze5+ir1ejBCSNTyHy1eomoTVwD+s+ZsjsdvFseKMLY9e2Cxhck3owRHqKihOhJ7JpxK3dCTCohTUHNHIqDbozLZr/zsQOst8xSEKLyKwhWyJImLcBbm017r0p8omsUojjbCmO9nFp+KE+qoWaW6WsYsXsGzICkLjRjHP1esmd5zcYzBSId9l2wr28XFGW8qBgJKXQxeUgI190MuA6AwCld5BrLXVuLvLLzXQJ27EUfnvMIBsUSu7rAxqHKrlrqeOx+vhdrPATNWX+ifGnFsJMxToQuFfF9deMO62IzrcRSi47B+BARD+kfSiuvcaECAwEAAaOBvDCBuTAOBgNVHQ8BAf8EBAMCBkAwgYcGCCsGAQUFBwEBBHsweTA5BggrBgEFBQcwAYYtaHR0cDovL2Rzcy5ub3dpbmEubHUvcGtpLWZhY3Rvcnkvb2NzcC9nb29kLWNhMDwGCCsGAQUFBzAChjBodHRwOi8vZHNzLm5vd2luYS5sdS9wa2ktZmFjdG9yeS9jcnQvZ29vZC1jYS5jcnQwHQYDVR0OBBYEFLfj6J8hqF1pc5HuOqX5HORQQUQ5MA0GCSqGSIb3DQEBCwUAA4IBAQAxDzKz7YQdW/izFnRMfUgAS7cREg9F/z7lhmCT95gn7J4TGtwE1vXpPVKjGhrPPBNFfHXQ1MXMMFPwxvO1FyHUZkfVVH6+apPGyGTHoZdIlsXfJwQDxCSBCjw7Zekbc/7ljL7fPA6kbBsXdjGk6PvKSIN9YMcCuTg/fyYPoBWKGgo76V+hiQ/SVsbOzd0SHZJazg8zYFBnAS5QpB4ccGqmhrbCoL6kIMDrWTzRYCIBPpKXN5JwwxY99kDGyUVklSt91i8Q+ioI6A9C+KrwE+gbKPxyy9HmXq4lw8rod0HFG79YOpL3zbNnXFI0Hfs5+7j4EQB4Rms3fhvnKHAsYPk8";
+	private static final String goodCaB64 = "MIID6jCCAtKgAwIBAgIBBDANBgkqhkiG9w0BAQsFADBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMTkwMzE4MDkzMTU1WhcNMjEwMTE4MDkzMTU1WjBNMRAwDgYDVQQDDAdnb29kLWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQCfUvDNM8lvv9P5pILP98HhhM0iiGMdw/MjJOqSKdA3Ss0xXT0UeYlr0blGBFt4yKHxfIAwR8BqLviT1CA0a6+PS8EDEC29txIRCPO+BscKlz4ZFlU9g2dGwA4Dl5ynEq0AP/TYjKl5RY+rGZT/Qx8Ea5OAr9MgQWWKuONFyo7dv4tM7FMTcHUL+hUqdQEpKXXsCOT5WYjtr3oYeu34Cal8m8YN/UmK70fGDwlRHLKgDIvcfZT3dkNOehabuez2Sj6kFkWNseQWeXSjzM1f2OH9idW9UmSQ7RvxDIAgKBYD/D9gGannG2SPZWQo+w5O9UhcE1N8Nc89CLCdJguVNF9hAgMBAAGjgdQwgdEwDgYDVR0PAQH/BAQDAgEGMEEGA1UdHwQ6MDgwNqA0oDKGMGh0dHA6Ly9kc3Mubm93aW5hLmx1L3BraS1mYWN0b3J5L2NybC9yb290LWNhLmNybDBMBggrBgEFBQcBAQRAMD4wPAYIKwYBBQUHMAKGMGh0dHA6Ly9kc3Mubm93aW5hLmx1L3BraS1mYWN0b3J5L2NydC9yb290LWNhLmNydDAdBgNVHQ4EFgQU4tC4xPvJxRJqFXnjSqGn5Rzj5jYwDwYDVR0TAQH/BAUwAwEB/zANBgkqhkiG9w0BAQsFAAOCAQEAFJbVMStk22yRI6dczyzj6zyIh2noFa7STDW3oWg5UdXrjvWpCrw3OSqbF1UEF6X6FtDJfrXhmgyhVwVgHzH1n6+SXG3I/lOeAOKiCNjUA7uhenZuOgoVmWdfs+c9lIx8q7/f8L/kEePoDMLOYqhsSwfDhjELuq+2OOkMOqstuRyKPLQbK7nvf985W7qdjoggm4BHNm+RxkRkrLn1DxYqxnU+2ByZbZEWsqlPTgfRobBLbgPT7PMwVdwuZ6MzdVUsmBj82kGL2duAnzE117cTLmiEluUVXy/RskcHDcbhtOyOBzmQCKmXzafSiHTHtTUPC2XgpRwfwqad4jB+iMSL9A==";
+	private static final String rootCaB64 = "MIIDVzCCAj+gAwIBAgIBATANBgkqhkiG9w0BAQ0FADBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMTkwMjE4MDkzMTU0WhcNMjEwMjE4MDkzMTU0WjBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQCr35vEZwV4ynpmxadO6nuJTqhdPSDN0JIO3CFMU4CT/QQ2ZquuPxt4ImFW3mxXzsXkozrUV99Mwt8yRuYt6uJf761DkSjdPB/HVWNyLXVTq1hyiLsrfRlsklnZ08HSLcDK9gmuiHYyOlIl6V9dZkgscdH68mBQHzaS5Ve9P7p0QXBu1PaY/Mc65eSYUGTi75W6vBeX59mEGYAkUlr0LFdUf+Nr3kFlZ14Okh7w0y1NY8v8EUPQvMGnyrcAs+LBm5i65LoGdSQaIE9LiyYZvoFiC0CutY/aYWoLIhvjiLhMEmk+odU/6XOpvI7cUMrBVcLsvWrSmD/ju/mtaiPXfVV5AgMBAAGjQjBAMA4GA1UdDwEB/wQEAwIBBjAdBgNVHQ4EFgQUMAns58WjMfSq9Xqlt1OwKEY8ze4wDwYDVR0TAQH/BAUwAwEB/zANBgkqhkiG9w0BAQ0FAAOCAQEAYTtRueasFMQOuhKeJqI8QTonjxptdXpcOEx5lr7Hmo1+GDTuyKnGQIGWDl2WZoQuan9XITQsJSZWURY4yxsGhIxrM680M+FgZX/PQcgNOJDX00vAytnvZjssp45LDHMKbo9R9T5sjyjkxmMiQgWaQmKgt8biarZpzgTtlIG2U4aH6weuCNX8RW1nZHGMHjoR6lwV93jn8b8oZFqY7q0ISCR4gcIJ/Evqmshoau8vS8tIVD6FqECFWLKku+h9sO4LrYdDKLSZ4VAcZSv3jjGDbOmr4/L1XGF4WOWlrPNk3vVUH8ZbazNELzFPY24mrdZPDR9rNTE+rUZ4Nd1hhCKISg==";
+
+	@BeforeEach
+	public void init() {
+		SignatureValidityCache.clear();
+	}
+
+	@AfterEach
+	public void reset() {
+		SignatureValidityCache.setMaxSize(SignatureValidityCache.DEFAULT_MAX_SIZE);
+		SignatureValidityCache.clear();
+	}
+
+	@Test
+	public void sharedBetweenInstances() {
+		CertificateToken goodCa = getCertificate(goodCaB64);
+		CountingCertificateToken goodUser = getCountingCertificate(goodUserB64);
+		CountingCertificateToken goodUserBis = getCountingCertificate(goodUserB64);
+
+		assertTrue(goodUser.isSignedBy(goodCa));
+		assertEquals(SignatureValidity.VALID, goodUser.getSignatureValidity());
+		assertEquals(1, goodUser.counter);
+		assertEquals(1, SignatureValidityCache.size());
+
+		assertTrue(goodUserBis.isSignedBy(getCertificate(goodCaB64)));
+		assertEquals(SignatureValidity.VALID, goodUserBis.getSignatureValidity());
+		assertEquals(goodCa.getPublicKey(), goodUserBis.getPublicKeyOfTheSigner());
+		assertEquals(0, goodUserBis.counter);
+		assertEquals(1, SignatureValidityCache.size());
+	}
+
+	@Test
+	public void invalidResult() {
+		CertificateToken rootCa = getCertificate(rootCaB64);
+		CountingCertificateToken goodUser = getCountingCertificate(goodUserB64);
+		CountingCertificateToken goodUserBis = getCountingCertificate(goodUserB64);
+
+		assertFalse(goodUser.isSignedBy(rootCa));
+		assertEquals(SignatureValidity.INVALID, goodUser.getSignatureValidity());
+		assertEquals(1, goodUser.counter);
+
+		assertFalse(goodUserBis.isSignedBy(rootCa));
+		assertEquals(SignatureValidity.INVALID, goodUserBis.getSignatureValidity());
+		assertEquals(0, goodUserBis.counter);
+
+		SignatureValidityCache.CachedSignatureValidity cachedResult = SignatureValidityCache.get(goodUser.getDSSId(), rootCa.getPublicKey());
+		assertNotNull(cachedResult);
+		assertEquals(SignatureValidity.INVALID, cachedResult.getSignatureValidity());
+		assertFalse(cachedResult.getSignatureInvalidityReason().isEmpty());
+	}
+
+	@Test
+	public void signerKeyAndCertificateKeys() {
+		CertificateToken goodUser = getCertificate(goodUserB64);
+		CertificateToken goodCa = getCertificate(goodCaB64);
+
+		SignatureValidityCache.put(goodUser.getDSSId(), goodCa.getPublicKey(), SignatureValidity.VALID, "");
+		assertNotNull(SignatureValidityCache.get(goodUser.getDSSId(), goodCa.getPublicKey()));
+		assertNull(SignatureValidityCache.get(goodUser.getDSSId(), goodCa));
+		assertNull(SignatureValidityCache.get(goodCa.getDSSId(), goodCa.getPublicKey()));
+
+		SignatureValidityCache.put(goodUser.getDSSId(), goodCa, SignatureValidity.INVALID, "reason");
+		SignatureValidityCache.CachedSignatureValidity cachedResult = SignatureValidityCache.get(goodUser.getDSSId(), goodCa);
+		assertNotNull(cachedResult);
+		assertEquals(SignatureValidity.INVALID, cachedResult.getSignatureValidity());
+		assertEquals("reason", cachedResult.getSignatureInvalidityReason());
+
+		SignatureValidityCache.put(goodCa.getDSSId(), goodCa.getPublicKey(), SignatureValidity.NOT_EVALUATED, "");
+		assertNull(SignatureValidityCache.get(goodCa.getDSSId(), goodCa.getPublicKey()));
+		assertEquals(2, SignatureValidityCache.size());
+	}
+
+	@Test
+	public void maxSize() {
+		CertificateToken goodUser = getCertificate(goodUserB64);
+		CertificateToken goodCa = getCertificate(goodCaB64);
+		CertificateToken rootCa = getCertificate(rootCaB64);
+		PublicKey publicKey = rootCa.getPublicKey();
+
+		SignatureValidityCache.setMaxSize(2);
+		SignatureValidityCache.put(goodUser.getDSSId(), publicKey, SignatureValidity.INVALID, "");
+		SignatureValidityCache.put(goodCa.getDSSId(), publicKey, SignatureValidity.VALID, "");
+		assertNotNull(SignatureValidityCache.get(goodUser.getDSSId(), publicKey));
+		SignatureValidityCache.put(rootCa.getDSSId(), publicKey, SignatureValidity.VALID, "");
+
+		assertEquals(2, SignatureValidityCache.size());
+		assertNotNull(SignatureValidityCache.get(goodUser.getDSSId(), publicKey));
+		assertNull(SignatureValidityCache.get(goodCa.getDSSId(), publicKey));
+		assertNotNull(SignatureValidityCache.get(rootCa.getDSSId(), publicKey));
+
+		SignatureValidityCache.setMaxSize(1);
+		assertEquals(1, SignatureValidityCache.size());
+		assertNotNull(SignatureValidityCache.get(rootCa.getDSSId(), publicKey));
+
+		SignatureValidityCache.setMaxSize(0);
+		assertEquals(0, SignatureValidityCache.size());
+		CountingCertificateToken goodUserToken = getCountingCertificate(goodUserB64);
+		CountingCertificateToken goodUserTokenBis = getCountingCertificate(goodUserB64);
+		assertTrue(goodUserToken.isSignedBy(goodCa));
+		assertTrue(goodUserTokenBis.isSignedBy(goodCa));
+		assertEquals(1, goodUserToken.counter);
+		assertEquals(1, goodUserTokenBis.counter);
+		assertEquals(0, SignatureValidityCache.size());
+
+		assertThrows(IllegalArgumentException.class, () -> SignatureValidityCache.setMaxSize(-1));
+	}
+
+	@Test
+	public void concurrentAccess() throws Exception {
+		CertificateToken goodCa = getCertificate(goodCaB64);
+		PublicKey publicKey = goodCa.getPublicKey();
+		SignatureValidityCache.setMaxSize(100);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				final int thread = i;
+				futures.add(executorService.submit(() -> {
+					for (int j = 0; j < 1000; j++) {
+						Identifier id = new MockIdentifier(thread + "-" + j);
+						SignatureValidityCache.put(id, publicKey, SignatureValidity.VALID, "");
+						SignatureValidityCache.CachedSignatureValidity cachedResult = SignatureValidityCache.get(id, publicKey);
+						if (cachedResult != null) {
+							assertEquals(SignatureValidity.VALID, cachedResult.getSignatureValidity());
+						}
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		// the eviction is done by a single thread at a time, the next insertion bounds the cache again
+		Identifier lastId = new MockIdentifier("last");
+		SignatureValidityCache.put(lastId, publicKey, SignatureValidity.VALID, "");
+		assertTrue(SignatureValidityCache.size() <= 100);
+		assertNotNull(SignatureValidityCache.get(lastId, publicKey));
+	}
+
+	private CertificateToken getCertificate(String base64) {
+		return new CertificateToken(getX509Certificate(base64));
+	}
+
+	private CountingCertificateToken getCountingCertificate(String base64) {
+		return new CountingCertificateToken(getX509Certificate(base64));
+	}
+
+	private X509Certificate getX509Certificate(String base64) {
+		try (InputStream is = new ByteArrayInputStream(Base64.getDecoder().decode(base64))) {
+			CertificateFactory factory = CertificateFactory.getInstance("X.509");
+			return (X509Certificate) factory.generateCertificate(is);
+		} catch (Exception e) {
+			throw new DSSException("Unable to read certificate", e);
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockIdentifier extends Identifier {
+
+		MockIdentifier(String value) {
+			super("T-", value.getBytes(StandardCharsets.UTF_8));
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static class CountingCertificateToken extends CertificateToken {
+
+		private int counter;
+
+		CountingCertificateToken(X509Certificate x509Certificate) {
+			super(x509Certificate);
+		}
+
+		@Override
+		protected SignatureValidity checkIsSignedBy(PublicKey publicKey) {
+			counter++;
+			return super.checkIsSignedBy(publicKey);
+		}
+
+	}
+
+}
@@ -352,4 +352,9 @@ public class ITextDocumentReader implements PdfDocumentReader {
 		return new ITextPdfDict(pdfReader.getCatalog());
 	}
 
+	@Override
+	public PdfDict getPageDictionary(int page) {
+		return new ITextPdfDict(pdfReader.getPageN(page));
+	}
+
 }
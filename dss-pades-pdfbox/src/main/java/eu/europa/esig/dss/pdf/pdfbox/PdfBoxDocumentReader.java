@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.pdf.pdfbox;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.enumerations.CertificationPermission;
 import eu.europa.esig.dss.pades.exception.ProtectedDocumentException;
 import eu.europa.esig.dss.pades.validation.ByteRange;
@@ -41,6 +42,8 @@ import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -57,10 +60,13 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * The PDFBox implementation of {@code PdfDocumentReader}
@@ -79,6 +85,9 @@ public class PdfBoxDocumentReader implements PdfDocumentReader {
 	/** The map of signature dictionaries and corresponding signature fields */
 	private Map<PdfSignatureDictionary, List<PdfSignatureField>> signatureDictionaryMap;
 
+	/** The size of the PDF document, computed on the first request */
+	private Long originalBytesLength;
+
 	/**
 	 * Default constructor of the PDFBox implementation of the Reader
 	 * 
@@ -103,10 +112,38 @@ public class PdfBoxDocumentReader implements PdfDocumentReader {
 	 */
 	public PdfBoxDocumentReader(DSSDocument dssDocument, String passwordProtection)
 			throws IOException, eu.europa.esig.dss.pades.exception.InvalidPasswordException {
+		this(dssDocument, passwordProtection, null);
+	}
+
+	/**
+	 * The PDFBox implementation of the Reader, allowing to define the memory usage for the document processing.
+	 * When {@code memoryUsageSetting} is defined, a {@code FileDocument} is read directly from the filesystem
+	 * and other documents are buffered according to the given setting (e.g. within a temporary file),
+	 * instead of being loaded into memory.
+	 *
+	 * @param dssDocument        {@link DSSDocument} to read
+	 * @param passwordProtection {@link String} a password to open a protected document
+	 * @param memoryUsageSetting {@link MemoryUsageSetting} to be used. When null, the document is loaded into memory
+	 * @throws IOException       if an exception occurs
+	 * @throws eu.europa.esig.dss.pades.exception.InvalidPasswordException if the password is not provided or
+	 *                           invalid for a protected document
+	 */
+	public PdfBoxDocumentReader(DSSDocument dssDocument, String passwordProtection, MemoryUsageSetting memoryUsageSetting)
+			throws IOException, eu.europa.esig.dss.pades.exception.InvalidPasswordException {
 		Objects.requireNonNull(dssDocument, "The document must be defined!");
 		this.dssDocument = dssDocument;
-		try (InputStream is = dssDocument.openStream()) {
-			this.pdDocument = PDDocument.load(is, passwordProtection);
+		try {
+			if (memoryUsageSetting == null) {
+				try (InputStream is = dssDocument.openStream()) {
+					this.pdDocument = PDDocument.load(is, passwordProtection);
+				}
+			} else if (dssDocument instanceof FileDocument) {
+				this.pdDocument = PDDocument.load(((FileDocument) dssDocument).getFile(), passwordProtection, memoryUsageSetting);
+			} else {
+				try (InputStream is = dssDocument.openStream()) {
+					this.pdDocument = PDDocument.load(is, passwordProtection, memoryUsageSetting);
+				}
+			}
 		} catch (InvalidPasswordException e) {
 			throw new eu.europa.esig.dss.pades.exception.InvalidPasswordException(
 					String.format("Encrypted document : %s", e.getMessage()));
@@ -211,8 +248,8 @@ public class PdfBoxDocumentReader implements PdfDocumentReader {
 	@Override
 	public boolean isSignatureCoversWholeDocument(PdfSignatureDictionary signatureDictionary) {
 		ByteRange byteRange = signatureDictionary.getByteRange();
-		try (InputStream is = dssDocument.openStream()) {
-			long originalBytesLength = Utils.getInputStreamSize(is);
+		try {
+			long originalBytesLength = getOriginalBytesLength();
 			// /ByteRange [0 575649 632483 10206]
 			long beforeSignatureLength = (long) byteRange.getFirstPartEnd() - byteRange.getFirstPartStart();
 			long expectedCMSLength = (long) byteRange.getSecondPartStart() - byteRange.getFirstPartEnd()
@@ -227,6 +264,15 @@ public class PdfBoxDocumentReader implements PdfDocumentReader {
 		}
 	}
 
+	private long getOriginalBytesLength() throws IOException {
+		if (originalBytesLength == null) {
+			try (InputStream is = dssDocument.openStream()) {
+				originalBytesLength = Utils.getInputStreamSize(is);
+			}
+		}
+		return originalBytesLength;
+	}
+
 	@Override
 	public void close() throws IOException {
 		pdDocument.close();
@@ -423,4 +469,24 @@ public class PdfBoxDocumentReader implements PdfDocumentReader {
 		return new PdfBoxDict(pdDocument.getDocumentCatalog().getCOSObject(), pdDocument);
 	}
 
+	@Override
+	public PdfDict getPageDictionary(int page) {
+		return new PdfBoxDict(getPDPage(page).getCOSObject(), pdDocument);
+	}
+
+	@Override
+	public Map<Long, Long> getObjectLocations() {
+		final Map<Long, Long> objectLocations = new HashMap<>();
+		final Set<Long> ambiguousObjectNumbers = new HashSet<>();
+		for (Map.Entry<COSObjectKey, Long> entry : pdDocument.getDocument().getXrefTable().entrySet()) {
+			Long objectNumber = entry.getKey().getNumber();
+			if (objectLocations.put(objectNumber, entry.getValue()) != null) {
+				// several generations of the same object number
+				ambiguousObjectNumbers.add(objectNumber);
+			}
+		}
+		objectLocations.keySet().removeAll(ambiguousObjectNumbers);
+		return objectLocations;
+	}
+
 }
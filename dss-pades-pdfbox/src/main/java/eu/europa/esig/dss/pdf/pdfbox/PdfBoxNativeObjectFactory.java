@@ -23,6 +23,7 @@ package eu.europa.esig.dss.pdf.pdfbox;
 import eu.europa.esig.dss.pdf.AbstractPdfObjFactory;
 import eu.europa.esig.dss.pdf.PDFServiceMode;
 import eu.europa.esig.dss.pdf.PDFSignatureService;
+import eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer.PdfBoxNativeSignatureAppearanceCache;
 import eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer.PdfBoxNativeSignatureDrawerFactory;
 
 /**
@@ -31,30 +32,47 @@ import eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer.PdfBoxNativeSignatureD
  */
 public class PdfBoxNativeObjectFactory extends AbstractPdfObjFactory {
 
+	/** Used to reuse the visual signature appearances between the signed documents. Not used when null. */
+	private PdfBoxNativeSignatureAppearanceCache signatureAppearanceCache;
+
 	/**
 	 * Default constructor
 	 */
 	public PdfBoxNativeObjectFactory() {
 	}
 
+	/**
+	 * Sets the cache of visual signature appearances, shared between the created signature services.
+	 * When defined, the appearance (image, font and appearance stream) created for a
+	 * {@code SignatureImageParameters} is reused for all documents signed with the same parameters instance
+	 * (e.g. a batch signing with the same visual signature).
+	 *
+	 * Default : null (the appearance is created for every document)
+	 *
+	 * @param signatureAppearanceCache {@link PdfBoxNativeSignatureAppearanceCache}
+	 */
+	public void setSignatureAppearanceCache(PdfBoxNativeSignatureAppearanceCache signatureAppearanceCache) {
+		this.signatureAppearanceCache = signatureAppearanceCache;
+	}
+
 	@Override
 	public PDFSignatureService newPAdESSignatureService() {
-		return configure(new PdfBoxSignatureService(PDFServiceMode.SIGNATURE, new PdfBoxNativeSignatureDrawerFactory()));
+		return configure(new PdfBoxSignatureService(PDFServiceMode.SIGNATURE, new PdfBoxNativeSignatureDrawerFactory(signatureAppearanceCache)));
 	}
 
 	@Override
 	public PDFSignatureService newContentTimestampService() {
-		return configure(new PdfBoxSignatureService(PDFServiceMode.CONTENT_TIMESTAMP, new PdfBoxNativeSignatureDrawerFactory()));
+		return configure(new PdfBoxSignatureService(PDFServiceMode.CONTENT_TIMESTAMP, new PdfBoxNativeSignatureDrawerFactory(signatureAppearanceCache)));
 	}
 
 	@Override
 	public PDFSignatureService newSignatureTimestampService() {
-		return configure(new PdfBoxSignatureService(PDFServiceMode.SIGNATURE_TIMESTAMP, new PdfBoxNativeSignatureDrawerFactory()));
+		return configure(new PdfBoxSignatureService(PDFServiceMode.SIGNATURE_TIMESTAMP, new PdfBoxNativeSignatureDrawerFactory(signatureAppearanceCache)));
 	}
 
 	@Override
 	public PDFSignatureService newArchiveTimestampService() {
-		return configure(new PdfBoxSignatureService(PDFServiceMode.ARCHIVE_TIMESTAMP, new PdfBoxNativeSignatureDrawerFactory()));
+		return configure(new PdfBoxSignatureService(PDFServiceMode.ARCHIVE_TIMESTAMP, new PdfBoxNativeSignatureDrawerFactory(signatureAppearanceCache)));
 	}
 
 }
@@ -45,6 +45,7 @@ import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawerFactory;
 import eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer.NativePdfBoxVisibleSignatureDrawer;
 import eu.europa.esig.dss.pdf.visible.ImageUtils;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
@@ -58,6 +59,7 @@ import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSObject;
 import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -77,6 +79,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -129,7 +132,8 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 	protected byte[] computeDigest(final DSSDocument toSignDocument, final PAdESCommonParameters parameters) {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
-			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument, parameters.getPasswordProtection())) {
+			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument, parameters.getPasswordProtection(),
+					 getMemoryUsageSetting())) {
 			checkDocumentPermissions(documentReader);
 			if (parameters instanceof PAdESSignatureParameters) {
 				checkNewSignatureIsPermitted(documentReader, parameters.getImageParameters().getFieldParameters());
@@ -156,7 +160,8 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 							final PAdESCommonParameters parameters) {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
-			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument, parameters.getPasswordProtection())) {
+			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument, parameters.getPasswordProtection(),
+					 getMemoryUsageSetting())) {
 
 			checkDocumentPermissions(documentReader);
 			if (parameters instanceof PAdESSignatureParameters) {
@@ -174,6 +179,21 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		}
 	}
 
+	/**
+	 * Returns the memory usage setting to be used on loading of a document for its incremental update.
+	 * When a {@code TempFileResourcesHandlerBuilder} is used, the document is read from (or buffered within)
+	 * a file, so the complete PDF is not loaded into memory.
+	 *
+	 * @return {@link MemoryUsageSetting}, or null when the document shall be processed in memory
+	 */
+	protected MemoryUsageSetting getMemoryUsageSetting() {
+		if (resourcesHandlerBuilder instanceof TempFileResourcesHandlerBuilder) {
+			File tempFileDirectory = ((TempFileResourcesHandlerBuilder) resourcesHandlerBuilder).getTempFileDirectory();
+			return MemoryUsageSetting.setupTempFileOnly().setTempDir(tempFileDirectory);
+		}
+		return null;
+	}
+
 	private byte[] signDocumentAndReturnDigest(final PAdESCommonParameters parameters, final byte[] cmsSignedData,
 			final OutputStream outputStream, final PdfBoxDocumentReader documentReader) {
 		PDDocument pdDocument = documentReader.getPDDocument();
@@ -435,9 +455,9 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 										final String pwd) {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
-			 InputStream is = document.openStream();
-			 PDDocument pdDocument = PDDocument.load(is, pwd)) {
+			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(document, pwd, getMemoryUsageSetting())) {
 
+			final PDDocument pdDocument = documentReader.getPDDocument();
 			if (!validationDataForInclusion.isEmpty()) {
 				final COSDictionary cosDictionary = pdDocument.getDocumentCatalog().getCOSObject();
 				cosDictionary.setItem(PAdESConstants.DSS_DICTIONARY_NAME, buildDSSDictionary(pdDocument, validationDataForInclusion));
@@ -644,7 +664,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 											final String pwd) {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
-			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(document, pwd)) {
+			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(document, pwd, getMemoryUsageSetting())) {
 			checkDocumentPermissions(documentReader);
 			checkNewSignatureIsPermitted(documentReader, parameters);
 
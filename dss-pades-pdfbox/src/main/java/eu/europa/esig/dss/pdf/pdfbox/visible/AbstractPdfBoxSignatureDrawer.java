@@ -197,7 +197,12 @@ public abstract class AbstractPdfBoxSignatureDrawer implements PdfBoxSignatureDr
         return false;
 	}
 
-	private AnnotationBox getSignatureFieldAnnotationBox() {
+	/**
+	 * Returns the box of an existing signature field to be filled, when applicable
+	 *
+	 * @return {@link AnnotationBox} of the existing signature field, null if a new signature field is to be created
+	 */
+	protected AnnotationBox getSignatureFieldAnnotationBox() {
 		PDSignatureField signatureField = getExistingSignatureFieldToFill();
 		if (signatureField != null) {
 			List<PDAnnotationWidget> widgets = signatureField.getWidgets();
@@ -26,6 +26,7 @@ import eu.europa.esig.dss.pades.DSSFont;
 import eu.europa.esig.dss.pades.PAdESUtils;
 import eu.europa.esig.dss.pades.SignatureImageParameters;
 import eu.europa.esig.dss.pades.SignatureImageTextParameters;
+import eu.europa.esig.dss.pdf.AnnotationBox;
 import eu.europa.esig.dss.pdf.pdfbox.PdfBoxUtils;
 import eu.europa.esig.dss.pdf.pdfbox.visible.AbstractPdfBoxSignatureDrawer;
 import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxNativeFont;
@@ -35,6 +36,7 @@ import eu.europa.esig.dss.pdf.visible.ImageUtils;
 import eu.europa.esig.dss.pdf.visible.SignatureFieldDimensionAndPosition;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.spi.DSSUtils;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.io.IOUtils;
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -58,6 +60,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.Color;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -85,6 +88,12 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 	 */
 	private DSSResourcesHandlerBuilder resourcesHandlerBuilder = PAdESUtils.DEFAULT_RESOURCES_HANDLER_BUILDER;
 
+	/** Used to reuse the appearances between the documents. Not used when null. */
+	private PdfBoxNativeSignatureAppearanceCache appearanceCache;
+
+	/** The appearance retrieved from the cache, when available */
+	private PdfBoxNativeSignatureAppearanceCache.Appearance cachedAppearance;
+
 	/**
 	 * Default constructor instantiating object with default parameter values
 	 */
@@ -120,15 +129,61 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
 	}
 
+	/**
+	 * Sets the cache to be used to reuse the created appearances between the documents
+	 * signed with the same {@code SignatureImageParameters}
+	 *
+	 * Default : null (the appearance is created for every document)
+	 *
+	 * @param appearanceCache {@link PdfBoxNativeSignatureAppearanceCache}
+	 */
+	public void setAppearanceCache(PdfBoxNativeSignatureAppearanceCache appearanceCache) {
+		this.appearanceCache = appearanceCache;
+	}
+
 	@Override
 	public void init(SignatureImageParameters parameters, PDDocument document, SignatureOptions signatureOptions)
 			throws IOException {
 		super.init(parameters, document, signatureOptions);
-		if (!parameters.getTextParameters().isEmpty()) {
+		if (appearanceCache != null) {
+			this.cachedAppearance = appearanceCache.getAppearance(parameters, getPageGeometryKey());
+		}
+		// the font is not required when the appearance is already built
+		if (cachedAppearance == null && !parameters.getTextParameters().isEmpty()) {
 			this.pdFont = initFont();
 		}
 	}
 
+	/**
+	 * Returns a key identifying the page's geometry the visual signature appearance depends on
+	 *
+	 * @return {@link String}
+	 */
+	private String getPageGeometryKey() {
+		PDPage page = document.getPage(parameters.getFieldParameters().getPage() - ImageUtils.DEFAULT_FIRST_PAGE);
+		PDRectangle mediaBox = page.getMediaBox();
+		StringBuilder sb = new StringBuilder();
+		sb.append(mediaBox.getLowerLeftX()).append(' ').append(mediaBox.getLowerLeftY()).append(' ')
+				.append(mediaBox.getUpperRightX()).append(' ').append(mediaBox.getUpperRightY()).append(' ')
+				.append(page.getRotation());
+		AnnotationBox signatureFieldAnnotationBox = getSignatureFieldAnnotationBox();
+		if (signatureFieldAnnotationBox != null) {
+			sb.append(' ').append(signatureFieldAnnotationBox.getMinX()).append(' ')
+					.append(signatureFieldAnnotationBox.getMinY()).append(' ')
+					.append(signatureFieldAnnotationBox.getMaxX()).append(' ')
+					.append(signatureFieldAnnotationBox.getMaxY());
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public SignatureFieldDimensionAndPosition buildSignatureFieldBox() {
+		if (cachedAppearance != null) {
+			return cachedAppearance.getDimensionAndPosition();
+		}
+		return super.buildSignatureFieldBox();
+	}
+
 	/**
 	 * Method to initialize the specific font for PdfBox {@link PDFont}
 	 */
@@ -156,11 +211,17 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 
 	@Override
 	public void draw() throws IOException {
+		int pageNumber = parameters.getFieldParameters().getPage() - ImageUtils.DEFAULT_FIRST_PAGE;
+		if (cachedAppearance != null) {
+			signatureOptions.setVisualSignature(new ByteArrayInputStream(cachedAppearance.getVisualSignature()));
+			signatureOptions.setPage(pageNumber);
+			return;
+		}
+
 		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PDDocument doc = new PDDocument()) {
 
-			int pageNumber = parameters.getFieldParameters().getPage() - ImageUtils.DEFAULT_FIRST_PAGE;
 			PDPage originalPage = document.getPage(pageNumber);
 			SignatureFieldDimensionAndPosition dimensionAndPosition = buildSignatureFieldBox();
 			// create a new page
@@ -198,6 +259,11 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 				signatureOptions.setPage(pageNumber);
 			}
 
+			if (appearanceCache != null) {
+				appearanceCache.setAppearance(parameters, getPageGeometryKey(),
+						new PdfBoxNativeSignatureAppearanceCache.Appearance(dimensionAndPosition, DSSUtils.toByteArray(document)));
+			}
+
 		}
 	}
 
@@ -418,6 +484,18 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 
 	@Override
 	protected String getExpectedColorSpaceName() throws IOException {
+		if (appearanceCache != null) {
+			String colorSpaceName = appearanceCache.getColorSpaceName(parameters);
+			if (colorSpaceName == null) {
+				colorSpaceName = getImageColorSpaceName();
+				appearanceCache.setColorSpaceName(parameters, colorSpaceName);
+			}
+			return colorSpaceName;
+		}
+		return getImageColorSpaceName();
+	}
+
+	private String getImageColorSpaceName() throws IOException {
 		if (parameters.getImage() != null) {
 			try (InputStream is = parameters.getImage().openStream()) {
 				byte[] bytes = IOUtils.toByteArray(is);
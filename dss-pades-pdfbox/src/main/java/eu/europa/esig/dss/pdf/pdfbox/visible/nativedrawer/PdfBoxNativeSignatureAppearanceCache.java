@@ -0,0 +1,258 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.pades.DSSFileFont;
+import eu.europa.esig.dss.pades.DSSFont;
+import eu.europa.esig.dss.pades.SignatureImageParameters;
+import eu.europa.esig.dss.pdf.visible.SignatureFieldDimensionAndPosition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Caches the visual signature appearances created by the {@code NativePdfBoxVisibleSignatureDrawer},
+ * in order to reuse them when signing many documents with the same {@code SignatureImageParameters}.
+ * The image decoding and encoding, the font loading and the appearance stream creation
+ * are then executed only once per page geometry (page box, rotation and existing signature field position).
+ *
+ * The cached data is bound to the {@code SignatureImageParameters} instance and is released once
+ * the parameters object is garbage collected. An entry is recomputed when the parameters are modified.
+ *
+ * NOTE: the image and font documents shall not be modified after their first use with the cache.
+ *
+ * The class is thread-safe and can be shared between signature services.
+ */
+public class PdfBoxNativeSignatureAppearanceCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PdfBoxNativeSignatureAppearanceCache.class);
+
+	/** The default maximum number of cached appearances per {@code SignatureImageParameters} */
+	private static final int DEFAULT_MAXIMUM_APPEARANCES = 16;
+
+	/** The cached entries */
+	private final Map<SignatureImageParameters, ParametersEntry> entries = new WeakHashMap<>();
+
+	/** The maximum number of cached appearances per {@code SignatureImageParameters} */
+	private int maximumAppearances = DEFAULT_MAXIMUM_APPEARANCES;
+
+	/**
+	 * Default constructor
+	 */
+	public PdfBoxNativeSignatureAppearanceCache() {
+		// empty
+	}
+
+	/**
+	 * Sets the maximum number of appearances (i.e. different page geometries) to be cached
+	 * for a single {@code SignatureImageParameters}. The least recently used appearance is removed first.
+	 *
+	 * Default : 16
+	 *
+	 * @param maximumAppearances the maximum number of cached appearances per visual signature parameters
+	 */
+	public void setMaximumAppearances(int maximumAppearances) {
+		if (maximumAppearances < 1) {
+			throw new IllegalArgumentException("The maximum number of appearances shall be positive!");
+		}
+		this.maximumAppearances = maximumAppearances;
+	}
+
+	/**
+	 * Removes all the cached entries
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Returns the cached color space name of the image
+	 *
+	 * @param parameters {@link SignatureImageParameters}
+	 * @return {@link String} color space name if cached, null otherwise
+	 */
+	synchronized String getColorSpaceName(SignatureImageParameters parameters) {
+		ParametersEntry entry = getEntry(parameters);
+		return entry != null ? entry.colorSpaceName : null;
+	}
+
+	/**
+	 * Caches the color space name of the image
+	 *
+	 * @param parameters {@link SignatureImageParameters}
+	 * @param colorSpaceName {@link String} color space name
+	 */
+	synchronized void setColorSpaceName(SignatureImageParameters parameters, String colorSpaceName) {
+		getOrCreateEntry(parameters).colorSpaceName = colorSpaceName;
+	}
+
+	/**
+	 * Returns the cached appearance for the given page geometry
+	 *
+	 * @param parameters {@link SignatureImageParameters}
+	 * @param geometryKey {@link String} identifying the page geometry
+	 * @return {@link Appearance} if cached, null otherwise
+	 */
+	synchronized Appearance getAppearance(SignatureImageParameters parameters, String geometryKey) {
+		ParametersEntry entry = getEntry(parameters);
+		return entry != null ? entry.appearances.get(geometryKey) : null;
+	}
+
+	/**
+	 * Caches the appearance for the given page geometry
+	 *
+	 * @param parameters {@link SignatureImageParameters}
+	 * @param geometryKey {@link String} identifying the page geometry
+	 * @param appearance {@link Appearance} to cache
+	 */
+	synchronized void setAppearance(SignatureImageParameters parameters, String geometryKey, Appearance appearance) {
+		getOrCreateEntry(parameters).appearances.put(geometryKey, appearance);
+	}
+
+	private ParametersEntry getEntry(SignatureImageParameters parameters) {
+		ParametersEntry entry = entries.get(parameters);
+		if (entry != null && !entry.isValid(parameters)) {
+			LOG.debug("The visual signature parameters have been modified. The cached appearances are removed.");
+			entries.remove(parameters);
+			return null;
+		}
+		return entry;
+	}
+
+	private ParametersEntry getOrCreateEntry(SignatureImageParameters parameters) {
+		ParametersEntry entry = getEntry(parameters);
+		if (entry == null) {
+			entry = new ParametersEntry(parameters, maximumAppearances);
+			entries.put(parameters, entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * Represents a cached appearance of a visual signature
+	 */
+	static class Appearance {
+
+		/** The computed signature field dimension and position */
+		private final SignatureFieldDimensionAndPosition dimensionAndPosition;
+
+		/** The template PDF document containing the visual signature */
+		private final byte[] visualSignature;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param dimensionAndPosition {@link SignatureFieldDimensionAndPosition}
+		 * @param visualSignature byte array of the template PDF document containing the visual signature
+		 */
+		Appearance(SignatureFieldDimensionAndPosition dimensionAndPosition, byte[] visualSignature) {
+			this.dimensionAndPosition = dimensionAndPosition;
+			this.visualSignature = visualSignature;
+		}
+
+		/**
+		 * Gets the signature field dimension and position
+		 *
+		 * @return {@link SignatureFieldDimensionAndPosition}
+		 */
+		SignatureFieldDimensionAndPosition getDimensionAndPosition() {
+			return dimensionAndPosition;
+		}
+
+		/**
+		 * Gets the template PDF document containing the visual signature
+		 *
+		 * @return byte array
+		 */
+		byte[] getVisualSignature() {
+			return visualSignature;
+		}
+
+	}
+
+	/**
+	 * Contains the cached data for a {@code SignatureImageParameters}
+	 */
+	private static class ParametersEntry {
+
+		/** The image used on creation of the entry */
+		private final DSSDocument image;
+
+		/** The font used on creation of the entry */
+		private final DSSFont font;
+
+		/** The description of the parameters used on creation of the entry */
+		private final String description;
+
+		/** The cached appearances, by page geometry */
+		private final Map<String, Appearance> appearances;
+
+		/** The cached color space name of the image */
+		private String colorSpaceName;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param parameters {@link SignatureImageParameters}
+		 * @param maximumAppearances the maximum number of cached appearances
+		 */
+		ParametersEntry(SignatureImageParameters parameters, final int maximumAppearances) {
+			this.image = parameters.getImage();
+			this.font = parameters.getTextParameters().getFont();
+			this.description = getDescription(parameters);
+			this.appearances = new LinkedHashMap<String, Appearance>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = -5094393419745417613L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Appearance> eldest) {
+					return size() > maximumAppearances;
+				}
+
+			};
+		}
+
+		/**
+		 * Checks whether the entry corresponds to the current state of the {@code parameters}
+		 *
+		 * @param parameters {@link SignatureImageParameters}
+		 * @return TRUE if the entry is valid, FALSE otherwise
+		 */
+		boolean isValid(SignatureImageParameters parameters) {
+			return image == parameters.getImage() && font == parameters.getTextParameters().getFont()
+					&& description.equals(getDescription(parameters));
+		}
+
+		private static String getDescription(SignatureImageParameters parameters) {
+			DSSFont dssFont = parameters.getTextParameters().getFont();
+			return parameters + ", imageScaling=" + parameters.getImageScaling()
+					+ ", textWrapping=" + parameters.getTextParameters().getTextWrapping()
+					+ ", fontSize=" + dssFont.getSize() + ", embedFontSubset="
+					+ (dssFont instanceof DSSFileFont && ((DSSFileFont) dssFont).isEmbedFontSubset());
+		}
+
+	}
+
+}
@@ -29,15 +29,30 @@ import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawerFactory;
  */
 public class PdfBoxNativeSignatureDrawerFactory implements PdfBoxSignatureDrawerFactory {
 
+	/** Used to reuse the visual signature appearances between the documents. Not used when null. */
+	private PdfBoxNativeSignatureAppearanceCache appearanceCache;
+
 	/**
 	 * Default constructor
 	 */
 	public PdfBoxNativeSignatureDrawerFactory() {
 	}
 
+	/**
+	 * Constructor with a cache of visual signature appearances, allowing to reuse the appearance
+	 * created for a {@code SignatureImageParameters} when signing many documents (e.g. a batch signing)
+	 *
+	 * @param appearanceCache {@link PdfBoxNativeSignatureAppearanceCache}
+	 */
+	public PdfBoxNativeSignatureDrawerFactory(PdfBoxNativeSignatureAppearanceCache appearanceCache) {
+		this.appearanceCache = appearanceCache;
+	}
+
 	@Override
 	public PdfBoxSignatureDrawer getSignatureDrawer(SignatureImageParameters imageParameters) {
-		return new NativePdfBoxVisibleSignatureDrawer();
+		NativePdfBoxVisibleSignatureDrawer signatureDrawer = new NativePdfBoxVisibleSignatureDrawer();
+		signatureDrawer.setAppearanceCache(appearanceCache);
+		return signatureDrawer;
 	}
 
 }
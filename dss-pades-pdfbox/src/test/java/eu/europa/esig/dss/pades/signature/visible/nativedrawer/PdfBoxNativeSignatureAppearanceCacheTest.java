@@ -0,0 +1,137 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.signature.visible.nativedrawer;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.SignatureImageParameters;
+import eu.europa.esig.dss.pades.SignatureImageTextParameters;
+import eu.europa.esig.dss.pdf.PDFSignatureService;
+import eu.europa.esig.dss.pdf.pdfbox.PdfBoxNativeObjectFactory;
+import eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer.PdfBoxNativeSignatureAppearanceCache;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PdfBoxNativeSignatureAppearanceCacheTest {
+
+	private static final byte[] CMS_SIGNED_DATA = new byte[] { 0x30, 0x03, 0x02, 0x01, 0x01 };
+
+	private List<DSSDocument> documents;
+
+	private Date signingDate;
+
+	@BeforeEach
+	public void init() {
+		documents = Arrays.asList(
+				new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf")),
+				new InMemoryDocument(getClass().getResourceAsStream("/EmptyPage.pdf")),
+				new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf")),
+				new InMemoryDocument(getClass().getResourceAsStream("/EmptyPage.pdf")));
+		signingDate = new Date();
+	}
+
+	@Test
+	public void test() throws Exception {
+		CountingDocument image = new CountingDocument(getClass().getResourceAsStream("/signature-image.png"));
+		SignatureImageParameters imageParameters = getImageParameters(image);
+		List<byte[]> expected = signDocuments(new PdfBoxNativeObjectFactory(), imageParameters);
+		int imageReadsPerDocument = image.openedStreams.get() / documents.size();
+
+		image = new CountingDocument(getClass().getResourceAsStream("/signature-image.png"));
+		imageParameters = getImageParameters(image);
+		PdfBoxNativeSignatureAppearanceCache appearanceCache = new PdfBoxNativeSignatureAppearanceCache();
+		PdfBoxNativeObjectFactory pdfObjFactory = new PdfBoxNativeObjectFactory();
+		pdfObjFactory.setSignatureAppearanceCache(appearanceCache);
+		List<byte[]> result = signDocuments(pdfObjFactory, imageParameters);
+		// the appearance is created once per page geometry, the image color space is read only once
+		int imageReadsWithCache = 2 * imageReadsPerDocument - 1;
+		assertEquals(imageReadsWithCache, image.openedStreams.get());
+
+		assertEquals(expected.size(), result.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertArrayEquals(expected.get(i), result.get(i));
+		}
+
+		// modified parameters invalidate the cached appearance
+		imageParameters.getTextParameters().setText("Other text");
+		List<byte[]> modifiedResult = signDocuments(pdfObjFactory, imageParameters);
+		assertEquals(2 * imageReadsWithCache, image.openedStreams.get());
+		assertArrayEquals(signDocuments(new PdfBoxNativeObjectFactory(), imageParameters).get(0), modifiedResult.get(0));
+	}
+
+	private List<byte[]> signDocuments(PdfBoxNativeObjectFactory pdfObjFactory, SignatureImageParameters imageParameters) {
+		List<byte[]> signedDocuments = new ArrayList<>();
+		for (DSSDocument document : documents) {
+			PAdESSignatureParameters parameters = new PAdESSignatureParameters();
+			parameters.bLevel().setSigningDate(signingDate);
+			parameters.setImageParameters(imageParameters);
+
+			PDFSignatureService signatureService = pdfObjFactory.newPAdESSignatureService();
+			signatureService.digest(document, parameters);
+			DSSDocument signedDocument = signatureService.sign(document, CMS_SIGNED_DATA, parameters);
+			signedDocuments.add(DSSUtils.toByteArray(signedDocument));
+		}
+		return signedDocuments;
+	}
+
+	private SignatureImageParameters getImageParameters(DSSDocument image) {
+		SignatureImageParameters imageParameters = new SignatureImageParameters();
+		imageParameters.setImage(image);
+		imageParameters.getFieldParameters().setOriginX(100);
+		imageParameters.getFieldParameters().setOriginY(50);
+
+		SignatureImageTextParameters textParameters = new SignatureImageTextParameters();
+		textParameters.setText("My signature");
+		imageParameters.setTextParameters(textParameters);
+		return imageParameters;
+	}
+
+	private static class CountingDocument extends InMemoryDocument {
+
+		private static final long serialVersionUID = -2270546291093125413L;
+
+		private final AtomicInteger openedStreams = new AtomicInteger();
+
+		CountingDocument(InputStream is) {
+			super(is);
+		}
+
+		@Override
+		public InputStream openStream() {
+			openedStreams.incrementAndGet();
+			return super.openStream();
+		}
+
+	}
+
+}
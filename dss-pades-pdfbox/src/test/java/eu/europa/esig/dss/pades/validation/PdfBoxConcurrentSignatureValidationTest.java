@@ -0,0 +1,88 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.validation;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDigestMatcher;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfBoxConcurrentSignatureValidationTest {
+
+	private static final Date VALIDATION_TIME = new Date(1600000000000L);
+
+	private ExecutorService executorService;
+
+	@BeforeEach
+	public void init() {
+		executorService = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterEach
+	public void shutdown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	public void test() throws Exception {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/validation/pades-5-signatures-and-1-document-timestamp.pdf"));
+
+		XmlDiagnosticData sequentialDiagnosticData = getDiagnosticData(document, null);
+		XmlDiagnosticData concurrentDiagnosticData = getDiagnosticData(document, executorService);
+
+		DiagnosticData diagnosticData = new DiagnosticData(concurrentDiagnosticData);
+		assertEquals(5, diagnosticData.getSignatures().size());
+		for (SignatureWrapper signatureWrapper : diagnosticData.getSignatures()) {
+			assertFalse(signatureWrapper.getDigestMatchers().isEmpty());
+			for (XmlDigestMatcher digestMatcher : signatureWrapper.getDigestMatchers()) {
+				assertTrue(digestMatcher.isDataIntact());
+			}
+			assertFalse(signatureWrapper.getSignatureScopes().isEmpty());
+		}
+
+		DiagnosticDataFacade facade = DiagnosticDataFacade.newFacade();
+		assertEquals(facade.marshall(sequentialDiagnosticData), facade.marshall(concurrentDiagnosticData));
+	}
+
+	private XmlDiagnosticData getDiagnosticData(DSSDocument document, ExecutorService executorService) {
+		PDFDocumentValidator validator = new PDFDocumentValidator(document);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		validator.setValidationTime(VALIDATION_TIME);
+		validator.setExecutorService(executorService);
+		return validator.getDiagnosticData();
+	}
+
+}
@@ -34,6 +34,7 @@ import java.io.IOException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -49,6 +50,29 @@ public class PdfBoxDocumentReaderTest {
 		}
 	}
 	
+	@Test
+	public void lazyDssDictionaryTest() throws Exception {
+		PdfDssDict dssDictionary;
+		try (PdfDocumentReader documentReader = new PdfBoxDocumentReader(new InMemoryDocument(getClass().getResourceAsStream(FILE)))) {
+			dssDictionary = documentReader.getDSSDictionary();
+		}
+		PdfDssDict sameDssDictionary;
+		try (PdfDocumentReader documentReader = new PdfBoxDocumentReader(new InMemoryDocument(getClass().getResourceAsStream(FILE)))) {
+			sameDssDictionary = documentReader.getDSSDictionary();
+		}
+		// the tokens are parsed after the document closing
+		assertFalse(dssDictionary.getCERTs().isEmpty());
+		assertFalse(dssDictionary.getCRLs().isEmpty() && dssDictionary.getOCSPs().isEmpty());
+		assertSame(dssDictionary.getCERTs(), dssDictionary.getCERTs());
+		assertEquals(dssDictionary.getCERTs(), sameDssDictionary.getCERTs());
+		assertEquals(dssDictionary.getCRLs(), sameDssDictionary.getCRLs());
+		assertEquals(dssDictionary.getOCSPs(), sameDssDictionary.getOCSPs());
+
+		// the dictionaries are compared by their tokens
+		assertEquals(dssDictionary, sameDssDictionary);
+		assertEquals(dssDictionary.hashCode(), sameDssDictionary.hashCode());
+	}
+
 	@Test
 	public void testPdfBoxUtilsEmptyDocument() throws Exception {
 		assertThrows(IOException.class, () -> new PdfBoxDocumentReader(new InMemoryDocument(DSSUtils.EMPTY_BYTE_ARRAY, "empty_doc")));
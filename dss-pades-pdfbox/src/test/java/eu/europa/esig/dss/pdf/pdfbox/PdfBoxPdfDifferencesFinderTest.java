@@ -0,0 +1,128 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.PAdESUtils;
+import eu.europa.esig.dss.pades.validation.PdfSignatureDictionary;
+import eu.europa.esig.dss.pdf.PdfDocumentReader;
+import eu.europa.esig.dss.pdf.modifications.DefaultPdfDifferencesFinder;
+import eu.europa.esig.dss.pdf.modifications.PdfModification;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfBoxPdfDifferencesFinderTest {
+
+	private static final String FILE = "/validation/dss-2236/hide.pdf";
+
+	@Test
+	public void sequentialTest() throws Exception {
+		DefaultPdfDifferencesFinder pdfDifferencesFinder = new DefaultPdfDifferencesFinder();
+		assertVisualDifferenceOnFirstPage(pdfDifferencesFinder);
+	}
+
+	@Test
+	public void parallelTest() throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			DefaultPdfDifferencesFinder pdfDifferencesFinder = new DefaultPdfDifferencesFinder();
+			pdfDifferencesFinder.setExecutorService(executorService);
+			assertVisualDifferenceOnFirstPage(pdfDifferencesFinder);
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void identicalPagesTest() throws Exception {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream(FILE));
+		try (PdfDocumentReader firstReader = new PdfBoxDocumentReader(document);
+			 PdfDocumentReader secondReader = new PdfBoxDocumentReader(document)) {
+			DefaultPdfDifferencesFinder pdfDifferencesFinder = new DefaultPdfDifferencesFinder();
+			assertTrue(pdfDifferencesFinder.getVisualDifferences(firstReader, secondReader).isEmpty());
+
+			pdfDifferencesFinder.setSkipIdenticalPages(false);
+			assertTrue(pdfDifferencesFinder.getVisualDifferences(firstReader, secondReader).isEmpty());
+		}
+	}
+
+	@Test
+	public void parallelFailureTest() throws Exception {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream(FILE));
+		DefaultPdfDifferencesFinder pdfDifferencesFinder = new DefaultPdfDifferencesFinder();
+		pdfDifferencesFinder.setSkipIdenticalPages(false);
+		try (PdfDocumentReader failingReader = new FailingPdfBoxDocumentReader(document);
+			 PdfDocumentReader secondReader = new PdfBoxDocumentReader(document)) {
+			IllegalStateException exception = assertThrows(IllegalStateException.class,
+					() -> pdfDifferencesFinder.getVisualDifferences(failingReader, secondReader));
+			assertEquals("Screenshot failure", exception.getMessage());
+
+			ExecutorService executorService = Executors.newFixedThreadPool(4);
+			try {
+				pdfDifferencesFinder.setExecutorService(executorService);
+				// the failure is not reported as an absence of visual difference
+				exception = assertThrows(IllegalStateException.class,
+						() -> pdfDifferencesFinder.getVisualDifferences(failingReader, secondReader));
+				assertEquals("Screenshot failure", exception.getMessage());
+			} finally {
+				executorService.shutdown();
+			}
+		}
+	}
+
+	private void assertVisualDifferenceOnFirstPage(DefaultPdfDifferencesFinder pdfDifferencesFinder) throws Exception {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream(FILE));
+		try (PdfDocumentReader finalRevisionReader = new PdfBoxDocumentReader(document)) {
+			PdfSignatureDictionary signatureDictionary = finalRevisionReader.extractSigDictionaries().keySet().iterator().next();
+			DSSDocument signedRevision = PAdESUtils.getRevisionDocument(document, signatureDictionary.getByteRange());
+			try (PdfDocumentReader signedRevisionReader = new PdfBoxDocumentReader(signedRevision)) {
+				List<PdfModification> visualDifferences = pdfDifferencesFinder.getVisualDifferences(
+						signedRevisionReader, finalRevisionReader);
+				assertEquals(1, visualDifferences.size());
+				assertEquals(1, visualDifferences.get(0).getPage());
+			}
+		}
+	}
+
+	private static class FailingPdfBoxDocumentReader extends PdfBoxDocumentReader {
+
+		FailingPdfBoxDocumentReader(DSSDocument document) throws IOException {
+			super(document);
+		}
+
+		@Override
+		public BufferedImage generateImageScreenshot(int page) {
+			throw new IllegalStateException("Screenshot failure");
+		}
+
+	}
+
+}
@@ -0,0 +1,78 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.PAdESUtils;
+import eu.europa.esig.dss.pades.validation.PdfSignatureDictionary;
+import eu.europa.esig.dss.pdf.PdfDocumentReader;
+import eu.europa.esig.dss.pdf.modifications.DefaultPdfObjectModificationsFinder;
+import eu.europa.esig.dss.pdf.modifications.ObjectModification;
+import eu.europa.esig.dss.pdf.modifications.PdfObjectModifications;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class PdfBoxPdfObjectModificationsFinderTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = { "/validation/dss-2236/hide.pdf", "/validation/modified_after_signature.pdf",
+			"/validation/pades-5-signatures-and-1-document-timestamp.pdf" })
+	public void skipUnchangedObjectsTest(String fileName) throws Exception {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream(fileName));
+		try (PdfDocumentReader finalRevisionReader = new PdfBoxDocumentReader(document)) {
+			assertFalse(finalRevisionReader.getObjectLocations().isEmpty());
+
+			for (PdfSignatureDictionary signatureDictionary : finalRevisionReader.extractSigDictionaries().keySet()) {
+				DSSDocument signedRevision = PAdESUtils.getRevisionDocument(document, signatureDictionary.getByteRange());
+				try (PdfDocumentReader signedRevisionReader = new PdfBoxDocumentReader(signedRevision)) {
+					DefaultPdfObjectModificationsFinder objectModificationsFinder = new DefaultPdfObjectModificationsFinder();
+					PdfObjectModifications withSkipping = objectModificationsFinder.find(signedRevisionReader, finalRevisionReader);
+
+					objectModificationsFinder.setSkipUnchangedObjects(false);
+					PdfObjectModifications withoutSkipping = objectModificationsFinder.find(signedRevisionReader, finalRevisionReader);
+
+					assertEquals(toSet(withoutSkipping.getSecureChanges()), toSet(withSkipping.getSecureChanges()));
+					assertEquals(toSet(withoutSkipping.getFormFillInAndSignatureCreationChanges()),
+							toSet(withSkipping.getFormFillInAndSignatureCreationChanges()));
+					assertEquals(toSet(withoutSkipping.getAnnotCreationChanges()), toSet(withSkipping.getAnnotCreationChanges()));
+					assertEquals(toSet(withoutSkipping.getUndefinedChanges()), toSet(withSkipping.getUndefinedChanges()));
+				}
+			}
+		}
+	}
+
+	private Set<String> toSet(List<ObjectModification> objectModifications) {
+		Set<String> result = new HashSet<>();
+		for (ObjectModification objectModification : objectModifications) {
+			result.add(objectModification.getActionType() + " " + objectModification.getObjectTree());
+		}
+		return result;
+	}
+
+}
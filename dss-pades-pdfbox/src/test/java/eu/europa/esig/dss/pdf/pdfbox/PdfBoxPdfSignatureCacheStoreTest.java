@@ -0,0 +1,114 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.pades.PAdESCommonParameters;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.signature.PAdESService;
+import eu.europa.esig.dss.pdf.InMemoryPdfSignatureCacheStore;
+import eu.europa.esig.dss.pdf.PDFServiceMode;
+import eu.europa.esig.dss.pdf.PDFSignatureService;
+import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatureDrawerFactory;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PdfBoxPdfSignatureCacheStoreTest {
+
+	private static final SignatureValue SIGNATURE_VALUE = new SignatureValue(SignatureAlgorithm.RSA_SHA256, new byte[256]);
+
+	@Test
+	public void signWithStoreTest() {
+		DSSDocument toSignDocument = new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf"));
+		Date signingDate = new Date();
+
+		AtomicInteger counter = new AtomicInteger();
+		PAdESService service = getService(counter);
+
+		// each call prepares the PDF without a store, when new parameters are used
+		PAdESSignatureParameters parameters = getParameters(signingDate);
+		ToBeSigned expectedToBeSigned = service.getDataToSign(toSignDocument, parameters);
+		DSSDocument expectedSignedDocument = service.signDocument(toSignDocument, getParameters(signingDate), SIGNATURE_VALUE);
+		assertEquals(2, counter.get());
+
+		counter.set(0);
+		InMemoryPdfSignatureCacheStore store = new InMemoryPdfSignatureCacheStore();
+		service.setPdfSignatureCacheStore(store);
+
+		ToBeSigned toBeSigned = service.getDataToSign(toSignDocument, getParameters(signingDate));
+		assertEquals(1, store.size());
+		DSSDocument signedDocument = service.signDocument(toSignDocument, getParameters(signingDate), SIGNATURE_VALUE);
+		assertEquals(1, counter.get());
+		assertEquals(0, store.size());
+
+		assertArrayEquals(expectedToBeSigned.getBytes(), toBeSigned.getBytes());
+		assertArrayEquals(DSSUtils.toByteArray(expectedSignedDocument), DSSUtils.toByteArray(signedDocument));
+
+		// the entry is consumed by the signature creation
+		counter.set(0);
+		service.signDocument(toSignDocument, getParameters(signingDate), SIGNATURE_VALUE);
+		assertEquals(1, counter.get());
+	}
+
+	private PAdESService getService(AtomicInteger counter) {
+		PdfBoxDefaultObjectFactory pdfObjFactory = new PdfBoxDefaultObjectFactory() {
+
+			@Override
+			public PDFSignatureService newPAdESSignatureService() {
+				return new PdfBoxSignatureService(PDFServiceMode.SIGNATURE, new PdfBoxDefaultSignatureDrawerFactory()) {
+
+					@Override
+					protected byte[] computeDigest(DSSDocument toSignDocument, PAdESCommonParameters parameters) {
+						counter.incrementAndGet();
+						return super.computeDigest(toSignDocument, parameters);
+					}
+
+				};
+			}
+
+		};
+		PAdESService service = new PAdESService(new CommonCertificateVerifier());
+		service.setPdfObjFactory(pdfObjFactory);
+		return service;
+	}
+
+	private PAdESSignatureParameters getParameters(Date signingDate) {
+		PAdESSignatureParameters parameters = new PAdESSignatureParameters();
+		parameters.setSignatureLevel(SignatureLevel.PAdES_BASELINE_B);
+		parameters.setGenerateTBSWithoutCertificate(true);
+		parameters.bLevel().setSigningDate(signingDate);
+		parameters.setReason("Approval");
+		return parameters;
+	}
+
+}
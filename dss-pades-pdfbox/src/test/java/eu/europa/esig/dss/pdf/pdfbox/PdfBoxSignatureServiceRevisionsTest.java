@@ -0,0 +1,68 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.validation.PdfRevision;
+import eu.europa.esig.dss.pdf.PDFServiceMode;
+import eu.europa.esig.dss.pdf.PdfDocumentReader;
+import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatureDrawerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PdfBoxSignatureServiceRevisionsTest {
+
+	@Test
+	public void revisionsNotLoadedTwiceTest() {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/validation/pades-5-signatures-and-1-document-timestamp.pdf"));
+
+		CountingSignatureService signatureService = new CountingSignatureService();
+		List<PdfRevision> revisions = signatureService.getRevisions(document, null);
+		// 6 signature/timestamp revisions and 1 DSS revision
+		assertEquals(7, revisions.size());
+		// one reader for the final document and one per distinct previous revision (instead of two per signature),
+		// each reader parsing its whole revision
+		assertEquals(8, signatureService.loadedReaders.get());
+	}
+
+	private static class CountingSignatureService extends PdfBoxSignatureService {
+
+		private final AtomicInteger loadedReaders = new AtomicInteger();
+
+		CountingSignatureService() {
+			super(PDFServiceMode.SIGNATURE, new PdfBoxDefaultSignatureDrawerFactory());
+		}
+
+		@Override
+		protected PdfDocumentReader loadPdfDocumentReader(DSSDocument dssDocument, String passwordProtection) throws IOException {
+			loadedReaders.incrementAndGet();
+			return super.loadPdfDocumentReader(dssDocument, passwordProtection);
+		}
+
+	}
+
+}
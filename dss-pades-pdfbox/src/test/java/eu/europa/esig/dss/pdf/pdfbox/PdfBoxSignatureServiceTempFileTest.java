@@ -0,0 +1,105 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pdf.PDFServiceMode;
+import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatureDrawerFactory;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfBoxSignatureServiceTempFileTest {
+
+	private static final byte[] CMS_SIGNED_DATA = new byte[] { 0x30, 0x03, 0x02, 0x01, 0x01 };
+
+	@TempDir
+	Path temporaryFolder;
+
+	@Test
+	public void signWithTempFileTest() throws Exception {
+		File file = temporaryFolder.resolve("sample.pdf").toFile();
+		Files.copy(getClass().getResourceAsStream("/sample.pdf"), file.toPath());
+		DSSDocument toSignDocument = new FileDocument(file);
+		Date signingDate = new Date();
+
+		PdfBoxSignatureService inMemoryService = new PdfBoxSignatureService(PDFServiceMode.SIGNATURE,
+				new PdfBoxDefaultSignatureDrawerFactory());
+		PAdESSignatureParameters parameters = getParameters(signingDate);
+		byte[] inMemoryDigest = inMemoryService.digest(toSignDocument, parameters);
+		DSSDocument inMemorySignedDocument = inMemoryService.sign(toSignDocument, CMS_SIGNED_DATA, parameters);
+		assertTrue(inMemorySignedDocument instanceof InMemoryDocument);
+
+		File tempFileDirectory = temporaryFolder.resolve("dss-temp").toFile();
+		TempFileResourcesHandlerBuilder tempFileResourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		tempFileResourcesHandlerBuilder.setTempFileDirectory(tempFileDirectory);
+
+		PdfBoxSignatureService tempFileService = new PdfBoxSignatureService(PDFServiceMode.SIGNATURE,
+				new PdfBoxDefaultSignatureDrawerFactory());
+		tempFileService.setResourcesHandlerBuilder(tempFileResourcesHandlerBuilder);
+		parameters = getParameters(signingDate);
+		byte[] tempFileDigest = tempFileService.digest(toSignDocument, parameters);
+		DSSDocument toBeSignedDocument = parameters.getPdfSignatureCache().getToBeSignedDocument();
+		assertTrue(toBeSignedDocument instanceof FileDocument);
+		byte[] toBeSignedBinaries = DSSUtils.toByteArray(toBeSignedDocument);
+
+		DSSDocument tempFileSignedDocument = tempFileService.sign(toSignDocument, CMS_SIGNED_DATA, parameters);
+		// the signature value is inserted within a new temporary file, the cached document is not modified
+		assertTrue(tempFileSignedDocument instanceof FileDocument);
+		assertNotEquals(((FileDocument) toBeSignedDocument).getFile(), ((FileDocument) tempFileSignedDocument).getFile());
+		assertEquals(tempFileDirectory, ((FileDocument) tempFileSignedDocument).getFile().getParentFile());
+		assertArrayEquals(toBeSignedBinaries, DSSUtils.toByteArray(toBeSignedDocument));
+
+		assertArrayEquals(inMemoryDigest, tempFileDigest);
+		assertArrayEquals(DSSUtils.toByteArray(inMemorySignedDocument), DSSUtils.toByteArray(tempFileSignedDocument));
+
+		// the cached state can be used again (e.g. on a retry or when shared through a PdfSignatureCacheStore)
+		parameters = getParameters(signingDate);
+		parameters.getPdfSignatureCache().setDigest(tempFileDigest);
+		parameters.getPdfSignatureCache().setToBeSignedDocument(toBeSignedDocument);
+		DSSDocument secondSignedDocument = tempFileService.sign(toSignDocument, CMS_SIGNED_DATA, parameters);
+		assertNotEquals(((FileDocument) tempFileSignedDocument).getFile(), ((FileDocument) secondSignedDocument).getFile());
+		assertArrayEquals(DSSUtils.toByteArray(inMemorySignedDocument), DSSUtils.toByteArray(secondSignedDocument));
+
+		tempFileResourcesHandlerBuilder.clear();
+	}
+
+	private PAdESSignatureParameters getParameters(Date signingDate) {
+		PAdESSignatureParameters parameters = new PAdESSignatureParameters();
+		parameters.bLevel().setSigningDate(signingDate);
+		return parameters;
+	}
+
+}
@@ -25,9 +25,11 @@ import eu.europa.esig.dss.enumerations.PdfLockAction;
 import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.MimeType;
 import eu.europa.esig.dss.pades.validation.ByteRange;
+import eu.europa.esig.dss.pades.validation.ByteRangeDocument;
 import eu.europa.esig.dss.pades.validation.PAdESSignature;
 import eu.europa.esig.dss.pades.validation.PdfRevision;
 import eu.europa.esig.dss.pades.validation.RevocationInfoArchival;
@@ -53,6 +55,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -211,22 +218,35 @@ public final class PAdESUtils {
 	 * @throws IOException in case if an exception occurs
 	 */
 	public static byte[] getRevisionContent(DSSDocument dssDocument, ByteRange byteRange) throws IOException {
-		int beginning = byteRange.getFirstPartStart();
-		int endSigValueContent = byteRange.getSecondPartStart();
-		int endValue = byteRange.getSecondPartEnd();
-
-		byte[] revisionByteArray = new byte[endSigValueContent + endValue - beginning];
-
-		try (InputStream is = dssDocument.openStream()) {
-
-			DSSUtils.skipAvailableBytes(is, beginning);
-			DSSUtils.readAvailableBytes(is, revisionByteArray, 0, endSigValueContent + endValue - beginning);
-
-		} catch (IllegalStateException e) {
-			LOG.error("Cannot extract revision binaries. Reason : {}", e.getMessage());
+		try (InputStream is = getRevisionDocument(dssDocument, byteRange).openStream()) {
+			return Utils.toByteArray(is);
 		}
+	}
 
-		return revisionByteArray;
+	/**
+	 * Returns a view over the revision content according to the provided byteRange ([0]-[3]),
+	 * without copying the binaries of the {@code dssDocument}
+	 *
+	 * @param dssDocument {@link DSSDocument} to extract the content from
+	 * @param byteRange {@link ByteRange} indicating the revision boundaries
+	 * @return {@link ByteRangeDocument} representing the revision
+	 */
+	public static ByteRangeDocument getRevisionDocument(DSSDocument dssDocument, ByteRange byteRange) {
+		int beginning = byteRange.getFirstPartStart();
+		int revisionLength = byteRange.getSecondPartStart() + byteRange.getSecondPartEnd() - beginning;
+		return new ByteRangeDocument(dssDocument, new int[] { beginning, revisionLength });
+	}
+
+	/**
+	 * Returns a view over the signed content according to the provided byteRange ([0]-[1] and [2]-[3]),
+	 * without copying the binaries of the {@code dssDocument}
+	 *
+	 * @param dssDocument {@link DSSDocument} to extract the content from
+	 * @param byteRange {@link ByteRange} indicating which content range is signed
+	 * @return {@link ByteRangeDocument} representing the signed content
+	 */
+	public static ByteRangeDocument getSignedContent(DSSDocument dssDocument, ByteRange byteRange) {
+		return new ByteRangeDocument(dssDocument, byteRange);
 	}
 
 	/**
@@ -346,6 +366,85 @@ public final class PAdESUtils {
 		}
 	}
 
+	/**
+	 * This method replaces /Contents field value with a given {@code cmsSignedData} binaries directly within
+	 * the file of the {@code toBeSignedDocument}, without copying the document content.
+	 * The reserved space is searched starting from the {@code searchOffset} position (e.g. the length of
+	 * the original document, as the new signature dictionary is present within the incremental update only).
+	 *
+	 * NOTE: the file of {@code toBeSignedDocument} is modified!
+	 *
+	 * @param toBeSignedDocument {@link FileDocument} representing a document to be signed with an empty signature
+	 *                                               value (Ex.: {@code /Contents <00000 ... 000000>})
+	 * @param cmsSignedData byte array representing DER-encoded CMS Signed Data
+	 * @param searchOffset the position within the document to start the search of the reserved space from
+	 * @return {@link DSSDocument} the updated {@code toBeSignedDocument} containing the inserted CMS signature
+	 */
+	public static DSSDocument replaceSignatureInPlace(final FileDocument toBeSignedDocument, final byte[] cmsSignedData,
+													  final long searchOffset) {
+		Objects.requireNonNull(toBeSignedDocument, "toBeSignedDocument cannot be null!");
+		Objects.requireNonNull(cmsSignedData, "cmsSignedData cannot be null!");
+		if (Utils.isArrayEmpty(cmsSignedData)) {
+			throw new IllegalArgumentException("cmsSignedData cannot be empty!");
+		}
+		byte[] signature = Utils.toHex(cmsSignedData).getBytes();
+
+		final Path path = toBeSignedDocument.getFile().toPath();
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			// the stream shares the channel and is closed together with it
+			InputStream is = new BufferedInputStream(Channels.newInputStream(fileChannel.position(searchOffset)));
+			long position = findReservedSignatureSpace(is, searchOffset, signature.length);
+
+			ByteBuffer byteBuffer = ByteBuffer.wrap(signature);
+			while (byteBuffer.hasRemaining()) {
+				position += fileChannel.write(byteBuffer, position);
+			}
+			return toBeSignedDocument;
+
+		} catch (IOException e) {
+			throw new DSSException(String.format(
+					"Unable to replace /Contents value within a toBeSigned document. Reason : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Returns a position of the first byte of the reserved signature space ({@code <0000...}) within the stream
+	 *
+	 * @param is {@link InputStream} to search in
+	 * @param position the position of the first byte of {@code is} within the document
+	 * @param signatureLength the length of the signature value to be inserted
+	 * @return position of the reserved space
+	 * @throws IOException if an exception occurs on the stream reading
+	 */
+	private static long findReservedSignatureSpace(InputStream is, long position, int signatureLength) throws IOException {
+		long signaturePosition = -1;
+		boolean suspicion = false;
+		int zeros = 0;
+
+		int b;
+		while ((b = is.read()) != -1) {
+			if (suspicion && '0' == b) {
+				++zeros;
+				if (signatureLength == zeros) {
+					if (signaturePosition != -1) {
+						throw new IllegalInputException("PDF document contains more than one empty signature!");
+					}
+					signaturePosition = position - signatureLength + 1;
+					suspicion = false;
+				}
+			} else {
+				suspicion = '<' == b;
+				zeros = 0;
+			}
+			++position;
+		}
+
+		if (signaturePosition == -1) {
+			throw new IllegalInputException("Reserved space to insert a signature was not found!");
+		}
+		return signaturePosition;
+	}
+
 	/**
 	 * Returns {@link RevocationInfoArchival} from the given encodable
 	 * 
@@ -39,6 +39,8 @@ import eu.europa.esig.dss.pades.SignatureFieldParameters;
 import eu.europa.esig.dss.pades.timestamp.PAdESTimestampService;
 import eu.europa.esig.dss.pdf.IPdfObjFactory;
 import eu.europa.esig.dss.pdf.PDFSignatureService;
+import eu.europa.esig.dss.pdf.PdfSignatureCache;
+import eu.europa.esig.dss.pdf.PdfSignatureCacheStore;
 import eu.europa.esig.dss.pdf.ServiceLoaderPdfObjFactory;
 import eu.europa.esig.dss.signature.AbstractSignatureService;
 import eu.europa.esig.dss.signature.SignatureExtension;
@@ -74,6 +76,9 @@ public class PAdESService extends AbstractSignatureService<PAdESSignatureParamet
 	/** Loads a relevant implementation for signature creation/extension */
 	private IPdfObjFactory pdfObjFactory = new ServiceLoaderPdfObjFactory();
 
+	/** Keeps the prepared PDF signing state between getDataToSign and signDocument calls (optional) */
+	private PdfSignatureCacheStore pdfSignatureCacheStore;
+
 	/**
 	 * This is the constructor to create an instance of the {@code PAdESService}. A certificate verifier must be
 	 * provided.
@@ -99,6 +104,21 @@ public class PAdESService extends AbstractSignatureService<PAdESSignatureParamet
 		this.pdfObjFactory = pdfObjFactory;
 	}
 
+	/**
+	 * Sets the store keeping the prepared PDF signing state (the PDF with a reserved /Contents space and
+	 * the digest of its ByteRange) between the {@code getDataToSign} and {@code signDocument} calls.
+	 * When defined, {@code signDocument} does not need to prepare the PDF again, even if it is invoked
+	 * with a new instance of the parameters (e.g. in a stateless remote signing service),
+	 * provided the document and the relevant parameters (including the signing date) are the same.
+	 *
+	 * Default : null (the state is only kept within the used {@code PAdESSignatureParameters} instance)
+	 *
+	 * @param pdfSignatureCacheStore {@link PdfSignatureCacheStore}
+	 */
+	public void setPdfSignatureCacheStore(PdfSignatureCacheStore pdfSignatureCacheStore) {
+		this.pdfSignatureCacheStore = pdfSignatureCacheStore;
+	}
+
 	private SignatureExtension<PAdESSignatureParameters> getExtensionProfile(SignatureLevel signatureLevel) {
 		Objects.requireNonNull(signatureLevel, "SignatureLevel must be defined!");
 		switch (signatureLevel) {
@@ -174,8 +194,16 @@ public class PAdESService extends AbstractSignatureService<PAdESSignatureParamet
 		final SignatureAlgorithm signatureAlgorithm = parameters.getSignatureAlgorithm();
 		final CustomContentSigner customContentSigner = new CustomContentSigner(signatureAlgorithm.getJCEId());
 
+		if (pdfSignatureCacheStore != null) {
+			loadPdfSignatureCache(pdfSignatureCacheStore.get(toSignDocument, parameters), parameters);
+		}
+
 		final byte[] messageDigest = computeDocumentDigest(toSignDocument, parameters);
 
+		if (pdfSignatureCacheStore != null) {
+			storePdfSignatureCache(toSignDocument, parameters);
+		}
+
 		SignerInfoGeneratorBuilder signerInfoGeneratorBuilder = padesCMSSignedDataBuilder.getSignerInfoGeneratorBuilder(parameters, messageDigest);
 
 		final CMSSignedDataGenerator generator = padesCMSSignedDataBuilder.createCMSSignedDataGenerator(parameters, customContentSigner,
@@ -211,6 +239,11 @@ public class PAdESService extends AbstractSignatureService<PAdESSignatureParamet
 		assertSigningCertificateValid(parameters);
 		signatureValue = ensureSignatureValue(parameters.getSignatureAlgorithm(), signatureValue);
 
+		if (pdfSignatureCacheStore != null) {
+			// the entry is consumed : the signing state is kept within the parameters for a retry
+			loadPdfSignatureCache(pdfSignatureCacheStore.remove(toSignDocument, parameters), parameters);
+		}
+
 		final SignatureLevel signatureLevel = parameters.getSignatureLevel();
 		final byte[] cmsSignedData = generateCMSSignedData(toSignDocument, parameters, signatureValue);
 
@@ -227,6 +260,25 @@ public class PAdESService extends AbstractSignatureService<PAdESSignatureParamet
 		return signature;
 	}
 
+	private void loadPdfSignatureCache(PdfSignatureCache storedCache, PAdESSignatureParameters parameters) {
+		final PdfSignatureCache pdfSignatureCache = parameters.getPdfSignatureCache();
+		if (storedCache != null && pdfSignatureCache.getDigest() == null) {
+			LOG.debug("The prepared PDF signing state has been found in the store.");
+			pdfSignatureCache.setDigest(storedCache.getDigest());
+			pdfSignatureCache.setToBeSignedDocument(storedCache.getToBeSignedDocument());
+		}
+	}
+
+	private void storePdfSignatureCache(DSSDocument toSignDocument, PAdESSignatureParameters parameters) {
+		final PdfSignatureCache pdfSignatureCache = parameters.getPdfSignatureCache();
+		if (pdfSignatureCache.getDigest() != null && pdfSignatureCache.getToBeSignedDocument() != null) {
+			final PdfSignatureCache storedCache = new PdfSignatureCache();
+			storedCache.setDigest(pdfSignatureCache.getDigest());
+			storedCache.setToBeSignedDocument(pdfSignatureCache.getToBeSignedDocument());
+			pdfSignatureCacheStore.put(toSignDocument, parameters, storedCache);
+		}
+	}
+
 	private void assertSignaturePossible(DSSDocument toSignDocument) {
 		if (toSignDocument instanceof DigestDocument) {
 			throw new IllegalArgumentException("DigestDocument cannot be used for PAdES!");
@@ -0,0 +1,392 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.validation;
+
+import eu.europa.esig.dss.model.CommonDocument;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents a read-only view over a set of byte ranges of an underlying document (e.g. a PDF revision or
+ * the content covered by a PDF signature), without copying the binaries into a new array.
+ * <p>
+ * For a {@code FileDocument} the ranges are read from a {@code FileChannel} opened by each stream (and closed
+ * with it), for an {@code InMemoryDocument} the original byte array is wrapped. Any other document is read with
+ * the ranges being extracted on each call.
+ * When a range exceeds the size of the underlying document, the missing part is filled with zero bytes,
+ * mirroring the behavior of a fixed-size buffer extraction.
+ *
+ */
+@SuppressWarnings("serial")
+public class ByteRangeDocument extends CommonDocument {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ByteRangeDocument.class);
+
+	/** The document to extract the content from */
+	private final DSSDocument document;
+
+	/** The byte ranges as pairs of an offset and a length */
+	private final int[] byteRangeArray;
+
+	/**
+	 * Creates a view over the content covered by the {@code byteRange}
+	 * (i.e. [0]-[1] and [2]-[3] parts of the document)
+	 *
+	 * @param document {@link DSSDocument} to extract the content from
+	 * @param byteRange {@link ByteRange} defining the covered content
+	 */
+	public ByteRangeDocument(final DSSDocument document, final ByteRange byteRange) {
+		this(document, new int[] { byteRange.getFirstPartStart(), byteRange.getFirstPartEnd(),
+				byteRange.getSecondPartStart(), byteRange.getSecondPartEnd() });
+	}
+
+	/**
+	 * Creates a view over the given ranges of the document
+	 *
+	 * @param document {@link DSSDocument} to extract the content from
+	 * @param byteRangeArray an array of pairs of an offset and a length of each range
+	 */
+	public ByteRangeDocument(final DSSDocument document, final int[] byteRangeArray) {
+		Objects.requireNonNull(document, "The document cannot be null!");
+		Objects.requireNonNull(byteRangeArray, "The byte range array cannot be null!");
+		if (byteRangeArray.length % 2 != 0) {
+			throw new DSSException("The byte range array shall contain pairs of an offset and a length!");
+		}
+		for (int value : byteRangeArray) {
+			if (value < 0) {
+				throw new DSSException(String.format("The byte range %s cannot contain negative values!",
+						Arrays.toString(byteRangeArray)));
+			}
+		}
+		this.document = document;
+		this.byteRangeArray = byteRangeArray.clone();
+	}
+
+	/**
+	 * Gets the underlying document
+	 *
+	 * @return {@link DSSDocument}
+	 */
+	public DSSDocument getDocument() {
+		return document;
+	}
+
+	/**
+	 * Gets the total length of the content represented by the byte ranges
+	 *
+	 * @return the length in bytes
+	 */
+	public long getLength() {
+		long length = 0;
+		for (int i = 1; i < byteRangeArray.length; i += 2) {
+			length += byteRangeArray[i];
+		}
+		return length;
+	}
+
+	@Override
+	public InputStream openStream() {
+		try {
+			if (document instanceof FileDocument) {
+				return new FileRangesInputStream(FileChannel.open(
+						((FileDocument) document).getFile().toPath(), StandardOpenOption.READ), byteRangeArray);
+			} else if (document instanceof InMemoryDocument) {
+				return new ByteBuffersInputStream(wrapArrayRanges(((InMemoryDocument) document).getBytes()));
+			} else {
+				return new ByteBuffersInputStream(readRanges(document));
+			}
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to read the byte range %s of the document. Reason : %s",
+					Arrays.toString(byteRangeArray), e.getMessage()), e);
+		}
+	}
+
+	private ByteBuffer[] wrapArrayRanges(byte[] binaries) {
+		final ByteBuffer[] buffers = new ByteBuffer[byteRangeArray.length / 2];
+		for (int i = 0; i < buffers.length; i++) {
+			final int offset = byteRangeArray[2 * i];
+			final int length = byteRangeArray[2 * i + 1];
+			final int available = Math.max(0, Math.min(length, binaries.length - offset));
+			ByteBuffer buffer = available > 0 ? ByteBuffer.wrap(binaries, offset, available).slice() : null;
+			buffers[i] = padIfNeeded(buffer, length);
+		}
+		return buffers;
+	}
+
+	private ByteBuffer[] readRanges(DSSDocument dssDocument) throws IOException {
+		final ByteBuffer[] buffers = new ByteBuffer[byteRangeArray.length / 2];
+		try (InputStream is = dssDocument.openStream()) {
+			long position = 0;
+			for (int i = 0; i < buffers.length; i++) {
+				final int offset = byteRangeArray[2 * i];
+				final byte[] range = new byte[byteRangeArray[2 * i + 1]];
+				try {
+					if (offset < position) {
+						throw new IllegalStateException("The byte ranges shall be defined in ascending order!");
+					}
+					DSSUtils.skipAvailableBytes(is, (int) (offset - position));
+					DSSUtils.readAvailableBytes(is, range);
+				} catch (IllegalStateException e) {
+					LOG.warn("Cannot extract the byte range {}. Reason : {}", Arrays.toString(byteRangeArray), e.getMessage());
+				}
+				position = (long) offset + range.length;
+				buffers[i] = ByteBuffer.wrap(range);
+			}
+		}
+		return buffers;
+	}
+
+	private ByteBuffer padIfNeeded(ByteBuffer buffer, int length) {
+		final int available = buffer != null ? buffer.remaining() : 0;
+		if (available == length) {
+			return buffer;
+		}
+		LOG.warn("The byte range {} exceeds the document size. The missing content is filled with zero bytes.",
+				Arrays.toString(byteRangeArray));
+		ByteBuffer padded = ByteBuffer.allocate(length);
+		if (buffer != null) {
+			padded.put(buffer);
+			padded.rewind();
+		}
+		return padded;
+	}
+
+	/**
+	 * Reads sequentially the byte ranges of a file with positional reads of a {@code FileChannel},
+	 * closed with the stream
+	 */
+	private static class FileRangesInputStream extends InputStream {
+
+		/** The size of the internal buffer */
+		private static final int BUFFER_SIZE = 8192;
+
+		/** The channel to read the file from */
+		private final FileChannel channel;
+
+		/** The byte ranges as pairs of an offset and a length */
+		private final int[] byteRangeArray;
+
+		/** The internal buffer, containing the next bytes of the current range */
+		private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+		/** The index of the current range */
+		private int currentRange;
+
+		/** The number of bytes of the current range already read into the buffer (or skipped) */
+		private long rangePosition;
+
+		/** Defines whether the content exceeding the file size has been reported */
+		private boolean paddingReported;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param channel {@link FileChannel} to read
+		 * @param byteRangeArray an array of pairs of an offset and a length of each range
+		 */
+		FileRangesInputStream(FileChannel channel, int[] byteRangeArray) {
+			this.channel = channel;
+			this.byteRangeArray = byteRangeArray;
+			this.buffer.limit(0);
+		}
+
+		private boolean fillBuffer() throws IOException {
+			while (currentRange < byteRangeArray.length && rangePosition >= byteRangeArray[currentRange + 1]) {
+				currentRange += 2;
+				rangePosition = 0;
+			}
+			if (currentRange >= byteRangeArray.length) {
+				return false;
+			}
+			final long position = byteRangeArray[currentRange] + rangePosition;
+			final int toRead = (int) Math.min(BUFFER_SIZE, byteRangeArray[currentRange + 1] - rangePosition);
+			buffer.clear();
+			buffer.limit(toRead);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, position + buffer.position()) < 0) {
+					fillWithZeros();
+				}
+			}
+			buffer.flip();
+			rangePosition += toRead;
+			return true;
+		}
+
+		private void fillWithZeros() {
+			if (!paddingReported) {
+				LOG.warn("The byte range {} exceeds the document size. The missing content is filled with zero bytes.",
+						Arrays.toString(byteRangeArray));
+				paddingReported = true;
+			}
+			while (buffer.hasRemaining()) {
+				buffer.put((byte) 0);
+			}
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (!buffer.hasRemaining() && !fillBuffer()) {
+				return -1;
+			}
+			return buffer.get() & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			Objects.requireNonNull(b, "The buffer cannot be null!");
+			if (len == 0) {
+				return 0;
+			}
+			int read = 0;
+			while (read < len && (buffer.hasRemaining() || fillBuffer())) {
+				int toRead = Math.min(len - read, buffer.remaining());
+				buffer.get(b, off + read, toRead);
+				read += toRead;
+			}
+			return read > 0 ? read : -1;
+		}
+
+		@Override
+		public long skip(long n) {
+			long skipped = Math.min(Math.max(n, 0), buffer.remaining());
+			buffer.position(buffer.position() + (int) skipped);
+			while (skipped < n && currentRange < byteRangeArray.length) {
+				long toSkip = Math.min(n - skipped, byteRangeArray[currentRange + 1] - rangePosition);
+				rangePosition += toSkip;
+				skipped += toSkip;
+				if (rangePosition >= byteRangeArray[currentRange + 1]) {
+					currentRange += 2;
+					rangePosition = 0;
+				}
+			}
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			long available = buffer.remaining();
+			if (currentRange < byteRangeArray.length) {
+				available += byteRangeArray[currentRange + 1] - rangePosition;
+				for (int i = currentRange + 3; i < byteRangeArray.length; i += 2) {
+					available += byteRangeArray[i];
+				}
+			}
+			return (int) Math.min(Integer.MAX_VALUE, available);
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+
+	}
+
+	/**
+	 * Reads sequentially the content of a set of {@code ByteBuffer}s
+	 */
+	private static class ByteBuffersInputStream extends InputStream {
+
+		/** The buffers to be read */
+		private final ByteBuffer[] buffers;
+
+		/** The index of the currently read buffer */
+		private int current;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param buffers an array of {@link ByteBuffer}s to read
+		 */
+		ByteBuffersInputStream(ByteBuffer[] buffers) {
+			this.buffers = buffers;
+		}
+
+		private ByteBuffer currentBuffer() {
+			while (current < buffers.length && !buffers[current].hasRemaining()) {
+				current++;
+			}
+			return current < buffers.length ? buffers[current] : null;
+		}
+
+		@Override
+		public int read() {
+			ByteBuffer buffer = currentBuffer();
+			return buffer != null ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			Objects.requireNonNull(b, "The buffer cannot be null!");
+			if (len == 0) {
+				return 0;
+			}
+			ByteBuffer buffer = currentBuffer();
+			if (buffer == null) {
+				return -1;
+			}
+			int read = 0;
+			while (buffer != null && read < len) {
+				int toRead = Math.min(len - read, buffer.remaining());
+				buffer.get(b, off + read, toRead);
+				read += toRead;
+				buffer = currentBuffer();
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) {
+			long skipped = 0;
+			ByteBuffer buffer = currentBuffer();
+			while (buffer != null && skipped < n) {
+				int toSkip = (int) Math.min(n - skipped, buffer.remaining());
+				buffer.position(buffer.position() + toSkip);
+				skipped += toSkip;
+				buffer = currentBuffer();
+			}
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			long available = 0;
+			for (int i = current; i < buffers.length; i++) {
+				available += buffers[i].remaining();
+			}
+			return (int) Math.min(Integer.MAX_VALUE, available);
+		}
+
+	}
+
+}
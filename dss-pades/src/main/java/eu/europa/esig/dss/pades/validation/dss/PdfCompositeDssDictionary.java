@@ -23,6 +23,8 @@ package eu.europa.esig.dss.pades.validation.dss;
 import eu.europa.esig.dss.pdf.PdfDssDict;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class represents a merged result of all /DSS dictionaries' content extracted from a PDF document
@@ -40,6 +42,18 @@ public class PdfCompositeDssDictionary implements Serializable {
     /** Represents a merged result of OCSP sources extracted from PDF document */
     private final PdfCompositeDssDictOCSPSource ocspSource;
 
+    /** The /DSS dictionaries in the order of their population, used for a lazy loading of the sources */
+    private final List<PdfDssDict> dssDictionaries = new ArrayList<>();
+
+    /** Number of /DSS dictionaries already populated into the certificate source */
+    private int certificateSourcePopulated;
+
+    /** Number of /DSS dictionaries already populated into the CRL source */
+    private int crlSourcePopulated;
+
+    /** Number of /DSS dictionaries already populated into the OCSP source */
+    private int ocspSourcePopulated;
+
     /**
      * Default constructor
      */
@@ -54,7 +68,10 @@ public class PdfCompositeDssDictionary implements Serializable {
      *
      * @return {@link PdfCompositeDssDictCertificateSource}
      */
-    public PdfCompositeDssDictCertificateSource getCertificateSource() {
+    public synchronized PdfCompositeDssDictCertificateSource getCertificateSource() {
+        while (certificateSourcePopulated < dssDictionaries.size()) {
+            certificateSource.populateFromDssDictionary(dssDictionaries.get(certificateSourcePopulated++));
+        }
         return certificateSource;
     }
 
@@ -63,7 +80,10 @@ public class PdfCompositeDssDictionary implements Serializable {
      *
      * @return {@link PdfCompositeDssDictCRLSource}
      */
-    public PdfCompositeDssDictCRLSource getCrlSource() {
+    public synchronized PdfCompositeDssDictCRLSource getCrlSource() {
+        while (crlSourcePopulated < dssDictionaries.size()) {
+            crlSource.populateFromDssDictionary(dssDictionaries.get(crlSourcePopulated++));
+        }
         return crlSource;
     }
 
@@ -72,20 +92,22 @@ public class PdfCompositeDssDictionary implements Serializable {
      *
      * @return {@link PdfCompositeDssDictOCSPSource}
      */
-    public PdfCompositeDssDictOCSPSource getOcspSource() {
+    public synchronized PdfCompositeDssDictOCSPSource getOcspSource() {
+        while (ocspSourcePopulated < dssDictionaries.size()) {
+            ocspSource.populateFromDssDictionary(dssDictionaries.get(ocspSourcePopulated++));
+        }
         return ocspSource;
     }
 
     /**
-     * This method is used to populate certificate and revocation sources with data extracted from /DSS revision
+     * This method is used to populate certificate and revocation sources with data extracted from /DSS revision.
+     * The sources are populated on their first request, thus the tokens are not parsed when not used.
      *
      * @param dssDict {@link PdfDssDict} representing PDF revision's content
      */
-    public void populateFromDssDictionary(PdfDssDict dssDict) {
+    public synchronized void populateFromDssDictionary(PdfDssDict dssDict) {
         if (dssDict != null) {
-            certificateSource.populateFromDssDictionary(dssDict);
-            crlSource.populateFromDssDictionary(dssDict);
-            ocspSource.populateFromDssDictionary(dssDict);
+            dssDictionaries.add(dssDict);
         }
     }
 
@@ -26,6 +26,7 @@ import eu.europa.esig.dss.alert.status.MessageStatus;
 import eu.europa.esig.dss.enumerations.CertificationPermission;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.MimeType;
 import eu.europa.esig.dss.pades.PAdESCommonParameters;
@@ -34,6 +35,7 @@ import eu.europa.esig.dss.pades.SignatureFieldParameters;
 import eu.europa.esig.dss.pades.SignatureImageParameters;
 import eu.europa.esig.dss.pades.exception.InvalidPasswordException;
 import eu.europa.esig.dss.pades.validation.ByteRange;
+import eu.europa.esig.dss.pades.validation.ByteRangeDocument;
 import eu.europa.esig.dss.pades.validation.PAdESSignature;
 import eu.europa.esig.dss.pades.validation.PdfRevision;
 import eu.europa.esig.dss.pades.validation.PdfSignatureDictionary;
@@ -52,6 +54,7 @@ import eu.europa.esig.dss.pdf.visible.SignatureFieldBoxBuilder;
 import eu.europa.esig.dss.pdf.visible.VisualSignatureFieldAppearance;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.AdvancedSignature;
@@ -60,8 +63,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -277,8 +283,8 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		DSSDocument signedDocument = null;
 		if (pdfSignatureCache.getToBeSignedDocument() != null) {
 			try {
-				signedDocument = PAdESUtils.replaceSignature(pdfSignatureCache.getToBeSignedDocument(),
-						cmsSignedData, resourcesHandlerBuilder);
+				signedDocument = insertSignatureValue(toSignDocument, pdfSignatureCache.getToBeSignedDocument(),
+						cmsSignedData);
 			} catch (Exception e) {
 				String errorMessage = "Unable to sign document using a resources caching! Reason : '{}'. Sign using a complete processing...";
 				if (LOG.isDebugEnabled()) {
@@ -297,6 +303,43 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		return signedDocument;
 	}
 
+	/**
+	 * Inserts the {@code cmsSignedData} into the reserved signature space of a copy of the cached
+	 * {@code toBeSignedDocument}. With a {@code TempFileResourcesHandlerBuilder}, the file of a {@code FileDocument}
+	 * is copied to a new temporary file, which is then updated in place. Other documents are copied
+	 * with the inserted signature value.
+	 *
+	 * NOTE: the cached {@code toBeSignedDocument} is never modified, as it may be reused (e.g. on a new signing
+	 * attempt or when loaded from a {@code PdfSignatureCacheStore}). Its temporary file stays owned
+	 * by the {@code TempFileResourcesHandlerBuilder} (removed on {@code clear()}).
+	 *
+	 * @param toSignDocument {@link DSSDocument} the original document to be signed
+	 * @param toBeSignedDocument {@link DSSDocument} the cached document with a new revision and empty signature value
+	 * @param cmsSignedData byte array representing the encoded CMS signed data's binaries
+	 * @return {@link DSSDocument} signed document
+	 */
+	private DSSDocument insertSignatureValue(DSSDocument toSignDocument, DSSDocument toBeSignedDocument,
+											 byte[] cmsSignedData) {
+		if (toBeSignedDocument instanceof FileDocument && resourcesHandlerBuilder instanceof TempFileResourcesHandlerBuilder) {
+			final FileDocument signedDocument = copyToTempFile((FileDocument) toBeSignedDocument);
+			// the new signature dictionary is present within the incremental update only
+			return PAdESUtils.replaceSignatureInPlace(signedDocument, cmsSignedData,
+					DSSUtils.getFileByteSize(toSignDocument));
+		}
+		return PAdESUtils.replaceSignature(toBeSignedDocument, cmsSignedData, resourcesHandlerBuilder);
+	}
+
+	private FileDocument copyToTempFile(FileDocument fileDocument) {
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			try (OutputStream os = resourcesHandler.createOutputStream()) {
+				Files.copy(fileDocument.getFile().toPath(), os);
+			}
+			return (FileDocument) resourcesHandler.writeToDSSDocument();
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to copy the to be signed document. Reason : %s", e.getMessage()), e);
+		}
+	}
+
 	/**
 	 * This method creates a signed document from the original {@code toSignDocument}, incorporating a new revision,
 	 * enveloping the provided {@code cmsSignedData}
@@ -401,6 +444,11 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 			PdfDssDict lastDSSDictionary = dssDictionary; // defined the last created DSS dictionary
 			compositeDssDictionary.populateFromDssDictionary(lastDSSDictionary);
 
+			// the DSS dictionaries of the already loaded revisions, keyed by the revision length
+			// (all revisions are prefixes of the document). Avoids loading a same revision twice,
+			// but each distinct revision is still loaded and parsed by its own reader.
+			final Map<Long, PdfDssDict> loadedRevisionDssDictionaries = new HashMap<>();
+
 			Map<PdfSignatureDictionary, List<PdfSignatureField>> sigDictionaries = reader.extractSigDictionaries();
 			sigDictionaries = sortSignatureDictionaries(sigDictionaries); // sort from the latest revision to the first
 
@@ -416,20 +464,27 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 					byteRange.validate();
 
 					final byte[] cms = signatureDictionary.getContents();
-					byte[] revisionContent = DSSUtils.EMPTY_BYTE_ARRAY;
+					DSSDocument revisionContent = null;
+					DSSDocument signedContent;
 					if (!isContentValueEqualsByteRangeExtraction(document, byteRange, cms, fieldNames)) {
 						LOG.warn("Signature {} is invalid. SIWA detected !", fieldNames);
+						signedContent = new InMemoryDocument(
+								PAdESUtils.getSignedContentFromRevision(DSSUtils.EMPTY_BYTE_ARRAY, byteRange));
 					} else {
-						revisionContent = PAdESUtils.getRevisionContent(document, byteRange);
+						// views over the original document, the binaries are not copied
+						revisionContent = PAdESUtils.getRevisionDocument(document, byteRange);
+						signedContent = PAdESUtils.getSignedContent(document, byteRange);
 					}
 
 					boolean signatureCoversWholeDocument = reader.isSignatureCoversWholeDocument(signatureDictionary);
-					byte[] signedData = PAdESUtils.getSignedContentFromRevision(revisionContent, byteRange);
-					DSSDocument signedContent = new InMemoryDocument(signedData);
+					if (signatureCoversWholeDocument && revisionContent != null) {
+						// the revision is the document itself, which is already loaded
+						loadedRevisionDssDictionaries.put(getRevisionLength(revisionContent), dssDictionary);
+					}
 
 					// create a DSS revision if updated
 					lastDSSDictionary = getPreviousDssDictAndUpdateIfNeeded(revisions, compositeDssDictionary,
-							lastDSSDictionary, revisionContent, pwd);
+							lastDSSDictionary, revisionContent, loadedRevisionDssDictionaries, pwd);
 
 					PdfCMSRevision newRevision = null;
 					if (isDocTimestamp(signatureDictionary)) {
@@ -455,7 +510,8 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 
 					// checks if there is a previous update of the DSS dictionary and creates a new revision if needed
 					lastDSSDictionary = getPreviousDssDictAndUpdateIfNeeded(revisions, compositeDssDictionary,
-							lastDSSDictionary, extractBeforeSignatureValue(byteRange, revisionContent), pwd);
+							lastDSSDictionary, extractBeforeSignatureValue(byteRange, revisionContent),
+							loadedRevisionDssDictionaries, pwd);
 
 
 				} catch (Exception e) {
@@ -543,8 +599,9 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 	private PdfDssDict getPreviousDssDictAndUpdateIfNeeded(List<PdfRevision> revisions,
 														   PdfCompositeDssDictionary compositeDssDictionary,
 														   PdfDssDict lastDSSDictionary,
-														   byte[] dssDictionaryRevision, String pwd) {
-		PdfDssDict currentDssDict = getDSSDictionaryPresentInRevision(dssDictionaryRevision, pwd);
+														   DSSDocument dssDictionaryRevision,
+														   Map<Long, PdfDssDict> loadedRevisionDssDictionaries, String pwd) {
+		PdfDssDict currentDssDict = getDSSDictionaryPresentInRevision(dssDictionaryRevision, loadedRevisionDssDictionaries, pwd);
 		if (lastDSSDictionary != null && !lastDSSDictionary.equals(currentDssDict)) {
 			compositeDssDictionary.populateFromDssDictionary(lastDSSDictionary);
 			revisions.add(new PdfDocDssRevision(compositeDssDictionary, lastDSSDictionary));
@@ -552,12 +609,25 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		return currentDssDict;
 	}
 
-	private PdfDssDict getDSSDictionaryPresentInRevision(final byte[] originalBytes, final String pwd) {
-		if (Utils.isArrayEmpty(originalBytes)) {
+	private PdfDssDict getDSSDictionaryPresentInRevision(final DSSDocument revision,
+														 final Map<Long, PdfDssDict> loadedRevisionDssDictionaries,
+														 final String pwd) {
+		if (revision == null) {
 			return null;
 		}
 
-		try (PdfDocumentReader reader = loadPdfDocumentReader(originalBytes, pwd)) {
+		final Long revisionLength = getRevisionLength(revision);
+		if (loadedRevisionDssDictionaries.containsKey(revisionLength)) {
+			return loadedRevisionDssDictionaries.get(revisionLength);
+		}
+		final PdfDssDict dssDictionary = getDSSDictionaryPresentInRevision(revision, pwd);
+		loadedRevisionDssDictionaries.put(revisionLength, dssDictionary);
+		return dssDictionary;
+	}
+
+	private PdfDssDict getDSSDictionaryPresentInRevision(final DSSDocument revision, final String pwd) {
+
+		try (PdfDocumentReader reader = loadPdfDocumentReader(revision, pwd)) {
 			return reader.getDSSDictionary();
 		} catch (Exception e) {
 			if (LOG.isDebugEnabled()) {
@@ -567,6 +637,15 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		}
 	}
 
+	private long getRevisionLength(final DSSDocument revision) {
+		if (revision instanceof ByteRangeDocument) {
+			return ((ByteRangeDocument) revision).getLength();
+		} else if (revision instanceof InMemoryDocument) {
+			return ((InMemoryDocument) revision).getBytes().length;
+		}
+		return DSSUtils.getFileByteSize(revision);
+	}
+
 	/**
 	 * Checks if the of the value incorporated into /Contents matches the range defined in the {@code byteRange}
 	 *
@@ -641,7 +720,23 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		if (signedContent.length < length) {
 			return new byte[0];
 		}
-		return PAdESUtils.retrievePreviousPDFRevision(new InMemoryDocument(signedContent), byteRange).getBytes();
+		final DSSDocument previousRevision = extractBeforeSignatureValue(byteRange, new InMemoryDocument(signedContent));
+		return previousRevision != null ? DSSUtils.toByteArray(previousRevision) : new byte[0];
+	}
+
+	/**
+	 * Extract the content before the signature value
+	 *
+	 * @param byteRange {@link ByteRange}
+	 * @param revisionContent {@link DSSDocument} representing the signed revision
+	 * @return {@link DSSDocument} the first part of the byte range, NULL if the revision is not defined or empty
+	 */
+	protected DSSDocument extractBeforeSignatureValue(ByteRange byteRange, DSSDocument revisionContent) {
+		if (revisionContent == null) {
+			return null;
+		}
+		InMemoryDocument previousRevision = PAdESUtils.retrievePreviousPDFRevision(revisionContent, byteRange);
+		return Utils.isArrayNotEmpty(previousRevision.getBytes()) ? previousRevision : null;
 	}
 
 	/**
@@ -814,8 +909,15 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 			for (AdvancedSignature signature : signatures) {
 				PAdESSignature padesSignature = (PAdESSignature) signature;
 				PdfSignatureRevision pdfRevision = padesSignature.getPdfRevision();
-				byte[] revisionContent = PAdESUtils.getRevisionContent(document, pdfRevision.getByteRange());
-				pdfRevision.setModificationDetection(getModificationDetection(finalRevisionReader, new InMemoryDocument(revisionContent), pwd));
+				if (pdfRevision.areAllOriginalBytesCovered()) {
+					// the signed revision is the document itself, which is already loaded
+					pdfRevision.setModificationDetection(getModificationDetection(finalRevisionReader, finalRevisionReader));
+				} else {
+					DSSDocument revisionContent = PAdESUtils.getRevisionDocument(document, pdfRevision.getByteRange());
+					try (PdfDocumentReader signedRevisionReader = loadPdfDocumentReader(revisionContent, pwd)) {
+						pdfRevision.setModificationDetection(getModificationDetection(finalRevisionReader, signedRevisionReader));
+					}
+				}
 			}
 
 		} catch (Exception e) {
@@ -829,19 +931,17 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 	}
 
 	private PdfModificationDetection getModificationDetection(PdfDocumentReader finalRevisionReader,
-															  DSSDocument originalDocument, String pwd) throws IOException {
-		try (PdfDocumentReader signedRevisionReader = loadPdfDocumentReader(originalDocument , pwd)) {
-			PdfModificationDetection pdfModificationDetection = new PdfModificationDetection();
-			pdfModificationDetection.setAnnotationOverlaps(
-					pdfDifferencesFinder.getAnnotationOverlaps(finalRevisionReader));
-			pdfModificationDetection.setPageDifferences(
-					pdfDifferencesFinder.getPagesDifferences(signedRevisionReader, finalRevisionReader));
-			pdfModificationDetection.setVisualDifferences(
-					getVisualDifferences(signedRevisionReader, finalRevisionReader));
-			pdfModificationDetection.setObjectModifications(
-					pdfObjectModificationsFinder.find(signedRevisionReader, finalRevisionReader));
-			return pdfModificationDetection;
-		}
+															  PdfDocumentReader signedRevisionReader) {
+		PdfModificationDetection pdfModificationDetection = new PdfModificationDetection();
+		pdfModificationDetection.setAnnotationOverlaps(
+				pdfDifferencesFinder.getAnnotationOverlaps(finalRevisionReader));
+		pdfModificationDetection.setPageDifferences(
+				pdfDifferencesFinder.getPagesDifferences(signedRevisionReader, finalRevisionReader));
+		pdfModificationDetection.setVisualDifferences(
+				getVisualDifferences(signedRevisionReader, finalRevisionReader));
+		pdfModificationDetection.setObjectModifications(
+				pdfObjectModificationsFinder.find(signedRevisionReader, finalRevisionReader));
+		return pdfModificationDetection;
 	}
 
 	/**
@@ -31,26 +31,38 @@ import java.util.Map;
  */
 public abstract class AbstractPdfDssDict implements PdfDssDict {
 
-	private static final long serialVersionUID = 625347967057384829L;
+	private static final long serialVersionUID = -1372596342125370548L;
 
-	/** The map of CRL objects */
-	private final Map<Long, CRLBinary> crlMap;
+	/** The map of CRL stream binaries (released once the CRLs are parsed) */
+	private Map<Long, byte[]> crlBinaries;
 
-	/** The map of OCSP objects */
-	private final Map<Long, OCSPResponseBinary> ocspMap;
+	/** The map of OCSP stream binaries (released once the OCSP responses are parsed) */
+	private Map<Long, byte[]> ocspBinaries;
 
-	/** The map of certificate objects */
-	private final Map<Long, CertificateToken> certMap;
+	/** The map of certificate stream binaries (released once the certificates are parsed) */
+	private Map<Long, byte[]> certBinaries;
+
+	/** The map of CRL objects (lazy loaded) */
+	private Map<Long, CRLBinary> crlMap;
+
+	/** The map of OCSP objects (lazy loaded) */
+	private Map<Long, OCSPResponseBinary> ocspMap;
+
+	/** The map of certificate objects (lazy loaded) */
+	private Map<Long, CertificateToken> certMap;
 
 	/**
 	 * Default constructor
 	 *
+	 * NOTE: the stream binaries are read on instantiation, while the document is open,
+	 * but the tokens are parsed only on the first request
+	 *
 	 * @param dssDictionary {@link PdfDict}
 	 */
 	protected AbstractPdfDssDict(PdfDict dssDictionary) {
-		this.certMap = DSSDictionaryExtractionUtils.getCertsFromArray(dssDictionary, getDictionaryName(), getCertArrayDictionaryName());
-		this.ocspMap = DSSDictionaryExtractionUtils.getOCSPsFromArray(dssDictionary, getDictionaryName(), getOCSPArrayDictionaryName());
-		this.crlMap = DSSDictionaryExtractionUtils.getCRLsFromArray(dssDictionary, getDictionaryName(), getCRLArrayDictionaryName());
+		this.certBinaries = DSSDictionaryExtractionUtils.getStreamBinariesFromArray(dssDictionary, getDictionaryName(), getCertArrayDictionaryName());
+		this.ocspBinaries = DSSDictionaryExtractionUtils.getStreamBinariesFromArray(dssDictionary, getDictionaryName(), getOCSPArrayDictionaryName());
+		this.crlBinaries = DSSDictionaryExtractionUtils.getStreamBinariesFromArray(dssDictionary, getDictionaryName(), getCRLArrayDictionaryName());
 	}
 
 	/**
@@ -82,17 +94,29 @@ public abstract class AbstractPdfDssDict implements PdfDssDict {
 	protected abstract String getOCSPArrayDictionaryName();
 
 	@Override
-	public Map<Long, CRLBinary> getCRLs() {
+	public synchronized Map<Long, CRLBinary> getCRLs() {
+		if (crlMap == null) {
+			crlMap = DSSDictionaryExtractionUtils.getCRLsFromBinaries(crlBinaries, getDictionaryName());
+			crlBinaries = null;
+		}
 		return crlMap;
 	}
 
 	@Override
-	public Map<Long, OCSPResponseBinary> getOCSPs() {
+	public synchronized Map<Long, OCSPResponseBinary> getOCSPs() {
+		if (ocspMap == null) {
+			ocspMap = DSSDictionaryExtractionUtils.getOCSPsFromBinaries(ocspBinaries, getDictionaryName());
+			ocspBinaries = null;
+		}
 		return ocspMap;
 	}
 
 	@Override
-	public Map<Long, CertificateToken> getCERTs() {
+	public synchronized Map<Long, CertificateToken> getCERTs() {
+		if (certMap == null) {
+			certMap = DSSDictionaryExtractionUtils.getCertsFromBinaries(certBinaries, getDictionaryName());
+			certBinaries = null;
+		}
 		return certMap;
 	}
 
@@ -100,9 +124,9 @@ public abstract class AbstractPdfDssDict implements PdfDssDict {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + ((certMap == null) ? 0 : certMap.hashCode());
-		result = prime * result + ((crlMap == null) ? 0 : crlMap.hashCode());
-		result = prime * result + ((ocspMap == null) ? 0 : ocspMap.hashCode());
+		result = prime * result + getCERTs().hashCode();
+		result = prime * result + getCRLs().hashCode();
+		result = prime * result + getOCSPs().hashCode();
 		return result;
 	}
 
@@ -117,30 +141,10 @@ public abstract class AbstractPdfDssDict implements PdfDssDict {
 		if (getClass() != obj.getClass()) {
 			return false;
 		}
+		// compares the parsed tokens (the tokens are loaded if not yet done)
 		AbstractPdfDssDict other = (AbstractPdfDssDict) obj;
-		if (certMap == null) {
-			if (other.certMap != null) {
-				return false;
-			}
-		} else if (!certMap.equals(other.certMap)) {
-			return false;
-		}
-		if (crlMap == null) {
-			if (other.crlMap != null) {
-				return false;
-			}
-		} else if (!crlMap.equals(other.crlMap)) {
-			return false;
-		}
-		if (ocspMap == null) {
-			if (other.ocspMap != null) {
-				return false;
-			}
-		} else if (!ocspMap.equals(other.ocspMap)) {
-			return false;
-		}
-		return true;
+		return getCERTs().equals(other.getCERTs()) && getCRLs().equals(other.getCRLs())
+				&& getOCSPs().equals(other.getOCSPs());
 	}
 
-
 }
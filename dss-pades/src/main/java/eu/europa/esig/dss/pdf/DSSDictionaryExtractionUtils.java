@@ -48,30 +48,62 @@ public class DSSDictionaryExtractionUtils {
 	}
 
 	/**
-	 * Extract certificate object map
+	 * Extracts binaries of the streams referenced within the array with the given name, identified by the object numbers.
+	 * The content of the streams is not parsed, in order to allow its parsing on demand.
 	 *
 	 * @param dict {@link PdfDict}
 	 * @param dictionaryName {@link String} name of the dictionary
-	 * @param arrayName {@link String} containing the certificates
-	 * @return a map of certificate objects
+	 * @param arrayName {@link String} containing the stream objects
+	 * @return a map of stream binaries
 	 */
-	public static Map<Long, CertificateToken> getCertsFromArray(PdfDict dict, String dictionaryName, String arrayName) {
-		Map<Long, CertificateToken> certMap = new LinkedHashMap<>(); // use LinkedHashMap to preserve the order
-		final PdfArray certsArray = dict.getAsArray(arrayName);
-		if (certsArray != null) {
-			LOG.debug("There are {} certificates in the '{}' dictionary", certsArray.size(), dictionaryName);
-			for (int ii = 0; ii < certsArray.size(); ii++) {
+	public static Map<Long, byte[]> getStreamBinariesFromArray(PdfDict dict, String dictionaryName, String arrayName) {
+		Map<Long, byte[]> binariesMap = new LinkedHashMap<>(); // use LinkedHashMap to preserve the order
+		final PdfArray array = dict.getAsArray(arrayName);
+		if (array != null) {
+			LOG.debug("There are {} '{}' objects in the '{}' dictionary", array.size(), arrayName, dictionaryName);
+			for (int ii = 0; ii < array.size(); ii++) {
 				try {
-					final long objectNumber = certsArray.getObjectNumber(ii);
-					if (!certMap.containsKey(objectNumber)) {
-						certMap.put(objectNumber, DSSUtils.loadCertificate(certsArray.getStreamBytes(ii)));
+					final long objectNumber = array.getObjectNumber(ii);
+					if (!binariesMap.containsKey(objectNumber)) {
+						binariesMap.put(objectNumber, array.getStreamBytes(ii));
 					}
 				} catch (Exception e) {
-					LOG.debug("Unable to read Cert '{}' from the '{}' dictionary : {}", ii, dictionaryName, e.getMessage(), e);
+					LOG.debug("Unable to read '{}' object '{}' from the '{}' dictionary : {}", arrayName, ii, dictionaryName, e.getMessage(), e);
 				}
 			}
 		} else {
-			LOG.debug("No Certs found in the '{}' dictionary", dictionaryName);
+			LOG.debug("No '{}' found in the '{}' dictionary", arrayName, dictionaryName);
+		}
+		return binariesMap;
+	}
+
+	/**
+	 * Extract certificate object map
+	 *
+	 * @param dict {@link PdfDict}
+	 * @param dictionaryName {@link String} name of the dictionary
+	 * @param arrayName {@link String} containing the certificates
+	 * @return a map of certificate objects
+	 */
+	public static Map<Long, CertificateToken> getCertsFromArray(PdfDict dict, String dictionaryName, String arrayName) {
+		return getCertsFromBinaries(getStreamBinariesFromArray(dict, dictionaryName, arrayName), dictionaryName);
+	}
+
+	/**
+	 * Parses certificate objects from the extracted stream binaries
+	 *
+	 * @param binariesMap a map of stream binaries
+	 * @param dictionaryName {@link String} name of the dictionary
+	 * @return a map of certificate objects
+	 */
+	public static Map<Long, CertificateToken> getCertsFromBinaries(Map<Long, byte[]> binariesMap, String dictionaryName) {
+		Map<Long, CertificateToken> certMap = new LinkedHashMap<>(); // use LinkedHashMap to preserve the order
+		for (Map.Entry<Long, byte[]> entry : binariesMap.entrySet()) {
+			try {
+				certMap.put(entry.getKey(), DSSUtils.loadCertificate(entry.getValue()));
+			} catch (Exception e) {
+				LOG.debug("Unable to read Cert '{}' from the '{}' dictionary : {}", entry.getKey(), dictionaryName, e.getMessage(), e);
+			}
 		}
 		return certMap;
 	}
@@ -85,22 +117,24 @@ public class DSSDictionaryExtractionUtils {
 	 * @return a map of CRL objects
 	 */
 	public static Map<Long, CRLBinary> getCRLsFromArray(PdfDict dict, String dictionaryName, String arrayName) {
+		return getCRLsFromBinaries(getStreamBinariesFromArray(dict, dictionaryName, arrayName), dictionaryName);
+	}
+
+	/**
+	 * Parses CRL objects from the extracted stream binaries
+	 *
+	 * @param binariesMap a map of stream binaries
+	 * @param dictionaryName {@link String} name of the dictionary
+	 * @return a map of CRL objects
+	 */
+	public static Map<Long, CRLBinary> getCRLsFromBinaries(Map<Long, byte[]> binariesMap, String dictionaryName) {
 		Map<Long, CRLBinary> crlMap = new LinkedHashMap<>();
-		final PdfArray crlArray = dict.getAsArray(arrayName);
-		if (crlArray != null) {
-			LOG.debug("There are {} CRLs in the '{}' dictionary", crlArray.size(), dictionaryName);
-			for (int ii = 0; ii < crlArray.size(); ii++) {
-				try {
-					long objectNumber = crlArray.getObjectNumber(ii);
-					if (!crlMap.containsKey(objectNumber)) {
-						crlMap.put(objectNumber, CRLUtils.buildCRLBinary(crlArray.getStreamBytes(ii)));
-					}
-				} catch (Exception e) {
-					LOG.debug("Unable to read CRL '{}' from the '{}' dictionary : {}", ii, dictionaryName, e.getMessage(), e);
-				}
+		for (Map.Entry<Long, byte[]> entry : binariesMap.entrySet()) {
+			try {
+				crlMap.put(entry.getKey(), CRLUtils.buildCRLBinary(entry.getValue()));
+			} catch (Exception e) {
+				LOG.debug("Unable to read CRL '{}' from the '{}' dictionary : {}", entry.getKey(), dictionaryName, e.getMessage(), e);
 			}
-		} else {
-			LOG.debug("No CRLs found in the '{}' dictionary", dictionaryName);
 		}
 		return crlMap;
 	}
@@ -114,24 +148,26 @@ public class DSSDictionaryExtractionUtils {
 	 * @return a map of OCSP objects
 	 */
 	public static Map<Long, OCSPResponseBinary> getOCSPsFromArray(PdfDict dict, String dictionaryName, String arrayName) {
+		return getOCSPsFromBinaries(getStreamBinariesFromArray(dict, dictionaryName, arrayName), dictionaryName);
+	}
+
+	/**
+	 * Parses OCSP objects from the extracted stream binaries
+	 *
+	 * @param binariesMap a map of stream binaries
+	 * @param dictionaryName {@link String} name of the dictionary
+	 * @return a map of OCSP objects
+	 */
+	public static Map<Long, OCSPResponseBinary> getOCSPsFromBinaries(Map<Long, byte[]> binariesMap, String dictionaryName) {
 		Map<Long, OCSPResponseBinary> ocspMap = new LinkedHashMap<>();
-		PdfArray ocspArray = dict.getAsArray(arrayName);
-		if (ocspArray != null) {
-			LOG.debug("There are {} OCSPs in the '{}' dictionary", ocspArray.size(), dictionaryName);
-			for (int ii = 0; ii < ocspArray.size(); ii++) {
-				try {
-					final long objectNumber = ocspArray.getObjectNumber(ii);
-					if (!ocspMap.containsKey(objectNumber)) {
-						final OCSPResp ocspResp = new OCSPResp(ocspArray.getStreamBytes(ii));
-						final BasicOCSPResp basicOCSPResp = (BasicOCSPResp) ocspResp.getResponseObject();
-						ocspMap.put(objectNumber, OCSPResponseBinary.build(basicOCSPResp));
-					}
-				} catch (Exception e) {
-					LOG.debug("Unable to read OCSP '{}' from the '{}' dictionary : {}", ii, dictionaryName, e.getMessage(), e);
-				}
+		for (Map.Entry<Long, byte[]> entry : binariesMap.entrySet()) {
+			try {
+				final OCSPResp ocspResp = new OCSPResp(entry.getValue());
+				final BasicOCSPResp basicOCSPResp = (BasicOCSPResp) ocspResp.getResponseObject();
+				ocspMap.put(entry.getKey(), OCSPResponseBinary.build(basicOCSPResp));
+			} catch (Exception e) {
+				LOG.debug("Unable to read OCSP '{}' from the '{}' dictionary : {}", entry.getKey(), dictionaryName, e.getMessage(), e);
 			}
-		} else {
-			LOG.debug("No OCSPs found in the '{}' dictionary", dictionaryName);
 		}
 		return ocspMap;
 	}
@@ -0,0 +1,366 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.pades.DSSFileFont;
+import eu.europa.esig.dss.pades.DSSFont;
+import eu.europa.esig.dss.pades.DSSJavaFont;
+import eu.europa.esig.dss.pades.PAdESCommonParameters;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.SignatureFieldParameters;
+import eu.europa.esig.dss.pades.SignatureImageParameters;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The in-memory implementation of {@code PdfSignatureCacheStore} evicting the entries after a defined time-to-live.
+ *
+ * The entries are identified by the digest of the document to be signed and the parameters defining
+ * the content of the new PDF revision (signing date, signature dictionary values, visual signature, etc.).
+ *
+ * NOTE: the store keeps the prepared to be signed documents in memory until their use or expiration.
+ * The files of the evicted {@code FileDocument}s (e.g. created with a {@code TempFileResourcesHandlerBuilder})
+ * are deleted. The signing states of visual signatures using a native font are not stored.
+ *
+ */
+public class InMemoryPdfSignatureCacheStore implements PdfSignatureCacheStore {
+
+	private static final Logger LOG = LoggerFactory.getLogger(InMemoryPdfSignatureCacheStore.class);
+
+	/** The default time-to-live of an entry, in milliseconds (5 minutes) */
+	private static final long DEFAULT_TIME_TO_LIVE = 5 * 60 * 1000L;
+
+	/** The default maximum number of entries */
+	private static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+	/** The digest algorithm used to identify the entries */
+	private static final DigestAlgorithm KEY_DIGEST_ALGORITHM = DigestAlgorithm.SHA256;
+
+	/** The stored entries */
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/** The clock used to evaluate the expiration of the entries */
+	private final Clock clock;
+
+	/** The time-to-live of an entry, in milliseconds */
+	private long timeToLive = DEFAULT_TIME_TO_LIVE;
+
+	/** The maximum number of entries */
+	private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	/**
+	 * Default constructor
+	 */
+	public InMemoryPdfSignatureCacheStore() {
+		this(Clock.systemUTC());
+	}
+
+	/**
+	 * Constructor with a custom clock used to evaluate the expiration of the entries
+	 *
+	 * @param clock {@link Clock}
+	 */
+	public InMemoryPdfSignatureCacheStore(Clock clock) {
+		Objects.requireNonNull(clock, "The clock cannot be null!");
+		this.clock = clock;
+	}
+
+	/**
+	 * Sets the time-to-live of an entry, in milliseconds
+	 *
+	 * Default : 300000 (5 minutes)
+	 *
+	 * @param timeToLive time-to-live of an entry, in milliseconds
+	 */
+	public void setTimeToLive(long timeToLive) {
+		if (timeToLive <= 0) {
+			throw new IllegalArgumentException("The time-to-live shall be positive!");
+		}
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Sets the maximum number of stored entries. When the maximum is reached, new entries are not stored.
+	 *
+	 * Default : 1000
+	 *
+	 * @param maximumSize the maximum number of entries
+	 */
+	public void setMaximumSize(int maximumSize) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("The maximum size shall be positive!");
+		}
+		this.maximumSize = maximumSize;
+	}
+
+	@Override
+	public PdfSignatureCache get(DSSDocument toSignDocument, PAdESCommonParameters parameters) {
+		final String key = getKey(toSignDocument, parameters);
+		if (key == null) {
+			return null;
+		}
+		final Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.isExpired(clock.millis())) {
+			if (entries.remove(key, entry)) {
+				release(entry);
+			}
+			return null;
+		}
+		return entry.pdfSignatureCache;
+	}
+
+	@Override
+	public void put(DSSDocument toSignDocument, PAdESCommonParameters parameters, PdfSignatureCache pdfSignatureCache) {
+		final String key = getKey(toSignDocument, parameters);
+		if (key == null) {
+			LOG.debug("The PDF signing state cannot be identified. The entry is not stored.");
+			return;
+		}
+		final long currentTime = clock.millis();
+		evictExpired(currentTime);
+		if (entries.size() >= maximumSize) {
+			LOG.warn("The maximum number of stored PDF signing states '{}' is reached. The entry is not stored.", maximumSize);
+			return;
+		}
+		final Entry previousEntry = entries.put(key, new Entry(pdfSignatureCache, currentTime + timeToLive));
+		if (previousEntry != null && previousEntry.pdfSignatureCache.getToBeSignedDocument() != pdfSignatureCache.getToBeSignedDocument()) {
+			release(previousEntry);
+		}
+	}
+
+	@Override
+	public PdfSignatureCache remove(DSSDocument toSignDocument, PAdESCommonParameters parameters) {
+		final String key = getKey(toSignDocument, parameters);
+		if (key == null) {
+			return null;
+		}
+		final Entry entry = entries.remove(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.isExpired(clock.millis())) {
+			release(entry);
+			return null;
+		}
+		return entry.pdfSignatureCache;
+	}
+
+	/**
+	 * Returns the number of stored entries (including the expired entries not evicted yet)
+	 *
+	 * @return number of entries
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Removes all the stored entries and deletes their temporary files
+	 */
+	public void clear() {
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			Entry entry = iterator.next();
+			iterator.remove();
+			release(entry);
+		}
+	}
+
+	private void evictExpired(long currentTime) {
+		Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, Entry> mapEntry = iterator.next();
+			if (mapEntry.getValue().isExpired(currentTime) && entries.remove(mapEntry.getKey(), mapEntry.getValue())) {
+				release(mapEntry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Releases the resources of an evicted entry (deletes the file of a {@code FileDocument})
+	 *
+	 * @param entry {@link Entry} evicted from the store
+	 */
+	private void release(Entry entry) {
+		final DSSDocument toBeSignedDocument = entry.pdfSignatureCache.getToBeSignedDocument();
+		if (toBeSignedDocument instanceof FileDocument) {
+			final File file = ((FileDocument) toBeSignedDocument).getFile();
+			if (file.exists() && !file.delete()) {
+				LOG.warn("Unable to remove the file '{}' of an evicted PDF signing state", file.getName());
+			}
+		}
+	}
+
+	/**
+	 * Computes a key identifying the document to be signed and the parameters defining the new PDF revision
+	 *
+	 * @param toSignDocument {@link DSSDocument} the original document to be signed
+	 * @param parameters {@link PAdESCommonParameters} the signing parameters
+	 * @return {@link String} key, or NULL if the parameters cannot be identified (the state is not stored)
+	 */
+	protected String getKey(DSSDocument toSignDocument, PAdESCommonParameters parameters) {
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			 DataOutputStream dos = new DataOutputStream(baos)) {
+			writeString(dos, toSignDocument.getDigest(KEY_DIGEST_ALGORITHM));
+			writeString(dos, parameters.getClass().getName());
+			writeDate(dos, parameters.getSigningDate());
+			writeString(dos, parameters.getDigestAlgorithm() != null ? parameters.getDigestAlgorithm().name() : null);
+			writeString(dos, parameters.getFilter());
+			writeString(dos, parameters.getSubFilter());
+			dos.writeInt(parameters.getContentSize());
+			writeString(dos, parameters.getAppName());
+			writeString(dos, parameters.getPasswordProtection());
+			if (parameters instanceof PAdESSignatureParameters) {
+				PAdESSignatureParameters signatureParameters = (PAdESSignatureParameters) parameters;
+				writeString(dos, signatureParameters.getReason());
+				writeString(dos, signatureParameters.getContactInfo());
+				writeString(dos, signatureParameters.getLocation());
+				writeString(dos, signatureParameters.getSignerName());
+				writeString(dos, signatureParameters.getPermission() != null ? signatureParameters.getPermission().name() : null);
+				writeString(dos, signatureParameters.getSigningTimeZone() != null ? signatureParameters.getSigningTimeZone().getID() : null);
+				writeString(dos, signatureParameters.getSigningCertificate() != null ?
+						signatureParameters.getSigningCertificate().getDSSIdAsString() : null);
+			}
+			if (!writeImageParameters(dos, parameters.getImageParameters())) {
+				return null;
+			}
+			dos.flush();
+			return Utils.toBase64(DSSUtils.digest(KEY_DIGEST_ALGORITHM, baos.toByteArray()));
+
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to compute a PDF signing state key : %s", e.getMessage()), e);
+		}
+	}
+
+	private boolean writeImageParameters(DataOutputStream dos, SignatureImageParameters imageParameters) throws IOException {
+		if (imageParameters == null) {
+			dos.writeBoolean(false);
+			return true;
+		}
+		// the field parameters are used for invisible signatures as well (e.g. to sign an existing field)
+		writeFieldParameters(dos, imageParameters.getFieldParameters());
+		if (imageParameters.isEmpty()) {
+			dos.writeBoolean(false);
+			return true;
+		}
+		dos.writeBoolean(true);
+		writeString(dos, imageParameters.toString());
+		writeString(dos, String.valueOf(imageParameters.getImageScaling()));
+		writeString(dos, String.valueOf(imageParameters.getTextParameters().getTextWrapping()));
+		if (imageParameters.getImage() != null) {
+			writeString(dos, imageParameters.getImage().getDigest(KEY_DIGEST_ALGORITHM));
+		}
+		if (!imageParameters.getTextParameters().isEmpty()) {
+			DSSFont font = imageParameters.getTextParameters().getFont();
+			writeString(dos, font.getClass().getName());
+			dos.writeFloat(font.getSize());
+			if (font instanceof DSSJavaFont) {
+				writeString(dos, font.getJavaFont().toString());
+			} else if (font instanceof DSSFileFont) {
+				writeString(dos, ((DSSFileFont) font).getName());
+				dos.writeBoolean(((DSSFileFont) font).isEmbedFontSubset());
+			} else {
+				// native fonts cannot be compared
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void writeFieldParameters(DataOutputStream dos, SignatureFieldParameters fieldParameters) throws IOException {
+		writeString(dos, fieldParameters.getFieldId());
+		dos.writeInt(fieldParameters.getPage());
+		dos.writeFloat(fieldParameters.getOriginX());
+		dos.writeFloat(fieldParameters.getOriginY());
+		dos.writeFloat(fieldParameters.getWidth());
+		dos.writeFloat(fieldParameters.getHeight());
+	}
+
+	private void writeString(DataOutputStream dos, String value) throws IOException {
+		dos.writeBoolean(value != null);
+		if (value != null) {
+			// the length is written explicitly, as writeUTF(value) is limited to 64 KB
+			final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			dos.writeInt(bytes.length);
+			dos.write(bytes);
+		}
+	}
+
+	private void writeDate(DataOutputStream dos, Date date) throws IOException {
+		dos.writeLong(date != null ? date.getTime() : -1L);
+	}
+
+	/**
+	 * Represents a stored signing state with its expiration time
+	 */
+	private static class Entry {
+
+		/** The stored signing state */
+		private final PdfSignatureCache pdfSignatureCache;
+
+		/** The expiration time, in milliseconds */
+		private final long expirationTime;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param pdfSignatureCache {@link PdfSignatureCache}
+		 * @param expirationTime the expiration time, in milliseconds
+		 */
+		Entry(PdfSignatureCache pdfSignatureCache, long expirationTime) {
+			this.pdfSignatureCache = pdfSignatureCache;
+			this.expirationTime = expirationTime;
+		}
+
+		/**
+		 * Checks whether the entry is expired
+		 *
+		 * @param currentTime the current time, in milliseconds
+		 * @return TRUE if the entry is expired, FALSE otherwise
+		 */
+		boolean isExpired(long currentTime) {
+			return expirationTime <= currentTime;
+		}
+
+	}
+
+}
@@ -105,6 +105,10 @@ public final class PAdESConstants {
 	public static final String FONT_NAME = "Font";
 	/** 'ITXT' (iText identifier) */
 	public static final String ITEXT_NAME = "ITXT";
+	/** 'Kids' */
+	public static final String KIDS_NAME = "Kids";
+	/** 'Length' */
+	public static final String LENGTH_NAME = "Length";
 	/** 'Location' */
 	public static final String LOCATION_NAME = "Location";
 	/** 'Lock' */
@@ -115,10 +119,14 @@ public final class PAdESConstants {
 	public static final String NAME_NAME = "Name";
 	/** 'Names' */
 	public static final String NAMES_NAME = "Names";
+	/** 'OCProperties' */
+	public static final String OC_PROPERTIES_NAME = "OCProperties";
 	/** 'OutputIntents' */
 	public static final String OUTPUT_INTENTS_NAME = "OutputIntents";
 	/** 'Parent' */
 	public static final String PARENT_NAME = "Parent";
+	/** 'P' (Page) */
+	public static final String PAGE_NAME = "P";
 	/** 'P' (Permissions) */
 	public static final String PERMISSIONS_NAME = "P";
 	/** 'Perms' */
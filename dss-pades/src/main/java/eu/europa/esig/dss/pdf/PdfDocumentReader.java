@@ -27,6 +27,7 @@ import eu.europa.esig.dss.pades.validation.PdfSignatureField;
 import java.awt.image.BufferedImage;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -136,4 +137,26 @@ public interface PdfDocumentReader extends Closeable {
 	 */
 	PdfDict getCatalogDictionary();
 
+	/**
+	 * Returns a page object as a dictionary
+	 *
+	 * @param page number of a page to get dictionary of
+	 * @return {@link PdfDict}, NULL if not supported (the default implementation)
+	 */
+	default PdfDict getPageDictionary(int page) {
+		return null;
+	}
+
+	/**
+	 * Returns locations of the object definitions within the document, as defined by the cross-reference table.
+	 * A location is a byte offset of the object for an uncompressed object,
+	 * or a negated object number of the containing object stream for a compressed object.
+	 *
+	 * @return a map between object numbers and their locations, empty map if not supported
+	 *         (the default implementation)
+	 */
+	default Map<Long, Long> getObjectLocations() {
+		return Collections.emptyMap();
+	}
+
 }
@@ -0,0 +1,62 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.pades.PAdESCommonParameters;
+
+/**
+ * Stores the prepared PDF signing state ({@code PdfSignatureCache}) between the independent calls of
+ * a signature creation (e.g. {@code getDataToSign} and {@code signDocument} executed within
+ * different requests of a remote signing service), so the PDF does not need to be prepared again
+ * on the second call and only the CMS Signed Data has to be inserted into the reserved /Contents space.
+ *
+ */
+public interface PdfSignatureCacheStore {
+
+	/**
+	 * Returns the stored signing state for the given document and parameters
+	 *
+	 * @param toSignDocument {@link DSSDocument} the original document to be signed
+	 * @param parameters {@link PAdESCommonParameters} the signing parameters
+	 * @return {@link PdfSignatureCache} if present, null otherwise
+	 */
+	PdfSignatureCache get(DSSDocument toSignDocument, PAdESCommonParameters parameters);
+
+	/**
+	 * Stores the signing state for the given document and parameters
+	 *
+	 * @param toSignDocument {@link DSSDocument} the original document to be signed
+	 * @param parameters {@link PAdESCommonParameters} the signing parameters
+	 * @param pdfSignatureCache {@link PdfSignatureCache} the prepared signing state
+	 */
+	void put(DSSDocument toSignDocument, PAdESCommonParameters parameters, PdfSignatureCache pdfSignatureCache);
+
+	/**
+	 * Removes and returns the stored signing state for the given document and parameters
+	 *
+	 * @param toSignDocument {@link DSSDocument} the original document to be signed
+	 * @param parameters {@link PAdESCommonParameters} the signing parameters
+	 * @return {@link PdfSignatureCache} if present, null otherwise
+	 */
+	PdfSignatureCache remove(DSSDocument toSignDocument, PAdESCommonParameters parameters);
+
+}
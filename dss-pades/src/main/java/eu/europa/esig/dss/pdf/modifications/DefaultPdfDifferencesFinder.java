@@ -20,8 +20,13 @@
  */
 package eu.europa.esig.dss.pdf.modifications;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.pdf.AnnotationBox;
+import eu.europa.esig.dss.pdf.PAdESConstants;
 import eu.europa.esig.dss.pdf.PdfAnnotation;
+import eu.europa.esig.dss.pdf.PdfArray;
+import eu.europa.esig.dss.pdf.PdfDict;
 import eu.europa.esig.dss.pdf.PdfDocumentReader;
 import eu.europa.esig.dss.pdf.visible.ImageUtils;
 import eu.europa.esig.dss.utils.Utils;
@@ -30,10 +35,19 @@ import org.slf4j.LoggerFactory;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Default implementation used to find differences in pages between two PDF revisions.
@@ -43,6 +57,9 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultPdfDifferencesFinder.class);
 
+    /** The maximum deepness of objects to be processed on a page digest computation */
+    private static final int MAX_OBJECT_DEEPNESS = 500;
+
     /**
      * This variable sets the maximal amount of pages in a PDF to execute visual
      * screenshot comparison for Example: for value 10, the visual comparison will
@@ -52,6 +69,20 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
      */
     private int maximalPagesAmountForVisualComparison = 10;
 
+    /**
+     * Defines whether the page objects of both revisions shall be compared before rendering the pages,
+     * in order to skip the visual comparison of pages with identical content
+     *
+     * Default : TRUE
+     */
+    private boolean skipIdenticalPages = true;
+
+    /**
+     * The executor used to compare the pages in parallel.
+     * When not defined, the pages are compared sequentially.
+     */
+    private ExecutorService executorService;
+
     /**
      * Sets a maximal pages amount in a PDF to process a visual screenshot
      * comparison Example: for value 10, the visual comparison will be executed for
@@ -68,6 +99,33 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
         this.maximalPagesAmountForVisualComparison = pagesAmount;
     }
 
+    /**
+     * Sets whether the page objects (content streams, resources, annotations, including inherited entries)
+     * of the signed and final revisions shall be compared before rendering the pages.
+     * A page with identical objects in both revisions is not rendered.
+     *
+     * Default : TRUE (the identical pages are skipped)
+     *
+     * @param skipIdenticalPages whether the pages with identical objects shall be skipped from the visual comparison
+     */
+    public void setSkipIdenticalPages(boolean skipIdenticalPages) {
+        this.skipIdenticalPages = skipIdenticalPages;
+    }
+
+    /**
+     * Sets the executor used to render and compare the pages in parallel.
+     *
+     * NOTE: the calls to the same {@code PdfDocumentReader} are serialized, thus the rendering of the signed
+     *       and final revisions, as well as the image comparison of different pages, are run concurrently.
+     *
+     * Default : not defined (the pages are compared sequentially)
+     *
+     * @param executorService {@link ExecutorService}
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     /**
      * Default constructor instantiating object with default configuration
      */
@@ -151,31 +209,219 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
             return Collections.emptyList();
         }
 
+        final int pagesToCompare = Math.min(signedRevisionReader.getNumberOfPages(), pagesAmount);
         final List<PdfModification> visualDifferences = new ArrayList<>();
-        for (int pageNumber = 1; pageNumber <= signedRevisionReader.getNumberOfPages()
-                && pageNumber <= finalRevisionReader.getNumberOfPages(); pageNumber++) {
+        if (executorService == null) {
+            for (int pageNumber = 1; pageNumber <= pagesToCompare; pageNumber++) {
+                if (isVisualDifferencePresent(signedRevisionReader, finalRevisionReader, pageNumber)) {
+                    visualDifferences.add(new CommonPdfModification(pageNumber));
+                }
+            }
+
+        } else {
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int pageNumber = 1; pageNumber <= pagesToCompare; pageNumber++) {
+                final int page = pageNumber;
+                futures.add(executorService.submit(() ->
+                        isVisualDifferencePresent(signedRevisionReader, finalRevisionReader, page)));
+            }
             try {
-                BufferedImage signedScreenshot = signedRevisionReader.generateImageScreenshot(pageNumber);
+                for (int i = 0; i < futures.size(); i++) {
+                    if (isVisualDifferencePresent(futures.get(i), i + 1)) {
+                        visualDifferences.add(new CommonPdfModification(i + 1));
+                    }
+                }
+            } finally {
+                // the remaining pages are not compared after a failure
+                for (Future<Boolean> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+        return visualDifferences;
+    }
 
-                List<PdfAnnotation> signedAnnotations = signedRevisionReader.getPdfAnnotations(pageNumber);
-                List<PdfAnnotation> finalAnnotations = finalRevisionReader.getPdfAnnotations(pageNumber);
+    /**
+     * Returns the result of the page comparison executed by the {@code executorService}.
+     * A failure of the comparison is rethrown as in a sequential execution.
+     *
+     * @param future {@link Future} of the page comparison
+     * @param pageNumber the compared page number
+     * @return TRUE if a visual difference is found, FALSE otherwise
+     */
+    private boolean isVisualDifferencePresent(Future<Boolean> future, int pageNumber) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DSSException(String.format(
+                    "Interrupted while getting visual differences for a page number : %s", pageNumber), e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new DSSException(String.format("Unable to get visual differences for a page number : %s. Reason : %s",
+                    pageNumber, cause.getMessage()), cause);
+        }
+    }
+
+    private boolean isVisualDifferencePresent(final PdfDocumentReader signedRevisionReader,
+                                              final PdfDocumentReader finalRevisionReader, int pageNumber) {
+        try {
+            if (skipIdenticalPages && isSamePageContent(signedRevisionReader, finalRevisionReader, pageNumber)) {
+                LOG.debug("The page {} has the same content in the signed revision and the final document. " +
+                        "Visual comparison is skipped.", pageNumber);
+                return false;
+            }
+
+            // a PdfDocumentReader is not thread-safe
+            final BufferedImage signedScreenshot;
+            final List<PdfAnnotation> signedAnnotations;
+            synchronized (signedRevisionReader) {
+                signedScreenshot = signedRevisionReader.generateImageScreenshot(pageNumber);
+                signedAnnotations = signedRevisionReader.getPdfAnnotations(pageNumber);
+            }
 
+            final BufferedImage finalScreenshot;
+            synchronized (finalRevisionReader) {
+                List<PdfAnnotation> finalAnnotations = finalRevisionReader.getPdfAnnotations(pageNumber);
                 List<PdfAnnotation> addedAnnotations = getUpdatedAnnotations(signedAnnotations, finalAnnotations);
-                BufferedImage finalScreenshot = finalRevisionReader.generateImageScreenshotWithoutAnnotations(pageNumber,
+                finalScreenshot = finalRevisionReader.generateImageScreenshotWithoutAnnotations(pageNumber,
                         addedAnnotations);
+            }
 
-                if (!ImageUtils.imagesEqual(signedScreenshot, finalScreenshot)) {
-                    LOG.warn("A visual difference found on page {} between a signed revision and the final document!",
-                            pageNumber);
-                    visualDifferences.add(new CommonPdfModification(pageNumber));
+            if (!ImageUtils.imagesEqual(signedScreenshot, finalScreenshot)) {
+                LOG.warn("A visual difference found on page {} between a signed revision and the final document!",
+                        pageNumber);
+                return true;
+            }
+
+        } catch (IOException e) {
+            LOG.warn("Unable to get visual differences for a page number : {}. Reason : {}",
+                    pageNumber, e.getMessage(), e);
+        }
+        return false;
+    }
+
+    private boolean isSamePageContent(final PdfDocumentReader signedRevisionReader,
+                                      final PdfDocumentReader finalRevisionReader, int pageNumber) {
+        final byte[] signedPageDigest;
+        synchronized (signedRevisionReader) {
+            signedPageDigest = getPageDigest(signedRevisionReader, pageNumber);
+        }
+        final byte[] finalPageDigest;
+        synchronized (finalRevisionReader) {
+            finalPageDigest = getPageDigest(finalRevisionReader, pageNumber);
+        }
+        return signedPageDigest != null && Arrays.equals(signedPageDigest, finalPageDigest);
+    }
+
+    /**
+     * Computes a digest of all objects defining the page appearance : the page dictionary with its content streams,
+     * resources and annotations, the inheritable entries of the parent page tree nodes
+     * and the optional content configuration of the document.
+     *
+     * @param reader {@link PdfDocumentReader}
+     * @param pageNumber the page number to compute digest for
+     * @return digest of the page, NULL if the digest cannot be computed
+     */
+    private byte[] getPageDigest(final PdfDocumentReader reader, int pageNumber) {
+        try {
+            final MessageDigest messageDigest = DigestAlgorithm.SHA256.getMessageDigest();
+            final Set<Long> processedObjects = new HashSet<>();
+
+            final PdfDict pageDict = reader.getPageDictionary(pageNumber);
+            if (pageDict == null) {
+                LOG.debug("The page dictionary is not available for the page {}.", pageNumber);
+                return null;
+            }
+            digestObject(messageDigest, processedObjects, pageDict, 0);
+
+            PdfDict parentDict = pageDict.getAsDict(PAdESConstants.PARENT_NAME);
+            int parentsCount = 0;
+            while (parentDict != null && parentsCount++ < MAX_OBJECT_DEEPNESS) {
+                digestObject(messageDigest, processedObjects, parentDict, 0);
+                parentDict = parentDict.getAsDict(PAdESConstants.PARENT_NAME);
+            }
+
+            final PdfDict catalogDict = reader.getCatalogDictionary();
+            digestObject(messageDigest, processedObjects, catalogDict.getAsDict(PAdESConstants.OC_PROPERTIES_NAME), 0);
+
+            return messageDigest.digest();
+
+        } catch (Exception e) {
+            LOG.debug("Unable to compute digest of the page {}. Reason : {}", pageNumber, e.getMessage());
+            return null;
+        }
+    }
+
+    private void digestObject(MessageDigest messageDigest, Set<Long> processedObjects, Object object,
+                              int deepness) throws IOException {
+        if (deepness > MAX_OBJECT_DEEPNESS) {
+            throw new IOException("Maximum objects deepness has been reached!");
+        }
+        if (object instanceof PdfDict) {
+            PdfDict pdfDict = (PdfDict) object;
+            digestToken(messageDigest, "<<");
+            String[] keys = pdfDict.list();
+            Arrays.sort(keys);
+            for (String key : keys) {
+                Object value = pdfDict.getObject(key);
+                if (isSkippedEntry(key, value)) {
+                    continue;
                 }
+                digestToken(messageDigest, key);
+                digestReference(messageDigest, processedObjects, pdfDict.getObjectNumber(key), value, deepness);
+            }
+            digestToken(messageDigest, ">>");
+            byte[] streamBytes = pdfDict.getStreamBytes();
+            if (streamBytes != null) {
+                digestToken(messageDigest, "stream");
+                digestBytes(messageDigest, streamBytes);
+            }
 
-            } catch (IOException e) {
-                LOG.warn("Unable to get visual differences for a page number : {}. Reason : {}",
-                        pageNumber, e.getMessage(), e);
+        } else if (object instanceof PdfArray) {
+            PdfArray pdfArray = (PdfArray) object;
+            digestToken(messageDigest, "[");
+            for (int i = 0; i < pdfArray.size(); i++) {
+                digestReference(messageDigest, processedObjects, pdfArray.getObjectNumber(i), pdfArray.getObject(i), deepness);
             }
+            digestToken(messageDigest, "]");
+
+        } else if (object != null) {
+            digestToken(messageDigest, object.getClass().getSimpleName());
+            digestToken(messageDigest, object.toString());
+
+        } else {
+            digestToken(messageDigest, "null");
         }
-        return visualDifferences;
+    }
+
+    private void digestReference(MessageDigest messageDigest, Set<Long> processedObjects, Long objectNumber,
+                                 Object value, int deepness) throws IOException {
+        if (objectNumber != null && !processedObjects.add(objectNumber)) {
+            digestToken(messageDigest, "R" + objectNumber);
+        } else {
+            digestObject(messageDigest, processedObjects, value, deepness + 1);
+        }
+    }
+
+    private boolean isSkippedEntry(String key, Object value) {
+        // links to the page tree and to the parent objects are not part of the page appearance
+        return PAdESConstants.PARENT_NAME.equals(key) || PAdESConstants.KIDS_NAME.equals(key) ||
+                (PAdESConstants.PAGE_NAME.equals(key) && value instanceof PdfDict);
+    }
+
+    private void digestToken(MessageDigest messageDigest, String token) {
+        digestBytes(messageDigest, token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void digestBytes(MessageDigest messageDigest, byte[] bytes) {
+        messageDigest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+        messageDigest.update(bytes);
     }
 
     private List<PdfAnnotation> getUpdatedAnnotations(List<PdfAnnotation> signedAnnotations,
@@ -31,9 +31,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -51,6 +53,9 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
     /** Used to categorize found object modifications to different groups */
     private PdfObjectModificationsFilter pdfObjectModificationsFilter = new PdfObjectModificationsFilter();
 
+    /** Defines whether the objects not redefined after the signed revision shall be skipped from the comparison */
+    private boolean skipUnchangedObjects = true;
+
     /**
      * Default constructor instantiating object with default configuration
      */
@@ -83,6 +88,23 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
         this.pdfObjectModificationsFilter = pdfObjectModificationsFilter;
     }
 
+    /**
+     * Sets whether the objects not redefined by incremental updates after the signed revision shall be skipped
+     * from the content comparison. An object is considered as not redefined when the cross-reference tables
+     * of both revisions point to the same location within the signed revision binaries.
+     * The references of such objects are still followed, in order to find the nested modified objects.
+     *
+     * NOTE: When the cross-reference information is not available (e.g. not supported by the implementation
+     *       or a malformed document), all objects are compared.
+     *
+     * Default: TRUE (the not redefined objects are skipped)
+     *
+     * @param skipUnchangedObjects whether the not redefined objects shall be skipped from the comparison
+     */
+    public void setSkipUnchangedObjects(boolean skipUnchangedObjects) {
+        this.skipUnchangedObjects = skipUnchangedObjects;
+    }
+
     @Override
     public PdfObjectModifications find(PdfDocumentReader originalRevisionReader, PdfDocumentReader finalRevisionReader) {
         final Set<ObjectModification> objectModifications = findObjectModifications(originalRevisionReader, finalRevisionReader);
@@ -94,13 +116,56 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
         final Set<ObjectModification> modifications = new LinkedHashSet<>(); // use LinkedHashSet in order to have a deterministic order
         final PdfDict signedCatalogDict = originalRevisionReader.getCatalogDictionary();
         final PdfDict finalCatalogDict = finalRevisionReader.getCatalogDictionary();
-        compareObjectsRecursively(modifications, new HashSet<>(), new PdfObjectTree(PAdESConstants.CATALOG_NAME),
-                PAdESConstants.CATALOG_NAME, signedCatalogDict, finalCatalogDict);
+        final Set<Long> unchangedObjects = skipUnchangedObjects ?
+                getUnchangedObjectNumbers(originalRevisionReader, finalRevisionReader) : Collections.emptySet();
+        compareObjectsRecursively(modifications, new HashSet<>(), unchangedObjects,
+                new PdfObjectTree(PAdESConstants.CATALOG_NAME), PAdESConstants.CATALOG_NAME,
+                signedCatalogDict, finalCatalogDict, false);
         return modifications;
     }
 
+    private Set<Long> getUnchangedObjectNumbers(final PdfDocumentReader originalRevisionReader,
+                                                final PdfDocumentReader finalRevisionReader) {
+        final Map<Long, Long> signedObjectLocations = originalRevisionReader.getObjectLocations();
+        final Map<Long, Long> finalObjectLocations = finalRevisionReader.getObjectLocations();
+        final Set<Long> unchangedObjects = new HashSet<>();
+        for (Long objectNumber : signedObjectLocations.keySet()) {
+            if (isSameLocation(objectNumber, signedObjectLocations, finalObjectLocations)) {
+                unchangedObjects.add(objectNumber);
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{} objects out of {} are not redefined after the signed revision.",
+                    unchangedObjects.size(), finalObjectLocations.size());
+        }
+        return unchangedObjects;
+    }
+
+    private boolean isSameLocation(Long objectNumber, Map<Long, Long> signedObjectLocations,
+                                   Map<Long, Long> finalObjectLocations) {
+        final Long signedLocation = signedObjectLocations.get(objectNumber);
+        final Long finalLocation = finalObjectLocations.get(objectNumber);
+        if (signedLocation == null || !signedLocation.equals(finalLocation)) {
+            return false;
+        }
+        if (signedLocation < 0) {
+            // compressed object : the containing object stream shall not be redefined
+            final Long objectStreamNumber = -signedLocation;
+            final Long objectStreamLocation = signedObjectLocations.get(objectStreamNumber);
+            return objectStreamLocation != null && objectStreamLocation > 0
+                    && objectStreamLocation.equals(finalObjectLocations.get(objectStreamNumber));
+        }
+        return signedLocation > 0;
+    }
+
+    private boolean isUnchangedObject(Set<Long> unchangedObjects, Long signedObjectNumber, Long finalObjectNumber) {
+        return signedObjectNumber != null && signedObjectNumber.equals(finalObjectNumber)
+                && unchangedObjects.contains(signedObjectNumber);
+    }
+
     private void compareDictsRecursively(Set<ObjectModification> modifications, Set<String> processedObjects,
-                                                PdfObjectTree objectTree, PdfDict signedDict, PdfDict finalDict) {
+                                         Set<Long> unchangedObjects, PdfObjectTree objectTree,
+                                         PdfDict signedDict, PdfDict finalDict, boolean unchangedObject) {
         final String[] signedRevKeys = signedDict.list();
         final String[] finalRevKeys = finalDict.list();
         for (String key : signedRevKeys) {
@@ -109,8 +174,9 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
             if (!isProcessedReference(processedObjects, currentObjectTree, key, objectNumber)) {
                 currentObjectTree.addKey(key);
                 addProcessedReference(processedObjects, currentObjectTree, key, objectNumber);
-                compareObjectsRecursively(modifications, processedObjects, currentObjectTree, key,
-                        signedDict.getObject(key), finalDict.getObject(key));
+                compareObjectsRecursively(modifications, processedObjects, unchangedObjects, currentObjectTree, key,
+                        signedDict.getObject(key), finalDict.getObject(key),
+                        isUnchangedObject(unchangedObjects, objectNumber, finalDict.getObjectNumber(key)));
             }
         }
 
@@ -136,11 +202,21 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
             }
         }
 
-        compareDictStreams(modifications, objectTree, signedDict, finalDict);
+        if (!unchangedObject || !isUnchangedStreamLength(unchangedObjects, signedDict, finalDict)) {
+            compareDictStreams(modifications, objectTree, signedDict, finalDict);
+        }
+    }
+
+    private boolean isUnchangedStreamLength(Set<Long> unchangedObjects, PdfDict signedDict, PdfDict finalDict) {
+        // an indirect /Length of a stream may be redefined independently of the stream object
+        Long lengthObjectNumber = signedDict.getObjectNumber(PAdESConstants.LENGTH_NAME);
+        return lengthObjectNumber == null ||
+                isUnchangedObject(unchangedObjects, lengthObjectNumber, finalDict.getObjectNumber(PAdESConstants.LENGTH_NAME));
     }
 
     private void compareObjectsRecursively(Set<ObjectModification> modifications, Set<String> processedObjects,
-                                                  PdfObjectTree objectTree, String key, Object signedObject, Object finalObject) {
+                                           Set<Long> unchangedObjects, PdfObjectTree objectTree, String key,
+                                           Object signedObject, Object finalObject, boolean unchangedObject) {
         if (maximumObjectVerificationDeepness < objectTree.getChainDeepness()) {
             LOG.warn("Maximum objects verification deepness has been reached : {}. " +
                     "Chain of objects is skipped.", maximumObjectVerificationDeepness);
@@ -175,15 +251,15 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
 
         } else if (signedObject != null && finalObject != null) {
             if (signedObject instanceof PdfDict && finalObject instanceof PdfDict) {
-                compareDictsRecursively(modifications, processedObjects, objectTree,
-                        (PdfDict) signedObject, (PdfDict) finalObject);
+                compareDictsRecursively(modifications, processedObjects, unchangedObjects, objectTree,
+                        (PdfDict) signedObject, (PdfDict) finalObject, unchangedObject);
 
             } else if (signedObject instanceof PdfArray && finalObject instanceof PdfArray) {
                 PdfArray signedArray = (PdfArray) signedObject;
                 PdfArray finalArray = (PdfArray) finalObject;
-                compareArraysRecursively(modifications, processedObjects, objectTree, key,
+                compareArraysRecursively(modifications, processedObjects, unchangedObjects, objectTree, key,
                         signedArray, finalArray, true);
-                compareArraysRecursively(modifications, processedObjects, objectTree, key,
+                compareArraysRecursively(modifications, processedObjects, unchangedObjects, objectTree, key,
                         finalArray, signedArray, false);
 
             } else if (signedObject instanceof String && finalObject instanceof String) {
@@ -219,12 +295,14 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
     }
 
     private void compareArraysRecursively(Set<ObjectModification> modifications, Set<String> processedObjects,
-                                                 PdfObjectTree objectTree, String key, PdfArray firstArray, PdfArray secondArray, boolean signedFirst) {
+                                          Set<Long> unchangedObjects, PdfObjectTree objectTree, String key,
+                                          PdfArray firstArray, PdfArray secondArray, boolean signedFirst) {
         for (int i = 0; i < firstArray.size(); i++) {
             final PdfObjectTree currentObjectTree = objectTree.copy();
 
             Object signedRevObject = firstArray.getObject(i);
             Object finalRevObject = null;
+            boolean unchangedObject = false;
 
             Long objectNumber = firstArray.getObjectNumber(i);
             if (objectNumber != null) {
@@ -232,6 +310,7 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
                     Long finalObjectNumber = secondArray.getObjectNumber(j);
                     if (objectNumber.equals(finalObjectNumber)) {
                         finalRevObject = secondArray.getObject(j);
+                        unchangedObject = isUnchangedObject(unchangedObjects, objectNumber, finalObjectNumber);
                     }
                 }
             } else if (i < secondArray.size()) {
@@ -240,8 +319,9 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
 
             if (!isProcessedReference(processedObjects, currentObjectTree, key, objectNumber)) {
                 addProcessedReference(processedObjects, currentObjectTree, key, objectNumber);
-                compareObjectsRecursively(modifications, processedObjects, currentObjectTree, key,
-                        signedFirst ? signedRevObject : finalRevObject, signedFirst ? finalRevObject : signedRevObject);
+                compareObjectsRecursively(modifications, processedObjects, unchangedObjects, currentObjectTree, key,
+                        signedFirst ? signedRevObject : finalRevObject, signedFirst ? finalRevObject : signedRevObject,
+                        unchangedObject);
             }
         }
     }
@@ -0,0 +1,156 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.CommonDocument;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.validation.ByteRange;
+import eu.europa.esig.dss.pades.validation.ByteRangeDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ByteRangeDocumentTest {
+
+	private static final ByteRange BYTE_RANGE = new ByteRange(new int[] { 0, 1280, 2400, 480 });
+
+	@Test
+	public void inMemoryDocumentTest() throws Exception {
+		DSSDocument document = new InMemoryDocument(getBinaries(4096));
+		assertSameContent(document);
+	}
+
+	@Test
+	public void fileDocumentTest() throws Exception {
+		File file = new File("target/byte-range-document-test.bin");
+		DSSDocument document = new InMemoryDocument(getBinaries(4096));
+		document.save(file.getPath());
+		assertSameContent(new FileDocument(file));
+	}
+
+	@Test
+	public void streamDocumentTest() throws Exception {
+		final byte[] binaries = getBinaries(4096);
+		DSSDocument document = new CommonDocument() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public InputStream openStream() {
+				return new ByteArrayInputStream(binaries);
+			}
+
+		};
+		assertSameContent(document);
+	}
+
+	@Test
+	public void exceedingRangeTest() throws Exception {
+		byte[] binaries = getBinaries(2600);
+		byte[] expected = new byte[1280 + 480];
+		System.arraycopy(binaries, 0, expected, 0, 1280);
+		System.arraycopy(binaries, 2400, expected, 1280, 200);
+
+		DSSDocument document = new InMemoryDocument(binaries);
+		ByteRangeDocument signedContent = PAdESUtils.getSignedContent(document, BYTE_RANGE);
+		assertArrayEquals(expected, DSSUtils.toByteArray(signedContent));
+		assertEquals(1280 + 480, signedContent.getLength());
+
+		File file = new File("target/byte-range-document-exceeding-test.bin");
+		document.save(file.getPath());
+		assertArrayEquals(expected, DSSUtils.toByteArray(PAdESUtils.getSignedContent(new FileDocument(file), BYTE_RANGE)));
+	}
+
+	@Test
+	public void fileStreamTest() throws Exception {
+		byte[] binaries = getBinaries(20000);
+		File file = new File("target/byte-range-document-stream-test.bin");
+		new InMemoryDocument(binaries).save(file.getPath());
+
+		// ranges larger than the internal buffer of the stream
+		ByteRangeDocument document = new ByteRangeDocument(new FileDocument(file), new int[] { 100, 9000, 10000, 9500 });
+		byte[] expected = new byte[9000 + 9500];
+		System.arraycopy(binaries, 100, expected, 0, 9000);
+		System.arraycopy(binaries, 10000, expected, 9000, 9500);
+		assertArrayEquals(expected, DSSUtils.toByteArray(document));
+
+		try (InputStream is = document.openStream()) {
+			assertEquals(expected[0] & 0xFF, is.read());
+			assertEquals(expected.length - 1, is.available());
+			assertEquals(8999, is.skip(8999));
+			assertEquals(expected[9000] & 0xFF, is.read());
+			assertEquals(9000, is.skip(9000));
+			assertEquals(expected[18001] & 0xFF, is.read());
+			assertEquals(expected.length - 18002, is.available());
+			assertEquals(expected.length - 18002, is.skip(Long.MAX_VALUE));
+			assertEquals(-1, is.read());
+			assertEquals(0, is.available());
+		}
+	}
+
+	@Test
+	public void invalidRangeTest() {
+		DSSDocument document = new InMemoryDocument(getBinaries(16));
+		assertThrows(DSSException.class, () -> new ByteRangeDocument(document, new int[] { 0, 1, 2 }));
+		assertThrows(DSSException.class, () -> new ByteRangeDocument(document, new int[] { 0, -1 }));
+	}
+
+	private void assertSameContent(DSSDocument document) throws Exception {
+		byte[] revision = Arrays.copyOf(DSSUtils.toByteArray(document), 2400 + 480);
+		byte[] signedData = PAdESUtils.getSignedContentFromRevision(revision, BYTE_RANGE);
+
+		ByteRangeDocument revisionDocument = PAdESUtils.getRevisionDocument(document, BYTE_RANGE);
+		assertArrayEquals(revision, DSSUtils.toByteArray(revisionDocument));
+		assertArrayEquals(revision, PAdESUtils.getRevisionContent(document, BYTE_RANGE));
+
+		ByteRangeDocument signedContent = PAdESUtils.getSignedContent(document, BYTE_RANGE);
+		assertArrayEquals(signedData, DSSUtils.toByteArray(signedContent));
+		assertEquals(new InMemoryDocument(signedData).getDigest(DigestAlgorithm.SHA256),
+				signedContent.getDigest(DigestAlgorithm.SHA256));
+
+		try (InputStream is = signedContent.openStream()) {
+			assertEquals(signedData.length, is.available());
+			assertEquals(1300, is.skip(1300));
+			assertEquals(signedData[1300] & 0xFF, is.read());
+		}
+	}
+
+	private byte[] getBinaries(int length) {
+		byte[] binaries = new byte[length];
+		for (int i = 0; i < length; i++) {
+			binaries[i] = (byte) (i * 31 + 7);
+		}
+		return binaries;
+	}
+
+}
@@ -0,0 +1,299 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.AbstractDSSFont;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.PAdESTimestampParameters;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Font;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryPdfSignatureCacheStoreTest {
+
+	private static final DSSDocument DOCUMENT = new InMemoryDocument("%PDF-1.4 test".getBytes());
+
+	private static final Date SIGNING_DATE = new Date(1600000000000L);
+
+	@Test
+	public void putGetRemoveTest() {
+		InMemoryPdfSignatureCacheStore store = new InMemoryPdfSignatureCacheStore();
+		PdfSignatureCache pdfSignatureCache = getPdfSignatureCache();
+
+		store.put(DOCUMENT, getParameters(), pdfSignatureCache);
+		assertEquals(1, store.size());
+
+		// a new instance of equivalent parameters shall match the same entry
+		assertSame(pdfSignatureCache, store.get(new InMemoryDocument(DOCUMENT.openStream()), getParameters()));
+		assertSame(pdfSignatureCache, store.get(DOCUMENT, getParameters()));
+
+		assertSame(pdfSignatureCache, store.remove(DOCUMENT, getParameters()));
+		assertNull(store.get(DOCUMENT, getParameters()));
+		assertNull(store.remove(DOCUMENT, getParameters()));
+		assertEquals(0, store.size());
+	}
+
+	@Test
+	public void differentParametersTest() {
+		InMemoryPdfSignatureCacheStore store = new InMemoryPdfSignatureCacheStore();
+		store.put(DOCUMENT, getParameters(), getPdfSignatureCache());
+
+		assertNull(store.get(new InMemoryDocument("%PDF-1.4 other".getBytes()), getParameters()));
+
+		PAdESSignatureParameters parameters = getParameters();
+		parameters.bLevel().setSigningDate(new Date(SIGNING_DATE.getTime() + 1000));
+		assertNull(store.get(DOCUMENT, parameters));
+
+		parameters = getParameters();
+		parameters.setReason("Other reason");
+		assertNull(store.get(DOCUMENT, parameters));
+
+		parameters = getParameters();
+		parameters.getImageParameters().getTextParameters().setText("Signature");
+		assertNull(store.get(DOCUMENT, parameters));
+
+		PAdESTimestampParameters timestampParameters = new PAdESTimestampParameters();
+		assertNull(store.get(DOCUMENT, timestampParameters));
+
+		assertNotNull(store.get(DOCUMENT, getParameters()));
+	}
+
+	@Test
+	public void expirationTest() {
+		MockClock clock = new MockClock();
+		InMemoryPdfSignatureCacheStore store = new InMemoryPdfSignatureCacheStore(clock);
+		store.setTimeToLive(1000);
+		store.put(DOCUMENT, getParameters(), getPdfSignatureCache());
+		clock.advance(999);
+		assertNotNull(store.get(DOCUMENT, getParameters()));
+
+		clock.advance(2);
+		assertNull(store.get(DOCUMENT, getParameters()));
+		assertEquals(0, store.size());
+
+		store.put(DOCUMENT, getParameters(), getPdfSignatureCache());
+		clock.advance(1001);
+
+		// expired entries are evicted on a new insertion
+		PAdESSignatureParameters parameters = getParameters();
+		parameters.setReason("Other reason");
+		store.put(DOCUMENT, parameters, getPdfSignatureCache());
+		assertEquals(1, store.size());
+	}
+
+	@Test
+	public void maximumSizeTest() {
+		InMemoryPdfSignatureCacheStore store = new InMemoryPdfSignatureCacheStore();
+		store.setMaximumSize(1);
+		store.put(DOCUMENT, getParameters(), getPdfSignatureCache());
+
+		PAdESSignatureParameters parameters = getParameters();
+		parameters.setReason("Other reason");
+		store.put(DOCUMENT, parameters, getPdfSignatureCache());
+		assertEquals(1, store.size());
+		assertNull(store.get(DOCUMENT, parameters));
+
+		store.clear();
+		assertEquals(0, store.size());
+
+		assertThrows(IllegalArgumentException.class, () -> store.setMaximumSize(0));
+		assertThrows(IllegalArgumentException.class, () -> store.setTimeToLive(0));
+	}
+
+	@Test
+	public void fieldParametersTest() {
+		InMemoryPdfSignatureCacheStore store = new InMemoryPdfSignatureCacheStore();
+		PAdESSignatureParameters parameters = getParameters();
+		parameters.getImageParameters().getFieldParameters().setFieldId("Signature1");
+		store.put(DOCUMENT, parameters, getPdfSignatureCache());
+
+		// the field of an invisible signature is a part of the key
+		assertNull(store.get(DOCUMENT, getParameters()));
+
+		parameters = getParameters();
+		parameters.getImageParameters().getFieldParameters().setFieldId("Signature2");
+		assertNull(store.get(DOCUMENT, parameters));
+
+		parameters = getParameters();
+		parameters.getImageParameters().getFieldParameters().setFieldId("Signature1");
+		assertNotNull(store.get(DOCUMENT, parameters));
+
+		parameters.getImageParameters().getFieldParameters().setPage(2);
+		assertNull(store.get(DOCUMENT, parameters));
+	}
+
+	@Test
+	public void longTextTest() {
+		InMemoryPdfSignatureCacheStore store = new InMemoryPdfSignatureCacheStore();
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 30000; i++) {
+			sb.append("\u00e9");
+		}
+		// exceeds 64 KB once encoded in UTF-8
+		String longText = sb.toString();
+
+		PAdESSignatureParameters parameters = getParameters();
+		parameters.getImageParameters().getTextParameters().setText(longText);
+		store.put(DOCUMENT, parameters, getPdfSignatureCache());
+		assertEquals(1, store.size());
+
+		parameters = getParameters();
+		parameters.getImageParameters().getTextParameters().setText(longText);
+		assertNotNull(store.get(DOCUMENT, parameters));
+
+		parameters = getParameters();
+		parameters.getImageParameters().getTextParameters().setText(longText + "a");
+		assertNull(store.get(DOCUMENT, parameters));
+	}
+
+	@Test
+	public void nativeFontTest() {
+		InMemoryPdfSignatureCacheStore store = new InMemoryPdfSignatureCacheStore();
+		PAdESSignatureParameters parameters = getParameters();
+		parameters.getImageParameters().getTextParameters().setText("Signature");
+		parameters.getImageParameters().getTextParameters().setFont(new AbstractDSSFont() {
+
+			private static final long serialVersionUID = -1487301391237423526L;
+
+			@Override
+			public Font getJavaFont() {
+				return null;
+			}
+
+		});
+
+		// a native font cannot be identified, the state is not stored
+		store.put(DOCUMENT, parameters, getPdfSignatureCache());
+		assertEquals(0, store.size());
+		assertNull(store.get(DOCUMENT, parameters));
+		assertNull(store.remove(DOCUMENT, parameters));
+	}
+
+	@Test
+	public void releaseFileTest() throws Exception {
+		MockClock clock = new MockClock();
+		InMemoryPdfSignatureCacheStore store = new InMemoryPdfSignatureCacheStore(clock);
+		store.setTimeToLive(1000);
+
+		File expiredFile = createTempFile();
+		store.put(DOCUMENT, getParameters(), getPdfSignatureCache(new FileDocument(expiredFile)));
+		clock.advance(1001);
+		assertNull(store.get(DOCUMENT, getParameters()));
+		assertFalse(expiredFile.exists());
+
+		File evictedFile = createTempFile();
+		store.put(DOCUMENT, getParameters(), getPdfSignatureCache(new FileDocument(evictedFile)));
+		clock.advance(1001);
+		PAdESSignatureParameters parameters = getParameters();
+		parameters.setReason("Other reason");
+		store.put(DOCUMENT, parameters, getPdfSignatureCache());
+		assertFalse(evictedFile.exists());
+
+		store.setTimeToLive(60000);
+		File clearedFile = createTempFile();
+		store.put(DOCUMENT, getParameters(), getPdfSignatureCache(new FileDocument(clearedFile)));
+		store.clear();
+		assertEquals(0, store.size());
+		assertFalse(clearedFile.exists());
+
+		// a removed entry is used by the caller, its file is kept
+		File removedFile = createTempFile();
+		store.put(DOCUMENT, getParameters(), getPdfSignatureCache(new FileDocument(removedFile)));
+		assertNotNull(store.remove(DOCUMENT, getParameters()));
+		assertTrue(removedFile.exists());
+		assertTrue(removedFile.delete());
+	}
+
+	private File createTempFile() throws IOException {
+		File file = Files.createTempFile("dss-test-", ".pdf").toFile();
+		file.deleteOnExit();
+		return file;
+	}
+
+	private PAdESSignatureParameters getParameters() {
+		PAdESSignatureParameters parameters = new PAdESSignatureParameters();
+		parameters.bLevel().setSigningDate(SIGNING_DATE);
+		parameters.setReason("Reason");
+		parameters.setLocation("Luxembourg");
+		return parameters;
+	}
+
+	private PdfSignatureCache getPdfSignatureCache() {
+		return getPdfSignatureCache(DOCUMENT);
+	}
+
+	private PdfSignatureCache getPdfSignatureCache(DSSDocument toBeSignedDocument) {
+		PdfSignatureCache pdfSignatureCache = new PdfSignatureCache();
+		pdfSignatureCache.setDigest(new byte[] { 1, 2, 3 });
+		pdfSignatureCache.setToBeSignedDocument(toBeSignedDocument);
+		return pdfSignatureCache;
+	}
+
+	private static class MockClock extends Clock {
+
+		private long millis = SIGNING_DATE.getTime();
+
+		void advance(long duration) {
+			millis += duration;
+		}
+
+		@Override
+		public long millis() {
+			return millis;
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
@@ -0,0 +1,79 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.crl;
+
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.spi.DSSRevocationUtils;
+import eu.europa.esig.dss.spi.x509.revocation.InMemoryRevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+
+import java.util.List;
+
+/**
+ * CRLSource that keeps the parsed and verified CRLs in memory.
+ *
+ * A cached CRL is shared by all certificates with the same CRL distribution point URL : the CRL is neither
+ * reloaded nor re-verified until its nextUpdate.
+ */
+public class InMemoryCRLSource extends InMemoryRevocationSource<CRL> implements CRLSource {
+
+	private static final long serialVersionUID = -6262375564327463573L;
+
+	/**
+	 * Default constructor
+	 */
+	public InMemoryCRLSource() {
+	}
+
+	@Override
+	protected List<String> initRevocationTokenKeys(CertificateToken certificateToken) {
+		return DSSRevocationUtils.getCRLRevocationTokenKeys(certificateToken);
+	}
+
+	@Override
+	protected String getRevocationTokenKey(CertificateToken certificateToken, String urlString) {
+		return DSSRevocationUtils.getCRLRevocationTokenKey(urlString);
+	}
+
+	@Override
+	protected RevocationToken<CRL> buildRevocationTokenFromCache(RevocationToken<CRL> cachedToken,
+			CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		CRLToken crlToken = new CRLToken(certificateToken, ((CRLToken) cachedToken).getCrlValidity());
+		crlToken.setSourceURL(cachedToken.getSourceURL());
+		crlToken.setExternalOrigin(RevocationOrigin.CACHED);
+		return crlToken;
+	}
+
+	@Override
+	public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		return (CRLToken) super.getRevocationToken(certificateToken, issuerCertificateToken);
+	}
+
+	@Override
+	public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken, boolean forceRefresh) {
+		return (CRLToken) super.getRevocationToken(certificateToken, issuerCertificateToken, forceRefresh);
+	}
+
+}
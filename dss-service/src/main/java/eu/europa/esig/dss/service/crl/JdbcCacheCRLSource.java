@@ -26,6 +26,7 @@ import eu.europa.esig.dss.crl.CRLValidity;
 import eu.europa.esig.dss.enumerations.RevocationOrigin;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSRevocationUtils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.jdbc.JdbcCacheConnector;
@@ -170,6 +171,7 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
 			cached.setIssuerToken(cachedIssuerCertificate);
 			
 			CRLToken crlToken = new CRLToken(certificateToken, cached);
+			crlToken.setSourceURL(getCrlUrl(certificateToken, (String) resultRecord.get(SQL_FIND_QUERY_ID)));
 			crlToken.setExternalOrigin(RevocationOrigin.CACHED);
 			return crlToken;
 			
@@ -179,6 +181,24 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
 		}
 	}
 
+	/**
+	 * Returns the CRL URL of the certificate corresponding to the given revocation key
+	 *
+	 * @param certificateToken {@link CertificateToken}
+	 * @param revocationKey {@link String}
+	 * @return {@link String} URL, null if not found
+	 */
+	private String getCrlUrl(CertificateToken certificateToken, String revocationKey) {
+		if (revocationKey != null) {
+			for (String crlUrl : DSSASN1Utils.getCrlUrls(certificateToken)) {
+				if (revocationKey.trim().equals(DSSRevocationUtils.getCRLRevocationTokenKey(crlUrl))) {
+					return crlUrl;
+				}
+			}
+		}
+		return null;
+	}
+
 	@Override
 	protected void insertRevocation(final String revocationKey, final RevocationToken<CRL> token) {
 		CRLToken crlToken = (CRLToken) token;
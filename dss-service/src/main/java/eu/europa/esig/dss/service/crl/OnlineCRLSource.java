@@ -29,9 +29,11 @@ import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.client.http.AsyncDataLoaderUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
 import eu.europa.esig.dss.spi.x509.revocation.OnlineRevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RequestCoalescer;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
@@ -43,6 +45,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Online CRL repository. This CRL repository implementation will download the
@@ -71,6 +75,16 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 	 */
 	private DataLoader dataLoader;
 
+	/**
+	 * Deduplicates concurrent downloads of the same CRL : the callers share the downloaded and validated CRL
+	 */
+	private final RequestCoalescer<String, CRLValidityAndUrl> crlRequests = new RequestCoalescer<>();
+
+	/**
+	 * The executor used to download (with a blocking {@code DataLoader}) and to process the CRLs asynchronously
+	 */
+	private transient Executor executor;
+
 	/**
 	 * The default constructor. A {@code CommonsDataLoader is created}.
 	 */
@@ -109,6 +123,25 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 		this.dataLoader = dataLoader;
 	}
 
+	/**
+	 * Sets the executor used by the asynchronous methods to parse and validate the downloaded CRLs,
+	 * as well as to execute the download when the defined {@code DataLoader} is not an {@code AsyncDataLoader}.
+	 * E.g. the {@code ExecutorService} defined within {@code CertificateVerifier.setExecutorService(executorService)}
+	 * may be reused.
+	 * <p>
+	 * When not defined, the CRLs are processed within the thread completing the download
+	 * (e.g. an I/O thread of an {@code AsyncDataLoader}), and the following loaders block the calling thread :
+	 * a {@code DataLoader} which is not an {@code AsyncDataLoader}, and a {@code CommonsDataLoader}
+	 * for FILE, FTP and LDAP urls (unless an executor is defined within the {@code CommonsDataLoader} itself).
+	 * <p>
+	 * Default : null
+	 *
+	 * @param executor {@link Executor}
+	 */
+	public void setExecutor(final Executor executor) {
+		this.executor = executor;
+	}
+
 	@Override
 	public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
 		return getRevocationToken(certificateToken, issuerCertificateToken, Collections.emptyList());
@@ -180,27 +213,177 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 		}
 		prioritize(crlUrls);
 
-		if (LOG.isDebugEnabled()) {
-			LOG.debug("Trying to retrieve a CRL from URL(s) {}...", crlUrls);
+		final CRLValidityAndUrl crlValidityAndUrl = crlRequests.execute(getRequestKey(issuerToken, crlUrls), () -> {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Trying to retrieve a CRL from URL(s) {}...", crlUrls);
+			}
+			final DataLoader.DataAndUrl dataAndUrl = downloadCrl(crlUrls);
+			return toCRLValidityAndUrl(issuerToken, dataAndUrl);
+		});
+		return toRevocationTokenAndUrl(certificateToken, crlValidityAndUrl);
+	}
+
+	/**
+	 * Retrieves asynchronously a CRL token for the {@code certificateToken}.
+	 * The call does not block when the defined {@code DataLoader} is an {@code AsyncDataLoader}
+	 * or when an executor is defined (see {@code setExecutor(executor)}).
+	 *
+	 * @param certificateToken {@link CertificateToken} to get a CRL token for
+	 * @param issuerToken {@link CertificateToken} issued the {@code certificateToken}
+	 * @return {@link CompletableFuture} with the {@link CRLToken}, or with null if no CRL has been obtained
+	 */
+	public CompletableFuture<CRLToken> getRevocationTokenAsync(CertificateToken certificateToken,
+															   CertificateToken issuerToken) {
+		return getRevocationTokenAsync(certificateToken, issuerToken, Collections.emptyList());
+	}
+
+	/**
+	 * Retrieves asynchronously a CRL token for the {@code certificateToken}, using the alternative urls
+	 * in addition to the ones defined in the certificate.
+	 * The call does not block when the defined {@code DataLoader} is an {@code AsyncDataLoader}
+	 * or when an executor is defined (see {@code setExecutor(executor)}).
+	 *
+	 * @param certificateToken {@link CertificateToken} to get a CRL token for
+	 * @param issuerToken {@link CertificateToken} issued the {@code certificateToken}
+	 * @param alternativeUrls a list of {@link String} alternative urls
+	 * @return {@link CompletableFuture} with the {@link CRLToken}, or with null if no CRL has been obtained
+	 */
+	public CompletableFuture<CRLToken> getRevocationTokenAsync(final CertificateToken certificateToken,
+			final CertificateToken issuerToken, List<String> alternativeUrls) {
+		Objects.requireNonNull(dataLoader, "DataLoader is not provided !");
+
+		if (certificateToken == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		if (Utils.isCollectionNotEmpty(alternativeUrls)) {
+			LOG.info("CRL alternative urls : {}", alternativeUrls);
+		}
+
+		final List<String> crlUrls = DSSASN1Utils.getCrlUrls(certificateToken);
+		if (Utils.isCollectionEmpty(crlUrls) && Utils.isCollectionEmpty(alternativeUrls)) {
+			LOG.debug("No CRL location found for {}", certificateToken.getDSSIdAsString());
+			return CompletableFuture.completedFuture(null);
+		}
+		crlUrls.addAll(alternativeUrls);
+
+		return getRevocationTokenAndUrlAsync(certificateToken, issuerToken, crlUrls).thenApply(revocationTokenAndUrl -> {
+			if (revocationTokenAndUrl != null) {
+				return (CRLToken) revocationTokenAndUrl.getRevocationToken();
+			} else {
+				LOG.debug("No CRL has been downloaded for a CertificateToken with Id '{}' from a list of urls : {}",
+						certificateToken.getDSSIdAsString(), crlUrls);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Retrieves asynchronously a {@code RevocationTokenAndUrl} for the {@code certificateToken}.
+	 * The call does not block when the defined {@code DataLoader} is an {@code AsyncDataLoader}
+	 * or when an executor is defined (see {@code setExecutor(executor)}).
+	 *
+	 * @param certificateToken {@link CertificateToken} to get a CRL token for
+	 * @param issuerToken {@link CertificateToken} issued the {@code certificateToken}
+	 * @return {@link CompletableFuture} with the {@link RevocationTokenAndUrl}, or with null if no CRL has been obtained
+	 */
+	public CompletableFuture<RevocationTokenAndUrl<CRL>> getRevocationTokenAndUrlAsync(CertificateToken certificateToken,
+																					   CertificateToken issuerToken) {
+		Objects.requireNonNull(dataLoader, "DataLoader is not provided !");
+
+		if (certificateToken == null) {
+			return CompletableFuture.completedFuture(null);
 		}
-		final DataLoader.DataAndUrl dataAndUrl = downloadCrl(crlUrls);
+
+		final List<String> crlUrls = DSSASN1Utils.getCrlUrls(certificateToken);
+		if (Utils.isCollectionEmpty(crlUrls)) {
+			LOG.debug("No CRL location found for {}", certificateToken.getDSSIdAsString());
+			return CompletableFuture.completedFuture(null);
+		}
+
+		return getRevocationTokenAndUrlAsync(certificateToken, issuerToken, crlUrls);
+	}
+
+	/**
+	 * Extracts asynchronously a CRL token for a {@code certificateToken} from the given list of {@code crlUrls}.
+	 * The CRL is parsed and validated within the executor when defined (see {@code setExecutor(executor)}),
+	 * in order to not occupy the I/O threads of the {@code DataLoader}.
+	 *
+	 * @param certificateToken {@link CertificateToken} to get a CRL token for
+	 * @param issuerToken {@link CertificateToken} issued the {@code certificateToken}
+	 * @param crlUrls a list of {@link String} URLs to use to access a CRL token
+	 * @return {@link CompletableFuture} with the {@link RevocationTokenAndUrl}
+	 */
+	protected CompletableFuture<RevocationTokenAndUrl<CRL>> getRevocationTokenAndUrlAsync(CertificateToken certificateToken,
+			CertificateToken issuerToken, List<String> crlUrls) {
+		Objects.requireNonNull(dataLoader, "DataLoader is not provided !");
+		if (issuerToken == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		if (Utils.isCollectionEmpty(crlUrls)) {
+			return CompletableFuture.completedFuture(null);
+		}
+		prioritize(crlUrls);
+
+		return crlRequests.executeAsync(getRequestKey(issuerToken, crlUrls), () -> {
+					if (LOG.isDebugEnabled()) {
+						LOG.debug("Trying to retrieve asynchronously a CRL from URL(s) {}...", crlUrls);
+					}
+					final CompletableFuture<DataLoader.DataAndUrl> download = AsyncDataLoaderUtils
+							.getAsync(dataLoader, crlUrls, executor)
+							.handle((dataAndUrl, e) -> {
+								if (e != null) {
+									final Throwable cause = AsyncDataLoaderUtils.unwrap(e);
+									LOG.warn("Unable to download CRL from URLs [{}]. Reason : [{}]", crlUrls, cause.getMessage(), cause);
+									return null;
+								}
+								return dataAndUrl;
+							});
+					return AsyncDataLoaderUtils.thenApply(download,
+							dataAndUrl -> toCRLValidityAndUrl(issuerToken, dataAndUrl), executor);
+				})
+				.thenApply(crlValidityAndUrl -> toRevocationTokenAndUrl(certificateToken, crlValidityAndUrl));
+	}
+
+	/**
+	 * Returns the key identifying the CRL download, shared by concurrent requests
+	 */
+	private String getRequestKey(CertificateToken issuerToken, List<String> crlUrls) {
+		return issuerToken.getDSSIdAsString() + ":" + crlUrls;
+	}
+
+	private CRLValidityAndUrl toCRLValidityAndUrl(CertificateToken issuerToken, DataLoader.DataAndUrl dataAndUrl) {
 		if (dataAndUrl == null) {
 			return null;
 		}
 		try {
 			CRLBinary crlBinary = CRLUtils.buildCRLBinary(dataAndUrl.getData());
 			final CRLValidity crlValidity = CRLUtils.buildCRLValidity(crlBinary, issuerToken);
-			final CRLToken crlToken = new CRLToken(certificateToken, crlValidity);
+			return new CRLValidityAndUrl(crlValidity, dataAndUrl.getUrlString());
+
+		} catch (Exception e) {
+			LOG.warn("Unable to parse/validate the CRL (url: {}) : {}", dataAndUrl.getUrlString(), e.getMessage(), e);
+			return null;
+		}
+	}
+
+	private RevocationTokenAndUrl<CRL> toRevocationTokenAndUrl(CertificateToken certificateToken,
+															   CRLValidityAndUrl crlValidityAndUrl) {
+		if (crlValidityAndUrl == null) {
+			return null;
+		}
+		try {
+			final CRLToken crlToken = new CRLToken(certificateToken, crlValidityAndUrl.crlValidity);
 			crlToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
-			crlToken.setSourceURL(dataAndUrl.getUrlString());
+			crlToken.setSourceURL(crlValidityAndUrl.url);
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("CRL '{}' has been retrieved from a source with URL '{}'.",
-						crlToken.getDSSIdAsString(), dataAndUrl.getUrlString());
+						crlToken.getDSSIdAsString(), crlValidityAndUrl.url);
 			}
-			return new RevocationTokenAndUrl<>(dataAndUrl.getUrlString(), crlToken);
+			return new RevocationTokenAndUrl<>(crlValidityAndUrl.url, crlToken);
 
 		} catch (Exception e) {
-			LOG.warn("Unable to parse/validate the CRL (url: {}) : {}", dataAndUrl.getUrlString(), e.getMessage(), e);
+			LOG.warn("Unable to parse/validate the CRL (url: {}) : {}", crlValidityAndUrl.url, e.getMessage(), e);
 			return null;
 		}
 	}
@@ -248,4 +431,28 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 		}
 	}
 
+	/**
+	 * Contains a downloaded and validated CRL with the URL it was obtained from
+	 */
+	private static final class CRLValidityAndUrl {
+
+		/** The validated CRL */
+		private final CRLValidity crlValidity;
+
+		/** The URL used to download the CRL */
+		private final String url;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param crlValidity {@link CRLValidity}
+		 * @param url {@link String}
+		 */
+		private CRLValidityAndUrl(CRLValidity crlValidity, String url) {
+			this.crlValidity = crlValidity;
+			this.url = url;
+		}
+
+	}
+
 }
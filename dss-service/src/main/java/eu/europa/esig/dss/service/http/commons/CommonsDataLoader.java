@@ -24,12 +24,16 @@ import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.service.http.proxy.ProxyConfig;
 import eu.europa.esig.dss.service.http.proxy.ProxyProperties;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.AsyncDataLoader;
+import eu.europa.esig.dss.spi.client.http.AsyncDataLoaderUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
 import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.utils.Utils;
 import org.apache.hc.client5.http.HttpRequestRetryStrategy;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
@@ -37,31 +41,42 @@ import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.impl.routing.DefaultProxyRoutePlanner;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.client5.http.routing.HttpRoutePlanner;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpException;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Method;
 import org.apache.hc.core5.http.io.SocketConfig;
 import org.apache.hc.core5.http.io.entity.BufferedHttpEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.InputStreamEntity;
 import org.apache.hc.core5.http.message.StatusLine;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.reactor.IOReactorConfig;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
 import org.apache.hc.core5.ssl.TrustStrategy;
 import org.apache.hc.core5.util.TimeValue;
@@ -75,7 +90,9 @@ import javax.naming.directory.Attributes;
 import javax.naming.directory.DirContext;
 import javax.naming.directory.InitialDirContext;
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
@@ -84,13 +101,21 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 /**
  * Implementation of DataLoader for any protocol.
@@ -99,8 +124,19 @@ import java.util.StringTokenizer;
  * having to add the certificate to the JVM TrustStore. It takes into account a
  * proxy management through {@code ProxyPreferenceManager}. The authentication
  * is also supported.
+ * <p>
+ * By default, a new HttpClient with its own connection pool is created for every request.
+ * When {@code setUseSharedHttpClient(true)} is set, long-lived thread-safe clients sharing a single
+ * connection pool are used instead, allowing to reuse kept-alive connections and TLS sessions between requests.
+ * In that case, the loader shall be closed with {@code close()} when it is not used anymore.
+ * <p>
+ * The asynchronous methods ({@code getAsync(...)}, {@code postAsync(...)}) are executed over HTTP/HTTPS
+ * with long-lived Apache HttpClient 5 async clients, which are also released on {@code close()}.
+ * The FILE, FTP and LDAP protocols have no asynchronous implementation: they are processed within
+ * the {@code Executor} defined with {@code setExecutor(executor)}, or, when not defined,
+ * synchronously within the calling thread (which is then blocked).
  */
-public class CommonsDataLoader implements DataLoader {
+public class CommonsDataLoader implements AsyncDataLoader, Closeable {
 
 	private static final long serialVersionUID = -805432648564425522L;
 
@@ -237,6 +273,36 @@ public class CommonsDataLoader implements DataLoader {
 	 */
 	private transient HttpRequestRetryStrategy retryStrategy;
 
+	/**
+	 * Defines whether long-lived HttpClients with a shared connection pool shall be used (false by default)
+	 */
+	private boolean useSharedHttpClient = false;
+
+	/**
+	 * The shared HttpClients, created lazily when {@code useSharedHttpClient} is enabled.
+	 * The clients are mapped by the credentials and proxy configuration they have been built with.
+	 * NOTE: the clients are created and closed while holding the lock of the data loader instance
+	 */
+	private transient volatile Map<Object, CloseableHttpClient> sharedHttpClients;
+
+	/**
+	 * The connection manager shared between the HttpClients when {@code useSharedHttpClient} is enabled
+	 * (created and closed while holding the lock of the data loader instance)
+	 */
+	private transient PoolingHttpClientConnectionManager sharedConnectionManager;
+
+	/**
+	 * The asynchronous HttpClients, created lazily on the first asynchronous request.
+	 * The clients are mapped by the credentials and proxy configuration they have been built with.
+	 * NOTE: the clients are created, started and closed while holding the lock of the data loader instance
+	 */
+	private transient volatile Map<Object, CloseableHttpAsyncClient> httpAsyncClients;
+
+	/**
+	 * The executor used to process asynchronous FILE, FTP and LDAP requests (the calling thread, when null)
+	 */
+	private transient Executor executor;
+
 	/**
 	 * The default constructor for CommonsDataLoader.
 	 */
@@ -722,6 +788,44 @@ public class CommonsDataLoader implements DataLoader {
 		this.trustStrategy = trustStrategy;
 	}
 
+	/**
+	 * Gets whether long-lived HttpClients with a shared connection pool are used
+	 *
+	 * @return TRUE if the shared HttpClients are used, FALSE otherwise
+	 */
+	public boolean isUseSharedHttpClient() {
+		return useSharedHttpClient;
+	}
+
+	/**
+	 * Sets whether long-lived HttpClients with a shared connection pool shall be used.
+	 * When enabled, the connections are kept alive between the requests (e.g. OCSP or TSP calls)
+	 * and the loader shall be closed with {@code close()} after its usage.
+	 * <p>
+	 * NOTE: the connection and SSL parameters are taken into account on the first request only.
+	 * Call {@code close()} in order to apply the modified configuration on the following requests.
+	 * <p>
+	 * Default : false (a new HttpClient is created for every request)
+	 *
+	 * @param useSharedHttpClient whether the shared HttpClients shall be used
+	 */
+	public void setUseSharedHttpClient(boolean useSharedHttpClient) {
+		this.useSharedHttpClient = useSharedHttpClient;
+	}
+
+	/**
+	 * Sets the executor used to process the asynchronous calls over the protocols having no asynchronous
+	 * implementation (FILE, FTP and LDAP). E.g. the {@code ExecutorService} defined within
+	 * {@code CertificateVerifier.setExecutorService(executorService)} may be reused.
+	 * <p>
+	 * Default : null (the calls are processed within the calling thread, which is blocked until completion)
+	 *
+	 * @param executor {@link Executor}
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
 	@Override
 	public byte[] get(final String urlString) {
 
@@ -778,6 +882,64 @@ public class CommonsDataLoader implements DataLoader {
 		return get(url);
 	}
 
+	@Override
+	public CompletableFuture<byte[]> getAsync(final String urlString) {
+		if (Protocol.isFileUrl(urlString) || Protocol.isFtpUrl(urlString) || Protocol.isLdapUrl(urlString)) {
+			// no asynchronous implementation, process within the executor or the calling thread
+			return AsyncDataLoaderUtils.execute(() -> get(urlString), executor);
+		} else if (!Protocol.isHttpUrl(urlString)) {
+			LOG.warn("DSS framework only supports FILE, HTTP, HTTPS, FTP and LDAP Urls.");
+		}
+		return httpGetAsync(urlString);
+	}
+
+	@Override
+	public CompletableFuture<DataAndUrl> getAsync(final List<String> urlStrings) {
+		if (Utils.isCollectionEmpty(urlStrings)) {
+			return failedFuture(new DSSExternalResourceException("Cannot process the GET call. List of URLs is empty!"));
+		}
+		return getAsync(urlStrings, 0, new HashMap<>());
+	}
+
+	private CompletableFuture<DataAndUrl> getAsync(final List<String> urlStrings, final int index,
+												   final Map<String, Throwable> exceptions) {
+		if (index >= urlStrings.size()) {
+			return failedFuture(new DSSDataLoaderMultipleException(exceptions));
+		}
+
+		final String urlString = urlStrings.get(index);
+		LOG.debug("Processing an asynchronous GET call to URL [{}]...", urlString);
+		return getAsync(urlString).handle((bytes, e) -> {
+			if (e != null) {
+				final Throwable cause = AsyncDataLoaderUtils.unwrap(e);
+				LOG.warn("Cannot obtain data using '{}' : {}", urlString, cause.getMessage());
+				exceptions.put(urlString, cause);
+			} else if (Utils.isArrayEmpty(bytes)) {
+				LOG.debug("The retrieved content from URL [{}] is empty. Continue with other URLs...", urlString);
+			} else {
+				return CompletableFuture.completedFuture(new DataAndUrl(urlString, bytes));
+			}
+			return getAsync(urlStrings, index + 1, exceptions);
+		}).thenCompose(Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<byte[]> postAsync(final String url, final byte[] content) {
+		LOG.debug("Fetching data via asynchronous POST from url {}", url);
+
+		final SimpleHttpRequest httpRequest;
+		try {
+			final URI uri = URI.create(Utils.trim(url));
+			httpRequest = SimpleHttpRequest.create(Method.POST.name(), uri);
+			httpRequest.setBody(content, toContentType(contentType));
+
+		} catch (Exception e) {
+			return failedFuture(new DSSExternalResourceException(String.format(
+					"Unable to process POST call for url [%s]. Reason : [%s]", url, e.getMessage()), e));
+		}
+		return executeAsync(url, httpRequest);
+	}
+
 	/**
 	 * This method retrieves data using LDAP protocol. - CRL from given LDAP
 	 * url, e.g. ldap://ldap.infonotary.com/dc=identity-ca,dc=infonotary,dc=com
@@ -924,6 +1086,87 @@ public class CommonsDataLoader implements DataLoader {
 		}
 	}
 
+	/**
+	 * This method retrieves asynchronously data using HTTP or HTTPS protocol and 'get' method.
+	 *
+	 * @param url
+	 *            to access
+	 * @return {@link CompletableFuture} with the {@code byte} array of obtained data
+	 */
+	protected CompletableFuture<byte[]> httpGetAsync(final String url) {
+		final SimpleHttpRequest httpRequest;
+		try {
+			final URI uri = new URI(Utils.trim(url));
+			httpRequest = SimpleHttpRequest.create(Method.GET.name(), uri);
+			if (contentType != null) {
+				httpRequest.setHeader(CONTENT_TYPE, contentType);
+			}
+
+		} catch (URISyntaxException e) {
+			return failedFuture(new DSSExternalResourceException(String.format(
+					"Unable to process GET call for url [%s]. Reason : [%s]", url, DSSUtils.getExceptionMessage(e)), e));
+		}
+		return executeAsync(url, httpRequest);
+	}
+
+	/**
+	 * Executes the {@code httpRequest} with the asynchronous client
+	 *
+	 * @param url {@link String} request url
+	 * @param httpRequest {@link SimpleHttpRequest}
+	 * @return {@link CompletableFuture} with the response's content
+	 */
+	private CompletableFuture<byte[]> executeAsync(final String url, final SimpleHttpRequest httpRequest) {
+		final CompletableFuture<byte[]> result = new CompletableFuture<>();
+		final String method = httpRequest.getMethod();
+		try {
+			final CloseableHttpAsyncClient client = getHttpAsyncClient(url);
+			final Future<SimpleHttpResponse> responseFuture = client.execute(httpRequest, getHttpContext(),
+					new FutureCallback<SimpleHttpResponse>() {
+
+				@Override
+				public void completed(SimpleHttpResponse httpResponse) {
+					try {
+						result.complete(readHttpResponse(httpResponse));
+					} catch (IOException e) {
+						failed(e);
+					}
+				}
+
+				@Override
+				public void failed(Exception e) {
+					result.completeExceptionally(new DSSExternalResourceException(String.format(
+							"Unable to process %s call for url [%s]. Reason : [%s]", method, url,
+							DSSUtils.getExceptionMessage(e)), e));
+				}
+
+				@Override
+				public void cancelled() {
+					result.cancel(false);
+				}
+
+			});
+			// propagates the cancellation of the returned future to the HTTP exchange
+			result.whenComplete((bytes, e) -> {
+				if (result.isCancelled()) {
+					responseFuture.cancel(true);
+				}
+			});
+
+		} catch (Exception e) {
+			result.completeExceptionally(new DSSExternalResourceException(String.format(
+					"Unable to process %s call for url [%s]. Reason : [%s]", method, url,
+					DSSUtils.getExceptionMessage(e)), e));
+		}
+		return result;
+	}
+
+	private static <T> CompletableFuture<T> failedFuture(Throwable e) {
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		future.completeExceptionally(e);
+		return future;
+	}
+
 	/**
 	 * Processes {@code httpRequest} and returns the {@code CloseableHttpResponse}
 	 *
@@ -988,6 +1231,29 @@ public class CommonsDataLoader implements DataLoader {
 		return getContent(responseEntity);
 	}
 
+	/**
+	 * Reads the HTTP response obtained with the asynchronous client
+	 *
+	 * @param httpResponse {@link SimpleHttpResponse}
+	 * @return the response's content
+	 * @throws IOException if an exception occurs
+	 */
+	protected byte[] readHttpResponse(final SimpleHttpResponse httpResponse) throws IOException {
+		final int statusCode = httpResponse.getCode();
+		final String reasonPhrase = httpResponse.getReasonPhrase();
+
+		if (!acceptedHttpStatus.contains(statusCode)) {
+			String reason = Utils.isStringNotEmpty(reasonPhrase) ? " / reason : " + reasonPhrase : "";
+			throw new IOException("Not acceptable HTTP Status (HTTP status code : " + statusCode + reason + ")");
+		}
+
+		final byte[] content = httpResponse.getBodyBytes();
+		if (content == null) {
+			throw new IOException("No message entity for this response");
+		}
+		return content;
+	}
+
 	/**
 	 * Gets content of the response
 	 *
@@ -1011,19 +1277,75 @@ public class CommonsDataLoader implements DataLoader {
 	protected void closeQuietly(HttpUriRequestBase httpRequest, CloseableHttpResponse httpResponse,
 								CloseableHttpClient client) {
 		try {
-			if (httpRequest != null) {
-				httpRequest.cancel();
-			}
 			if (httpResponse != null) {
+				// release the connection to the pool before cancelling the request
 				EntityUtils.consumeQuietly(httpResponse.getEntity());
 				Utils.closeQuietly(httpResponse);
 			}
+			if (httpRequest != null) {
+				httpRequest.cancel();
+			}
 		} finally {
-			Utils.closeQuietly(client);
+			if (!isSharedHttpClient(client)) {
+				Utils.closeQuietly(client);
+			}
+		}
+	}
+
+	private boolean isSharedHttpClient(CloseableHttpClient client) {
+		final Map<Object, CloseableHttpClient> currentSharedHttpClients = sharedHttpClients;
+		return client != null && currentSharedHttpClients != null && currentSharedHttpClients.containsValue(client);
+	}
+
+	/**
+	 * Closes the asynchronous HttpClients and the shared HttpClients with their connection pools.
+	 * The loader may still be used after, in which case new clients are created on the next request.
+	 */
+	@Override
+	public synchronized void close() {
+		if (httpAsyncClients != null) {
+			for (CloseableHttpAsyncClient client : httpAsyncClients.values()) {
+				Utils.closeQuietly(client);
+			}
+			httpAsyncClients = null;
+		}
+		if (sharedHttpClients != null) {
+			for (CloseableHttpClient client : sharedHttpClients.values()) {
+				Utils.closeQuietly(client);
+			}
+			sharedHttpClients = null;
 		}
+		if (sharedConnectionManager != null) {
+			sharedConnectionManager.close();
+			sharedConnectionManager = null;
+		}
+	}
+
+	private synchronized HttpClientConnectionManager getConnectionManager() {
+		if (useSharedHttpClient) {
+			if (sharedConnectionManager == null) {
+				sharedConnectionManager = buildConnectionManager();
+			}
+			return sharedConnectionManager;
+		}
+		return buildConnectionManager();
+	}
+
+	private AsyncClientConnectionManager getAsyncConnectionManager() {
+		final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+				.setTlsStrategy(getTlsStrategy())
+				.setMaxConnTotal(getConnectionsMaxTotal())
+				.setMaxConnPerRoute(getConnectionsMaxPerRoute())
+				.setConnectionTimeToLive(connectionTimeToLive)
+				.build();
+
+		LOG.debug("PoolingAsyncClientConnectionManager: max total: {}", connectionManager.getMaxTotal());
+		LOG.debug("PoolingAsyncClientConnectionManager: max per route: {}", connectionManager.getDefaultMaxPerRoute());
+
+		return connectionManager;
 	}
 
-	private HttpClientConnectionManager getConnectionManager() {
+	private PoolingHttpClientConnectionManager buildConnectionManager() {
 		final PoolingHttpClientConnectionManagerBuilder builder = PoolingHttpClientConnectionManagerBuilder.create()
 				.setSSLSocketFactory(getConnectionSocketFactoryHttps())
 				.setDefaultSocketConfig(getSocketConfig())
@@ -1047,33 +1369,8 @@ public class CommonsDataLoader implements DataLoader {
 
 	private SSLConnectionSocketFactory getConnectionSocketFactoryHttps() {
 		try {
-			SSLContextBuilder sslContextBuilder = SSLContextBuilder.create();
-			sslContextBuilder.setProtocol(sslProtocol);
-
-			final TrustStrategy trustStrategy = getTrustStrategy();
-			if (trustStrategy != null) {
-				LOG.debug("Set the TrustStrategy");
-				sslContextBuilder.loadTrustMaterial(null, trustStrategy);
-			}
-
-			final KeyStore sslTrustStore = getSSLTrustStore();
-			if (sslTrustStore != null) {
-				LOG.debug("Set the SSL trust store as trust materials");
-				sslContextBuilder.loadTrustMaterial(sslTrustStore, trustStrategy);
-			}
-
-			final KeyStore sslKeystore = getSSLKeyStore();
-			if (sslKeystore != null) {
-				LOG.debug("Set the SSL keystore as key materials");
-				sslContextBuilder.loadKeyMaterial(sslKeystore, toCharArray(sslKeystorePassword));
-				if (loadKeyStoreAsTrustMaterial) {
-					LOG.debug("Set the SSL keystore as trust materials");
-					sslContextBuilder.loadTrustMaterial(sslKeystore, trustStrategy);
-				}
-			}
-
 			SSLConnectionSocketFactoryBuilder sslConnectionSocketFactoryBuilder = new SSLConnectionSocketFactoryBuilder();
-			return sslConnectionSocketFactoryBuilder.setSslContext(sslContextBuilder.build())
+			return sslConnectionSocketFactoryBuilder.setSslContext(getSSLContext())
 					.setTlsVersions(getSupportedSSLProtocols()).setCiphers(getSupportedSSLCipherSuites())
 					.setHostnameVerifier(getHostnameVerifier()).build();
 
@@ -1082,6 +1379,46 @@ public class CommonsDataLoader implements DataLoader {
 		}
 	}
 
+	private TlsStrategy getTlsStrategy() {
+		try {
+			return ClientTlsStrategyBuilder.create().setSslContext(getSSLContext())
+					.setTlsVersions(getSupportedSSLProtocols()).setCiphers(getSupportedSSLCipherSuites())
+					.setHostnameVerifier(getHostnameVerifier()).build();
+
+		} catch (final Exception e) {
+			throw new IllegalArgumentException("Unable to configure the SSLContext/TlsStrategy", e);
+		}
+	}
+
+	private SSLContext getSSLContext() throws IOException, GeneralSecurityException {
+		SSLContextBuilder sslContextBuilder = SSLContextBuilder.create();
+		sslContextBuilder.setProtocol(sslProtocol);
+
+		final TrustStrategy trustStrategy = getTrustStrategy();
+		if (trustStrategy != null) {
+			LOG.debug("Set the TrustStrategy");
+			sslContextBuilder.loadTrustMaterial(null, trustStrategy);
+		}
+
+		final KeyStore sslTrustStore = getSSLTrustStore();
+		if (sslTrustStore != null) {
+			LOG.debug("Set the SSL trust store as trust materials");
+			sslContextBuilder.loadTrustMaterial(sslTrustStore, trustStrategy);
+		}
+
+		final KeyStore sslKeystore = getSSLKeyStore();
+		if (sslKeystore != null) {
+			LOG.debug("Set the SSL keystore as key materials");
+			sslContextBuilder.loadKeyMaterial(sslKeystore, toCharArray(sslKeystorePassword));
+			if (loadKeyStoreAsTrustMaterial) {
+				LOG.debug("Set the SSL keystore as trust materials");
+				sslContextBuilder.loadTrustMaterial(sslKeystore, trustStrategy);
+			}
+		}
+
+		return sslContextBuilder.build();
+	}
+
 	/**
 	 * Gets the SSL KeyStore
 	 *
@@ -1147,28 +1484,156 @@ public class CommonsDataLoader implements DataLoader {
 
 		httpClientBuilder = configCredentials(httpClientBuilder, url);
 
-		final RequestConfig.Builder requestConfigBuilder = RequestConfig.custom()
-				.setConnectTimeout(timeoutConnection)
-				.setConnectionRequestTimeout(timeoutConnectionRequest)
-				.setResponseTimeout(timeoutResponse)
-				.setConnectionKeepAlive(connectionKeepAlive)
-				.setRedirectsEnabled(redirectsEnabled);
-
 		httpClientBuilder.setConnectionManager(getConnectionManager())
-				.setDefaultRequestConfig(requestConfigBuilder.build())
+				.setConnectionManagerShared(useSharedHttpClient)
+				.setDefaultRequestConfig(getRequestConfig())
 				.setRetryStrategy(retryStrategy);
 		
 		return httpClientBuilder;
 	}
 
 	/**
-	 * Gets the HTTP client
+	 * Gets the {@code HttpAsyncClientBuilder} for the url
+	 *
+	 * @param url {@link String} request url
+	 * @return {@link HttpAsyncClientBuilder}
+	 */
+	protected synchronized HttpAsyncClientBuilder getHttpAsyncClientBuilder(final String url) {
+		HttpAsyncClientBuilder httpAsyncClientBuilder = HttpAsyncClients.custom();
+
+		if (useSystemProperties) {
+			httpAsyncClientBuilder.useSystemProperties();
+		}
+
+		httpAsyncClientBuilder = configCredentials(httpAsyncClientBuilder, url);
+
+		final IOReactorConfig.Builder ioReactorConfigBuilder = IOReactorConfig.custom();
+		if (timeoutSocket != null) {
+			ioReactorConfigBuilder.setSoTimeout(timeoutSocket);
+		}
+
+		httpAsyncClientBuilder.setConnectionManager(getAsyncConnectionManager())
+				.setIOReactorConfig(ioReactorConfigBuilder.build())
+				.setDefaultRequestConfig(getRequestConfig())
+				.setRetryStrategy(retryStrategy);
+
+		return httpAsyncClientBuilder;
+	}
+
+	private RequestConfig getRequestConfig() {
+		return RequestConfig.custom()
+				.setConnectTimeout(timeoutConnection)
+				.setConnectionRequestTimeout(timeoutConnectionRequest)
+				.setResponseTimeout(timeoutResponse)
+				.setConnectionKeepAlive(connectionKeepAlive)
+				.setRedirectsEnabled(redirectsEnabled)
+				.build();
+	}
+
+	/**
+	 * Gets the HTTP client.
+	 * When {@code useSharedHttpClient} is enabled, returns a long-lived client
+	 * for the credentials and proxy configuration applicable to the url.
 	 *
 	 * @param url {@link String} request url
 	 * @return {@link CloseableHttpClient}
 	 */
-	protected synchronized CloseableHttpClient getHttpClient(final String url) {
-		return getHttpClientBuilder(url).build();
+	protected CloseableHttpClient getHttpClient(final String url) {
+		if (useSharedHttpClient) {
+			return getSharedHttpClient(url);
+		}
+		synchronized (this) {
+			return getHttpClientBuilder(url).build();
+		}
+	}
+
+	private CloseableHttpClient getSharedHttpClient(final String url) {
+		final Object key = getHttpClientKey(url);
+		final Map<Object, CloseableHttpClient> currentSharedHttpClients = sharedHttpClients;
+		if (currentSharedHttpClients != null) {
+			final CloseableHttpClient client = currentSharedHttpClients.get(key);
+			if (client != null) {
+				return client;
+			}
+		}
+		// the client and the shared connection manager are built under the same lock as used by close()
+		synchronized (this) {
+			final Map<Object, CloseableHttpClient> clients = getSharedHttpClients();
+			CloseableHttpClient client = clients.get(key);
+			if (client == null) {
+				client = getHttpClientBuilder(url).build();
+				clients.put(key, client);
+			}
+			return client;
+		}
+	}
+
+	/**
+	 * Gets the asynchronous HTTP client, started on its first use.
+	 * The client is long-lived and shared between the asynchronous requests
+	 * with the same credentials and proxy configuration.
+	 *
+	 * @param url {@link String} request url
+	 * @return {@link CloseableHttpAsyncClient}
+	 */
+	protected CloseableHttpAsyncClient getHttpAsyncClient(final String url) {
+		final Object key = getHttpClientKey(url);
+		final Map<Object, CloseableHttpAsyncClient> currentHttpAsyncClients = httpAsyncClients;
+		if (currentHttpAsyncClients != null) {
+			final CloseableHttpAsyncClient client = currentHttpAsyncClients.get(key);
+			if (client != null) {
+				return client;
+			}
+		}
+		// the client is built and started under the same lock as used by close()
+		synchronized (this) {
+			final Map<Object, CloseableHttpAsyncClient> clients = getHttpAsyncClients();
+			CloseableHttpAsyncClient client = clients.get(key);
+			if (client == null) {
+				client = getHttpAsyncClientBuilder(url).build();
+				client.start();
+				clients.put(key, client);
+			}
+			return client;
+		}
+	}
+
+	private synchronized Map<Object, CloseableHttpAsyncClient> getHttpAsyncClients() {
+		if (httpAsyncClients == null) {
+			httpAsyncClients = new ConcurrentHashMap<>();
+		}
+		return httpAsyncClients;
+	}
+
+	private synchronized Map<Object, CloseableHttpClient> getSharedHttpClients() {
+		if (sharedHttpClients == null) {
+			sharedHttpClients = new ConcurrentHashMap<>();
+		}
+		return sharedHttpClients;
+	}
+
+	/**
+	 * Builds a key identifying the credentials and proxy configuration used by a client for the given url
+	 *
+	 * @param url {@link String}
+	 * @return key object
+	 */
+	private Object getHttpClientKey(final String url) {
+		final Set<List<Object>> credentials = new HashSet<>();
+		for (final Map.Entry<HostConnection, UserCredentials> entry : getAuthenticationMap().entrySet()) {
+			final HostConnection hostConnection = entry.getKey();
+			final UserCredentials userCredentials = entry.getValue();
+			credentials.add(Arrays.asList(hostConnection.getProtocol(), hostConnection.getHost(),
+					hostConnection.getPort(), hostConnection.getRealm(), hostConnection.getScheme(),
+					userCredentials.getUsername(), userCredentials.getPassword()));
+		}
+		List<Object> proxy = null;
+		final ProxyProperties proxyProps = getProxyProperties(url);
+		if (proxyProps != null) {
+			proxy = Arrays.asList(proxyProps.getScheme(), proxyProps.getHost(), proxyProps.getPort(),
+					proxyProps.getUser(), proxyProps.getPassword(), proxyProps.getExcludedHosts());
+		}
+		return Arrays.asList(credentials, proxy);
 	}
 
 	/**
@@ -1179,6 +1644,37 @@ public class CommonsDataLoader implements DataLoader {
 	 * @return {@link HttpClientBuilder}
 	 */
 	private HttpClientBuilder configCredentials(HttpClientBuilder httpClientBuilder, final String url) {
+		final BasicCredentialsProvider credentialsProvider = getCredentialsProvider();
+		httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+		httpClientBuilder = configureProxy(httpClientBuilder, credentialsProvider, url);
+		return httpClientBuilder;
+	}
+
+	/**
+	 * Defines the Credentials for an asynchronous client
+	 *
+	 * @param httpAsyncClientBuilder {@link HttpAsyncClientBuilder}
+	 * @param url {@link String}
+	 * @return {@link HttpAsyncClientBuilder}
+	 */
+	private HttpAsyncClientBuilder configCredentials(HttpAsyncClientBuilder httpAsyncClientBuilder, final String url) {
+		final BasicCredentialsProvider credentialsProvider = getCredentialsProvider();
+		httpAsyncClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+
+		final ProxyProperties proxyProps = getProxyProperties(url);
+		if (proxyProps == null) {
+			return httpAsyncClientBuilder;
+		}
+
+		final HttpHost proxy = getProxy(proxyProps, credentialsProvider);
+		final HttpRoutePlanner routePlanner = getProxyRoutePlanner(proxy, proxyProps.getExcludedHosts());
+		if (routePlanner != null) {
+			httpAsyncClientBuilder.setRoutePlanner(routePlanner);
+		}
+		return httpAsyncClientBuilder.setProxy(proxy);
+	}
+
+	private BasicCredentialsProvider getCredentialsProvider() {
 		final BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
 		for (final Map.Entry<HostConnection, UserCredentials> entry : getAuthenticationMap().entrySet()) {
 			final HostConnection hostConnection = entry.getKey();
@@ -1191,9 +1687,7 @@ public class CommonsDataLoader implements DataLoader {
 					userCredentials.getUsername(), toCharArray(userCredentials.getPassword()));
 			credentialsProvider.setCredentials(authscope, usernamePasswordCredentials);
 		}
-		httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
-		httpClientBuilder = configureProxy(httpClientBuilder, credentialsProvider, url);
-		return httpClientBuilder;
+		return credentialsProvider;
 	}
 
 	/**
@@ -1206,31 +1700,32 @@ public class CommonsDataLoader implements DataLoader {
 	 */
 	private HttpClientBuilder configureProxy(HttpClientBuilder httpClientBuilder,
 											 BasicCredentialsProvider credentialsProvider, String url) {
-		if (proxyConfig == null) {
+		final ProxyProperties proxyProps = getProxyProperties(url);
+		if (proxyProps == null) {
 			return httpClientBuilder;
 		}
 
-		final String protocol = getURL(url).getProtocol();
-		final boolean proxyHTTPS = Protocol.isHttps(protocol) && (proxyConfig.getHttpsProperties() != null);
-		final boolean proxyHTTP = Protocol.isHttp(protocol) && (proxyConfig.getHttpProperties() != null);
-
-		ProxyProperties proxyProps;
-		if (proxyHTTPS) {
-			LOG.debug("Use proxy https parameters");
-			proxyProps = proxyConfig.getHttpsProperties();
-		} else if (proxyHTTP) {
-			LOG.debug("Use proxy http parameters");
-			proxyProps = proxyConfig.getHttpProperties();
-		} else {
-			return httpClientBuilder;
+		final HttpHost proxy = getProxy(proxyProps, credentialsProvider);
+		final HttpRoutePlanner routePlanner = getProxyRoutePlanner(proxy, proxyProps.getExcludedHosts());
+		if (routePlanner != null) {
+			httpClientBuilder.setRoutePlanner(routePlanner);
 		}
+		return httpClientBuilder.setProxy(proxy);
+	}
 
+	/**
+	 * Builds the proxy {@code HttpHost} and adds the proxy credentials to the {@code credentialsProvider} if needed
+	 *
+	 * @param proxyProps {@link ProxyProperties}
+	 * @param credentialsProvider {@link BasicCredentialsProvider}
+	 * @return {@link HttpHost}
+	 */
+	private HttpHost getProxy(ProxyProperties proxyProps, BasicCredentialsProvider credentialsProvider) {
 		String scheme = proxyProps.getScheme();
 		String proxyHost = proxyProps.getHost();
 		int proxyPort = proxyProps.getPort();
 		String proxyUser = proxyProps.getUser();
 		String proxyPassword = proxyProps.getPassword();
-		Collection<String> excludedHosts = proxyProps.getExcludedHosts();
 
 		if (Utils.isStringNotEmpty(proxyUser) && Utils.isStringNotEmpty(proxyPassword)) {
 			AuthScope proxyAuth = new AuthScope(proxyHost, proxyPort);
@@ -1240,32 +1735,63 @@ public class CommonsDataLoader implements DataLoader {
 		}
 
 		LOG.debug("proxy host/port: {}:{}", proxyHost, proxyPort);
-		final HttpHost proxy = new HttpHost(scheme, proxyHost, proxyPort);
+		return new HttpHost(scheme, proxyHost, proxyPort);
+	}
 
-		if (Utils.isCollectionNotEmpty(excludedHosts)) {
+	/**
+	 * Builds a route planner bypassing the proxy for the excluded hosts
+	 *
+	 * @param proxy {@link HttpHost}
+	 * @param excludedHosts a collection of {@link String} host names to be excluded
+	 * @return {@link HttpRoutePlanner}, or null if no host is excluded
+	 */
+	private HttpRoutePlanner getProxyRoutePlanner(HttpHost proxy, Collection<String> excludedHosts) {
+		if (Utils.isCollectionEmpty(excludedHosts)) {
+			return null;
+		}
 
-			final HttpRoutePlanner routePlanner = new DefaultProxyRoutePlanner(proxy) {
+		return new DefaultProxyRoutePlanner(proxy) {
 
-				@Override
-				protected HttpHost determineProxy(HttpHost host, HttpContext context) throws HttpException {
-					String hostname = (host != null ? host.getHostName() : null);
-					if (hostname != null) {
-						for (String h : excludedHosts) {
-							if (Utils.areStringsEqualIgnoreCase(hostname, h)) {
-								// bypass proxy for that hostname
-								return null;
-							}
+			@Override
+			protected HttpHost determineProxy(HttpHost host, HttpContext context) throws HttpException {
+				String hostname = (host != null ? host.getHostName() : null);
+				if (hostname != null) {
+					for (String h : excludedHosts) {
+						if (Utils.areStringsEqualIgnoreCase(hostname, h)) {
+							// bypass proxy for that hostname
+							return null;
 						}
 					}
-					return super.determineProxy(host, context);
 				}
+				return super.determineProxy(host, context);
+			}
 
-			};
+		};
+	}
 
-			httpClientBuilder.setRoutePlanner(routePlanner);
+	/**
+	 * Returns the proxy properties applicable to the url protocol, if any
+	 *
+	 * @param url {@link String}
+	 * @return {@link ProxyProperties}, or null if no proxy is to be used
+	 */
+	private ProxyProperties getProxyProperties(String url) {
+		if (proxyConfig == null) {
+			return null;
 		}
 
-		return httpClientBuilder.setProxy(proxy);
+		final String protocol = getURL(url).getProtocol();
+		final boolean proxyHTTPS = Protocol.isHttps(protocol) && (proxyConfig.getHttpsProperties() != null);
+		final boolean proxyHTTP = Protocol.isHttp(protocol) && (proxyConfig.getHttpProperties() != null);
+
+		if (proxyHTTPS) {
+			LOG.debug("Use proxy https parameters");
+			return proxyConfig.getHttpsProperties();
+		} else if (proxyHTTP) {
+			LOG.debug("Use proxy http parameters");
+			return proxyConfig.getHttpProperties();
+		}
+		return null;
 	}
 
 	private static Timeout toTimeoutMilliseconds(int millis) {
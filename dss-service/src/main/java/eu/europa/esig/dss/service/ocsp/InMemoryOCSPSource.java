@@ -0,0 +1,83 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.ocsp;
+
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.DSSRevocationUtils;
+import eu.europa.esig.dss.spi.x509.revocation.InMemoryRevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.SingleResp;
+
+import java.util.List;
+
+/**
+ * OCSPSource that keeps the parsed OCSP responses in memory
+ */
+public class InMemoryOCSPSource extends InMemoryRevocationSource<OCSP> implements OCSPSource {
+
+	private static final long serialVersionUID = 2843657321573529745L;
+
+	/**
+	 * Default constructor
+	 */
+	public InMemoryOCSPSource() {
+	}
+
+	@Override
+	protected List<String> initRevocationTokenKeys(CertificateToken certificateToken) {
+		return DSSRevocationUtils.getOcspRevocationTokenKeys(certificateToken);
+	}
+
+	@Override
+	protected String getRevocationTokenKey(CertificateToken certificateToken, String urlString) {
+		return DSSRevocationUtils.getOcspRevocationKey(certificateToken, urlString);
+	}
+
+	@Override
+	protected RevocationToken<OCSP> buildRevocationTokenFromCache(RevocationToken<OCSP> cachedToken,
+			CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		OCSPToken cachedOCSPToken = (OCSPToken) cachedToken;
+		BasicOCSPResp basicResponse = cachedOCSPToken.getBasicOCSPResp();
+		SingleResp latestSingleResponse = certificateToken.equals(cachedOCSPToken.getRelatedCertificate()) ?
+				cachedOCSPToken.getLatestSingleResp() :
+				DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerCertificateToken);
+		OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerCertificateToken);
+		ocspToken.setSourceURL(cachedToken.getSourceURL());
+		ocspToken.setExternalOrigin(RevocationOrigin.CACHED);
+		return ocspToken;
+	}
+
+	@Override
+	public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		return (OCSPToken) super.getRevocationToken(certificateToken, issuerCertificateToken);
+	}
+
+	@Override
+	public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken, boolean forceRefresh) {
+		return (OCSPToken) super.getRevocationToken(certificateToken, issuerCertificateToken, forceRefresh);
+	}
+
+}
@@ -29,9 +29,11 @@ import eu.europa.esig.dss.service.NonceSource;
 import eu.europa.esig.dss.service.http.commons.OCSPDataLoader;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSRevocationUtils;
+import eu.europa.esig.dss.spi.client.http.AsyncDataLoaderUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.spi.x509.revocation.OnlineRevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RequestCoalescer;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPRespStatus;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPSource;
@@ -58,6 +60,9 @@ import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * Online OCSP repository. This implementation will contact the OCSP Responder
@@ -73,6 +78,11 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 	 */
 	private NonceSource nonceSource;
 
+	/**
+	 * Deduplicates concurrent OCSP requests for the same CertID : the callers share the obtained OCSP response
+	 */
+	private final RequestCoalescer<String, RevocationTokenAndUrl<OCSP>> ocspRequests = new RequestCoalescer<>();
+
 	/**
 	 * The data loader used to retrieve the OCSP response.
 	 */
@@ -83,6 +93,11 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 	 */
 	private DigestAlgorithm certIDDigestAlgorithm = DigestAlgorithm.SHA1;
 
+	/**
+	 * The executor used to request (with a blocking {@code DataLoader}) and to process the OCSP responses asynchronously
+	 */
+	private transient Executor executor;
+
 	/**
 	 * Create an OCSP source The default constructor for OnlineOCSPSource. The
 	 * default {@code OCSPDataLoader} is set. It is possible to change it with
@@ -131,6 +146,24 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 		this.certIDDigestAlgorithm = certIDDigestAlgorithm;
 	}
 
+	/**
+	 * Sets the executor used by the asynchronous methods to parse and verify the obtained OCSP responses,
+	 * as well as to execute the requests when the defined {@code DataLoader} is not an {@code AsyncDataLoader}.
+	 * E.g. the {@code ExecutorService} defined within {@code CertificateVerifier.setExecutorService(executorService)}
+	 * may be reused.
+	 * <p>
+	 * When not defined, the OCSP responses are processed within the thread completing the request
+	 * (e.g. an I/O thread of an {@code AsyncDataLoader}), and a {@code DataLoader} which is not
+	 * an {@code AsyncDataLoader} blocks the calling thread.
+	 * <p>
+	 * Default : null
+	 *
+	 * @param executor {@link Executor}
+	 */
+	public void setExecutor(final Executor executor) {
+		this.executor = executor;
+	}
+
 	@Override
 	public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
 		return getRevocationToken(certificateToken, issuerCertificateToken, Collections.emptyList());
@@ -186,7 +219,13 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 	protected RevocationTokenAndUrl<OCSP> getRevocationTokenAndUrl(CertificateToken certificateToken,
 																   CertificateToken issuerToken, List<String> ocspUrls) {
 		final CertificateID certId = DSSRevocationUtils.getOCSPCertificateID(certificateToken, issuerToken, certIDDigestAlgorithm);
+		final RevocationTokenAndUrl<OCSP> revocationTokenAndUrl = ocspRequests.execute(getRequestKey(certId, ocspUrls),
+				() -> requestRevocationTokenAndUrl(certificateToken, issuerToken, ocspUrls, certId));
+		return toRevocationTokenAndUrl(certificateToken, issuerToken, revocationTokenAndUrl);
+	}
 
+	private RevocationTokenAndUrl<OCSP> requestRevocationTokenAndUrl(CertificateToken certificateToken,
+			CertificateToken issuerToken, List<String> ocspUrls, CertificateID certId) {
 		BigInteger nonce = null;
 		if (nonceSource != null) {
 			nonce = nonceSource.getNonce();
@@ -203,33 +242,10 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 
 			try {
 				final byte[] ocspRespBytes = dataLoader.post(ocspAccessLocation, content);
-				if (!Utils.isArrayEmpty(ocspRespBytes)) {
-					if (LOG.isTraceEnabled()) {
-						LOG.trace(String.format("Obtained OCSPResponse binaries from URL '%s' : %s", ocspAccessLocation, Utils.toBase64(ocspRespBytes)));
-					}
-					final OCSPResp ocspResp = new OCSPResp(ocspRespBytes);
-					verifyNonce(ocspResp, nonce);
-
-					OCSPRespStatus status = OCSPRespStatus.fromInt(ocspResp.getStatus());
-					if (OCSPRespStatus.SUCCESSFUL.equals(status)) {
-						BasicOCSPResp basicResponse = (BasicOCSPResp) ocspResp.getResponseObject();
-						SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerToken);
-						OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerToken);
-						ocspToken.setSourceURL(ocspAccessLocation);
-						ocspToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
-
-						if (LOG.isDebugEnabled()) {
-							LOG.debug("OCSP Response '{}' has been retrieved from a source with URL '{}'.",
-									ocspToken.getDSSIdAsString(), ocspAccessLocation);
-						}
-						return new RevocationTokenAndUrl<>(ocspAccessLocation, ocspToken);
-
-					} else {
-						LOG.warn("Ignored OCSP Response from URL '{}' : status -> {}", ocspAccessLocation, status);
-					}
-
-				} else {
-					LOG.warn("OCSP Data Loader for certificate {} responded with an empty byte array!", certificateToken.getDSSIdAsString());
+				final RevocationTokenAndUrl<OCSP> revocationTokenAndUrl = toRevocationTokenAndUrl(
+						certificateToken, issuerToken, ocspAccessLocation, ocspRespBytes, nonce);
+				if (revocationTokenAndUrl != null) {
+					return revocationTokenAndUrl;
 				}
 
 			} catch (Exception e) {
@@ -246,6 +262,219 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 		return null;
 	}
 
+	/**
+	 * Retrieves asynchronously an OCSP token for the {@code certificateToken}.
+	 * The call does not block when the defined {@code DataLoader} is an {@code AsyncDataLoader}
+	 * or when an executor is defined (see {@code setExecutor(executor)}).
+	 *
+	 * @param certificateToken {@link CertificateToken} to get an OCSP token for
+	 * @param issuerCertificateToken {@link CertificateToken} issued the {@code certificateToken}
+	 * @return {@link CompletableFuture} with the {@link OCSPToken}, or with null if no OCSP response has been obtained
+	 */
+	public CompletableFuture<OCSPToken> getRevocationTokenAsync(CertificateToken certificateToken,
+																CertificateToken issuerCertificateToken) {
+		return getRevocationTokenAsync(certificateToken, issuerCertificateToken, Collections.emptyList());
+	}
+
+	/**
+	 * Retrieves asynchronously an OCSP token for the {@code certificateToken}, using the alternative urls
+	 * in addition to the ones defined in the certificate.
+	 * The call does not block when the defined {@code DataLoader} is an {@code AsyncDataLoader}
+	 * or when an executor is defined (see {@code setExecutor(executor)}).
+	 *
+	 * @param certificateToken {@link CertificateToken} to get an OCSP token for
+	 * @param issuerCertificateToken {@link CertificateToken} issued the {@code certificateToken}
+	 * @param alternativeUrls a list of {@link String} alternative urls
+	 * @return {@link CompletableFuture} with the {@link OCSPToken}, or with null if no OCSP response has been obtained
+	 */
+	public CompletableFuture<OCSPToken> getRevocationTokenAsync(CertificateToken certificateToken,
+			CertificateToken issuerCertificateToken, List<String> alternativeUrls) {
+		Objects.requireNonNull(dataLoader, "DataLoader is not provided !");
+
+		final String dssIdAsString = certificateToken.getDSSIdAsString();
+		LOG.trace("--> OnlineOCSPSource queried asynchronously for {}", dssIdAsString);
+		if (Utils.isCollectionNotEmpty(alternativeUrls)) {
+			LOG.info("OCSP alternative urls : {}", alternativeUrls);
+		}
+
+		final List<String> ocspAccessLocations = DSSASN1Utils.getOCSPAccessLocations(certificateToken);
+		if (Utils.isCollectionEmpty(ocspAccessLocations) && Utils.isCollectionEmpty(alternativeUrls)) {
+			LOG.warn("No OCSP location found for {}", dssIdAsString);
+			return CompletableFuture.completedFuture(null);
+		}
+		ocspAccessLocations.addAll(alternativeUrls);
+
+		return getRevocationTokenAndUrlAsync(certificateToken, issuerCertificateToken, ocspAccessLocations)
+				.thenApply(revocationTokenAndUrl -> {
+					if (revocationTokenAndUrl != null) {
+						return (OCSPToken) revocationTokenAndUrl.getRevocationToken();
+					} else {
+						LOG.debug("No OCSP has been downloaded for a CertificateToken with Id '{}' from a list of urls : {}",
+								dssIdAsString, ocspAccessLocations);
+						return null;
+					}
+				});
+	}
+
+	/**
+	 * Retrieves asynchronously a {@code RevocationTokenAndUrl} for the {@code certificateToken}.
+	 * The call does not block when the defined {@code DataLoader} is an {@code AsyncDataLoader}
+	 * or when an executor is defined (see {@code setExecutor(executor)}).
+	 *
+	 * @param certificateToken {@link CertificateToken} to get an OCSP token for
+	 * @param issuerToken {@link CertificateToken} issued the {@code certificateToken}
+	 * @return {@link CompletableFuture} with the {@link RevocationTokenAndUrl},
+	 *         or with null if no OCSP response has been obtained
+	 */
+	public CompletableFuture<RevocationTokenAndUrl<OCSP>> getRevocationTokenAndUrlAsync(
+			CertificateToken certificateToken, CertificateToken issuerToken) {
+		final List<String> ocspAccessLocations = DSSASN1Utils.getOCSPAccessLocations(certificateToken);
+		if (Utils.isCollectionEmpty(ocspAccessLocations)) {
+			LOG.warn("No OCSP location found for {}", certificateToken.getDSSIdAsString());
+			return CompletableFuture.completedFuture(null);
+		}
+		return getRevocationTokenAndUrlAsync(certificateToken, issuerToken, ocspAccessLocations);
+	}
+
+	/**
+	 * Extracts asynchronously an OCSP token for a {@code certificateToken} from the given list of {@code ocspUrls}.
+	 * The urls are requested sequentially, until a successful OCSP response is obtained.
+	 * The OCSP responses are parsed and verified within the executor when defined (see {@code setExecutor(executor)}),
+	 * in order to not occupy the I/O threads of the {@code DataLoader}.
+	 *
+	 * @param certificateToken {@link CertificateToken} to get an OCSP token for
+	 * @param issuerToken {@link CertificateToken} issued the {@code certificateToken}
+	 * @param ocspUrls a list of {@link String} URLs to use to access an OCSP token
+	 * @return {@link CompletableFuture} with the {@link RevocationTokenAndUrl}
+	 */
+	protected CompletableFuture<RevocationTokenAndUrl<OCSP>> getRevocationTokenAndUrlAsync(
+			CertificateToken certificateToken, CertificateToken issuerToken, List<String> ocspUrls) {
+		final CertificateID certId;
+		try {
+			certId = DSSRevocationUtils.getOCSPCertificateID(certificateToken, issuerToken, certIDDigestAlgorithm);
+		} catch (Exception e) {
+			final CompletableFuture<RevocationTokenAndUrl<OCSP>> future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+			return future;
+		}
+
+		return ocspRequests.executeAsync(getRequestKey(certId, ocspUrls), () -> {
+					final BigInteger nonce = nonceSource != null ? nonceSource.getNonce() : null;
+					final byte[] content = buildOCSPRequest(certId, nonce);
+					return getRevocationTokenAndUrlAsync(certificateToken, issuerToken, ocspUrls, 0, content, nonce);
+				})
+				.thenApply(revocationTokenAndUrl -> toRevocationTokenAndUrl(certificateToken, issuerToken, revocationTokenAndUrl));
+	}
+
+	/**
+	 * Returns the key identifying the OCSP request, shared by concurrent requests
+	 */
+	private String getRequestKey(CertificateID certId, List<String> ocspUrls) {
+		return Utils.toBase64(DSSASN1Utils.getDEREncoded(certId.toASN1Primitive())) + ":" + ocspUrls;
+	}
+
+	/**
+	 * Returns the {@code RevocationTokenAndUrl} obtained by a shared request for the given {@code certificateToken}.
+	 * A new token is built from the shared OCSP response when the request has been executed
+	 * for another instance of the certificate.
+	 */
+	private RevocationTokenAndUrl<OCSP> toRevocationTokenAndUrl(CertificateToken certificateToken, CertificateToken issuerToken,
+																RevocationTokenAndUrl<OCSP> revocationTokenAndUrl) {
+		if (revocationTokenAndUrl == null || revocationTokenAndUrl.getRevocationToken().getRelatedCertificate() == certificateToken) {
+			return revocationTokenAndUrl;
+		}
+		final BasicOCSPResp basicResponse = ((OCSPToken) revocationTokenAndUrl.getRevocationToken()).getBasicOCSPResp();
+		final SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerToken);
+		final OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerToken);
+		ocspToken.setSourceURL(revocationTokenAndUrl.getUrlString());
+		ocspToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+		return new RevocationTokenAndUrl<>(revocationTokenAndUrl.getUrlString(), ocspToken);
+	}
+
+	private CompletableFuture<RevocationTokenAndUrl<OCSP>> getRevocationTokenAndUrlAsync(
+			CertificateToken certificateToken, CertificateToken issuerToken, List<String> ocspUrls, int index,
+			byte[] content, BigInteger nonce) {
+		if (index >= ocspUrls.size()) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		final String ocspAccessLocation = ocspUrls.get(index);
+		final boolean lastTry = index == ocspUrls.size() - 1;
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Trying to retrieve an OCSP response from URL '{}'...", ocspAccessLocation);
+		}
+
+		final CompletableFuture<byte[]> request = AsyncDataLoaderUtils.postAsync(
+				dataLoader, ocspAccessLocation, content, executor);
+		return AsyncDataLoaderUtils.thenApply(request, ocspRespBytes -> toRevocationTokenAndUrl(
+						certificateToken, issuerToken, ocspAccessLocation, ocspRespBytes, nonce), executor)
+				.handle((revocationTokenAndUrl, t) -> {
+					if (t != null) {
+						final Throwable e = AsyncDataLoaderUtils.unwrap(t);
+						if (lastTry) {
+							throw new DSSExternalResourceException(String.format(
+									"Unable to retrieve OCSP response for certificate with Id '%s' from URL '%s'. Reason : %s",
+									certificateToken.getDSSIdAsString(), ocspAccessLocation, e.getMessage()), e);
+						}
+						LOG.warn("Unable to retrieve OCSP response with URL '{}' : {}", ocspAccessLocation, e.getMessage());
+
+					} else if (revocationTokenAndUrl != null) {
+						return CompletableFuture.completedFuture(revocationTokenAndUrl);
+					}
+					return getRevocationTokenAndUrlAsync(certificateToken, issuerToken, ocspUrls, index + 1, content, nonce);
+				})
+				.thenCompose(Function.identity());
+	}
+
+	/**
+	 * Builds the {@code RevocationTokenAndUrl} from the OCSP response binaries obtained from the {@code ocspAccessLocation}
+	 *
+	 * @param certificateToken {@link CertificateToken} to get an OCSP token for
+	 * @param issuerToken {@link CertificateToken} issued the {@code certificateToken}
+	 * @param ocspAccessLocation {@link String} url the response has been obtained from
+	 * @param ocspRespBytes the OCSP response binaries
+	 * @param nonce {@link BigInteger} the dispatched nonce, if any
+	 * @return {@link RevocationTokenAndUrl} if a successful OCSP response has been obtained, null otherwise
+	 */
+	private RevocationTokenAndUrl<OCSP> toRevocationTokenAndUrl(CertificateToken certificateToken, CertificateToken issuerToken,
+																String ocspAccessLocation, byte[] ocspRespBytes, BigInteger nonce) {
+		if (Utils.isArrayEmpty(ocspRespBytes)) {
+			LOG.warn("OCSP Data Loader for certificate {} responded with an empty byte array!", certificateToken.getDSSIdAsString());
+			return null;
+		}
+
+		try {
+			if (LOG.isTraceEnabled()) {
+				LOG.trace(String.format("Obtained OCSPResponse binaries from URL '%s' : %s", ocspAccessLocation, Utils.toBase64(ocspRespBytes)));
+			}
+			final OCSPResp ocspResp = new OCSPResp(ocspRespBytes);
+			verifyNonce(ocspResp, nonce);
+
+			OCSPRespStatus status = OCSPRespStatus.fromInt(ocspResp.getStatus());
+			if (OCSPRespStatus.SUCCESSFUL.equals(status)) {
+				BasicOCSPResp basicResponse = (BasicOCSPResp) ocspResp.getResponseObject();
+				SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerToken);
+				OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerToken);
+				ocspToken.setSourceURL(ocspAccessLocation);
+				ocspToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+
+				if (LOG.isDebugEnabled()) {
+					LOG.debug("OCSP Response '{}' has been retrieved from a source with URL '{}'.",
+							ocspToken.getDSSIdAsString(), ocspAccessLocation);
+				}
+				return new RevocationTokenAndUrl<>(ocspAccessLocation, ocspToken);
+
+			} else {
+				LOG.warn("Ignored OCSP Response from URL '{}' : status -> {}", ocspAccessLocation, status);
+				return null;
+			}
+
+		} catch (IOException | OCSPException e) {
+			// keep the original message, used in the final exception of the OCSP retrieval
+			throw new DSSExternalResourceException(e.getMessage(), e);
+		}
+	}
+
 	private byte[] buildOCSPRequest(final CertificateID certId, BigInteger nonce) throws DSSException {
 		try {
 			final OCSPReqBuilder ocspReqBuilder = new OCSPReqBuilder();
@@ -26,6 +26,7 @@ import eu.europa.esig.dss.model.TimestampBinary;
 import eu.europa.esig.dss.service.NonceSource;
 import eu.europa.esig.dss.service.http.commons.TimestampDataLoader;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.client.http.AsyncDataLoaderUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
@@ -42,6 +43,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class encompassing a RFC 3161 TSA, accessed through HTTP(S) to a given URI
@@ -148,33 +150,73 @@ public class OnlineTSPSource implements TSPSource {
 
 	@Override
 	public TimestampBinary getTimeStampResponse(final DigestAlgorithm digestAlgorithm, final byte[] digest) throws DSSException {
+		Objects.requireNonNull(dataLoader, "DataLoader is not provided !");
+		final TimeStampRequest timeStampRequest = buildTimeStampRequest(digestAlgorithm, digest);
+
+		// Call the communications layer
+		byte[] respBytes = dataLoader.post(tspServer, getEncoded(timeStampRequest));
+
+		return toTimestampBinary(timeStampRequest, respBytes);
+	}
+
+	/**
+	 * Requests asynchronously a timestamp for the given digest.
+	 * The call does not block when the defined {@code DataLoader} is an {@code AsyncDataLoader}.
+	 *
+	 * @param digestAlgorithm {@link DigestAlgorithm} used to compute the digest
+	 * @param digest the digest value to be timestamped
+	 * @return {@link CompletableFuture} with the obtained {@link TimestampBinary}
+	 */
+	public CompletableFuture<TimestampBinary> getTimeStampResponseAsync(final DigestAlgorithm digestAlgorithm, final byte[] digest) {
+		final TimeStampRequest timeStampRequest;
+		final byte[] requestBytes;
 		try {
 			Objects.requireNonNull(dataLoader, "DataLoader is not provided !");
-			if (LOG.isTraceEnabled()) {
-				LOG.trace("Timestamp digest algorithm: {}", digestAlgorithm.getName());
-				LOG.trace("Timestamp digest value    : {}", Utils.toHex(digest));
-			}
+			timeStampRequest = buildTimeStampRequest(digestAlgorithm, digest);
+			requestBytes = getEncoded(timeStampRequest);
 
-			// Setup the time stamp request
-			final TimeStampRequestGenerator tsqGenerator = new TimeStampRequestGenerator();
-			tsqGenerator.setCertReq(true);
-			if (policyOid != null) {
-				tsqGenerator.setReqPolicy(policyOid);
-			}
+		} catch (Exception e) {
+			final CompletableFuture<TimestampBinary> future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+			return future;
+		}
 
-			ASN1ObjectIdentifier asn1ObjectIdentifier = new ASN1ObjectIdentifier(digestAlgorithm.getOid());
-			TimeStampRequest timeStampRequest;
-			if (nonceSource == null) {
-				timeStampRequest = tsqGenerator.generate(asn1ObjectIdentifier, digest);
-			} else {
-				timeStampRequest = tsqGenerator.generate(asn1ObjectIdentifier, digest, nonceSource.getNonce());
-			}
+		return AsyncDataLoaderUtils.postAsync(dataLoader, tspServer, requestBytes)
+				.thenApply(respBytes -> toTimestampBinary(timeStampRequest, respBytes));
+	}
 
-			final byte[] requestBytes = timeStampRequest.getEncoded();
+	private TimeStampRequest buildTimeStampRequest(final DigestAlgorithm digestAlgorithm, final byte[] digest) {
+		if (LOG.isTraceEnabled()) {
+			LOG.trace("Timestamp digest algorithm: {}", digestAlgorithm.getName());
+			LOG.trace("Timestamp digest value    : {}", Utils.toHex(digest));
+		}
 
-			// Call the communications layer
-			byte[] respBytes = dataLoader.post(tspServer, requestBytes);
+		// Setup the time stamp request
+		final TimeStampRequestGenerator tsqGenerator = new TimeStampRequestGenerator();
+		tsqGenerator.setCertReq(true);
+		if (policyOid != null) {
+			tsqGenerator.setReqPolicy(policyOid);
+		}
 
+		ASN1ObjectIdentifier asn1ObjectIdentifier = new ASN1ObjectIdentifier(digestAlgorithm.getOid());
+		if (nonceSource == null) {
+			return tsqGenerator.generate(asn1ObjectIdentifier, digest);
+		} else {
+			return tsqGenerator.generate(asn1ObjectIdentifier, digest, nonceSource.getNonce());
+		}
+	}
+
+	private byte[] getEncoded(final TimeStampRequest timeStampRequest) {
+		try {
+			return timeStampRequest.getEncoded();
+		} catch (IOException e) {
+			throw new DSSExternalResourceException(String.format(
+					"An error occurred during timestamp request : %s", e.getMessage()), e);
+		}
+	}
+
+	private TimestampBinary toTimestampBinary(final TimeStampRequest timeStampRequest, final byte[] respBytes) {
+		try {
 			// Handle the TSA response
 			final TimeStampResponse timeStampResponse = new TimeStampResponse(respBytes);
 
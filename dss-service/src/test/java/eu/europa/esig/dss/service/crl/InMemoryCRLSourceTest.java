@@ -0,0 +1,267 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.crl;
+
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.client.jdbc.JdbcCacheConnector;
+import eu.europa.esig.dss.spi.x509.revocation.OnlineRevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryCRLSourceTest {
+
+	private static final String CRL_URL = "http://localhost/test-ca.crl";
+
+	private static KeyPair caKeyPair;
+	private static CertificateToken caToken;
+	private static CertificateToken goodToken;
+	private static CertificateToken revokedToken;
+
+	@BeforeAll
+	public static void init() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		caKeyPair = keyPairGenerator.generateKeyPair();
+		KeyPair userKeyPair = keyPairGenerator.generateKeyPair();
+
+		X500Name caName = new X500Name("CN=Test CA");
+		Date notBefore = new Date(System.currentTimeMillis() - 3600000L);
+		Date notAfter = new Date(System.currentTimeMillis() + 24 * 3600000L);
+
+		JcaX509v3CertificateBuilder caBuilder = new JcaX509v3CertificateBuilder(caName, BigInteger.ONE, notBefore, notAfter,
+				caName, caKeyPair.getPublic());
+		caBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+		caBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+		caToken = new CertificateToken(new JcaX509CertificateConverter().getCertificate(caBuilder.build(getSigner())));
+
+		goodToken = buildUserCertificate(caName, BigInteger.valueOf(2), notBefore, notAfter, userKeyPair);
+		revokedToken = buildUserCertificate(caName, BigInteger.valueOf(3), notBefore, notAfter, userKeyPair);
+	}
+
+	private static CertificateToken buildUserCertificate(X500Name caName, BigInteger serialNumber, Date notBefore, Date notAfter,
+			KeyPair keyPair) throws Exception {
+		JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(caName, serialNumber, notBefore, notAfter,
+				new X500Name("CN=User " + serialNumber), keyPair.getPublic());
+		DistributionPointName distributionPointName = new DistributionPointName(
+				new GeneralNames(new GeneralName(GeneralName.uniformResourceIdentifier, CRL_URL)));
+		builder.addExtension(Extension.cRLDistributionPoints, false,
+				new CRLDistPoint(new DistributionPoint[] { new DistributionPoint(distributionPointName, null, null) }));
+		return new CertificateToken(new JcaX509CertificateConverter().getCertificate(builder.build(getSigner())));
+	}
+
+	private static ContentSigner getSigner() throws Exception {
+		return new JcaContentSignerBuilder("SHA256withRSA").build(caKeyPair.getPrivate());
+	}
+
+	private static byte[] buildCRL() throws Exception {
+		Date now = new Date();
+		X509v2CRLBuilder crlBuilder = new X509v2CRLBuilder(new X500Name("CN=Test CA"), new Date(now.getTime() - 60000L));
+		crlBuilder.setNextUpdate(new Date(now.getTime() + 3600000L));
+		crlBuilder.addCRLEntry(revokedToken.getSerialNumber(), new Date(now.getTime() - 60000L), CRLReason.keyCompromise);
+		return crlBuilder.build(getSigner()).getEncoded();
+	}
+
+	@Test
+	public void test() throws Exception {
+		MockOnlineCRLSource onlineSource = new MockOnlineCRLSource(buildCRL());
+
+		InMemoryCRLSource crlSource = new InMemoryCRLSource();
+		crlSource.setProxySource(onlineSource);
+
+		CRLToken revocationToken = crlSource.getRevocationToken(goodToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertTrue(revocationToken.getStatus().isGood());
+		assertEquals(1, onlineSource.counter.get());
+		assertEquals(1, crlSource.size());
+
+		CRLToken cachedToken = crlSource.getRevocationToken(goodToken, caToken);
+		assertNotNull(cachedToken);
+		assertEquals(RevocationOrigin.CACHED, cachedToken.getExternalOrigin());
+		assertTrue(cachedToken.getStatus().isGood());
+		assertEquals(CRL_URL, cachedToken.getSourceURL());
+		assertSame(revocationToken.getCrlValidity(), cachedToken.getCrlValidity());
+		assertEquals(1, onlineSource.counter.get());
+
+		// same CRL, another certificate
+		CRLToken revokedCachedToken = crlSource.getRevocationToken(revokedToken, caToken);
+		assertNotNull(revokedCachedToken);
+		assertEquals(RevocationOrigin.CACHED, revokedCachedToken.getExternalOrigin());
+		assertTrue(revokedCachedToken.getStatus().isRevoked());
+		assertEquals(revokedToken, revokedCachedToken.getRelatedCertificate());
+		assertEquals(1, onlineSource.counter.get());
+
+		CRLToken forceRefresh = crlSource.getRevocationToken(goodToken, caToken, true);
+		assertEquals(RevocationOrigin.EXTERNAL, forceRefresh.getExternalOrigin());
+		assertEquals(2, onlineSource.counter.get());
+		assertNotSame(revocationToken.getCrlValidity(), crlSource.getRevocationToken(goodToken, caToken).getCrlValidity());
+		assertEquals(1, crlSource.size());
+
+		// the cached CRL is considered as expired
+		crlSource.setMaxNextUpdateDelay(0L);
+		revocationToken = crlSource.getRevocationToken(goodToken, caToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertEquals(3, onlineSource.counter.get());
+		// expired on insertion
+		assertEquals(0, crlSource.size());
+	}
+
+	@Test
+	public void eviction() throws Exception {
+		MockOnlineCRLSource onlineSource = new MockOnlineCRLSource(buildCRL());
+
+		InMemoryCRLSource crlSource = new InMemoryCRLSource();
+		crlSource.setProxySource(onlineSource);
+
+		crlSource.getRevocationToken(goodToken, caToken);
+		assertEquals(1, crlSource.size());
+
+		crlSource.setMaxWeight(onlineSource.crlBinaries.length - 1L);
+		assertEquals(0, crlSource.size());
+
+		crlSource.setMaxWeight(onlineSource.crlBinaries.length);
+		crlSource.getRevocationToken(goodToken, caToken);
+		assertEquals(1, crlSource.size());
+
+		crlSource.setMaxSize(0);
+		assertEquals(0, crlSource.size());
+		assertEquals(RevocationOrigin.EXTERNAL, crlSource.getRevocationToken(goodToken, caToken).getExternalOrigin());
+		assertEquals(3, onlineSource.counter.get());
+
+		crlSource.setMaxSize(10);
+		crlSource.getRevocationToken(goodToken, caToken);
+		assertEquals(1, crlSource.size());
+		crlSource.clear();
+		assertEquals(0, crlSource.size());
+	}
+
+	@Test
+	public void twoLevelCache() throws Exception {
+		MockOnlineCRLSource onlineSource = new MockOnlineCRLSource(buildCRL());
+
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setUrl("jdbc:h2:mem:inmemorytest;DB_CLOSE_DELAY=-1");
+		JdbcCacheCRLSource jdbcSource = new JdbcCacheCRLSource();
+		jdbcSource.setJdbcCacheConnector(new JdbcCacheConnector(dataSource));
+		jdbcSource.initTable();
+		jdbcSource.setProxySource(onlineSource);
+
+		try {
+			InMemoryCRLSource crlSource = new InMemoryCRLSource();
+			crlSource.setProxySource(jdbcSource);
+
+			CRLToken revocationToken = crlSource.getRevocationToken(goodToken, caToken);
+			assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+			assertEquals(1, onlineSource.counter.get());
+			assertEquals(1, crlSource.size());
+
+			crlSource.clear();
+
+			// loaded from the database and kept in memory
+			revocationToken = crlSource.getRevocationToken(revokedToken, caToken);
+			assertEquals(RevocationOrigin.CACHED, revocationToken.getExternalOrigin());
+			assertTrue(revocationToken.getStatus().isRevoked());
+			assertEquals(CRL_URL, revocationToken.getSourceURL());
+			assertEquals(1, crlSource.size());
+
+			revocationToken = crlSource.getRevocationToken(goodToken, caToken);
+			assertEquals(RevocationOrigin.CACHED, revocationToken.getExternalOrigin());
+			assertTrue(revocationToken.getStatus().isGood());
+			assertEquals(1, onlineSource.counter.get());
+
+		} finally {
+			jdbcSource.destroyTable();
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockOnlineCRLSource implements OnlineRevocationSource<CRL> {
+
+		private final byte[] crlBinaries;
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		private MockOnlineCRLSource(byte[] crlBinaries) {
+			this.crlBinaries = crlBinaries;
+		}
+
+		@Override
+		public void setDataLoader(DataLoader dataLoader) {
+			// not used
+		}
+
+		@Override
+		public RevocationToken<CRL> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			return getRevocationTokenAndUrl(certificateToken, issuerCertificateToken).getRevocationToken();
+		}
+
+		@Override
+		public RevocationTokenAndUrl<CRL> getRevocationTokenAndUrl(CertificateToken certificateToken, CertificateToken issuerToken) {
+			counter.incrementAndGet();
+			try {
+				CRLValidity crlValidity = CRLUtils.buildCRLValidity(CRLUtils.buildCRLBinary(crlBinaries), issuerToken);
+				CRLToken crlToken = new CRLToken(certificateToken, crlValidity);
+				crlToken.setSourceURL(CRL_URL);
+				crlToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+				return new RevocationTokenAndUrl<>(CRL_URL, crlToken);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+	}
+
+}
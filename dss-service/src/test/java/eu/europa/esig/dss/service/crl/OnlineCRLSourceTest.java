@@ -25,12 +25,21 @@ import eu.europa.esig.dss.enumerations.SignatureValidity;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -82,6 +91,16 @@ public class OnlineCRLSourceTest {
 		assertNotNull(revocationToken);
 	}
 	
+	@Test
+	public void getRevocationTokenAsyncTest() throws Exception {
+		CRLToken revocationToken = onlineCRLSource.getRevocationTokenAsync(goodUser, goodCa).get(60, TimeUnit.SECONDS);
+		assertNull(revocationToken);
+
+		revocationToken = onlineCRLSource.getRevocationTokenAsync(goodCa, rootCa, Arrays.asList(wrong_url)).get(60, TimeUnit.SECONDS);
+		assertNotNull(revocationToken);
+		assertEquals(SignatureValidity.VALID, revocationToken.getSignatureValidity());
+	}
+
 	@Test
 	public void getRevocationTokenEd25519Test() {
 		CRLToken revocationToken = onlineCRLSource.getRevocationToken(ed25519goodCa, ed25519goodUser);
@@ -133,4 +152,33 @@ public class OnlineCRLSourceTest {
 		assertEquals("DataLoader is not provided !", exception.getMessage());
 	}
 
+	@Test
+	public void executorTest() throws Exception {
+		CertificateToken certificateToken = DSSUtils.loadCertificate(new File("src/test/resources/ec.europa.eu.crt"));
+		CertificateToken issuerToken = DSSUtils.loadCertificate(new File("src/test/resources/CALT.crt"));
+		String crlUrl = "http://localhost/crl";
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			AtomicInteger executions = new AtomicInteger();
+			Executor executor = command -> {
+				executions.incrementAndGet();
+				executorService.execute(command);
+			};
+
+			OnlineCRLSource crlSource = new OnlineCRLSource(new MemoryDataLoader(
+					Collections.singletonMap(crlUrl, new byte[] { 1, 2, 3 })));
+			crlSource.setExecutor(executor);
+
+			CompletableFuture<?> future = crlSource.getRevocationTokenAndUrlAsync(
+					certificateToken, issuerToken, Arrays.asList(crlUrl));
+			assertNull(future.get(60, TimeUnit.SECONDS));
+			// the blocking download and the CRL processing
+			assertEquals(2, executions.get());
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
 }
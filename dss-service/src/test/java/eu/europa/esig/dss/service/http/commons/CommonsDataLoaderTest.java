@@ -28,13 +28,34 @@ import eu.europa.esig.dss.spi.client.http.NativeHTTPDataLoader;
 import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.utils.Utils;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.core5.reactor.IOReactorStatus;
+import org.apache.hc.core5.util.TimeValue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -190,4 +211,239 @@ public class CommonsDataLoaderTest {
 		assertTrue(Utils.isArrayNotEmpty(dataLoader.get(URL_TO_LOAD)));
 	}
 
+	@Test
+	public void sharedHttpClientTest() throws Exception {
+		final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+		final byte[] body = "response".getBytes(StandardCharsets.UTF_8);
+
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			clientPorts.add(exchange.getRemoteAddress().getPort());
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(body);
+			}
+		});
+		server.start();
+
+		try {
+			String url = "http://localhost:" + server.getAddress().getPort() + "/ocsp";
+
+			for (int i = 0; i < 5; i++) {
+				assertArrayEquals(body, dataLoader.get(url));
+			}
+			// a new connection is opened per request
+			assertEquals(5, clientPorts.size());
+
+			clientPorts.clear();
+			try (CommonsDataLoader sharedDataLoader = new CommonsDataLoader()) {
+				sharedDataLoader.setUseSharedHttpClient(true);
+				for (int i = 0; i < 5; i++) {
+					assertArrayEquals(body, sharedDataLoader.get(url));
+					assertArrayEquals(body, sharedDataLoader.post(url, new byte[] { 1, 2, 3 }));
+				}
+				// the kept-alive connection is reused
+				assertEquals(1, clientPorts.size());
+
+				sharedDataLoader.close();
+
+				// the loader remains usable after closing
+				assertArrayEquals(body, sharedDataLoader.get(url));
+				assertEquals(2, clientPorts.size());
+			}
+
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	public void sharedHttpClientConcurrentTest() throws Exception {
+		final byte[] body = "response".getBytes(StandardCharsets.UTF_8);
+
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(body);
+			}
+		});
+		final ExecutorService serverExecutorService = Executors.newFixedThreadPool(4);
+		server.setExecutor(serverExecutorService);
+		server.start();
+
+		final AtomicInteger builtClients = new AtomicInteger();
+		final ExecutorService executorService = Executors.newFixedThreadPool(8);
+		try (CommonsDataLoader sharedDataLoader = new CommonsDataLoader() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected HttpClientBuilder getHttpClientBuilder(String url) {
+				builtClients.incrementAndGet();
+				return super.getHttpClientBuilder(url);
+			}
+
+		}) {
+			sharedDataLoader.setUseSharedHttpClient(true);
+			String url = "http://localhost:" + server.getAddress().getPort() + "/ocsp";
+
+			for (int run = 0; run < 3; run++) {
+				final CountDownLatch startLatch = new CountDownLatch(1);
+				List<Future<byte[]>> futures = new ArrayList<>();
+				for (int i = 0; i < 16; i++) {
+					futures.add(executorService.submit(() -> {
+						startLatch.await();
+						return sharedDataLoader.get(url);
+					}));
+				}
+				startLatch.countDown();
+				for (Future<byte[]> future : futures) {
+					assertArrayEquals(body, future.get());
+				}
+				// a single client (and connection pool) is built per configuration, even under concurrent first use
+				assertEquals(run + 1, builtClients.get());
+
+				// a new client is built after closing
+				sharedDataLoader.close();
+			}
+
+		} finally {
+			executorService.shutdownNow();
+			server.stop(0);
+			serverExecutorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void asyncClientConcurrentCloseTest() throws Exception {
+		final String url = "http://localhost/data";
+		final Set<CloseableHttpAsyncClient> clients = ConcurrentHashMap.newKeySet();
+		final ExecutorService executorService = Executors.newFixedThreadPool(8);
+		try (CommonsDataLoader asyncDataLoader = new CommonsDataLoader()) {
+			final CountDownLatch startLatch = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(executorService.submit(() -> {
+					startLatch.await();
+					for (int j = 0; j < 50; j++) {
+						clients.add(asyncDataLoader.getHttpAsyncClient(url));
+					}
+					return null;
+				}));
+			}
+			startLatch.countDown();
+			for (Future<?> future : futures) {
+				while (!future.isDone()) {
+					asyncDataLoader.close();
+				}
+				future.get();
+			}
+			asyncDataLoader.close();
+
+			// every created client has been registered, therefore released on close
+			for (CloseableHttpAsyncClient client : clients) {
+				client.awaitShutdown(TimeValue.ofSeconds(5));
+				assertEquals(IOReactorStatus.SHUT_DOWN, client.getStatus());
+			}
+
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void asyncTest() throws Exception {
+		final byte[] body = "response".getBytes(StandardCharsets.UTF_8);
+
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/data", exchange -> {
+			byte[] response = "POST".equals(exchange.getRequestMethod()) ?
+					DSSUtils.toByteArray(exchange.getRequestBody()) : body;
+			exchange.sendResponseHeaders(200, response.length);
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(response);
+			}
+		});
+		server.createContext("/missing", exchange -> {
+			// a response without body (length -1) may lead the JDK server to close the kept-alive connection
+			// once reused by the client, failing the following POST
+			byte[] response = "Not Found".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(404, response.length);
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(response);
+			}
+		});
+		server.start();
+
+		try (CommonsDataLoader asyncDataLoader = new CommonsDataLoader()) {
+			asyncDataLoader.setConnectionsMaxPerRoute(10);
+
+			String url = "http://localhost:" + server.getAddress().getPort() + "/data";
+			String missingUrl = "http://localhost:" + server.getAddress().getPort() + "/missing";
+
+			assertArrayEquals(body, asyncDataLoader.getAsync(url).get());
+
+			byte[] content = new byte[] { 1, 2, 3 };
+			assertArrayEquals(content, asyncDataLoader.postAsync(url, content).get());
+
+			CompletableFuture<byte[]> missing = asyncDataLoader.getAsync(missingUrl);
+			ExecutionException exception = assertThrows(ExecutionException.class, missing::get);
+			assertTrue(exception.getCause() instanceof DSSExternalResourceException);
+			assertTrue(exception.getCause().getMessage().contains("404"));
+
+			DataAndUrl dataAndUrl = asyncDataLoader.getAsync(Arrays.asList(missingUrl, url)).get();
+			assertEquals(url, dataAndUrl.getUrlString());
+			assertArrayEquals(body, dataAndUrl.getData());
+
+			exception = assertThrows(ExecutionException.class,
+					() -> asyncDataLoader.getAsync(Arrays.asList(missingUrl, missingUrl + "2")).get());
+			assertTrue(exception.getCause() instanceof DSSDataLoaderMultipleException);
+
+			List<CompletableFuture<byte[]>> futures = new ArrayList<>();
+			for (int i = 0; i < 50; i++) {
+				futures.add(asyncDataLoader.postAsync(url, new byte[] { (byte) i }));
+			}
+			for (int i = 0; i < 50; i++) {
+				assertArrayEquals(new byte[] { (byte) i }, futures.get(i).get());
+			}
+
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	public void asyncFileWithExecutorTest() throws Exception {
+		File file = new File("src/test/resources/belgiumrs2.crt");
+		String url = file.toURI().toString();
+		byte[] expected = DSSUtils.toByteArray(file);
+
+		// no executor : processed within the calling thread
+		CompletableFuture<byte[]> future = dataLoader.getAsync(url);
+		assertTrue(future.isDone());
+		assertArrayEquals(expected, future.get());
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			AtomicInteger executions = new AtomicInteger();
+			Executor executor = command -> {
+				executions.incrementAndGet();
+				executorService.execute(command);
+			};
+			dataLoader.setExecutor(executor);
+
+			assertArrayEquals(expected, dataLoader.getAsync(url).get());
+			assertEquals(1, executions.get());
+
+			ExecutionException exception = assertThrows(ExecutionException.class,
+					() -> dataLoader.getAsync(url + "-missing").get());
+			assertTrue(exception.getCause() instanceof DSSExternalResourceException);
+			assertEquals(2, executions.get());
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
 }
@@ -31,6 +31,7 @@ import eu.europa.esig.dss.service.http.commons.FileCacheDataLoader;
 import eu.europa.esig.dss.service.http.commons.OCSPDataLoader;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.IgnoreDataLoader;
+import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.spi.x509.AlternateUrlsSourceAdapter;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
@@ -41,7 +42,15 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -89,6 +98,17 @@ public class OnlineOCSPSourceTest {
 		assertNotNull(ocspToken.getBasicOCSPResp());
 	}
 	
+	@Test
+	public void testOCSPAsync() throws Exception {
+		try (OCSPDataLoader ocspDataLoader = new OCSPDataLoader()) {
+			OnlineOCSPSource ocspSource = new OnlineOCSPSource(ocspDataLoader);
+			CompletableFuture<OCSPToken> future = ocspSource.getRevocationTokenAsync(goodUser, goodCa);
+			OCSPToken ocspToken = future.get(60, TimeUnit.SECONDS);
+			assertNotNull(ocspToken);
+			assertNotNull(ocspToken.getBasicOCSPResp());
+		}
+	}
+
 	@Test
 	public void testWithCustomDataLoaderConstructor() {
 		OCSPDataLoader ocspDataLoader = new OCSPDataLoader();
@@ -237,5 +257,33 @@ public class OnlineOCSPSourceTest {
 				() -> ocspSource.getRevocationToken(certificateToken, rootToken));
 		assertEquals("DataLoader is not provided !", exception.getMessage());
 	}
-	
+
+	@Test
+	public void executorTest() throws Exception {
+		String ocspUrl = "http://localhost/ocsp";
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			AtomicInteger executions = new AtomicInteger();
+			Executor executor = command -> {
+				executions.incrementAndGet();
+				executorService.execute(command);
+			};
+
+			OnlineOCSPSource ocspSource = new OnlineOCSPSource(new MemoryDataLoader(
+					Collections.singletonMap(ocspUrl, new byte[] { 1, 2, 3 })));
+			ocspSource.setExecutor(executor);
+
+			CompletableFuture<?> future = ocspSource.getRevocationTokenAndUrlAsync(
+					certificateToken, rootToken, Arrays.asList(ocspUrl));
+			ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(60, TimeUnit.SECONDS));
+			assertTrue(exception.getCause() instanceof DSSExternalResourceException);
+			// the blocking request and the OCSP response processing
+			assertEquals(2, executions.get());
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
 }
@@ -37,6 +37,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -59,6 +62,31 @@ public class OnlineTSPSourceTest {
 		assertTrue(Utils.isArrayNotEmpty(timeStampResponse.getBytes()));
 	}
 
+	@Test
+	public void testWithoutNonceAsync() throws Exception {
+		try (TimestampDataLoader dataLoader = new TimestampDataLoader()) {
+			OnlineTSPSource tspSource = new OnlineTSPSource(TSA_URL, dataLoader);
+
+			byte[] digest = DSSUtils.digest(DigestAlgorithm.SHA1, "Hello world".getBytes());
+			CompletableFuture<TimestampBinary> future = tspSource.getTimeStampResponseAsync(DigestAlgorithm.SHA1, digest);
+			TimestampBinary timeStampResponse = future.get(60, TimeUnit.SECONDS);
+			assertNotNull(timeStampResponse);
+			assertTrue(Utils.isArrayNotEmpty(timeStampResponse.getBytes()));
+		}
+	}
+
+	@Test
+	public void error500Async() {
+		try (TimestampDataLoader dataLoader = new TimestampDataLoader()) {
+			OnlineTSPSource tspSource = new OnlineTSPSource(ERROR_500_TSA_URL, dataLoader);
+
+			byte[] digest = DSSUtils.digest(DigestAlgorithm.SHA1, "Hello world".getBytes());
+			CompletableFuture<TimestampBinary> future = tspSource.getTimeStampResponseAsync(DigestAlgorithm.SHA1, digest);
+			ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(60, TimeUnit.SECONDS));
+			assertTrue(exception.getCause() instanceof DSSExternalResourceException);
+		}
+	}
+
 	@Test
 	public void error500() {
 		OnlineTSPSource tspSource = new OnlineTSPSource(ERROR_500_TSA_URL);
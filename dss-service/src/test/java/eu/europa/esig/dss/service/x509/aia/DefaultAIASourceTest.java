@@ -40,6 +40,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -151,6 +152,27 @@ public class DefaultAIASourceTest {
         }
     }
 
+    @Test
+    public void certificatesByAiaUrlAsyncTest() throws Exception {
+        CertificateToken certificateWithAIA = DSSUtils.loadCertificate(new File("src/test/resources/sk_ca.cer"));
+        List<String> aiaUrls = DSSASN1Utils.getCAAccessLocations(certificateWithAIA);
+        assertEquals(3, aiaUrls.size());
+
+        Map<String, byte[]> dataMap = new HashMap<>();
+        dataMap.put(aiaUrls.get(0), DSSUtils.toByteArray(new File("src/test/resources/citizen_ca.crt")));
+
+        DefaultAIASource aiaSource = new DefaultAIASource(new MemoryDataLoader(dataMap));
+        List<OnlineAIASource.CertificatesAndAIAUrl> certificatesAndAIAUrls =
+                aiaSource.getCertificatesAndAIAUrlsAsync(certificateWithAIA).get();
+        assertEquals(aiaSource.getCertificatesAndAIAUrls(certificateWithAIA).size(), certificatesAndAIAUrls.size());
+        assertEquals(aiaUrls.get(0), certificatesAndAIAUrls.get(0).getAiaUrl());
+        assertEquals(1, certificatesAndAIAUrls.get(0).getCertificates().size());
+
+        Set<CertificateToken> certificates = aiaSource.getCertificatesByAIAAsync(certificateWithAIA).get();
+        assertEquals(aiaSource.getCertificatesByAIA(certificateWithAIA), certificates);
+        assertEquals(1, certificates.size());
+    }
+
     private static class MockCommonsDataLoader extends CommonsDataLoader {
 
         private static final long serialVersionUID = -7893617030310292695L;
@@ -29,6 +29,7 @@ import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.X500PrincipalHelper;
 import eu.europa.esig.dss.spi.x509.CertificatePolicy;
 import eu.europa.esig.dss.spi.x509.CertificateRef;
+import eu.europa.esig.dss.spi.x509.CertificateTokenPool;
 import eu.europa.esig.dss.spi.x509.SignerIdentifier;
 import eu.europa.esig.dss.utils.Utils;
 import org.bouncycastle.asn1.ASN1Encodable;
@@ -873,11 +874,15 @@ public final class DSSASN1Utils {
 	 */
 	public static CertificateToken getCertificate(final X509CertificateHolder x509CertificateHolder) {
 		try {
+			final CertificateToken pooledCertificate = CertificateTokenPool.get(x509CertificateHolder.getEncoded());
+			if (pooledCertificate != null) {
+				return pooledCertificate;
+			}
 			JcaX509CertificateConverter converter = new JcaX509CertificateConverter().setProvider(DSSSecurityProvider.getSecurityProviderName());
 			X509Certificate x509Certificate = converter.getCertificate(x509CertificateHolder);
-			return new CertificateToken(x509Certificate);
+			return CertificateTokenPool.intern(new CertificateToken(x509Certificate));
 
-		} catch (CertificateException e) {
+		} catch (IOException | CertificateException e) {
 			throw new DSSException(String.format(
 					"Unable to get a CertificateToken from X509CertificateHolder : %s", e.getMessage()), e);
 		}
@@ -32,6 +32,7 @@ import eu.europa.esig.dss.model.SignatureValue;
 import eu.europa.esig.dss.model.UserNotice;
 import eu.europa.esig.dss.model.identifier.TokenIdentifier;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.CertificateTokenPool;
 import eu.europa.esig.dss.utils.Utils;
 import org.bouncycastle.asn1.ASN1Encoding;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
@@ -301,7 +302,7 @@ public final class DSSUtils {
 					.getInstance("X.509", DSSSecurityProvider.getSecurityProviderName()).generateCertificates(is);
 			if (certificatesCollection != null) {
 				for (X509Certificate cert : certificatesCollection) {
-					certificates.add(new CertificateToken(cert));
+					certificates.add(CertificateTokenPool.intern(new CertificateToken(cert)));
 				}
 			}
 			if (certificates.isEmpty()) {
@@ -330,6 +331,10 @@ public final class DSSUtils {
 	 */
 	public static CertificateToken loadCertificate(final byte[] input) {
 		Objects.requireNonNull(input, "Input binary cannot be null");
+		final CertificateToken pooledCertificate = CertificateTokenPool.get(input);
+		if (pooledCertificate != null) {
+			return pooledCertificate;
+		}
 		try (ByteArrayInputStream inputStream = new ByteArrayInputStream(input)) {
 			return loadCertificate(inputStream);
 		} catch (IOException e) {
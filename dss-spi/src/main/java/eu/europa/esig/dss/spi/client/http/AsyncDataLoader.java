@@ -0,0 +1,68 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Extension of {@code DataLoader} allowing to retrieve the data asynchronously, without blocking the calling thread.
+ * <p>
+ * The returned futures are completed with the same result as the corresponding blocking method, or completed
+ * exceptionally with the exception the blocking method would have thrown.
+ * NOTE: the futures may be completed within the I/O threads of the implementation. Therefore, the costly processing
+ * of the obtained data should be performed within a dedicated executor
+ * (e.g. {@code thenApplyAsync(function, executor)}, see {@code AsyncDataLoaderUtils.thenApply(...)}).
+ *
+ */
+public interface AsyncDataLoader extends DataLoader {
+
+	/**
+	 * Executes an asynchronous GET operation.
+	 *
+	 * @param url
+	 *            the url to access
+	 * @return {@link CompletableFuture} with the {@code byte} array of obtained data
+	 */
+	CompletableFuture<byte[]> getAsync(final String url);
+
+	/**
+	 * Executes an asynchronous GET operation. The URLs are used sequentially to access the same resource and
+	 * the operation stops after the first successful download.
+	 *
+	 * @param urlStrings
+	 *            {@code List} of {@code String}s representing the URLs to be used in sequential way to obtain the data.
+	 * @return {@link CompletableFuture} with {@code DataAndUrl} representing the array of obtained data and used url
+	 */
+	CompletableFuture<DataAndUrl> getAsync(final List<String> urlStrings);
+
+	/**
+	 * Executes an asynchronous HTTP POST operation
+	 *
+	 * @param url
+	 *            to access
+	 * @param content
+	 *            the content to post
+	 * @return {@link CompletableFuture} with the {@code byte} array of obtained data
+	 */
+	CompletableFuture<byte[]> postAsync(final String url, final byte[] content);
+
+}
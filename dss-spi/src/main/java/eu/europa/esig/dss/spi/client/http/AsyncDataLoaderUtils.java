@@ -0,0 +1,186 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Contains utils allowing to use any {@code DataLoader} with an asynchronous API.
+ * When the provided data loader is an {@code AsyncDataLoader}, the calls are delegated to its asynchronous methods.
+ * Otherwise, the blocking methods are executed within the provided {@code Executor}, or, when no executor
+ * is provided, within the calling thread (which is then blocked) and their result is returned
+ * as a completed {@code CompletableFuture}.
+ *
+ */
+public final class AsyncDataLoaderUtils {
+
+	/**
+	 * Utils class
+	 */
+	private AsyncDataLoaderUtils() {
+		// empty
+	}
+
+	/**
+	 * Executes a GET operation
+	 *
+	 * @param dataLoader {@link DataLoader} to be used
+	 * @param url {@link String} to access
+	 * @return {@link CompletableFuture} with the obtained data
+	 */
+	public static CompletableFuture<byte[]> getAsync(final DataLoader dataLoader, final String url) {
+		return getAsync(dataLoader, url, null);
+	}
+
+	/**
+	 * Executes a GET operation, within the {@code executor} when the {@code dataLoader} is not asynchronous
+	 *
+	 * @param dataLoader {@link DataLoader} to be used
+	 * @param url {@link String} to access
+	 * @param executor {@link Executor} to execute a blocking {@code dataLoader}, null to use the calling thread
+	 * @return {@link CompletableFuture} with the obtained data
+	 */
+	public static CompletableFuture<byte[]> getAsync(final DataLoader dataLoader, final String url,
+													 final Executor executor) {
+		if (dataLoader instanceof AsyncDataLoader) {
+			return ((AsyncDataLoader) dataLoader).getAsync(url);
+		}
+		return execute(() -> dataLoader.get(url), executor);
+	}
+
+	/**
+	 * Executes a GET operation using the URLs sequentially, until the first successful download
+	 *
+	 * @param dataLoader {@link DataLoader} to be used
+	 * @param urlStrings a list of {@link String} URLs to access
+	 * @return {@link CompletableFuture} with the obtained {@code DataAndUrl}
+	 */
+	public static CompletableFuture<DataLoader.DataAndUrl> getAsync(final DataLoader dataLoader,
+																	 final List<String> urlStrings) {
+		return getAsync(dataLoader, urlStrings, null);
+	}
+
+	/**
+	 * Executes a GET operation using the URLs sequentially, until the first successful download,
+	 * within the {@code executor} when the {@code dataLoader} is not asynchronous
+	 *
+	 * @param dataLoader {@link DataLoader} to be used
+	 * @param urlStrings a list of {@link String} URLs to access
+	 * @param executor {@link Executor} to execute a blocking {@code dataLoader}, null to use the calling thread
+	 * @return {@link CompletableFuture} with the obtained {@code DataAndUrl}
+	 */
+	public static CompletableFuture<DataLoader.DataAndUrl> getAsync(final DataLoader dataLoader,
+																	 final List<String> urlStrings,
+																	 final Executor executor) {
+		if (dataLoader instanceof AsyncDataLoader) {
+			return ((AsyncDataLoader) dataLoader).getAsync(urlStrings);
+		}
+		return execute(() -> dataLoader.get(urlStrings), executor);
+	}
+
+	/**
+	 * Executes a POST operation
+	 *
+	 * @param dataLoader {@link DataLoader} to be used
+	 * @param url {@link String} to access
+	 * @param content the content to post
+	 * @return {@link CompletableFuture} with the obtained data
+	 */
+	public static CompletableFuture<byte[]> postAsync(final DataLoader dataLoader, final String url,
+													  final byte[] content) {
+		return postAsync(dataLoader, url, content, null);
+	}
+
+	/**
+	 * Executes a POST operation, within the {@code executor} when the {@code dataLoader} is not asynchronous
+	 *
+	 * @param dataLoader {@link DataLoader} to be used
+	 * @param url {@link String} to access
+	 * @param content the content to post
+	 * @param executor {@link Executor} to execute a blocking {@code dataLoader}, null to use the calling thread
+	 * @return {@link CompletableFuture} with the obtained data
+	 */
+	public static CompletableFuture<byte[]> postAsync(final DataLoader dataLoader, final String url,
+													  final byte[] content, final Executor executor) {
+		if (dataLoader instanceof AsyncDataLoader) {
+			return ((AsyncDataLoader) dataLoader).postAsync(url, content);
+		}
+		return execute(() -> dataLoader.post(url, content), executor);
+	}
+
+	/**
+	 * Applies the {@code function} to the result of the {@code future} within the {@code executor}, or,
+	 * when no executor is provided, within the thread completing the {@code future}
+	 * (e.g. an I/O thread of an {@code AsyncDataLoader})
+	 *
+	 * @param future {@link CompletableFuture} to process the result of
+	 * @param function {@link Function} to apply
+	 * @param executor {@link Executor} to be used, can be null
+	 * @param <T> the result type of the {@code future}
+	 * @param <U> the result type of the {@code function}
+	 * @return {@link CompletableFuture} with the result of the {@code function}
+	 */
+	public static <T, U> CompletableFuture<U> thenApply(final CompletableFuture<T> future,
+														final Function<? super T, ? extends U> function,
+														final Executor executor) {
+		return executor != null ? future.thenApplyAsync(function, executor) : future.thenApply(function);
+	}
+
+	/**
+	 * Returns the original exception wrapped by a {@code CompletableFuture} stage, if applicable
+	 *
+	 * @param throwable {@link Throwable} obtained from a {@code CompletableFuture}
+	 * @return {@link Throwable}
+	 */
+	public static Throwable unwrap(Throwable throwable) {
+		if (throwable instanceof CompletionException && throwable.getCause() != null) {
+			return throwable.getCause();
+		}
+		return throwable;
+	}
+
+	/**
+	 * Executes the {@code supplier} within the {@code executor}, or within the calling thread when not provided
+	 *
+	 * @param supplier {@link Supplier} to execute
+	 * @param executor {@link Executor} to be used, can be null
+	 * @param <T> the result type
+	 * @return {@link CompletableFuture} with the result of the {@code supplier}
+	 */
+	public static <T> CompletableFuture<T> execute(final Supplier<T> supplier, final Executor executor) {
+		if (executor != null) {
+			return CompletableFuture.supplyAsync(supplier, executor);
+		}
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		try {
+			future.complete(supplier.get());
+		} catch (Exception e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+}
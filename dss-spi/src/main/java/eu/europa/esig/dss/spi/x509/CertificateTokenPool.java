@@ -0,0 +1,182 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSUtils;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class is a process-wide interning pool of {@code CertificateToken}s.
+ *
+ * The same certificates (TSA, OCSP responders, intermediate CAs,...) are embedded in most of the validated documents.
+ * The pool allows to share one parsed instance (and its cached digests, identifiers and verification state) between
+ * all the validations. The tokens are weakly referenced : an instance is kept as long as it is used somewhere.
+ * The pool is keyed by the SHA-256 digest of the DER-encoded certificate.
+ *
+ * The pool is disabled by default, use {@code CertificateTokenPool.setEnabled(true)} to activate it.
+ */
+public final class CertificateTokenPool {
+
+	/** The digest algorithm used to compute the keys */
+	private static final DigestAlgorithm DIGEST_ALGORITHM = DigestAlgorithm.SHA256;
+
+	/** The pooled tokens */
+	private static final ConcurrentMap<Digest, PooledCertificateToken> POOL = new ConcurrentHashMap<>();
+
+	/** The queue of the garbage collected tokens */
+	private static final ReferenceQueue<CertificateToken> QUEUE = new ReferenceQueue<>();
+
+	/** Defines whether the pool is used (disabled by default) */
+	private static volatile boolean enabled = false;
+
+	/**
+	 * Utils class
+	 */
+	private CertificateTokenPool() {
+		// empty
+	}
+
+	/**
+	 * Sets whether the parsed certificates have to be shared between the validations.
+	 * When enabled, the same {@code CertificateToken} instances are used by concurrent validations.
+	 *
+	 * Default : false
+	 *
+	 * @param enabled true if the pool has to be used
+	 */
+	public static void setEnabled(boolean enabled) {
+		CertificateTokenPool.enabled = enabled;
+		if (!enabled) {
+			clear();
+		}
+	}
+
+	/**
+	 * Returns whether the pool is used
+	 *
+	 * @return true if the pool is enabled
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Returns the pooled instance equivalent to the given {@code certificateToken}, or adds the
+	 * {@code certificateToken} to the pool if none is present
+	 *
+	 * @param certificateToken {@link CertificateToken} to intern
+	 * @return the pooled {@link CertificateToken}
+	 */
+	public static CertificateToken intern(CertificateToken certificateToken) {
+		if (!enabled || certificateToken == null) {
+			return certificateToken;
+		}
+		expungeStaleEntries();
+
+		final Digest key = new Digest(DIGEST_ALGORITHM, certificateToken.getDigest(DIGEST_ALGORITHM));
+		final PooledCertificateToken newEntry = new PooledCertificateToken(key, certificateToken);
+		while (true) {
+			PooledCertificateToken existingEntry = POOL.putIfAbsent(key, newEntry);
+			if (existingEntry == null) {
+				return certificateToken;
+			}
+			CertificateToken existingToken = existingEntry.get();
+			if (existingToken != null) {
+				return existingToken;
+			}
+			// the existing token has been garbage collected
+			if (POOL.replace(key, existingEntry, newEntry)) {
+				return certificateToken;
+			}
+		}
+	}
+
+	/**
+	 * Returns the pooled certificate with the given DER encoding, if present
+	 *
+	 * @param derEncoded byte array representing the DER-encoded certificate
+	 * @return {@link CertificateToken} if found, null otherwise
+	 */
+	public static CertificateToken get(byte[] derEncoded) {
+		if (!enabled || derEncoded == null || POOL.isEmpty()) {
+			return null;
+		}
+		final Digest key = new Digest(DIGEST_ALGORITHM, DSSUtils.digest(DIGEST_ALGORITHM, derEncoded));
+		final PooledCertificateToken entry = POOL.get(key);
+		return entry != null ? entry.get() : null;
+	}
+
+	/**
+	 * Returns the number of pooled certificates (including the ones not yet removed after a garbage collection)
+	 *
+	 * @return the number of entries
+	 */
+	public static int size() {
+		expungeStaleEntries();
+		return POOL.size();
+	}
+
+	/**
+	 * Removes all the certificates from the pool
+	 */
+	public static void clear() {
+		POOL.clear();
+		expungeStaleEntries();
+	}
+
+	private static void expungeStaleEntries() {
+		Reference<? extends CertificateToken> reference;
+		while ((reference = QUEUE.poll()) != null) {
+			PooledCertificateToken entry = (PooledCertificateToken) reference;
+			POOL.remove(entry.key, entry);
+		}
+	}
+
+	/**
+	 * The weak reference to a pooled token
+	 */
+	private static final class PooledCertificateToken extends WeakReference<CertificateToken> {
+
+		/** The key of the entry within the pool */
+		private final Digest key;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param key {@link Digest} of the certificate
+		 * @param certificateToken {@link CertificateToken}
+		 */
+		private PooledCertificateToken(Digest key, CertificateToken certificateToken) {
+			super(certificateToken, QUEUE);
+			this.key = key;
+		}
+
+	}
+
+}
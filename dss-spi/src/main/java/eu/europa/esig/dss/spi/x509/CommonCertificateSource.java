@@ -21,18 +21,23 @@
 package eu.europa.esig.dss.spi.x509;
 
 import eu.europa.esig.dss.enumerations.CertificateSourceType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.identifier.EntityIdentifier;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.X500PrincipalHelper;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.security.auth.x500.X500Principal;
+import java.math.BigInteger;
 import java.security.PublicKey;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -69,6 +74,39 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	private Map<Map<String, String>, Set<CertificateToken>> tokensBySubject = new HashMap<>();
 
+	/**
+	 * Map of entries, the key is the hex-encoded SKI (SHA-1 of the public key) computed from the certificate
+	 */
+	private Map<String, CertificateSourceEntity> entriesBySki = new HashMap<>();
+
+	/**
+	 * Map of tokens, the key is the serial number of the certificate
+	 *
+	 * Used to find certificates by issuer and serial number
+	 */
+	private Map<BigInteger, Set<CertificateToken>> tokensBySerialNumber = new HashMap<>();
+
+	/**
+	 * Map of tokens, the key is the hex-encoded value of the SubjectKeyIdentifier extension
+	 *
+	 * NOTE: the map is built on the first request
+	 */
+	private Map<String, Set<CertificateToken>> tokensBySkiExtension;
+
+	/**
+	 * Map of tokens, the key is the canonical representation of SubjectX500Principal
+	 *
+	 * NOTE: the map is built on the first request
+	 */
+	private Map<String, Set<CertificateToken>> tokensByCanonicalSubject;
+
+	/**
+	 * Maps of tokens, the key is the hex-encoded digest of the certificate for the given {@code DigestAlgorithm}
+	 *
+	 * NOTE: a map for a {@code DigestAlgorithm} is built on the first request with the algorithm
+	 */
+	private Map<DigestAlgorithm, Map<String, Set<CertificateToken>>> tokensByDigest = new EnumMap<>(DigestAlgorithm.class);
+
 	/**
 	 * The default constructor
 	 */
@@ -99,10 +137,14 @@ public class CommonCertificateSource implements CertificateSource {
 				LOG.trace("Public key {} is not in the pool", entityKey);
 				poolEntity = new CertificateSourceEntity(certificateToAdd);
 				entriesByPublicKeyHash.put(entityKey, poolEntity);
+				entriesBySki.putIfAbsent(Utils.toHex(poolEntity.getSki()), poolEntity);
 			} else {
 				LOG.trace("Public key {} is already in the pool", entityKey);
 				poolEntity.addEquivalentCertificate(certificateToAdd);
 			}
+			if (poolEntity.getEquivalentCertificates().contains(certificateToAdd)) {
+				addToIndexes(certificateToAdd);
+			}
 		}
 
 		synchronized (tokensBySubject) {
@@ -117,10 +159,85 @@ public class CommonCertificateSource implements CertificateSource {
 	 * This method removes all certificates from the source
 	 */
 	protected void reset() {
+		synchronized (entriesByPublicKeyHash) {
+			entriesBySki = new HashMap<>();
+			tokensBySerialNumber = new HashMap<>();
+			tokensBySkiExtension = null;
+			tokensByCanonicalSubject = null;
+			tokensByDigest = new EnumMap<>(DigestAlgorithm.class);
+		}
 		entriesByPublicKeyHash = new HashMap<>();
 		tokensBySubject = new HashMap<>();
 	}
 
+	/**
+	 * Adds the certificate token to the lookup indexes. The lazily built indexes are updated only when
+	 * they have been already initialized.
+	 *
+	 * NOTE: shall be called within the synchronized block
+	 *
+	 * @param certificateToken {@link CertificateToken} to be indexed
+	 */
+	private void addToIndexes(CertificateToken certificateToken) {
+		addToIndex(tokensBySerialNumber, certificateToken.getSerialNumber(), certificateToken);
+		if (tokensBySkiExtension != null) {
+			addToSkiExtensionIndex(tokensBySkiExtension, certificateToken);
+		}
+		if (tokensByCanonicalSubject != null) {
+			addToIndex(tokensByCanonicalSubject, certificateToken.getSubject().getCanonical(), certificateToken);
+		}
+		for (Map.Entry<DigestAlgorithm, Map<String, Set<CertificateToken>>> entry : tokensByDigest.entrySet()) {
+			addToIndex(entry.getValue(), Utils.toHex(certificateToken.getDigest(entry.getKey())), certificateToken);
+		}
+	}
+
+	private <K> void addToIndex(Map<K, Set<CertificateToken>> index, K key, CertificateToken certificateToken) {
+		if (key != null) {
+			index.computeIfAbsent(key, k -> new HashSet<>()).add(certificateToken);
+		}
+	}
+
+	private void addToSkiExtensionIndex(Map<String, Set<CertificateToken>> index, CertificateToken certificateToken) {
+		byte[] ski = DSSASN1Utils.getSki(certificateToken);
+		if (Utils.isArrayNotEmpty(ski)) {
+			addToIndex(index, Utils.toHex(ski), certificateToken);
+		}
+	}
+
+	private Set<CertificateToken> getBySkiExtension(byte[] ski) {
+		synchronized (entriesByPublicKeyHash) {
+			if (tokensBySkiExtension == null) {
+				Map<String, Set<CertificateToken>> index = new HashMap<>();
+				for (CertificateToken certificateToken : getCertificates()) {
+					addToSkiExtensionIndex(index, certificateToken);
+				}
+				tokensBySkiExtension = index;
+			}
+			return getFromIndex(tokensBySkiExtension, Utils.toHex(ski));
+		}
+	}
+
+	private Set<CertificateToken> getByCanonicalSubject(X500Principal subject) {
+		synchronized (entriesByPublicKeyHash) {
+			if (tokensByCanonicalSubject == null) {
+				Map<String, Set<CertificateToken>> index = new HashMap<>();
+				for (CertificateToken certificateToken : getCertificates()) {
+					addToIndex(index, certificateToken.getSubject().getCanonical(), certificateToken);
+				}
+				tokensByCanonicalSubject = index;
+			}
+			return getFromIndex(tokensByCanonicalSubject, new X500PrincipalHelper(subject).getCanonical());
+		}
+	}
+
+	private Set<CertificateToken> getFromIndex(Map<?, Set<CertificateToken>> index, Object key) {
+		Set<CertificateToken> tokens = index.get(key);
+		if (tokens != null) {
+			return new HashSet<>(tokens);
+		}
+		return Collections.emptySet();
+	}
+
 	@Override
 	public boolean isKnown(CertificateToken token) {
 		final CertificateSourceEntity poolEntity = entriesByPublicKeyHash.get(token.getEntityKey());
@@ -172,8 +289,9 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public Set<CertificateToken> getBySki(byte[] ski) {
-		for (CertificateSourceEntity entry : entriesByPublicKeyHash.values()) {
-			if (Arrays.equals(entry.getSki(), ski)) {
+		if (ski != null) {
+			CertificateSourceEntity entry = entriesBySki.get(Utils.toHex(ski));
+			if (entry != null) {
 				return entry.getEquivalentCertificates();
 			}
 		}
@@ -197,13 +315,22 @@ public class CommonCertificateSource implements CertificateSource {
 
 	@Override
 	public Set<CertificateToken> getBySignerIdentifier(SignerIdentifier signerIdentifier) {
+		Collection<CertificateToken> candidates;
+		if (signerIdentifier.getIssuerName() != null && signerIdentifier.getSerialNumber() != null) {
+			synchronized (entriesByPublicKeyHash) {
+				candidates = getFromIndex(tokensBySerialNumber, signerIdentifier.getSerialNumber());
+			}
+		} else if (Utils.isArrayNotEmpty(signerIdentifier.getSki())) {
+			candidates = getBySkiExtension(signerIdentifier.getSki());
+		} else {
+			candidates = getCertificates();
+		}
+
 		Set<CertificateToken> result = new HashSet<>();
-		for (CertificateSourceEntity entry : entriesByPublicKeyHash.values()) {
-			for (CertificateToken certificateToken : entry.getEquivalentCertificates()) {
-				// run over all entries to compare with the SN too
-				if (signerIdentifier.isRelatedToCertificate(certificateToken)) {
-					result.add(certificateToken);
-				}
+		for (CertificateToken certificateToken : candidates) {
+			// compare with the issuer name too
+			if (signerIdentifier.isRelatedToCertificate(certificateToken)) {
+				result.add(certificateToken);
 			}
 		}
 		return result;
@@ -211,30 +338,47 @@ public class CommonCertificateSource implements CertificateSource {
 
 	@Override
 	public Set<CertificateToken> getByCertificateDigest(Digest digest) {
-		Set<CertificateToken> result = new HashSet<>();
-		for (CertificateSourceEntity entry : entriesByPublicKeyHash.values()) {
-			for (CertificateToken certificateToken : entry.getEquivalentCertificates()) {
-				if (Arrays.equals(digest.getValue(), certificateToken.getDigest(digest.getAlgorithm()))) {
-					result.add(certificateToken);
+		if (digest.getAlgorithm() == null || digest.getValue() == null) {
+			return Collections.emptySet();
+		}
+		synchronized (entriesByPublicKeyHash) {
+			Map<String, Set<CertificateToken>> index = tokensByDigest.get(digest.getAlgorithm());
+			if (index == null) {
+				index = new HashMap<>();
+				for (CertificateToken certificateToken : getCertificates()) {
+					addToIndex(index, Utils.toHex(certificateToken.getDigest(digest.getAlgorithm())), certificateToken);
 				}
+				tokensByDigest.put(digest.getAlgorithm(), index);
 			}
+			return getFromIndex(index, Utils.toHex(digest.getValue()));
 		}
-		return result;
 	}
 	
 	@Override
 	public Set<CertificateToken> findTokensFromCertRef(CertificateRef certificateRef) {
 		Set<CertificateToken> result = new HashSet<>();
-		for (CertificateSourceEntity entry : entriesByPublicKeyHash.values()) {
-			for (CertificateToken certificateToken : entry.getEquivalentCertificates()) {
-				if (certificateMatcher.match(certificateToken, certificateRef)) {
-					result.add(certificateToken);
-				}
-			}
+		if (certificateRef.getCertDigest() != null) {
+			result.addAll(getByCertificateDigest(certificateRef.getCertDigest()));
+		}
+		if (certificateRef.getCertificateIdentifier() != null) {
+			result.addAll(getBySignerIdentifier(certificateRef.getCertificateIdentifier()));
+		}
+		if (certificateRef.getResponderId() != null) {
+			result.addAll(getByResponderId(certificateRef.getResponderId()));
 		}
 		return result;
 	}
 
+	private Set<CertificateToken> getByResponderId(ResponderId responderId) {
+		if (responderId.getX500Principal() != null) {
+			Set<CertificateToken> result = new HashSet<>(getBySubject(new X500PrincipalHelper(responderId.getX500Principal())));
+			result.addAll(getByCanonicalSubject(responderId.getX500Principal()));
+			return result;
+		} else {
+			return getBySki(responderId.getSki());
+		}
+	}
+
 	/**
 	 * This method returns the number of stored certificates in this source
 	 * 
@@ -23,6 +23,7 @@ package eu.europa.esig.dss.spi.x509.aia;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.AsyncDataLoaderUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.NativeHTTPDataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
@@ -40,6 +41,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The class is used to download issuer certificates by AIA from remote sources
@@ -101,7 +103,23 @@ public class DefaultAIASource implements OnlineAIASource {
 
     @Override
     public Set<CertificateToken> getCertificatesByAIA(final CertificateToken certificateToken) {
-        List<CertificatesAndAIAUrl> certificatesAndAIAUrls = getCertificatesAndAIAUrls(certificateToken);
+        return getAllCertificates(getCertificatesAndAIAUrls(certificateToken));
+    }
+
+    /**
+     * Downloads asynchronously the issuer certificates by AIA. All the AIA urls are requested concurrently.
+     * The call does not block when the defined {@code DataLoader} is an {@code AsyncDataLoader}
+     * (NOTE: {@code CommonsDataLoader} processes FILE, FTP and LDAP urls within the calling thread,
+     * unless an executor is defined with {@code CommonsDataLoader.setExecutor(executor)}).
+     *
+     * @param certificateToken {@link CertificateToken} to get issuer certificates for
+     * @return {@link CompletableFuture} with a set of downloaded {@link CertificateToken}s
+     */
+    public CompletableFuture<Set<CertificateToken>> getCertificatesByAIAAsync(final CertificateToken certificateToken) {
+        return getCertificatesAndAIAUrlsAsync(certificateToken).thenApply(this::getAllCertificates);
+    }
+
+    private Set<CertificateToken> getAllCertificates(List<CertificatesAndAIAUrl> certificatesAndAIAUrls) {
         if (Utils.isCollectionNotEmpty(certificatesAndAIAUrls)) {
             final Set<CertificateToken> allCertificates = new LinkedHashSet<>();
             for (CertificatesAndAIAUrl certificatesByAiaUrl : certificatesAndAIAUrls) {
@@ -117,6 +135,60 @@ public class DefaultAIASource implements OnlineAIASource {
     
     @Override
     public List<CertificatesAndAIAUrl> getCertificatesAndAIAUrls(CertificateToken certificateToken) {
+        final List<CertificatesAndAIAUrl> certificatesAndAIAUrls = new ArrayList<>();
+
+        for (String url : getAcceptedAIAUrls(certificateToken)) {
+            byte[] bytes;
+            try {
+                bytes = dataLoader.get(url);
+
+            } catch (Exception e) {
+                logDownloadError(url, e);
+                continue;
+            }
+
+            certificatesAndAIAUrls.add(new CertificatesAndAIAUrl(url, loadCertificates(url, bytes)));
+        }
+
+        return certificatesAndAIAUrls;
+    }
+
+    /**
+     * Downloads asynchronously the issuer certificates by AIA, together with the used urls.
+     * All the AIA urls are requested concurrently.
+     * The call does not block when the defined {@code DataLoader} is an {@code AsyncDataLoader}
+     * (NOTE: {@code CommonsDataLoader} processes FILE, FTP and LDAP urls within the calling thread,
+     * unless an executor is defined with {@code CommonsDataLoader.setExecutor(executor)}).
+     *
+     * @param certificateToken {@link CertificateToken} to get issuer certificates for
+     * @return {@link CompletableFuture} with a list of {@link CertificatesAndAIAUrl}s
+     */
+    public CompletableFuture<List<CertificatesAndAIAUrl>> getCertificatesAndAIAUrlsAsync(CertificateToken certificateToken) {
+        final List<CompletableFuture<CertificatesAndAIAUrl>> futures = new ArrayList<>();
+
+        for (String url : getAcceptedAIAUrls(certificateToken)) {
+            futures.add(AsyncDataLoaderUtils.getAsync(dataLoader, url).handle((bytes, e) -> {
+                if (e != null) {
+                    logDownloadError(url, AsyncDataLoaderUtils.unwrap(e));
+                    return null;
+                }
+                return new CertificatesAndAIAUrl(url, loadCertificates(url, bytes));
+            }));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> {
+            final List<CertificatesAndAIAUrl> certificatesAndAIAUrls = new ArrayList<>();
+            for (CompletableFuture<CertificatesAndAIAUrl> future : futures) {
+                CertificatesAndAIAUrl certificatesAndAIAUrl = future.join();
+                if (certificatesAndAIAUrl != null) {
+                    certificatesAndAIAUrls.add(certificatesAndAIAUrl);
+                }
+            }
+            return certificatesAndAIAUrls;
+        });
+    }
+
+    private List<String> getAcceptedAIAUrls(CertificateToken certificateToken) {
         List<String> urls = DSSASN1Utils.getCAAccessLocations(certificateToken);
 
         if (Utils.isCollectionEmpty(urls)) {
@@ -128,8 +200,7 @@ public class DefaultAIASource implements OnlineAIASource {
             return Collections.emptyList();
         }
 
-        final List<CertificatesAndAIAUrl> certificatesAndAIAUrls = new ArrayList<>();
-
+        final List<String> acceptedUrls = new ArrayList<>();
         for (String url : urls) {
             if (!isUrlAccepted(url)) {
                 if (LOG.isDebugEnabled()) {
@@ -142,50 +213,47 @@ public class DefaultAIASource implements OnlineAIASource {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Loading certificate(s) from '{}'.", url);
             }
+            acceptedUrls.add(url);
+        }
+        return acceptedUrls;
+    }
 
-            byte[] bytes;
-            try {
-                bytes = dataLoader.get(url);
+    private void logDownloadError(String url, Throwable e) {
+        String errorMessage = "Unable to download certificate from '{}': {}";
+        if (LOG.isDebugEnabled()) {
+            LOG.warn(errorMessage, url, e.getMessage(), e);
+        } else {
+            LOG.warn(errorMessage, url, e.getMessage());
+        }
+    }
+
+    private List<CertificateToken> loadCertificates(String url, byte[] bytes) {
+        List<CertificateToken> loadedCertificates = Collections.emptyList();
+
+        if (Utils.isArrayNotEmpty(bytes)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Base64 content : {}", Utils.toBase64(bytes));
+            }
+            try (InputStream is = new ByteArrayInputStream(bytes)) {
+                loadedCertificates = DSSUtils.loadCertificateFromP7c(is);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("{} certificate(s) loaded from '{}'", loadedCertificates.size(), url);
+                }
 
             } catch (Exception e) {
-                String errorMessage = "Unable to download certificate from '{}': {}";
+                String errorMessage = "Unable to parse certificate(s) from AIA (url: {}) : {}";
                 if (LOG.isDebugEnabled()) {
                     LOG.warn(errorMessage, url, e.getMessage(), e);
                 } else {
                     LOG.warn(errorMessage, url, e.getMessage());
                 }
-                continue;
-            }
-
-            List<CertificateToken> loadedCertificates = Collections.emptyList();
-
-            if (Utils.isArrayNotEmpty(bytes)) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Base64 content : {}", Utils.toBase64(bytes));
-                }
-                try (InputStream is = new ByteArrayInputStream(bytes)) {
-                    loadedCertificates = DSSUtils.loadCertificateFromP7c(is);
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("{} certificate(s) loaded from '{}'", loadedCertificates.size(), url);
-                    }
-
-                } catch (Exception e) {
-                    String errorMessage = "Unable to parse certificate(s) from AIA (url: {}) : {}";
-                    if (LOG.isDebugEnabled()) {
-                        LOG.warn(errorMessage, url, e.getMessage(), e);
-                    } else {
-                        LOG.warn(errorMessage, url, e.getMessage());
-                    }
-                }
-
-            } else {
-                LOG.warn("Empty content from {}.", url);
             }
 
-            certificatesAndAIAUrls.add(new CertificatesAndAIAUrl(url, loadedCertificates));
+        } else {
+            LOG.warn("Empty content from {}.", url);
         }
 
-        return certificatesAndAIAUrls;
+        return loadedCertificates;
     }
 
     private boolean isUrlAccepted(String url) {
@@ -0,0 +1,242 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Allows storing and retrieving of revocation data to/from a bounded in-memory repository.
+ *
+ * The repository keeps the parsed revocation data, thus a cache hit does not require any parsing or signature
+ * verification of a CRL. The entries are evicted when their nextUpdate (computed with respect of
+ * defaultNextUpdateDelay and maxNextUpdateDelay parameters) is reached, or on the least recently used basis
+ * when the maximum number of entries or the maximum weight (the total size of the encoded revocation data) is exceeded.
+ *
+ * The source can be used in front of another {@code RepositoryRevocationSource} (e.g. a JDBC cache) defined as
+ * its proxied source, in order to build a two-level cache.
+ *
+ * @param <R> {@code CRL} or {@code OCSP}
+ */
+public abstract class InMemoryRevocationSource<R extends Revocation> extends RepositoryRevocationSource<R> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(InMemoryRevocationSource.class);
+
+	private static final long serialVersionUID = -2453726581427548437L;
+
+	/**
+	 * The cached revocation tokens by their keys (in access order)
+	 */
+	private final Map<String, CachedRevocation<R>> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The maximum number of cached revocation tokens
+	 */
+	private int maxSize = 1000;
+
+	/**
+	 * The maximum total size of the cached revocation data in bytes
+	 */
+	private long maxWeight = 100L * 1024 * 1024;
+
+	/**
+	 * The current total size of the cached revocation data in bytes
+	 */
+	private long weight = 0;
+
+	/**
+	 * Default constructor instantiating object with null values
+	 */
+	protected InMemoryRevocationSource() {
+	}
+
+	/**
+	 * Sets the maximum number of revocation tokens to be kept in memory
+	 *
+	 * Default : 1000
+	 *
+	 * @param maxSize the maximum number of entries
+	 */
+	public void setMaxSize(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size cannot be negative!");
+		}
+		synchronized (cache) {
+			this.maxSize = maxSize;
+			evict();
+		}
+	}
+
+	/**
+	 * Sets the maximum total size (in bytes) of the encoded revocation data to be kept in memory
+	 *
+	 * Default : 100 MB
+	 *
+	 * @param maxWeight the maximum weight in bytes
+	 */
+	public void setMaxWeight(long maxWeight) {
+		if (maxWeight < 0) {
+			throw new IllegalArgumentException("The maximum weight cannot be negative!");
+		}
+		synchronized (cache) {
+			this.maxWeight = maxWeight;
+			evict();
+		}
+	}
+
+	/**
+	 * Builds a new revocation token for the given {@code certificateToken} from the cached one
+	 *
+	 * @param cachedToken {@link RevocationToken} stored in the cache
+	 * @param certificateToken {@link CertificateToken} to get the revocation token for
+	 * @param issuerCertificateToken {@link CertificateToken} issuer of the certificateToken
+	 * @return {@link RevocationToken}
+	 */
+	protected abstract RevocationToken<R> buildRevocationTokenFromCache(RevocationToken<R> cachedToken,
+			CertificateToken certificateToken, CertificateToken issuerCertificateToken);
+
+	@Override
+	protected RevocationToken<R> findRevocation(String key, CertificateToken certificateToken,
+												CertificateToken issuerCertificateToken) {
+		final CachedRevocation<R> cachedRevocation;
+		synchronized (cache) {
+			cachedRevocation = cache.get(key);
+		}
+		if (cachedRevocation != null) {
+			LOG.debug("Revocation token with key '{}' found in memory", key);
+			return buildRevocationTokenFromCache(cachedRevocation.token, certificateToken, issuerCertificateToken);
+		}
+		return null;
+	}
+
+	@Override
+	protected void insertRevocation(String revocationKey, RevocationToken<R> token) {
+		final CachedRevocation<R> cachedRevocation = new CachedRevocation<>(token, getCacheNextUpdate(token));
+		synchronized (cache) {
+			CachedRevocation<R> previous = cache.put(revocationKey, cachedRevocation);
+			if (previous != null) {
+				weight -= previous.weight;
+			}
+			weight += cachedRevocation.weight;
+			evict();
+		}
+	}
+
+	@Override
+	protected void updateRevocation(String revocationKey, RevocationToken<R> token) {
+		insertRevocation(revocationKey, token);
+	}
+
+	@Override
+	protected void removeRevocation(String revocationKey) {
+		synchronized (cache) {
+			CachedRevocation<R> removed = cache.remove(revocationKey);
+			if (removed != null) {
+				weight -= removed.weight;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of revocation tokens kept in memory
+	 *
+	 * @return number of entries
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Removes all the revocation tokens from the memory
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+			weight = 0;
+		}
+	}
+
+	/**
+	 * Removes the expired entries, then the least recently used entries while the limits are exceeded.
+	 * Shall be called within a synchronized block on the cache.
+	 */
+	private void evict() {
+		final Date currentTime = new Date();
+		Iterator<CachedRevocation<R>> it = cache.values().iterator();
+		while (it.hasNext()) {
+			CachedRevocation<R> cachedRevocation = it.next();
+			if (cachedRevocation.nextUpdate != null && !cachedRevocation.nextUpdate.after(currentTime)) {
+				weight -= cachedRevocation.weight;
+				it.remove();
+			}
+		}
+
+		it = cache.values().iterator();
+		while ((cache.size() > maxSize || weight > maxWeight) && it.hasNext()) {
+			CachedRevocation<R> cachedRevocation = it.next();
+			LOG.debug("Revocation token '{}' is evicted from the memory", cachedRevocation.token.getDSSIdAsString());
+			weight -= cachedRevocation.weight;
+			it.remove();
+		}
+	}
+
+	/**
+	 * Contains a cached revocation token and its computed cache properties
+	 */
+	private static class CachedRevocation<R extends Revocation> implements Serializable {
+
+		private static final long serialVersionUID = 4650208937651938522L;
+
+		/** The cached token */
+		private final RevocationToken<R> token;
+
+		/** The time until which the token can be used from the cache (null if not defined) */
+		private final Date nextUpdate;
+
+		/** The size of the encoded revocation data */
+		private final long weight;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param token {@link RevocationToken}
+		 * @param nextUpdate {@link Date}
+		 */
+		private CachedRevocation(RevocationToken<R> token, Date nextUpdate) {
+			this.token = token;
+			this.nextUpdate = nextUpdate;
+			byte[] encoded = token.getEncoded();
+			this.weight = encoded != null ? encoded.length : 0;
+		}
+
+	}
+
+}
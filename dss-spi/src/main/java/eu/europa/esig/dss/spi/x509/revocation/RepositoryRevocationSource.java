@@ -22,6 +22,7 @@ package eu.europa.esig.dss.spi.x509.revocation;
 
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.spi.client.http.DataLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,9 +34,12 @@ import java.util.List;
  * Allows storing and retrieving of revocation data to/from a repository
  * (e.g. database)
  *
+ * The class implements {@code OnlineRevocationSource}, thus a repository can be used as a proxied source
+ * of another repository (e.g. an in-memory cache in front of a database).
+ *
  * @param <R> {@code CRL} or {@code OCSP}
  */
-public abstract class RepositoryRevocationSource<R extends Revocation> implements RevocationSource<R> {
+public abstract class RepositoryRevocationSource<R extends Revocation> implements OnlineRevocationSource<R> {
 
 	private static final Logger LOG = LoggerFactory.getLogger(RepositoryRevocationSource.class); 
 
@@ -61,6 +65,11 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
 	 */
 	private boolean removeExpired = true;
 
+	/**
+	 * Deduplicates concurrent requests to the proxied source for the same certificate
+	 */
+	private final RequestCoalescer<String, RevocationTokenAndUrl<R>> proxiedRequests = new RequestCoalescer<>();
+
 	/**
 	 * Default constructor instantiating object with null values
 	 */
@@ -171,12 +180,43 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
 	public void setRemoveExpired(boolean removeExpired) {
 		this.removeExpired = removeExpired;
 	}
+
+	/**
+	 * Sets the DataLoader to be used by the proxied revocation source
+	 *
+	 * NOTE: the proxied source shall be defined before calling the method
+	 *
+	 * @param dataLoader {@link DataLoader}
+	 */
+	@Override
+	public void setDataLoader(DataLoader dataLoader) {
+		if (proxiedSource == null) {
+			LOG.warn("Proxied revocation source is not initialized for the called RevocationSource! The DataLoader is ignored.");
+			return;
+		}
+		proxiedSource.setDataLoader(dataLoader);
+	}
 	
 	@Override
 	public RevocationToken<R> getRevocationToken(final CertificateToken certificateToken, final CertificateToken issuerCertificateToken) {
 		return getRevocationToken(certificateToken, issuerCertificateToken, false);
 	}
 
+	/**
+	 * Retrieves a revocation token for the given {@link CertificateToken} with the URL it was downloaded from.
+	 * The revocation token is extracted from the repository when available, from the proxied source otherwise.
+	 *
+	 * NOTE: the URL is null when the token is extracted from a repository which does not store it
+	 *
+	 * @param certificateToken {@link CertificateToken}
+	 * @param issuerToken {@link CertificateToken} of the issuer of certificateToken
+	 * @return {@link RevocationTokenAndUrl}
+	 */
+	@Override
+	public RevocationTokenAndUrl<R> getRevocationTokenAndUrl(final CertificateToken certificateToken, final CertificateToken issuerToken) {
+		return getRevocationTokenAndUrl(certificateToken, issuerToken, false);
+	}
+
 	/**
 	 * Retrieves a revocation token for the given {@link CertificateToken}
 	 * 
@@ -190,6 +230,12 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
 	 * @return {@link RevocationToken}
 	 */
 	public RevocationToken<R> getRevocationToken(final CertificateToken certificateToken, final CertificateToken issuerCertificateToken, boolean forceRefresh) {
+		RevocationTokenAndUrl<R> revocationTokenAndUrl = getRevocationTokenAndUrl(certificateToken, issuerCertificateToken, forceRefresh);
+		return revocationTokenAndUrl != null ? revocationTokenAndUrl.getRevocationToken() : null;
+	}
+
+	private RevocationTokenAndUrl<R> getRevocationTokenAndUrl(final CertificateToken certificateToken,
+			final CertificateToken issuerCertificateToken, boolean forceRefresh) {
 		if ((certificateToken == null) || (issuerCertificateToken == null)) {
 			LOG.warn("Certificate token or issuer's certificate token is null. Cannot get a revocation token!");
 			return null;
@@ -202,10 +248,13 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
 		} else {
 			RevocationToken<R> cachedRevocationToken = extractRevocationFromCacheSource(certificateToken, issuerCertificateToken, keys);
 			if (cachedRevocationToken != null) {
-				return cachedRevocationToken;
+				return new RevocationTokenAndUrl<>(cachedRevocationToken.getSourceURL(), cachedRevocationToken);
 			}
 		}
-		return extractAndInsertRevocationTokenFromProxiedSource(certificateToken, issuerCertificateToken, keys);
+		// concurrent cache misses for the same certificate share a single request to the proxied source
+		final String requestKey = certificateToken.getDSSIdAsString() + ":" + issuerCertificateToken.getDSSIdAsString();
+		return proxiedRequests.execute(requestKey,
+				() -> extractAndInsertRevocationTokenFromProxiedSource(certificateToken, issuerCertificateToken, keys));
 	}
 	
 	/**
@@ -249,9 +298,9 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
 	 * @param certificateToken {@link CertificateToken} to extract the revocation token for
 	 * @param issuerCertificateToken {@link CertificateToken} of the issuer
 	 * @param keys - list of keys that can be used as unique identifications of the revocation entry
-	 * @return {@link RevocationToken}
+	 * @return {@link RevocationTokenAndUrl}
 	 */
-	private RevocationToken<R> extractAndInsertRevocationTokenFromProxiedSource(final CertificateToken certificateToken,
+	private RevocationTokenAndUrl<R> extractAndInsertRevocationTokenFromProxiedSource(final CertificateToken certificateToken,
 			final CertificateToken issuerCertificateToken, 
 			List<String> keys) {
 		if (proxiedSource == null) {
@@ -259,13 +308,13 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
 			return null;
 		}
 
-		RevocationToken<R> newToken = null;
-
 		OnlineRevocationSource.RevocationTokenAndUrl<R> revocationTokenAndUrl =
 				proxiedSource.getRevocationTokenAndUrl(certificateToken, issuerCertificateToken);
 		if (revocationTokenAndUrl != null) {
-			newToken = revocationTokenAndUrl.getRevocationToken();
-			if (newToken.isValid()) {
+			RevocationToken<R> newToken = revocationTokenAndUrl.getRevocationToken();
+			if (revocationTokenAndUrl.getUrlString() == null) {
+				LOG.debug("The revocation token URL is unknown. The token is not added into the cache.");
+			} else if (newToken.isValid()) {
 				String revocationTokenKey = getRevocationTokenKey(certificateToken, revocationTokenAndUrl.getUrlString());
 				if (!keys.contains(revocationTokenKey)) {
 					insertRevocation(revocationTokenKey, newToken);
@@ -276,7 +325,7 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
 				}
 			}
 		}
-		return newToken;
+		return revocationTokenAndUrl;
 	}
 
 	/**
@@ -302,8 +351,7 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
 	private boolean isNotExpired(RevocationToken<R> revocationToken, CertificateToken certificateTokenIssuer) {
 		Date validationDate = new Date();
 		
-		Date nextUpdate = revocationToken.getNextUpdate();
-		if (nextUpdate == null) {
+		if (revocationToken.getNextUpdate() == null) {
 			// check the validity of the issuer certificate
 			CertificateToken certificateToken = revocationToken.getIssuerCertificateToken();
 			if (certificateToken == null) {
@@ -315,21 +363,30 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
 		}
 		
 		// check the validity of the revocation token itself
+		Date nextUpdate = getCacheNextUpdate(revocationToken);
+		return nextUpdate != null && nextUpdate.after(validationDate);
+	}
+
+	/**
+	 * Returns the time until which the revocation token can be used from the cache, with respect of
+	 * defaultNextUpdateDelay and maxNextUpdateDelay parameters
+	 *
+	 * @param revocationToken {@code CRLToken} or {@code OCSPToken}
+	 * @return {@link Date} nextUpdate to be used for the cache, null if not defined
+	 */
+	protected Date getCacheNextUpdate(RevocationToken<R> revocationToken) {
+		Date nextUpdate = revocationToken.getNextUpdate();
 		final Date thisUpdate = revocationToken.getThisUpdate();
 		if (nextUpdate == null && defaultNextUpdateDelay != null && thisUpdate != null) {
 			nextUpdate = new Date(thisUpdate.getTime() + defaultNextUpdateDelay);
 		}
-		if (nextUpdate != null) {
-			if (maxNextUpdateDelay != null && thisUpdate != null) {
-				Date maxNextUpdate = new Date(thisUpdate.getTime() + maxNextUpdateDelay);
-				if (nextUpdate.after(maxNextUpdate)) {
-					nextUpdate = maxNextUpdate;
-				}
+		if (nextUpdate != null && maxNextUpdateDelay != null && thisUpdate != null) {
+			Date maxNextUpdate = new Date(thisUpdate.getTime() + maxNextUpdateDelay);
+			if (nextUpdate.after(maxNextUpdate)) {
+				nextUpdate = maxNextUpdate;
 			}
-			return nextUpdate.after(validationDate);
 		}
-		
-		return false;
+		return nextUpdate;
 	}
 
 }
@@ -0,0 +1,154 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent requests with the same key (single-flight) : while a request is in progress,
+ * the other callers with the same key wait for it and share its result (or its failure)
+ * instead of executing their own request.
+ *
+ * The result is not cached : a new request is executed once the in-flight request has been completed.
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ */
+public class RequestCoalescer<K, V> implements Serializable {
+
+	private static final Logger LOG = LoggerFactory.getLogger(RequestCoalescer.class);
+
+	private static final long serialVersionUID = -3520374523498164402L;
+
+	/**
+	 * The requests in progress by their keys
+	 */
+	private final transient ConcurrentMap<K, CompletableFuture<V>> inFlightRequests = new ConcurrentHashMap<>();
+
+	/**
+	 * Default constructor
+	 */
+	public RequestCoalescer() {
+		// empty
+	}
+
+	/**
+	 * Executes the {@code request} within the calling thread, or waits for the result of an in-flight request
+	 * with the same {@code key}
+	 *
+	 * @param key the request key
+	 * @param request {@link Supplier} executing the request
+	 * @return the result of the request
+	 */
+	public V execute(K key, Supplier<V> request) {
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> inFlight = inFlightRequests.putIfAbsent(key, future);
+		if (inFlight != null) {
+			LOG.debug("Waiting for the in-flight request with key '{}'", key);
+			return join(inFlight);
+		}
+
+		try {
+			V result = request.get();
+			future.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlightRequests.remove(key, future);
+		}
+	}
+
+	/**
+	 * Starts the asynchronous {@code request}, or returns the in-flight request with the same {@code key}
+	 *
+	 * @param key the request key
+	 * @param request {@link Supplier} starting the asynchronous request
+	 * @return {@link CompletableFuture} with the result of the request
+	 */
+	public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> request) {
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> inFlight = inFlightRequests.putIfAbsent(key, future);
+		if (inFlight != null) {
+			LOG.debug("Joining the in-flight request with key '{}'", key);
+			return inFlight;
+		}
+
+		CompletableFuture<V> requestFuture;
+		try {
+			requestFuture = request.get();
+		} catch (RuntimeException | Error e) {
+			requestFuture = new CompletableFuture<>();
+			requestFuture.completeExceptionally(e);
+		}
+		requestFuture.whenComplete((result, e) -> {
+			inFlightRequests.remove(key, future);
+			if (e != null) {
+				future.completeExceptionally(e);
+			} else {
+				future.complete(result);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Returns the number of the requests in progress
+	 *
+	 * @return number of in-flight requests
+	 */
+	public int getInFlightRequestsNumber() {
+		return inFlightRequests.size();
+	}
+
+	private V join(CompletableFuture<V> inFlight) {
+		try {
+			return inFlight.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Restores an empty instance on deserialization (the in-flight requests are not serialized)
+	 *
+	 * @return {@link RequestCoalescer}
+	 */
+	private Object readResolve() {
+		return new RequestCoalescer<K, V>();
+	}
+
+}
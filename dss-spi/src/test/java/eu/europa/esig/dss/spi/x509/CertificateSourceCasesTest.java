@@ -29,9 +29,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
@@ -159,4 +166,57 @@ public class CertificateSourceCasesTest {
 		});
 	}
 
+	@Test
+	public void extractTLSKeystoreIndexedLookupTest() throws IOException {
+		KeyStoreCertificateSource kscs = new KeyStoreCertificateSource(new File("src/test/resources/extract-tls.p12"),
+				"PKCS12", "ks-password");
+
+		CommonCertificateSource ccc = new CommonCertificateSource();
+		for (CertificateToken cert : kscs.getCertificates()) {
+			ccc.addCertificate(cert);
+		}
+		List<CertificateToken> certificates = ccc.getCertificates();
+		assertEquals(2438, certificates.size());
+
+		CertificateTokenRefMatcher matcher = new CertificateTokenRefMatcher();
+		Map<CertificateToken, byte[]> skis = new HashMap<>();
+		for (CertificateToken cert : certificates) {
+			skis.put(cert, DSSASN1Utils.computeSkiFromCert(cert));
+		}
+
+		int lookups = 0;
+		for (int i = 0; i < certificates.size(); i += 100) {
+			CertificateToken cert = certificates.get(i);
+			CertificateRef certificateRef = new CertificateRef();
+			certificateRef.setCertDigest(new Digest(DigestAlgorithm.SHA256, cert.getDigest(DigestAlgorithm.SHA256)));
+			SignerIdentifier signerIdentifier = new SignerIdentifier();
+			signerIdentifier.setIssuerName(cert.getIssuerX500Principal());
+			signerIdentifier.setSerialNumber(cert.getSerialNumber());
+			certificateRef.setCertificateIdentifier(signerIdentifier);
+			byte[] ski = skis.get(cert);
+
+			// the indexed lookups shall return the same tokens as a linear scan
+			Set<CertificateToken> expectedBySki = new HashSet<>();
+			Set<CertificateToken> expectedByRef = new HashSet<>();
+			for (CertificateToken candidate : certificates) {
+				if (Arrays.equals(ski, skis.get(candidate))) {
+					expectedBySki.add(candidate);
+				}
+				if (matcher.match(candidate, certificateRef)) {
+					expectedByRef.add(candidate);
+				}
+			}
+
+			Set<CertificateToken> bySki = ccc.getBySki(ski);
+			Set<CertificateToken> byRef = ccc.findTokensFromCertRef(certificateRef);
+
+			assertEquals(expectedBySki, bySki);
+			assertEquals(expectedByRef, byRef);
+			assertTrue(byRef.contains(cert));
+			++lookups;
+		}
+
+		assertEquals((certificates.size() + 99) / 100, lookups);
+	}
+
 }
@@ -0,0 +1,155 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.KeyUsageBit;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CertificateTokenPoolTest {
+
+	@BeforeEach
+	public void init() {
+		CertificateTokenPool.setEnabled(true);
+		CertificateTokenPool.clear();
+	}
+
+	@AfterEach
+	public void reset() {
+		CertificateTokenPool.setEnabled(false);
+	}
+
+	@Test
+	public void sameInstance() throws Exception {
+		File file = new File("src/test/resources/good-user.crt");
+		CertificateToken certificateToken = DSSUtils.loadCertificate(file);
+		assertNotNull(certificateToken);
+		assertEquals(1, CertificateTokenPool.size());
+
+		assertSame(certificateToken, DSSUtils.loadCertificate(DSSUtils.toByteArray(file)));
+		assertSame(certificateToken, DSSUtils.loadCertificate(certificateToken.getEncoded()));
+		assertSame(certificateToken, DSSUtils.loadCertificateFromBase64EncodedString(
+				Utils.toBase64(certificateToken.getEncoded())));
+		assertSame(certificateToken, DSSASN1Utils.getCertificate(new X509CertificateHolder(certificateToken.getEncoded())));
+		assertSame(certificateToken, CertificateTokenPool.get(certificateToken.getEncoded()));
+		assertEquals(1, CertificateTokenPool.size());
+
+		CertificateToken otherCertificate = DSSUtils.loadCertificate(new File("src/test/resources/sk_ca.cer"));
+		assertNotSame(certificateToken, otherCertificate);
+		assertEquals(2, CertificateTokenPool.size());
+	}
+
+	@Test
+	public void pemAndDer() {
+		CertificateToken pemCertificate = DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.cer"));
+		assertNotNull(pemCertificate);
+		assertSame(pemCertificate, DSSUtils.loadCertificate(pemCertificate.getEncoded()));
+	}
+
+	@Test
+	public void p7c() {
+		List<CertificateToken> certificates = DSSUtils.loadCertificateFromP7c(DSSUtils.toByteArrayInputStream(
+				new File("src/test/resources/certchain.p7c")));
+		assertEquals(certificates.size(), CertificateTokenPool.size());
+		for (CertificateToken certificateToken : certificates) {
+			assertSame(certificateToken, DSSUtils.loadCertificate(certificateToken.getEncoded()));
+		}
+	}
+
+	@Test
+	public void intern() {
+		CertificateToken certificateToken = DSSUtils.loadCertificate(new File("src/test/resources/good-user.crt"));
+		CertificateToken copy = new CertificateToken(certificateToken.getCertificate());
+		assertNotSame(certificateToken, copy);
+		assertSame(certificateToken, CertificateTokenPool.intern(copy));
+		assertNull(CertificateTokenPool.intern(null));
+	}
+
+	@Test
+	public void defaultDisabled() {
+		CertificateTokenPool.setEnabled(false);
+		File file = new File("src/test/resources/good-user.crt");
+		assertNotSame(DSSUtils.loadCertificate(file), DSSUtils.loadCertificate(file));
+	}
+
+	@Test
+	public void concurrentAccessToSharedToken() throws Exception {
+		File file = new File("src/test/resources/belgiumrca2-self-sign.crt");
+		CertificateToken expected = new CertificateToken(DSSUtils.loadCertificate(file).getCertificate());
+		boolean expectedSelfSigned = expected.isSelfSigned();
+		List<KeyUsageBit> expectedKeyUsages = expected.getKeyUsageBits();
+		byte[] expectedDigest = expected.getDigest(DigestAlgorithm.SHA512);
+
+		for (int run = 0; run < 20; run++) {
+			CertificateTokenPool.clear();
+			CertificateToken sharedToken = DSSUtils.loadCertificate(file);
+			ExecutorService executorService = Executors.newFixedThreadPool(8);
+			try {
+				List<Future<Boolean>> futures = new ArrayList<>();
+				for (int i = 0; i < 16; i++) {
+					futures.add(executorService.submit(() -> expectedSelfSigned == sharedToken.isSelfSigned()
+							&& expectedKeyUsages.equals(sharedToken.getKeyUsageBits())
+							&& Arrays.equals(expectedDigest, sharedToken.getDigest(DigestAlgorithm.SHA512))));
+				}
+				for (Future<Boolean> future : futures) {
+					assertTrue(future.get());
+				}
+			} finally {
+				executorService.shutdown();
+			}
+		}
+	}
+
+	@Test
+	public void disabled() {
+		CertificateTokenPool.setEnabled(false);
+		File file = new File("src/test/resources/good-user.crt");
+		CertificateToken certificateToken = DSSUtils.loadCertificate(file);
+		CertificateToken secondCertificateToken = DSSUtils.loadCertificate(file);
+		assertEquals(certificateToken, secondCertificateToken);
+		assertNotSame(certificateToken, secondCertificateToken);
+		assertEquals(0, CertificateTokenPool.size());
+		assertNull(CertificateTokenPool.get(certificateToken.getEncoded()));
+	}
+
+}
@@ -30,7 +30,10 @@ import java.io.File;
 import org.junit.jupiter.api.Test;
 
 import eu.europa.esig.dss.enumerations.CertificateSourceType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 
 public class CommonCertificateSourceTest {
@@ -144,4 +147,55 @@ public class CommonCertificateSourceTest {
 		assertTrue(ccTwo.isCertificateSourceEquivalent(ccOne));
 	}
 
+	@Test
+	public void indexedLookupTest() {
+		CommonCertificateSource ccc = new CommonCertificateSource();
+		ccc.addCertificate(CERT);
+		ccc.addCertificate(SAME_PK_CERT_1);
+
+		Digest sha256Digest = new Digest(DigestAlgorithm.SHA256, SAME_PK_CERT_2.getDigest(DigestAlgorithm.SHA256));
+		assertEquals(0, ccc.getByCertificateDigest(sha256Digest).size());
+
+		SignerIdentifier signerIdentifier = new SignerIdentifier();
+		signerIdentifier.setIssuerName(SAME_PK_CERT_2.getIssuerX500Principal());
+		signerIdentifier.setSerialNumber(SAME_PK_CERT_2.getSerialNumber());
+		assertEquals(0, ccc.getBySignerIdentifier(signerIdentifier).size());
+
+		SignerIdentifier skiSignerIdentifier = new SignerIdentifier();
+		skiSignerIdentifier.setSki(DSSASN1Utils.getSki(SAME_PK_CERT_2));
+		assertEquals(0, ccc.getBySignerIdentifier(skiSignerIdentifier).size());
+
+		// indexes are updated after the first lookup
+		ccc.addCertificate(SAME_PK_CERT_2);
+
+		assertEquals(1, ccc.getByCertificateDigest(sha256Digest).size());
+		assertTrue(ccc.getByCertificateDigest(sha256Digest).contains(SAME_PK_CERT_2));
+		assertEquals(1, ccc.getBySignerIdentifier(signerIdentifier).size());
+		assertEquals(1, ccc.getBySignerIdentifier(skiSignerIdentifier).size());
+		assertEquals(2, ccc.getBySki(DSSASN1Utils.computeSkiFromCert(SAME_PK_CERT_2)).size());
+		assertEquals(1, ccc.getBySki(DSSASN1Utils.computeSkiFromCert(CERT)).size());
+
+		CertificateRef certificateRef = new CertificateRef();
+		certificateRef.setCertDigest(new Digest(DigestAlgorithm.SHA1, CERT.getDigest(DigestAlgorithm.SHA1)));
+		assertEquals(1, ccc.findTokensFromCertRef(certificateRef).size());
+		assertTrue(ccc.findTokensFromCertRef(certificateRef).contains(CERT));
+
+		ResponderId responderId = new ResponderId(SAME_PK_CERT_1.getSubject().getPrincipal(), null);
+		certificateRef = new CertificateRef();
+		certificateRef.setResponderId(responderId);
+		assertEquals(1, ccc.findTokensFromCertRef(certificateRef).size());
+		assertTrue(ccc.findTokensFromCertRef(certificateRef).contains(SAME_PK_CERT_1));
+
+		responderId = new ResponderId(null, DSSASN1Utils.computeSkiFromCert(SAME_PK_CERT_1));
+		certificateRef = new CertificateRef();
+		certificateRef.setResponderId(responderId);
+		assertEquals(2, ccc.findTokensFromCertRef(certificateRef).size());
+
+		ccc.reset();
+		assertEquals(0, ccc.getByCertificateDigest(sha256Digest).size());
+		assertEquals(0, ccc.getBySignerIdentifier(signerIdentifier).size());
+		assertEquals(0, ccc.getBySignerIdentifier(skiSignerIdentifier).size());
+		assertEquals(0, ccc.getBySki(DSSASN1Utils.computeSkiFromCert(CERT)).size());
+	}
+
 }
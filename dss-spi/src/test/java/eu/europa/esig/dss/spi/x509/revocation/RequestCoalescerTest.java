@@ -0,0 +1,167 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestCoalescerTest {
+
+	private static final int NB_THREADS = 10;
+
+	@Test
+	public void concurrentRequests() throws Exception {
+		RequestCoalescer<String, Object> coalescer = new RequestCoalescer<>();
+		AtomicInteger counter = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		Object result = new Object();
+
+		ExecutorService executor = Executors.newFixedThreadPool(NB_THREADS);
+		try {
+			List<Future<Object>> futures = new ArrayList<>();
+			for (int i = 0; i < NB_THREADS; i++) {
+				futures.add(executor.submit(() -> coalescer.execute("key", () -> {
+					counter.incrementAndGet();
+					await(release);
+					return result;
+				})));
+			}
+
+			// wait for the leader
+			while (counter.get() == 0) {
+				Thread.sleep(10);
+			}
+			Thread.sleep(100);
+			release.countDown();
+
+			for (Future<Object> future : futures) {
+				assertSame(result, future.get(5, TimeUnit.SECONDS));
+			}
+			assertEquals(1, counter.get());
+			assertEquals(0, coalescer.getInFlightRequestsNumber());
+
+		} finally {
+			executor.shutdown();
+		}
+
+		// completed request is not cached
+		assertSame(result, coalescer.execute("key", () -> {
+			counter.incrementAndGet();
+			return result;
+		}));
+		assertEquals(2, counter.get());
+	}
+
+	@Test
+	public void differentKeys() {
+		RequestCoalescer<String, String> coalescer = new RequestCoalescer<>();
+		assertEquals("a", coalescer.execute("a", () -> "a"));
+		assertEquals("b", coalescer.execute("b", () -> "b"));
+		assertEquals(0, coalescer.getInFlightRequestsNumber());
+	}
+
+	@Test
+	public void sharedException() throws Exception {
+		RequestCoalescer<String, Object> coalescer = new RequestCoalescer<>();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Object> leader = executor.submit(() -> coalescer.execute("key", () -> {
+				started.countDown();
+				await(release);
+				throw new IllegalStateException("Failure");
+			}));
+			await(started);
+			Future<Object> follower = executor.submit(() -> coalescer.execute("key", () -> "not executed"));
+			Thread.sleep(100);
+			release.countDown();
+
+			Exception exception = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+			assertTrue(exception.getCause() instanceof IllegalStateException);
+			exception = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+			assertTrue(exception.getCause() instanceof IllegalStateException);
+			assertEquals("Failure", exception.getCause().getMessage());
+
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(0, coalescer.getInFlightRequestsNumber());
+	}
+
+	@Test
+	public void asyncRequests() throws Exception {
+		RequestCoalescer<String, String> coalescer = new RequestCoalescer<>();
+		AtomicInteger counter = new AtomicInteger();
+		CompletableFuture<String> request = new CompletableFuture<>();
+
+		List<CompletableFuture<String>> futures = new ArrayList<>();
+		for (int i = 0; i < NB_THREADS; i++) {
+			futures.add(coalescer.executeAsync("key", () -> {
+				counter.incrementAndGet();
+				return request;
+			}));
+		}
+		assertEquals(1, coalescer.getInFlightRequestsNumber());
+
+		// a synchronous call joins the asynchronous in-flight request
+		CompletableFuture<String> syncCall = CompletableFuture.supplyAsync(() -> coalescer.execute("key", () -> "sync"));
+		Thread.sleep(100);
+
+		request.complete("result");
+		for (CompletableFuture<String> future : futures) {
+			assertEquals("result", future.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals("result", syncCall.get(5, TimeUnit.SECONDS));
+		assertEquals(1, counter.get());
+		assertEquals(0, coalescer.getInFlightRequestsNumber());
+
+		CompletableFuture<String> failed = coalescer.executeAsync("key", () -> {
+			throw new IllegalStateException("Failure");
+		});
+		assertTrue(failed.isCompletedExceptionally());
+		assertEquals(0, coalescer.getInFlightRequestsNumber());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -38,6 +38,7 @@ import eu.europa.esig.dss.xades.definition.XAdESPaths;
 import eu.europa.esig.dss.xades.definition.xades111.XAdES111Paths;
 import eu.europa.esig.dss.xades.definition.xades132.XAdES132Element;
 import eu.europa.esig.dss.xades.definition.xades132.XAdES132Paths;
+import eu.europa.esig.dss.xades.reference.AbstractTransform;
 import eu.europa.esig.dss.xades.reference.DSSReference;
 import eu.europa.esig.dss.xades.reference.DSSTransform;
 import eu.europa.esig.dss.xades.reference.ReferenceOutputType;
@@ -56,7 +57,6 @@ import org.apache.xml.security.transforms.Transforms;
 import org.apache.xml.security.utils.XMLUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
@@ -65,21 +65,19 @@ import org.w3c.dom.NodeList;
 import org.w3c.dom.Text;
 
 import javax.xml.crypto.dsig.CanonicalizationMethod;
-import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathExpressionException;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.security.PublicKey;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -452,7 +450,6 @@ public final class DSSXMLUtils {
 	 */
 	public static byte[] serializeNode(final Node xmlNode) {
 		try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-			Transformer transformer = DomUtils.getSecureTransformer();
 			Document document;
 			if (Node.DOCUMENT_NODE == xmlNode.getNodeType()) {
 				document = (Document) xmlNode;
@@ -460,16 +457,17 @@ public final class DSSXMLUtils {
 				document = xmlNode.getOwnerDocument();
 			}
 
+			String encoding = null;
 			if (document != null) {
 				String xmlEncoding = document.getXmlEncoding();
 				if (Utils.isStringNotBlank(xmlEncoding)) {
-					transformer.setOutputProperty(OutputKeys.ENCODING, xmlEncoding);
+					encoding = xmlEncoding;
 				}
 			}
 
 			StreamResult result = new StreamResult(bos);
 			Source source = new DOMSource(xmlNode);
-			transformer.transform(source, result);
+			DomUtils.transform(source, result, encoding);
 			
 			return bos.toByteArray();
 		} catch (Exception e) {
@@ -501,9 +499,31 @@ public final class DSSXMLUtils {
 	 */
 	public static byte[] canonicalize(final String canonicalizationMethod, final byte[] toCanonicalizeBytes) throws DSSException {
 		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-			final Canonicalizer c14n = Canonicalizer.getInstance(getCanonicalizationMethod(canonicalizationMethod));
-			c14n.canonicalize(toCanonicalizeBytes, baos, true);
+			canonicalize(canonicalizationMethod, toCanonicalizeBytes, baos);
 			return baos.toByteArray();
+		} catch (IOException e) {
+			throw new DSSException("Cannot canonicalize the binaries", e);
+		}
+	}
+
+	/**
+	 * This method canonicalizes the given array of bytes using the {@code canonicalizationMethod} parameter
+	 * and writes the result to the {@code outputStream} (e.g. a digest computation stream)
+	 *
+	 * @param canonicalizationMethod
+	 *            canonicalization method
+	 * @param toCanonicalizeBytes
+	 *            array of bytes to canonicalize
+	 * @param outputStream
+	 *            {@link OutputStream} to write the canonicalized bytes to
+	 * @throws DSSException
+	 *             if any error is encountered
+	 */
+	public static void canonicalize(final String canonicalizationMethod, final byte[] toCanonicalizeBytes,
+									final OutputStream outputStream) throws DSSException {
+		try {
+			final Canonicalizer c14n = Canonicalizer.getInstance(getCanonicalizationMethod(canonicalizationMethod));
+			c14n.canonicalize(toCanonicalizeBytes, outputStream, true);
 		} catch (Exception e) {
 			throw new DSSException("Cannot canonicalize the binaries", e);
 		}
@@ -521,9 +541,30 @@ public final class DSSXMLUtils {
 	 */
 	public static byte[] canonicalizeSubtree(final String canonicalizationMethod, final Node node) {
 		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-			final Canonicalizer c14n = Canonicalizer.getInstance(getCanonicalizationMethod(canonicalizationMethod));
-			c14n.canonicalizeSubtree(node, baos);
+			canonicalizeSubtree(canonicalizationMethod, node, baos);
 			return baos.toByteArray();
+		} catch (IOException e) {
+			throw new DSSException("Cannot canonicalize the subtree", e);
+		}
+	}
+
+	/**
+	 * This method canonicalizes the given {@code Node} and writes the result to the {@code outputStream}
+	 * (e.g. a digest computation stream).
+	 * If canonicalization method is not provided, the {@code DEFAULT_CANONICALIZATION_METHOD} is being used
+	 *
+	 * @param canonicalizationMethod
+	 *            canonicalization method (can be null)
+	 * @param node
+	 *            {@code Node} to canonicalize
+	 * @param outputStream
+	 *            {@link OutputStream} to write the canonicalized bytes to
+	 */
+	public static void canonicalizeSubtree(final String canonicalizationMethod, final Node node,
+										   final OutputStream outputStream) {
+		try {
+			final Canonicalizer c14n = Canonicalizer.getInstance(getCanonicalizationMethod(canonicalizationMethod));
+			c14n.canonicalizeSubtree(node, outputStream);
 		} catch (Exception e) {
 			throw new DSSException("Cannot canonicalize the subtree", e);
 		}
@@ -630,32 +671,39 @@ public final class DSSXMLUtils {
 	}
 
 	/**
-	 * This method is used to detect duplicate id values
+	 * This method is used to detect duplicate id values.
+	 * The attributes named "Id" (case-insensitive, without a prefix) are considered, and a duplicate is detected
+	 * when several elements define the attribute with the same name and the same value
+	 * (e.g. Id="a" and ID="a" are not duplicates).
 	 * 
 	 * @param doc
 	 *            the document to be analyzed
 	 * @return TRUE if a duplicate id is detected
 	 */
 	public static boolean isDuplicateIdsDetected(DSSDocument doc) {
-		try {
-			Document dom = DomUtils.buildDOM(doc);
-			Element root = dom.getDocumentElement();
-			recursiveIdBrowse(root);
-			XPathExpression xPathExpression = DomUtils.createXPathExpression("//*/@*");
-			NodeList nodeList = (NodeList) xPathExpression.evaluate(root, XPathConstants.NODESET);
-			for (int i = 0; i < nodeList.getLength(); i++) {
-				Attr attr = (Attr) nodeList.item(i);
-				if (Utils.areStringsEqualIgnoreCase(XMLDSigAttribute.ID.getAttributeName(), attr.getName())) {
-					XPathExpression xpathAllById = DomUtils.createXPathExpression("//*[@" + attr.getName() + "='" + attr.getValue() + "']");
-					NodeList nodeListById = (NodeList) xpathAllById.evaluate(root, XPathConstants.NODESET);
-					if (nodeListById.getLength() != 1) {
-						LOG.warn("Problem detected with Id '{}', nb occurences = {}", attr.getValue(), nodeListById.getLength());
-						return true;
-					}
+		Document dom = DomUtils.buildDOM(doc);
+		Element root = dom.getDocumentElement();
+		recursiveIdBrowse(root);
+		// occurrences by attribute name and value, collected in a single pass
+		final Map<String, Map<String, Integer>> occurrencesByName = new LinkedHashMap<>();
+		final NodeList elements = dom.getElementsByTagName("*");
+		for (int i = 0; i < elements.getLength(); i++) {
+			final NamedNodeMap attributes = elements.item(i).getAttributes();
+			for (int jj = 0; jj < attributes.getLength(); jj++) {
+				final Node attr = attributes.item(jj);
+				if (Utils.areStringsEqualIgnoreCase(XMLDSigAttribute.ID.getAttributeName(), attr.getNodeName())) {
+					occurrencesByName.computeIfAbsent(attr.getNodeName(), k -> new LinkedHashMap<>())
+							.merge(attr.getNodeValue(), 1, Integer::sum);
+				}
+			}
+		}
+		for (Map<String, Integer> occurrencesByValue : occurrencesByName.values()) {
+			for (Map.Entry<String, Integer> occurrences : occurrencesByValue.entrySet()) {
+				if (occurrences.getValue() != 1) {
+					LOG.warn("Problem detected with Id '{}', nb occurences = {}", occurrences.getKey(), occurrences.getValue());
+					return true;
 				}
 			}
-		} catch (XPathExpressionException e) {
-			throw new DSSException("Unable to check if duplicate ids are present", e);
 		}
 		return false;
 	}
@@ -1104,6 +1152,54 @@ public final class DSSXMLUtils {
 			return DSSXMLUtils.getNodeBytes(nodeToTransform);
 		}
 	}
+	/**
+	 * Applies transforms on the node and writes the content to be used for a digest computation
+	 * to the {@code outputStream}. The output of the last transform is written directly to the stream,
+	 * without being kept in memory, when the transform supports it.
+	 *
+	 * NOTE: writes the original node binaries, if the list of {@code transforms} is empty
+	 *
+	 * @param node         {@link Node} to apply transforms on
+	 * @param transforms   a list of {@link DSSTransform}s to execute on the node
+	 * @param outputStream {@link OutputStream} to write the content obtained after transformations to
+	 */
+	public static void applyTransforms(final Node node, final List<DSSTransform> transforms,
+									   final OutputStream outputStream) {
+		try {
+			if (Utils.isCollectionEmpty(transforms)) {
+				writeBytes(outputStream, DSSXMLUtils.getNodeBytes(node));
+				return;
+			}
+			Node nodeToTransform = node;
+			Iterator<DSSTransform> iterator = transforms.iterator();
+			while (iterator.hasNext()) {
+				DSSTransform transform = iterator.next();
+				if (iterator.hasNext()) {
+					byte[] transformedReferenceBytes = transform.getBytesAfterTransformation(nodeToTransform);
+					if (Utils.isArrayEmpty(transformedReferenceBytes)) {
+						throw new IllegalInputException(String.format(
+								"Unable to perform the next transform. The %s produced an empty output!", transform));
+					}
+					nodeToTransform = DomUtils.buildDOM(transformedReferenceBytes);
+
+				} else if (transform instanceof AbstractTransform) {
+					((AbstractTransform) transform).writeAfterTransformation(nodeToTransform, outputStream);
+
+				} else {
+					writeBytes(outputStream, transform.getBytesAfterTransformation(nodeToTransform));
+				}
+			}
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to write the transformed content : %s", e.getMessage()), e);
+		}
+	}
+
+	private static void writeBytes(OutputStream outputStream, byte[] bytes) throws IOException {
+		if (bytes != null) {
+			outputStream.write(bytes);
+		}
+	}
+
 	/**
 	 * Applies transforms on document content and returns the byte array to be used for a
 	 * digest computation
@@ -24,10 +24,14 @@ import eu.europa.esig.dss.DomUtils;
 import eu.europa.esig.dss.definition.DSSNamespace;
 import eu.europa.esig.dss.definition.xmldsig.XMLDSigAttribute;
 import eu.europa.esig.dss.definition.xmldsig.XMLDSigElement;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.xades.definition.XAdESNamespaces;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Objects;
 
 /**
@@ -80,6 +84,25 @@ public abstract class AbstractTransform implements DSSTransform {
 		return transformDom;
 	}
 
+	/**
+	 * Writes the output of the transformation performed on the given {@code node} to the {@code outputStream}
+	 * (e.g. a digest computation stream)
+	 *
+	 * @param node {@link Node} to perform the transformation on
+	 * @param outputStream {@link OutputStream} to write the transformation output to
+	 */
+	public void writeAfterTransformation(Node node, OutputStream outputStream) {
+		final byte[] bytes = getBytesAfterTransformation(node);
+		if (bytes != null) {
+			try {
+				outputStream.write(bytes);
+			} catch (IOException e) {
+				throw new DSSException(String.format("Unable to write the output of the transformation [%s]. Reason : [%s]",
+						algorithm, e.getMessage()), e);
+			}
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -33,6 +33,7 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map.Entry;
 
 /**
@@ -87,6 +88,31 @@ public abstract class ComplexTransform extends AbstractTransform {
 		}
 	}
 
+	/**
+	 * Performs the transformation and writes its output directly to the {@code outputStream},
+	 * without building the output in memory when supported by the transform (e.g. a canonicalization)
+	 *
+	 * @param node {@link Node} to perform the transformation on
+	 * @param outputStream {@link OutputStream} to write the transformation output to
+	 */
+	@Override
+	public void writeAfterTransformation(Node node, OutputStream outputStream) {
+		if (transformObject == null) {
+			buildTransformObject();
+		}
+		try {
+			final XMLSignatureInput xmlSignatureInput = getXMLSignatureInput(node);
+			final XMLSignatureInput xmlSignatureInputOut = transformObject.performTransform(xmlSignatureInput, outputStream, true);
+			if (!xmlSignatureInputOut.isOutputStreamSet()) {
+				// the output has not been written by the transform (e.g. a node-set output)
+				xmlSignatureInputOut.updateOutputStream(outputStream);
+			}
+		} catch (IOException | XMLSecurityException e) {
+			throw new DSSException(String.format("Cannot process transformation [%s] on the given DOM object. Reason : [%s]", 
+					algorithm, e.getMessage()), e);
+		}
+	}
+
 	/**
 	 * Gets {@code XMLSignatureInput} for the given node
 	 *
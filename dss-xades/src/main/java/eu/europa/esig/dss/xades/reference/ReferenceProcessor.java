@@ -24,9 +24,12 @@ import eu.europa.esig.dss.DomUtils;
 import eu.europa.esig.dss.definition.DSSNamespace;
 import eu.europa.esig.dss.definition.xmldsig.XMLDSigAttribute;
 import eu.europa.esig.dss.definition.xmldsig.XMLDSigElement;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.xades.DSSXMLUtils;
 import eu.europa.esig.dss.xades.XAdESSignatureParameters;
@@ -36,7 +39,15 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Contains methods for processing {@code eu.europa.esig.dss.xades.reference.DSSReference}
@@ -147,6 +158,46 @@ public class ReferenceProcessor {
 
     }
 
+    /**
+     * Returns the output of the given {@code DSSReference} to be digested. When the reference output is an octet
+     * stream produced by transforms (e.g. a canonicalization), the output is streamed into the digest computation
+     * and a {@code DigestDocument} is returned, in order to not keep the (potentially large) output in memory.
+     *
+     * @param reference {@link DSSReference} to process
+     * @return {@link DSSDocument} reference output content or its digest
+     */
+    private DSSDocument getReferenceDigestOutput(DSSReference reference) {
+        if (!isDigestStreamingSupported(reference)) {
+            return getReferenceOutput(reference);
+        }
+
+        Node nodeToTransform = dereferenceNode(reference);
+        if (nodeToTransform == null) {
+            return reference.getContents();
+        }
+
+        final DigestAlgorithm digestAlgorithm = reference.getDigestMethodAlgorithm();
+        final MessageDigest messageDigest = DSSUtils.getMessageDigest(digestAlgorithm);
+        try (OutputStream os = new BufferedOutputStream(new MessageDigestOutputStream(messageDigest))) {
+            DSSXMLUtils.applyTransforms(nodeToTransform, reference.getTransforms(), os);
+        } catch (IOException e) {
+            throw new DSSException(String.format("Unable to compute the reference digest : %s", e.getMessage()), e);
+        }
+        return new DigestDocument(digestAlgorithm, Utils.toBase64(messageDigest.digest()));
+    }
+
+    private boolean isDigestStreamingSupported(DSSReference reference) {
+        final List<DSSTransform> transforms = reference.getTransforms();
+        final DigestAlgorithm digestAlgorithm = reference.getDigestMethodAlgorithm();
+        return !(reference.getContents() instanceof DigestDocument) && Utils.isCollectionNotEmpty(transforms)
+                && !isUniqueBase64Transform(transforms)
+                // a NodeSet output is canonicalized once again (see #getReferenceOutput)
+                && ReferenceOutputType.OCTET_STREAM.equals(DSSXMLUtils.getReferenceOutputType(reference))
+                // SHAKE algorithms are not supported by a MessageDigest
+                && digestAlgorithm != null && !DigestAlgorithm.SHAKE128.equals(digestAlgorithm)
+                && !DigestAlgorithm.SHAKE256.equals(digestAlgorithm);
+    }
+
     private boolean isUniqueBase64Transform(List<DSSTransform> transforms) {
         return transforms != null && transforms.size() == 1 && transforms.get(0) instanceof Base64Transform;
     }
@@ -164,6 +215,7 @@ public class ReferenceProcessor {
     public void incorporateReferences(Element referenceContainer, List<DSSReference> references, DSSNamespace namespace) {
         if (Utils.isCollectionNotEmpty(references)) {
             Document documentDom = referenceContainer.getOwnerDocument();
+            Map<DSSReference, DSSDocument> referenceOutputs = getReferenceOutputs(references);
             for (DSSReference dssReference : references) {
                 final Element referenceDom = DomUtils.createElementNS(documentDom, namespace, XMLDSigElement.REFERENCE);
                 referenceContainer.appendChild(referenceDom);
@@ -183,11 +235,64 @@ public class ReferenceProcessor {
                 DSSXMLUtils.incorporateTransforms(referenceDom, dssReference.getTransforms(), namespace);
                 DSSXMLUtils.incorporateDigestMethod(referenceDom, dssReference.getDigestMethodAlgorithm(), namespace);
 
-                DSSDocument documentAfterTransforms = getReferenceOutput(dssReference);
+                DSSDocument documentAfterTransforms = referenceOutputs.get(dssReference);
                 String base64EncodedDigestBytes = documentAfterTransforms.getDigest(dssReference.getDigestMethodAlgorithm());
                 DSSXMLUtils.incorporateDigestValue(referenceDom, base64EncodedDigestBytes, namespace);
             }
         }
     }
 
+    /**
+     * Computes the output contents of the given references. The digests of a content shared between several references
+     * with different digest algorithms (e.g. a detached document) are computed within a single pass over the content.
+     *
+     * @param references a list of {@link DSSReference}s
+     * @return a map between the references and their output contents
+     */
+    private Map<DSSReference, DSSDocument> getReferenceOutputs(List<DSSReference> references) {
+        Map<DSSReference, DSSDocument> referenceOutputs = new IdentityHashMap<>();
+        Map<DSSDocument, Set<DigestAlgorithm>> digestAlgorithmsByDocument = new IdentityHashMap<>();
+        for (DSSReference dssReference : references) {
+            DSSDocument documentAfterTransforms = getReferenceDigestOutput(dssReference);
+            referenceOutputs.put(dssReference, documentAfterTransforms);
+            digestAlgorithmsByDocument.computeIfAbsent(documentAfterTransforms, k -> EnumSet.noneOf(DigestAlgorithm.class))
+                    .add(dssReference.getDigestMethodAlgorithm());
+        }
+        for (Map.Entry<DSSDocument, Set<DigestAlgorithm>> entry : digestAlgorithmsByDocument.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                entry.getKey().getDigests(entry.getValue());
+            }
+        }
+        return referenceOutputs;
+    }
+
+    /**
+     * Writes the received bytes to a {@code MessageDigest}
+     */
+    private static final class MessageDigestOutputStream extends OutputStream {
+
+        /** The digest to update */
+        private final MessageDigest messageDigest;
+
+        /**
+         * Default constructor
+         *
+         * @param messageDigest {@link MessageDigest} to update
+         */
+        private MessageDigestOutputStream(MessageDigest messageDigest) {
+            this.messageDigest = messageDigest;
+        }
+
+        @Override
+        public void write(int b) {
+            messageDigest.update((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            messageDigest.update(b, off, len);
+        }
+
+    }
+
 }
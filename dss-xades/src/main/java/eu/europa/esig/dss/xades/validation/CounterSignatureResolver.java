@@ -26,12 +26,14 @@ import org.apache.xml.security.utils.resolver.ResourceResolverException;
 import org.apache.xml.security.utils.resolver.ResourceResolverSpi;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
+import eu.europa.esig.dss.DomIdIndex;
 import eu.europa.esig.dss.DomUtils;
 import eu.europa.esig.dss.definition.xmldsig.XMLDSigElement;
-import eu.europa.esig.dss.definition.xmldsig.XMLDSigPaths;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.MimeType;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.xades.DSSXMLUtils;
@@ -46,6 +48,9 @@ public class CounterSignatureResolver extends ResourceResolverSpi {
 	/** The counter signed SignatureValue document */
 	private final DSSDocument document;
 
+	/** The DOM of the counter signed SignatureValue document (built on the first resolution) */
+	private Document documentDom;
+
 	/**
 	 * Default constructor
 	 *
@@ -91,14 +96,14 @@ public class CounterSignatureResolver extends ResourceResolverSpi {
 		
 		String uriValue = DSSUtils.decodeURI(uriAttr.getNodeValue());
 			
-		Document documentDom = DomUtils.buildDOM(document);
-		Node node = DomUtils.getNode(documentDom, XMLDSigPaths.ALL_SIGNATURE_VALUES_PATH + DomUtils.getXPathByIdAttribute(uriValue));
+		Document documentDom = getDocumentDom();
+		Node node = getSignatureValueById(documentDom, DomUtils.getId(uriValue));
 		
 		if (node == null && isXPointerSlash(uriValue) && XMLDSigElement.SIGNATURE_VALUE.getTagName().equals(documentDom.getLocalName())) {
 			node = documentDom;
 		} else if (node == null && DomUtils.isXPointerQuery(uriValue)) {
 			String xPointerId = DomUtils.getXPointerId(uriValue);
-			node = DomUtils.getNode(documentDom, XMLDSigPaths.ALL_SIGNATURE_VALUES_PATH + DomUtils.getXPathByIdAttribute(xPointerId));
+			node = getSignatureValueById(documentDom, xPointerId);
 		}
 		
 		if (node != null) {
@@ -108,4 +113,25 @@ public class CounterSignatureResolver extends ResourceResolverSpi {
 		return null;
 	}
 
+	private Document getDocumentDom() {
+		if (documentDom == null) {
+			documentDom = DomUtils.buildDOM(document);
+		}
+		return documentDom;
+	}
+
+	private Node getSignatureValueById(Document documentDom, String id) {
+		Node signatureValue = null;
+		for (Element element : DomIdIndex.getElementsById(documentDom, id)) {
+			if (XMLDSigElement.SIGNATURE_VALUE.getURI().equals(element.getNamespaceURI())
+					&& XMLDSigElement.SIGNATURE_VALUE.isSameTagName(element.getLocalName())) {
+				if (signatureValue != null) {
+					throw new DSSException(String.format("More than one SignatureValue found with Id '%s'", id));
+				}
+				signatureValue = element;
+			}
+		}
+		return signatureValue;
+	}
+
 }
@@ -203,4 +203,10 @@ public class XMLDocumentValidator extends SignedDocumentValidator {
 		return new XAdESTimestampScopeFinder();
 	}
 
+	@Override
+	protected Object getConcurrentProcessingGroup(AdvancedSignature signature) {
+		// the DOM is not thread-safe, the signatures of the same document are processed sequentially
+		return ((XAdESSignature) signature).getSignatureElement().getOwnerDocument();
+	}
+
 }
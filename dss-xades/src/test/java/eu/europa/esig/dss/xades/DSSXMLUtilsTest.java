@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import javax.xml.transform.Source;
@@ -42,6 +43,7 @@ import org.xml.sax.SAXException;
 import eu.europa.esig.dss.DomUtils;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.xades.XAdES319132Utils;
 
@@ -111,4 +113,19 @@ public class DSSXMLUtilsTest {
 		assertFalse(DSSXMLUtils.isDuplicateIdsDetected(new FileDocument("src/test/resources/sample.xml")));
 	}
 
+	@Test
+	public void isDuplicateIdsDetectedByAttributeNameTest() {
+		assertTrue(DSSXMLUtils.isDuplicateIdsDetected(new InMemoryDocument(
+				"<root><a Id=\"x\"/><b Id=\"x\"/></root>".getBytes(StandardCharsets.UTF_8))));
+		assertTrue(DSSXMLUtils.isDuplicateIdsDetected(new InMemoryDocument(
+				"<root><a id=\"x\"/><b id=\"x\"/></root>".getBytes(StandardCharsets.UTF_8))));
+		// different attribute names with the same value
+		assertFalse(DSSXMLUtils.isDuplicateIdsDetected(new InMemoryDocument(
+				"<root><a Id=\"x\"/><b ID=\"x\"/><c id=\"x\"/></root>".getBytes(StandardCharsets.UTF_8))));
+		// prefixed attributes are not considered
+		assertFalse(DSSXMLUtils.isDuplicateIdsDetected(new InMemoryDocument(
+				("<root xmlns:wsu=\"urn:wsu\"><a wsu:Id=\"x\"/><b wsu:Id=\"x\"/><c Id=\"x\"/></root>")
+						.getBytes(StandardCharsets.UTF_8))));
+	}
+
 }
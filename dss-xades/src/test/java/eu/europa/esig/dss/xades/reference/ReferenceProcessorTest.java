@@ -0,0 +1,120 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades.reference;
+
+import eu.europa.esig.dss.DomUtils;
+import eu.europa.esig.dss.definition.xmldsig.XMLDSigElement;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.xades.DSSXMLUtils;
+import eu.europa.esig.dss.xades.definition.XAdESNamespaces;
+import org.apache.xml.security.c14n.Canonicalizer;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReferenceProcessorTest {
+
+	private static final DSSDocument SAMPLE = new FileDocument("src/test/resources/sample.xml");
+
+	private static final DSSDocument SAMPLE_WITH_ID = new InMemoryDocument((
+			"<root xmlns:a=\"urn:a\"><a:data Id=\"data\">text<!-- comment --><b c=\"1\"   a=\"2\"/></a:data></root>")
+			.getBytes(StandardCharsets.UTF_8));
+
+	@Test
+	public void streamedDigestTest() {
+		List<DSSReference> references = new ArrayList<>();
+		references.add(getReference(SAMPLE, "", DigestAlgorithm.SHA256, Arrays.asList(
+				new EnvelopedSignatureTransform(), new CanonicalizationTransform(Canonicalizer.ALGO_ID_C14N_EXCL_OMIT_COMMENTS))));
+		references.add(getReference(SAMPLE, "", DigestAlgorithm.SHA512, Arrays.asList(
+				new XPath2FilterEnvelopedSignatureTransform(), new CanonicalizationTransform(Canonicalizer.ALGO_ID_C14N11_OMIT_COMMENTS))));
+		references.add(getReference(SAMPLE_WITH_ID, "#data", DigestAlgorithm.SHA256, Collections.singletonList(
+				new CanonicalizationTransform(Canonicalizer.ALGO_ID_C14N_OMIT_COMMENTS))));
+		references.add(getReference(SAMPLE_WITH_ID, "#data", DigestAlgorithm.SHA384, Collections.singletonList(
+				new CanonicalizationTransform(Canonicalizer.ALGO_ID_C14N_EXCL_WITH_COMMENTS))));
+		// NodeSet output, not streamed
+		references.add(getReference(SAMPLE_WITH_ID, "#data", DigestAlgorithm.SHA256, Collections.singletonList(
+				new XPathEnvelopedSignatureTransform())));
+		references.add(getReference(SAMPLE, "", DigestAlgorithm.SHA1, null));
+
+		ReferenceProcessor referenceProcessor = new ReferenceProcessor();
+		Document document = DomUtils.buildDOM();
+		Element signedInfo = DomUtils.createElementNS(document, XAdESNamespaces.XMLDSIG, XMLDSigElement.SIGNED_INFO);
+		document.appendChild(signedInfo);
+		referenceProcessor.incorporateReferences(signedInfo, references, XAdESNamespaces.XMLDSIG);
+
+		NodeList digestValues = signedInfo.getElementsByTagNameNS(XAdESNamespaces.XMLDSIG.getUri(),
+				XMLDSigElement.DIGEST_VALUE.getTagName());
+		assertEquals(references.size(), digestValues.getLength());
+		for (int i = 0; i < references.size(); i++) {
+			DSSReference reference = references.get(i);
+			DSSDocument referenceOutput = referenceProcessor.getReferenceOutput(reference);
+			byte[] expectedDigest = DSSUtils.digest(reference.getDigestMethodAlgorithm(), DSSUtils.toByteArray(referenceOutput));
+			assertEquals(Utils.toBase64(expectedDigest), digestValues.item(i).getTextContent());
+		}
+	}
+
+	@Test
+	public void applyTransformsToStreamTest() {
+		List<DSSTransform> transforms = Arrays.asList(
+				new EnvelopedSignatureTransform(), new CanonicalizationTransform(Canonicalizer.ALGO_ID_C14N_EXCL_OMIT_COMMENTS));
+		Document document = DomUtils.buildDOM(SAMPLE);
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		DSSXMLUtils.applyTransforms(document, transforms, baos);
+		assertArrayEquals(DSSXMLUtils.applyTransforms(document, transforms), baos.toByteArray());
+
+		baos = new ByteArrayOutputStream();
+		DSSXMLUtils.canonicalizeSubtree(Canonicalizer.ALGO_ID_C14N_OMIT_COMMENTS, document, baos);
+		assertArrayEquals(DSSXMLUtils.canonicalizeSubtree(Canonicalizer.ALGO_ID_C14N_OMIT_COMMENTS, document), baos.toByteArray());
+
+		byte[] sampleBytes = DSSUtils.toByteArray(SAMPLE);
+		baos = new ByteArrayOutputStream();
+		DSSXMLUtils.canonicalize(Canonicalizer.ALGO_ID_C14N11_WITH_COMMENTS, sampleBytes, baos);
+		assertArrayEquals(DSSXMLUtils.canonicalize(Canonicalizer.ALGO_ID_C14N11_WITH_COMMENTS, sampleBytes), baos.toByteArray());
+	}
+
+	private DSSReference getReference(DSSDocument contents, String uri, DigestAlgorithm digestAlgorithm,
+									  List<DSSTransform> transforms) {
+		DSSReference reference = new DSSReference();
+		reference.setContents(contents);
+		reference.setUri(uri);
+		reference.setDigestMethodAlgorithm(digestAlgorithm);
+		reference.setTransforms(transforms);
+		return reference;
+	}
+
+}
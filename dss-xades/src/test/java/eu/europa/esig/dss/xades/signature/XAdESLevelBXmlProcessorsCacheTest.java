@@ -0,0 +1,102 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades.signature;
+
+import eu.europa.esig.dss.DomUtils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.token.DSSPrivateKeyEntry;
+import eu.europa.esig.dss.token.Pkcs12SignatureToken;
+import eu.europa.esig.dss.validation.AdvancedSignature;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.xades.XAdESSignatureParameters;
+import eu.europa.esig.dss.xades.validation.XMLDocumentValidator;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.security.KeyStore.PasswordProtection;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class XAdESLevelBXmlProcessorsCacheTest {
+
+	private final DSSDocument documentToSign = new FileDocument("src/test/resources/sample.xml");
+
+	private final Date signingDate = new Date();
+
+	@Test
+	public void test() throws Exception {
+		try (Pkcs12SignatureToken signatureToken = new Pkcs12SignatureToken(
+				new File("src/test/resources/cert-conflict/previousKeystore.pfx"), new PasswordProtection("1qaz@WSX".toCharArray()))) {
+			DSSPrivateKeyEntry privateKey = signatureToken.getKeys().get(0);
+			XAdESService service = new XAdESService(new CommonCertificateVerifier());
+
+			try {
+				DomUtils.setXmlProcessorsCacheEnabled(false);
+				byte[] expected = DSSUtils.toByteArray(sign(service, signatureToken, privateKey));
+
+				DomUtils.setXmlProcessorsCacheEnabled(true);
+				DomUtils.clearThreadCaches();
+				// the first signature creates the DocumentBuilder and Transformer, the second one reuses them
+				assertArrayEquals(expected, DSSUtils.toByteArray(sign(service, signatureToken, privateKey)));
+				assertArrayEquals(expected, DSSUtils.toByteArray(sign(service, signatureToken, privateKey)));
+
+				DomUtils.clearThreadCaches();
+				assertArrayEquals(expected, DSSUtils.toByteArray(sign(service, signatureToken, privateKey)));
+
+			} finally {
+				DomUtils.setXmlProcessorsCacheEnabled(true);
+			}
+		}
+	}
+
+	private DSSDocument sign(XAdESService service, Pkcs12SignatureToken signatureToken, DSSPrivateKeyEntry privateKey) {
+		XAdESSignatureParameters parameters = new XAdESSignatureParameters();
+		parameters.bLevel().setSigningDate(signingDate);
+		parameters.setSignatureLevel(SignatureLevel.XAdES_BASELINE_B);
+		parameters.setSignaturePackaging(SignaturePackaging.ENVELOPED);
+		parameters.setDigestAlgorithm(DigestAlgorithm.SHA256);
+		parameters.setSigningCertificate(privateKey.getCertificate());
+		parameters.setCertificateChain(privateKey.getCertificateChain());
+
+		ToBeSigned dataToSign = service.getDataToSign(documentToSign, parameters);
+		SignatureValue signatureValue = signatureToken.sign(dataToSign, parameters.getDigestAlgorithm(), privateKey);
+		DSSDocument signedDocument = service.signDocument(documentToSign, parameters, signatureValue);
+
+		XMLDocumentValidator validator = new XMLDocumentValidator(signedDocument);
+		List<AdvancedSignature> signatures = validator.getSignatures();
+		assertEquals(1, signatures.size());
+		signatures.get(0).checkSignatureIntegrity();
+		assertTrue(signatures.get(0).getSignatureCryptographicVerification().isSignatureIntact());
+		return signedDocument;
+	}
+
+}
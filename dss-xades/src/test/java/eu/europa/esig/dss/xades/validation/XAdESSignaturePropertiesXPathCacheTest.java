@@ -0,0 +1,111 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades.validation;
+
+import eu.europa.esig.dss.DomUtils;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.validation.SignaturePolicy;
+import eu.europa.esig.dss.xades.DSSXMLUtils;
+import eu.europa.esig.dss.xades.definition.XAdESNamespaces;
+import eu.europa.esig.dss.xades.definition.XAdESPaths;
+import eu.europa.esig.dss.xades.definition.xades111.XAdES111Paths;
+import eu.europa.esig.dss.xades.definition.xades122.XAdES122Paths;
+import eu.europa.esig.dss.xades.definition.xades132.XAdES132Paths;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class XAdESSignaturePropertiesXPathCacheTest {
+
+	private static final List<String> FILES = Arrays.asList(
+			"src/test/resources/validation/Signature-X-ES-100.xml",
+			"src/test/resources/validation/Signature-X-BG-1.xml",
+			"src/test/resources/validation/TEST_S1a_C1a_InTL_VALID.xml");
+
+	private final List<XAdESPaths> xadesPathsHolders = Arrays.asList(
+			new XAdES111Paths(), new XAdES122Paths(), new XAdES132Paths());
+
+	@Test
+	public void test() {
+		XAdESNamespaces.registerNamespaces();
+
+		List<Element> signatureElements = new ArrayList<>();
+		for (String file : FILES) {
+			Document document = DomUtils.buildDOM(new FileDocument(file));
+			NodeList signatures = DSSXMLUtils.getAllSignaturesExceptCounterSignatures(document);
+			for (int i = 0; i < signatures.getLength(); i++) {
+				signatureElements.add((Element) signatures.item(i));
+			}
+		}
+		assertFalse(signatureElements.isEmpty());
+
+		try {
+			DomUtils.setXPathExpressionCacheEnabled(false);
+			List<String> expected = extractProperties(signatureElements);
+			assertFalse(expected.isEmpty());
+
+			DomUtils.setXPathExpressionCacheEnabled(true);
+			DomUtils.clearThreadCaches();
+			// the first extraction fills the cache, the second one uses the cached expressions
+			assertEquals(expected, extractProperties(signatureElements));
+			assertEquals(expected, extractProperties(signatureElements));
+
+			DomUtils.clearThreadCaches();
+			assertEquals(expected, extractProperties(signatureElements));
+
+		} finally {
+			DomUtils.setXPathExpressionCacheEnabled(true);
+		}
+	}
+
+	private List<String> extractProperties(List<Element> signatureElements) {
+		List<String> properties = new ArrayList<>();
+		for (Element signatureElement : signatureElements) {
+			XAdESSignature signature = new XAdESSignature(signatureElement, xadesPathsHolders);
+			properties.add(String.valueOf(signature.getSigningTime()));
+			SignaturePolicy signaturePolicy = signature.getSignaturePolicy();
+			properties.add(signaturePolicy != null ? signaturePolicy.getIdentifier() : null);
+			properties.add(String.valueOf(signature.getSignatureProductionPlace() != null));
+			properties.add(String.valueOf(signature.getClaimedSignerRoles().size()));
+			properties.add(String.valueOf(signature.getCertifiedSignerRoles().size()));
+			properties.add(signature.getContentType());
+			properties.add(signature.getMimeType());
+			properties.add(signature.getSignatureValueId());
+			properties.add(signature.getDAIdentifier());
+			properties.add(String.valueOf(signature.getSignedProperties()));
+			properties.add(String.valueOf(signature.getUnsignedSignatureProperties()));
+			properties.add(String.valueOf(signature.getSignedDataObjectProperties()));
+			properties.add(String.valueOf(signature.getCompleteCertificateRefs() != null));
+			properties.add(String.valueOf(signature.getCertificateValues() != null));
+			properties.add(String.valueOf(signature.getRevocationValues() != null));
+		}
+		return properties;
+	}
+
+}